@@ -0,0 +1,303 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.datastax.driver.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.datastax.driver.core.policies.RetryPolicy;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * In-memory driver objects used by the benchmarks.
+ * <br/>
+ * Rows, column definitions and prepared statements are built directly from
+ * their package-private constructors, hence the location of this class, so that
+ * the mapping and statement code paths can be exercised without any network I/O
+ */
+public final class StubDriverObjects {
+
+    public static final ProtocolVersion PROTOCOL_VERSION = ProtocolVersion.V4;
+    public static final CodecRegistry CODEC_REGISTRY = CodecRegistry.DEFAULT_INSTANCE;
+
+    private static final Pattern BIND_MARKER = Pattern.compile(":(\\w+)");
+
+    private StubDriverObjects() {
+    }
+
+    public static ColumnDefinitions columnDefinitions(String keyspace, String table, List<String> names, List<DataType> types) {
+        final ColumnDefinitions.Definition[] definitions = new ColumnDefinitions.Definition[names.size()];
+        for (int i = 0; i < definitions.length; i++) {
+            definitions[i] = new ColumnDefinitions.Definition(keyspace, table, names.get(i), types.get(i));
+        }
+        return new ColumnDefinitions(definitions, CODEC_REGISTRY);
+    }
+
+    /**
+     * Build a row whose columns are serialized with the default codecs of the given column definitions
+     */
+    public static Row row(ColumnDefinitions columnDefinitions, List<Object> values) {
+        final List<ByteBuffer> data = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            final Object value = values.get(i);
+            data.add(value == null
+                    ? null
+                    : CODEC_REGISTRY.codecFor(columnDefinitions.getType(i)).serialize(value, PROTOCOL_VERSION));
+        }
+        return ArrayBackedRow.fromData(columnDefinitions, null, PROTOCOL_VERSION, data);
+    }
+
+    public static PreparedStatement preparedStatement(String queryString, String keyspace, ColumnDefinitions variables) {
+        final byte[] digest = Hashing.md5().hashString(queryString, UTF_8).asBytes();
+        final PreparedId preparedId = new PreparedId(
+                new PreparedId.PreparedMetadata(MD5Digest.wrap(digest), variables),
+                new PreparedId.PreparedMetadata(MD5Digest.wrap(digest), null),
+                null, PROTOCOL_VERSION);
+        return new StubPreparedStatement(queryString, keyspace, preparedId);
+    }
+
+    /**
+     * Session which prepares statements locally and never executes them.
+     * <br/>
+     * The type of each named bind marker of a prepared query is resolved with
+     * the given function
+     */
+    public static class StubSession extends AbstractSession {
+
+        private final String keyspace;
+        private final Cluster cluster;
+        private final Function<String, DataType> bindMarkerTypes;
+
+        public StubSession(String keyspace, Cluster cluster, Function<String, DataType> bindMarkerTypes) {
+            this.keyspace = keyspace;
+            this.cluster = cluster;
+            this.bindMarkerTypes = bindMarkerTypes;
+        }
+
+        @Override
+        protected ListenableFuture<PreparedStatement> prepareAsync(String query, Map<String, ByteBuffer> customPayload) {
+            final List<String> names = new ArrayList<>();
+            final List<DataType> types = new ArrayList<>();
+            final Matcher matcher = BIND_MARKER.matcher(query);
+            while (matcher.find()) {
+                final String marker = matcher.group(1);
+                names.add(marker);
+                types.add(bindMarkerTypes.apply(marker));
+            }
+            return Futures.immediateFuture(preparedStatement(query, keyspace, columnDefinitions(keyspace, null, names, types)));
+        }
+
+        @Override
+        public ResultSetFuture executeAsync(Statement statement) {
+            throw new UnsupportedOperationException("The stub session does not execute statements");
+        }
+
+        @Override
+        public String getLoggedKeyspace() {
+            return keyspace;
+        }
+
+        @Override
+        public Session init() {
+            return this;
+        }
+
+        @Override
+        public ListenableFuture<Session> initAsync() {
+            return Futures.immediateFuture(this);
+        }
+
+        @Override
+        public CloseFuture closeAsync() {
+            return cluster.closeAsync();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return cluster.isClosed();
+        }
+
+        @Override
+        public Cluster getCluster() {
+            return cluster;
+        }
+
+        @Override
+        public State getState() {
+            throw new UnsupportedOperationException("The stub session has no connection state");
+        }
+    }
+
+    private static class StubPreparedStatement implements PreparedStatement {
+
+        private final String queryString;
+        private final String keyspace;
+        private final PreparedId preparedId;
+        private volatile ByteBuffer routingKey;
+        private volatile ConsistencyLevel consistency;
+        private volatile ConsistencyLevel serialConsistency;
+        private volatile boolean traceQuery;
+        private volatile RetryPolicy retryPolicy;
+        private volatile Map<String, ByteBuffer> outgoingPayload;
+        private volatile Boolean idempotent;
+
+        StubPreparedStatement(String queryString, String keyspace, PreparedId preparedId) {
+            this.queryString = queryString;
+            this.keyspace = keyspace;
+            this.preparedId = preparedId;
+        }
+
+        @Override
+        public ColumnDefinitions getVariables() {
+            return preparedId.boundValuesMetadata.variables;
+        }
+
+        @Override
+        public BoundStatement bind(Object... values) {
+            return new BoundStatement(this).bind(values);
+        }
+
+        @Override
+        public BoundStatement bind() {
+            return new BoundStatement(this);
+        }
+
+        @Override
+        public PreparedStatement setRoutingKey(ByteBuffer routingKey) {
+            this.routingKey = routingKey;
+            return this;
+        }
+
+        @Override
+        public PreparedStatement setRoutingKey(ByteBuffer... routingKeyComponents) {
+            this.routingKey = SimpleStatement.compose(routingKeyComponents);
+            return this;
+        }
+
+        @Override
+        public ByteBuffer getRoutingKey() {
+            return routingKey;
+        }
+
+        @Override
+        public PreparedStatement setConsistencyLevel(ConsistencyLevel consistency) {
+            this.consistency = consistency;
+            return this;
+        }
+
+        @Override
+        public ConsistencyLevel getConsistencyLevel() {
+            return consistency;
+        }
+
+        @Override
+        public PreparedStatement setSerialConsistencyLevel(ConsistencyLevel serialConsistency) {
+            this.serialConsistency = serialConsistency;
+            return this;
+        }
+
+        @Override
+        public ConsistencyLevel getSerialConsistencyLevel() {
+            return serialConsistency;
+        }
+
+        @Override
+        public String getQueryString() {
+            return queryString;
+        }
+
+        @Override
+        public String getQueryKeyspace() {
+            return keyspace;
+        }
+
+        @Override
+        public PreparedStatement enableTracing() {
+            this.traceQuery = true;
+            return this;
+        }
+
+        @Override
+        public PreparedStatement disableTracing() {
+            this.traceQuery = false;
+            return this;
+        }
+
+        @Override
+        public boolean isTracing() {
+            return traceQuery;
+        }
+
+        @Override
+        public PreparedStatement setRetryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        @Override
+        public RetryPolicy getRetryPolicy() {
+            return retryPolicy;
+        }
+
+        @Override
+        public PreparedId getPreparedId() {
+            return preparedId;
+        }
+
+        @Override
+        public Map<String, ByteBuffer> getIncomingPayload() {
+            return null;
+        }
+
+        @Override
+        public Map<String, ByteBuffer> getOutgoingPayload() {
+            return outgoingPayload;
+        }
+
+        @Override
+        public PreparedStatement setOutgoingPayload(Map<String, ByteBuffer> payload) {
+            this.outgoingPayload = payload;
+            return this;
+        }
+
+        @Override
+        public CodecRegistry getCodecRegistry() {
+            return CODEC_REGISTRY;
+        }
+
+        @Override
+        public PreparedStatement setIdempotent(Boolean idempotent) {
+            this.idempotent = idempotent;
+            return this;
+        }
+
+        @Override
+        public Boolean isIdempotent() {
+            return idempotent;
+        }
+    }
+}
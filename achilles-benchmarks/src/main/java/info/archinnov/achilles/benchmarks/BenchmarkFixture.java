@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.benchmarks;
+
+import static com.datastax.driver.core.StubDriverObjects.CODEC_REGISTRY;
+import static com.datastax.driver.core.StubDriverObjects.PROTOCOL_VERSION;
+
+import java.util.*;
+import java.util.function.Function;
+
+import com.datastax.driver.core.*;
+import com.datastax.driver.core.StubDriverObjects.StubSession;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import info.archinnov.achilles.benchmarks.entities.BenchmarkEntity;
+import info.archinnov.achilles.benchmarks.entities.BenchmarkUDT;
+import info.archinnov.achilles.generated.meta.entity.BenchmarkEntity_AchillesMeta;
+import info.archinnov.achilles.internals.cache.StatementsCache;
+import info.archinnov.achilles.internals.context.ConfigurationContext;
+import info.archinnov.achilles.internals.factory.DefaultBeanFactory;
+import info.archinnov.achilles.internals.factory.TupleTypeFactory;
+import info.archinnov.achilles.internals.factory.UserTypeFactory;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.json.DefaultJacksonMapper;
+import info.archinnov.achilles.type.strategy.InsertStrategy;
+
+/**
+ * Shared fixture of the benchmarks.
+ * <br/>
+ * The entity meta is injected the same way the manager factory does at bootstrap
+ * but against a {@link StubSession} whose Cluster is never initialized, so no
+ * connection is ever opened. The sample row is built by encoding the sample entity
+ * column by column, it is therefore decoded exactly as a row returned by Cassandra
+ */
+public class BenchmarkFixture {
+
+    public static final String KEYSPACE = "achilles_benchmarks";
+
+    public final BenchmarkEntity_AchillesMeta meta;
+    public final StubSession session;
+    public final StatementsCache statementsCache;
+    public final RuntimeEngine runtimeEngine;
+    public final BenchmarkEntity entity;
+    public final ColumnDefinitions columnDefinitions;
+    public final Row row;
+
+    private BenchmarkFixture(BenchmarkEntity_AchillesMeta meta, StubSession session, StatementsCache statementsCache,
+                             RuntimeEngine runtimeEngine, BenchmarkEntity entity, ColumnDefinitions columnDefinitions, Row row) {
+        this.meta = meta;
+        this.session = session;
+        this.statementsCache = statementsCache;
+        this.runtimeEngine = runtimeEngine;
+        this.entity = entity;
+        this.columnDefinitions = columnDefinitions;
+        this.row = row;
+    }
+
+    public static BenchmarkFixture create() {
+        final BenchmarkEntity_AchillesMeta meta = new BenchmarkEntity_AchillesMeta();
+        meta.injectKeyspace(KEYSPACE);
+        meta.inject(new DefaultBeanFactory());
+        meta.inject(DefaultJacksonMapper.DEFAULT.get());
+        meta.inject(InsertStrategy.ALL_FIELDS);
+        meta.injectRuntimeCodecs(new HashMap<>());
+        meta.inject(new UserTypeFactory(PROTOCOL_VERSION, CODEC_REGISTRY), new TupleTypeFactory(PROTOCOL_VERSION, CODEC_REGISTRY));
+
+        final Map<String, DataType> columnTypes = new HashMap<>();
+        final List<String> columns = new ArrayList<>();
+        final List<DataType> types = new ArrayList<>();
+        for (AbstractProperty<BenchmarkEntity, ?, ?> property : meta.allColumns) {
+            columnTypes.put(property.getColumnForSelect(), property.getDataType());
+            columns.add(property.getColumnForSelect());
+            types.add(property.getDataType());
+        }
+        columnTypes.put("ttl", DataType.cint());
+        columnTypes.put("limit", DataType.cint());
+
+        // Range bind markers are suffixed by their relation, e.g. :date_Gte
+        final Function<String, DataType> bindMarkerTypes = marker -> Optional
+                .ofNullable(columnTypes.get(marker))
+                .orElseGet(() -> Optional
+                        .ofNullable(columnTypes.get(marker.replaceFirst("_[A-Za-z]+$", "")))
+                        .orElseThrow(() -> new IllegalArgumentException("Unknown bind marker :" + marker)));
+
+        // Built but never initialized, only its configuration is read
+        final Cluster cluster = Cluster.builder().addContactPoint("127.0.0.1").build();
+        final StubSession session = new StubSession(KEYSPACE, cluster, bindMarkerTypes);
+        final StatementsCache statementsCache = new StatementsCache(10000);
+
+        final ConfigurationContext configContext = new ConfigurationContext();
+        configContext.setSession(session);
+        configContext.setStatementsCache(statementsCache);
+        configContext.setCurrentKeyspace(Optional.of(KEYSPACE));
+        configContext.setExecutorService(MoreExecutors.newDirectExecutorService());
+        configContext.setDefaultReadConsistencyLevel(Optional.empty());
+        configContext.setDefaultWriteConsistencyLevel(Optional.empty());
+        configContext.setDefaultSerialConsistencyLevel(Optional.empty());
+        meta.injectConsistencyLevels(session, configContext);
+
+        final BenchmarkEntity entity = sampleEntity(10L, new Date(1_000_000L));
+        final ColumnDefinitions columnDefinitions = StubDriverObjects
+                .columnDefinitions(KEYSPACE, meta.getTableOrViewName(), columns, types);
+        final List<Object> values = new ArrayList<>();
+        for (AbstractProperty<BenchmarkEntity, ?, ?> property : meta.allColumns) {
+            values.add(property.encodeField(entity));
+        }
+        final Row row = StubDriverObjects.row(columnDefinitions, values);
+
+        return new BenchmarkFixture(meta, session, statementsCache, new RuntimeEngine(configContext),
+                entity, columnDefinitions, row);
+    }
+
+    public static BenchmarkEntity sampleEntity(Long id, Date date) {
+        final BenchmarkEntity entity = new BenchmarkEntity();
+        entity.setId(id);
+        entity.setDate(date);
+        entity.setValue("benchmark value of a regular text column");
+        entity.setConsistencyList(Arrays.asList(ConsistencyLevel.LOCAL_ONE, ConsistencyLevel.QUORUM, ConsistencyLevel.ALL));
+        final Map<Integer, String> simpleMap = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            simpleMap.put(i, "value" + i);
+        }
+        entity.setSimpleMap(simpleMap);
+        final Map<String, List<Integer>> jsonMap = new HashMap<>();
+        jsonMap.put("small", Arrays.asList(1, 2, 3));
+        jsonMap.put("large", Arrays.asList(100, 200, 300, 400, 500, 600, 700, 800));
+        entity.setJsonMap(jsonMap);
+        entity.setUdt(new BenchmarkUDT("udt", Arrays.asList("tag1", "tag2", "tag3")));
+        return entity;
+    }
+
+    public void close() {
+        session.close();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.benchmarks;
+
+import static info.archinnov.achilles.generated.meta.entity.BenchmarkEntity_AchillesMeta.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.UDTValue;
+
+import info.archinnov.achilles.benchmarks.entities.BenchmarkUDT;
+import info.archinnov.achilles.internals.codec.EnumNameCodec;
+import info.archinnov.achilles.internals.codec.JSONCodec;
+import info.archinnov.achilles.json.DefaultJacksonMapper;
+
+/**
+ * Encoding and decoding cost of the codecs and of the collection and UDT properties
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+
+    private BenchmarkFixture fixture;
+    private JSONCodec<Map<String, List<Integer>>> jsonCodec;
+    private String json;
+    private EnumNameCodec<ConsistencyLevel> enumNameCodec;
+
+    @Setup
+    public void setUp() {
+        fixture = BenchmarkFixture.create();
+        jsonCodec = new JSONCodec<>(Map.class, JSONCodec.TYPE_FACTORY_INSTANCE
+                .constructMapType(Map.class, JSONCodec.TYPE_FACTORY_INSTANCE.constructType(String.class),
+                        JSONCodec.TYPE_FACTORY_INSTANCE.constructCollectionType(List.class, Integer.class)));
+        jsonCodec.setObjectMapper(DefaultJacksonMapper.DEFAULT.get());
+        json = jsonCodec.encode(fixture.entity.getJsonMap());
+        enumNameCodec = EnumNameCodec.create(Arrays.asList(ConsistencyLevel.values()), ConsistencyLevel.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public String jsonCodecEncode() {
+        return jsonCodec.encode(fixture.entity.getJsonMap());
+    }
+
+    @Benchmark
+    public Map<String, List<Integer>> jsonCodecDecode() {
+        return jsonCodec.decode(json);
+    }
+
+    @Benchmark
+    public String enumNameCodecEncode() {
+        return enumNameCodec.encode(ConsistencyLevel.LOCAL_QUORUM);
+    }
+
+    @Benchmark
+    public ConsistencyLevel enumNameCodecDecode() {
+        return enumNameCodec.decode("LOCAL_QUORUM");
+    }
+
+    @Benchmark
+    public List<String> listPropertyEncode() {
+        return consistencyList.encodeFromJava(fixture.entity.getConsistencyList());
+    }
+
+    @Benchmark
+    public List<ConsistencyLevel> listPropertyDecode() {
+        return consistencyList.decodeFromGettable(fixture.row);
+    }
+
+    @Benchmark
+    public Map<Integer, String> mapPropertyEncode() {
+        return simpleMap.encodeFromJava(fixture.entity.getSimpleMap());
+    }
+
+    @Benchmark
+    public Map<Integer, String> mapPropertyDecode() {
+        return simpleMap.decodeFromGettable(fixture.row);
+    }
+
+    @Benchmark
+    public String jsonPropertyEncode() {
+        return jsonMap.encodeFromJava(fixture.entity.getJsonMap());
+    }
+
+    @Benchmark
+    public Map<String, List<Integer>> jsonPropertyDecode() {
+        return jsonMap.decodeFromGettable(fixture.row);
+    }
+
+    @Benchmark
+    public UDTValue udtPropertyEncode() {
+        return udt.encodeFromJava(fixture.entity.getUdt());
+    }
+
+    @Benchmark
+    public BenchmarkUDT udtPropertyDecode() {
+        return udt.decodeFromGettable(fixture.row);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.datastax.driver.core.BoundStatement;
+
+import info.archinnov.achilles.generated.dsl.BenchmarkEntity_Delete;
+import info.archinnov.achilles.generated.dsl.BenchmarkEntity_Select;
+import info.archinnov.achilles.generated.dsl.BenchmarkEntity_Update;
+
+/**
+ * Per statement cost of the DSL: building the query, looking up the
+ * prepared statement and binding the encoded values. DSL instances
+ * hold their bound values so a new one is created for each statement,
+ * as the generated manager does
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DSLStatementBenchmark {
+
+    private BenchmarkFixture fixture;
+
+    @Setup
+    public void setUp() {
+        fixture = BenchmarkFixture.create();
+    }
+
+    @TearDown
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public BoundStatement selectByPrimaryKey() {
+        return new BenchmarkEntity_Select(fixture.runtimeEngine, fixture.meta)
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(fixture.entity.getId())
+                .date().Eq(fixture.entity.getDate())
+                .generateAndGetBoundStatement();
+    }
+
+    @Benchmark
+    public BoundStatement selectPartitionSlice() {
+        return new BenchmarkEntity_Select(fixture.runtimeEngine, fixture.meta)
+                .value()
+                .simpleMap()
+                .fromBaseTable()
+                .where()
+                .id().Eq(fixture.entity.getId())
+                .date().Gte_And_Lt(fixture.entity.getDate(), fixture.entity.getDate())
+                .generateAndGetBoundStatement();
+    }
+
+    @Benchmark
+    public BoundStatement updateColumns() {
+        return new BenchmarkEntity_Update(fixture.runtimeEngine, fixture.meta)
+                .fromBaseTable()
+                .value().Set(fixture.entity.getValue())
+                .consistencyList().Set(fixture.entity.getConsistencyList())
+                .where()
+                .id().Eq(fixture.entity.getId())
+                .date().Eq(fixture.entity.getDate())
+                .generateAndGetBoundStatement();
+    }
+
+    @Benchmark
+    public BoundStatement deleteColumns() {
+        return new BenchmarkEntity_Delete(fixture.runtimeEngine, fixture.meta)
+                .value()
+                .simpleMap()
+                .fromBaseTable()
+                .where()
+                .id().Eq(fixture.entity.getId())
+                .date().Eq(fixture.entity.getDate())
+                .generateAndGetBoundStatement();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import info.archinnov.achilles.benchmarks.entities.BenchmarkEntity;
+import info.archinnov.achilles.generated.dsl.BenchmarkEntity_Select;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.BeanValueExtractor;
+import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
+import info.archinnov.achilles.type.TypedMap;
+
+/**
+ * Per row mapping cost: entity to bound values, row to entity and row to TypedMap
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityMappingBenchmark {
+
+    private BenchmarkFixture fixture;
+    private CassandraOptions cassandraOptions;
+    private BenchmarkEntity_Select.E selectWhere;
+
+    @Setup
+    public void setUp() {
+        fixture = BenchmarkFixture.create();
+        cassandraOptions = new CassandraOptions();
+        selectWhere = new BenchmarkEntity_Select(fixture.runtimeEngine, fixture.meta)
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(fixture.entity.getId())
+                .date().Eq(fixture.entity.getDate());
+    }
+
+    @TearDown
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public BoundValuesWrapper extractAllValues() {
+        return BeanValueExtractor.extractAllValues(fixture.entity, fixture.meta, cassandraOptions);
+    }
+
+    @Benchmark
+    public BenchmarkEntity createEntityFromRow() {
+        return fixture.meta.createEntityFrom(fixture.row);
+    }
+
+    @Benchmark
+    public TypedMap mapRowToTypedMap() {
+        return selectWhere.mapRowToTypedMap(fixture.row);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.benchmarks;
+
+import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
+
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.google.common.util.concurrent.SettableFuture;
+
+import info.archinnov.achilles.type.CompletionMode;
+
+/**
+ * Round-trip cost of converting a driver future, completed from an I/O-like
+ * thread, into a CompletableFuture with each completion mode
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FutureCompletionBenchmark {
+
+    @Param({"EXECUTOR", "DIRECT"})
+    public CompletionMode completionMode;
+
+    private ExecutorService ioThread;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        ioThread = Executors.newSingleThreadExecutor();
+        executor = new ThreadPoolExecutor(5, 20, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(1000));
+    }
+
+    @TearDown
+    public void tearDown() {
+        ioThread.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Object completeAndJoin() {
+        final SettableFuture<Object> driverFuture = SettableFuture.create();
+        final CompletableFuture<Object> future = toCompletableFuture(driverFuture, executor, completionMode)
+                .thenApply(value -> value);
+        ioThread.execute(() -> driverFuture.set(Boolean.TRUE));
+        return future.join();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.datastax.driver.core.PreparedStatement;
+
+import info.archinnov.achilles.benchmarks.entities.BenchmarkEntity;
+import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.QueryShape;
+
+/**
+ * Lookup cost of the prepared statements caches on cache hit
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatementsCacheBenchmark {
+
+    private static final String QUERY = "SELECT * FROM achilles_benchmarks.benchmark_entity WHERE id=:id AND date=:date;";
+
+    private BenchmarkFixture fixture;
+    private CacheKey cacheKey;
+    private QueryShape queryShape;
+
+    @Setup
+    public void setUp() {
+        fixture = BenchmarkFixture.create();
+
+        cacheKey = new CacheKey(BenchmarkEntity.class, CacheKey.Operation.FIND);
+        fixture.statementsCache.putStaticCache(cacheKey, fixture.session.prepare(QUERY));
+
+        queryShape = new QueryShape(StatementsCacheBenchmark.class);
+        queryShape.from(0, BenchmarkFixture.KEYSPACE, fixture.meta.getTableOrViewName());
+        queryShape.append(1);
+        queryShape.append(2);
+
+        fixture.statementsCache.getDynamicCache(QUERY, fixture.session);
+        fixture.statementsCache.getShapeCache(queryShape, () -> QUERY, fixture.session);
+    }
+
+    @TearDown
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public PreparedStatement staticCacheHit() {
+        return fixture.statementsCache.getStaticCache(cacheKey);
+    }
+
+    @Benchmark
+    public PreparedStatement dynamicCacheHit() {
+        return fixture.statementsCache.getDynamicCache(QUERY, fixture.session);
+    }
+
+    @Benchmark
+    public PreparedStatement shapeCacheHit() {
+        return fixture.statementsCache.getShapeCache(queryShape, () -> QUERY, fixture.session);
+    }
+}
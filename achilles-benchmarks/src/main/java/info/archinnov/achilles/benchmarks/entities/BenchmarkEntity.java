@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.benchmarks.entities;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.datastax.driver.core.ConsistencyLevel;
+
+import info.archinnov.achilles.annotations.*;
+
+@Table(keyspace = "achilles_benchmarks", table = "benchmark_entity")
+public class BenchmarkEntity {
+
+    @PartitionKey
+    private Long id;
+
+    @ClusteringColumn
+    private Date date;
+
+    @Column
+    private String value;
+
+    @Column
+    private List<@Enumerated(value = Enumerated.Encoding.NAME) ConsistencyLevel> consistencyList;
+
+    @Column
+    private Map<Integer, String> simpleMap;
+
+    @Column
+    @JSON
+    private Map<String, List<Integer>> jsonMap;
+
+    @Column
+    private @Frozen BenchmarkUDT udt;
+
+    public BenchmarkEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Date getDate() {
+        return date;
+    }
+
+    public void setDate(Date date) {
+        this.date = date;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public List<ConsistencyLevel> getConsistencyList() {
+        return consistencyList;
+    }
+
+    public void setConsistencyList(List<ConsistencyLevel> consistencyList) {
+        this.consistencyList = consistencyList;
+    }
+
+    public Map<Integer, String> getSimpleMap() {
+        return simpleMap;
+    }
+
+    public void setSimpleMap(Map<Integer, String> simpleMap) {
+        this.simpleMap = simpleMap;
+    }
+
+    public Map<String, List<Integer>> getJsonMap() {
+        return jsonMap;
+    }
+
+    public void setJsonMap(Map<String, List<Integer>> jsonMap) {
+        this.jsonMap = jsonMap;
+    }
+
+    public BenchmarkUDT getUdt() {
+        return udt;
+    }
+
+    public void setUdt(BenchmarkUDT udt) {
+        this.udt = udt;
+    }
+}
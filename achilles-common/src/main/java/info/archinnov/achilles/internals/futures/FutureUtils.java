@@ -17,11 +17,16 @@
 package info.archinnov.achilles.internals.futures;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import info.archinnov.achilles.type.CompletionMode;
 
 /**
  * Copy from original class at https://github.com/lukas-krecan/future-converter/blob/master/java8-guava/src/main/java/net/javacrumbs/futureconverter/java8guava/FutureConverter.java
@@ -30,6 +35,19 @@ import com.google.common.util.concurrent.ListenableFuture;
 public class FutureUtils {
 
     public static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> listenableFuture, ExecutorService executor) {
+        return toCompletableFuture(listenableFuture, executor, CompletionMode.EXECUTOR);
+    }
+
+    /**
+     * Convert the given listenable future. With {@link CompletionMode#DIRECT}, the returned future
+     * is completed on the thread completing the listenable future, e.g. the driver I/O thread,
+     * otherwise on the given executor. Internal continuations then run on the completing thread,
+     * use {@link #completeOnExecutor(CompletableFuture, ExecutorService, CompletionMode)} on the
+     * future returned to the user
+     */
+    public static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> listenableFuture, ExecutorService executor,
+                                                               CompletionMode completionMode) {
+        final Executor callbackExecutor = completionMode == CompletionMode.DIRECT ? MoreExecutors.directExecutor() : executor;
         CompletableFuture<T> completable = new CompletableListenableFuture<>(listenableFuture);
 
         Futures.addCallback(listenableFuture, new FutureCallback<T>() {
@@ -42,11 +60,46 @@ public class FutureUtils {
             public void onFailure(Throwable t) {
                 completable.completeExceptionally(t);
             }
-        }, executor);
+        }, callbackExecutor);
+
+        return completable;
+    }
 
+    /**
+     * Return a future completed on the given executor once the given future completes.
+     * With {@link CompletionMode#DIRECT}, this single hand-off at the public API boundary keeps
+     * the user continuations off the driver I/O threads while the internal pipeline stays direct.
+     * The given future is returned as is with {@link CompletionMode#EXECUTOR} or when it is already completed
+     */
+    public static <T> CompletableFuture<T> completeOnExecutor(CompletableFuture<T> future, ExecutorService executor,
+                                                              CompletionMode completionMode) {
+        if (completionMode != CompletionMode.DIRECT || future.isDone()) {
+            return future;
+        }
+        final CompletableFuture<T> completable = new CompletableFuture<T>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                future.cancel(mayInterruptIfRunning);
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+        future.whenComplete((result, throwable) -> {
+            try {
+                executor.execute(() -> complete(completable, result, throwable));
+            } catch (RejectedExecutionException e) {
+                complete(completable, result, throwable);
+            }
+        });
         return completable;
     }
 
+    private static <T> void complete(CompletableFuture<T> completable, T result, Throwable throwable) {
+        if (throwable != null) {
+            completable.completeExceptionally(throwable);
+        } else {
+            completable.complete(result);
+        }
+    }
 
     private static final class CompletableListenableFuture<T> extends CompletableFuture<T> {
         private final ListenableFuture<T> listenableFuture;
@@ -37,6 +37,9 @@ import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.runtime.AbstractManagerFactory;
 import info.archinnov.achilles.internals.types.ConfigMap;
 import info.archinnov.achilles.json.JacksonMapperFactory;
+import info.archinnov.achilles.metrics.MetricsRecorder;
+import info.archinnov.achilles.type.CompletionMode;
+import info.archinnov.achilles.type.NearCacheOptions;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -281,6 +284,114 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         return getThis();
     }
 
+    /**
+     * Specify maximum size for the LRU cache of the static statements prepared for the keyspaces and tables
+     * of a runtime SchemaNameProvider. This cache is separated from the dynamic statements cache so that
+     * many tenants do not evict the dynamic statements.
+     * <br/><br/>
+     * Default value is the maximum size of the prepared statements cache
+     *
+     * @return ManagerFactoryBuilder
+     */
+    public T withMaxTenantStatementCacheSize(int maxTenantStatementCacheSize) {
+        configMap.put(TENANT_STATEMENTS_CACHE_SIZE, maxTenantStatementCacheSize);
+        return getThis();
+    }
+
+    /**
+     * Specify the max number of static statements being prepared concurrently at bootstrap.
+     * <br/><br/>
+     * All the static statements (<code>insert</code>, <code>find</code>, <code>delete</code> ...) of the managed
+     * entities are prepared asynchronously. This parameter caps the number of prepare requests in flight.
+     * <br/><br/>
+     * Default value is <strong>32</strong>
+     *
+     * @return ManagerFactoryBuilder
+     */
+    public T withStaticStatementsPrepareMaxInFlight(int maxInFlight) {
+        configMap.put(STATIC_STATEMENTS_PREPARE_MAX_IN_FLIGHT, maxInFlight);
+        return getThis();
+    }
+
+    /**
+     * Enable the prepared statements warm-up manifest.
+     * <br/><br/>
+     * The most used dynamic query strings (up to <em>maxEntries</em>) are saved into the given manifest file
+     * on shutdown. At the next start-up they are re-prepared asynchronously in the background so that the first
+     * requests do not pay the prepare round-trip.
+     *
+     * @param manifestFile path of the manifest file
+     * @param maxEntries max number of query strings saved into the manifest
+     * @return ManagerFactoryBuilder
+     */
+    public T withPreparedStatementsWarmUp(String manifestFile, int maxEntries) {
+        configMap.put(PREPARED_STATEMENTS_WARM_UP_FILE, manifestFile);
+        configMap.put(PREPARED_STATEMENTS_WARM_UP_MAX_ENTRIES, maxEntries);
+        return getThis();
+    }
+
+    /**
+     * Save the prepared statements warm-up manifest periodically, in addition to the save on shutdown.
+     * Only relevant if the warm-up manifest is enabled with {@link #withPreparedStatementsWarmUp(String, int)}
+     *
+     * @param saveIntervalInSeconds interval in seconds between two saves
+     * @return ManagerFactoryBuilder
+     */
+    public T withPreparedStatementsWarmUpSaveInterval(long saveIntervalInSeconds) {
+        configMap.put(PREPARED_STATEMENTS_WARM_UP_SAVE_INTERVAL, saveIntervalInSeconds);
+        return getThis();
+    }
+
+    /**
+     * Specify the default max number of statements in a single <strong>UNLOGGED</strong> batch
+     * sent by <code>crud().insertAll(...)</code>. Entities are grouped by partition and each
+     * partition is split into chunks of at most this size.
+     * <br/><br/>
+     * Default value is <strong>20</strong>
+     *
+     * @return ManagerFactoryBuilder
+     */
+    public T withBatchWriteMaxSize(int maxBatchSize) {
+        configMap.put(BATCH_WRITE_MAX_SIZE, maxBatchSize);
+        return getThis();
+    }
+
+    /**
+     * Specify the default max number of batches in flight for <code>crud().insertAll(...)</code>.
+     * <br/><br/>
+     * Default value is <strong>8</strong>
+     *
+     * @return ManagerFactoryBuilder
+     */
+    public T withBatchWriteConcurrency(int concurrency) {
+        configMap.put(BATCH_WRITE_CONCURRENCY, concurrency);
+        return getThis();
+    }
+
+    /**
+     * Specify the default max number of SELECT requests in flight for <code>crud().findAllById(...)</code>.
+     * <br/><br/>
+     * Default value is <strong>32</strong>
+     *
+     * @return ManagerFactoryBuilder
+     */
+    public T withFindAllByIdConcurrency(int concurrency) {
+        configMap.put(FIND_ALL_BY_ID_CONCURRENCY, concurrency);
+        return getThis();
+    }
+
+    /**
+     * Specify the default max number of token ranges scanned in parallel by <code>manager.scan()</code>.
+     * <br/><br/>
+     * Default value is <strong>4</strong>
+     *
+     * @return ManagerFactoryBuilder
+     */
+    public T withScanParallelism(int parallelism) {
+        configMap.put(SCAN_PARALLELISM, parallelism);
+        return getThis();
+    }
+
     /**
      * Define the global insert strategy
      *
@@ -424,6 +535,79 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         return getThis();
     }
 
+    /**
+     * Run the internal asynchronous operations on virtual threads if the JDK supports them (JDK 21+).
+     * On older JDKs, the default thread pool is used. This setting is ignored if an executor service is provided
+     *
+     * @return ManagerFactoryBuilder
+     */
+    public T withVirtualThreadsExecutorService() {
+        configMap.put(EXECUTOR_SERVICE_VIRTUAL_THREADS, true);
+        return getThis();
+    }
+
+    /**
+     * Define the thread on which the futures of statement executions are completed.
+     * With <strong>CompletionMode.DIRECT</strong>, they are completed on the driver I/O threads,
+     * saving a thread hand-off per statement. Statements with interceptors, LWT or async listeners
+     * are still completed on the executor service. The returned futures are handed over to the
+     * executor service once, so user continuations never run on the driver I/O threads.
+     * This mode can be overridden for each statement
+     * <br/><br/>
+     * Default value is <strong>CompletionMode.EXECUTOR</strong>
+     *
+     * @param completionMode completion mode
+     * @return ManagerFactoryBuilder
+     */
+    public T withCompletionMode(CompletionMode completionMode) {
+        Validator.validateNotNull(completionMode, "The completion mode should not be null");
+        configMap.put(COMPLETION_MODE, completionMode);
+        return getThis();
+    }
+
+    /**
+     * Bound the number of requests in flight for this manager factory. Requests above the limit
+     * are queued until a permit is released.
+     * <br/><br/>
+     * By default there is no limit
+     *
+     * @param limit max number of requests in flight
+     * @return ManagerFactoryBuilder
+     */
+    public T withConcurrencyLimit(int limit) {
+        configMap.put(CONCURRENCY_LIMIT, limit);
+        configMap.put(CONCURRENCY_LIMIT_ADAPTIVE, false);
+        return getThis();
+    }
+
+    /**
+     * Bound the number of requests in flight for this manager factory with a limit adapted
+     * to the observed latency. The limit grows while responses are fast and shrinks when
+     * they slow down or when the cluster is overloaded, it never exceeds the given max limit
+     *
+     * @param maxLimit max number of requests in flight
+     * @return ManagerFactoryBuilder
+     */
+    public T withAdaptiveConcurrencyLimit(int maxLimit) {
+        configMap.put(CONCURRENCY_LIMIT, maxLimit);
+        configMap.put(CONCURRENCY_LIMIT_ADAPTIVE, true);
+        return getThis();
+    }
+
+    /**
+     * Specify the max number of requests waiting for a permit when a concurrency limit is set.
+     * Above this size, requests are rejected with an <em>AchillesConcurrencyLimitException</em>.
+     * <br/><br/>
+     * Default value is <strong>1000</strong>
+     *
+     * @param queueSize max number of queued requests
+     * @return ManagerFactoryBuilder
+     */
+    public T withConcurrencyLimitQueueSize(int queueSize) {
+        configMap.put(CONCURRENCY_LIMIT_QUEUE_SIZE, queueSize);
+        return getThis();
+    }
+
     /**
      * Define a list of entities to be managed by <strong>Achilles</strong>.
      * Specifically, schema validation will be performed at bootstrap for those entities
@@ -557,4 +741,54 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         configMap.put(DML_RESULTS_DISPLAY_SIZE, maxDMLResultsDisplayed);
         return getThis();
     }
+
+    /**
+     * Provide a metrics recorder to collect statement execution, entity mapping, interceptors,
+     * LWT and statements cache metrics.
+     * <br/>
+     * By default no metric is recorded
+     *
+     * @param metricsRecorder metrics recorder
+     * @return ManagerFactoryBuilder
+     */
+    public T withMetricsRecorder(MetricsRecorder metricsRecorder) {
+        Validator.validateNotNull(metricsRecorder, "The metrics recorder should not be null");
+        configMap.put(METRICS_RECORDER, metricsRecorder);
+        return getThis();
+    }
+
+    /**
+     * Serve <em>crud().findById(...)</em> on the given entity from a read-through near cache of rows.
+     * <br/>
+     * The cache is invalidated by the inserts, updates and deletes going through <strong>Achilles</strong>
+     * for this entity. Writes done outside of the manager factory are only visible once the cached
+     * entry has expired, so you should set a ttl if there are any. Reads with tracing, listeners,
+     * a schema name provider or a SERIAL consistency level always query Cassandra.
+     * The cache is keyed by primary key only: a row loaded with a given consistency level
+     * is returned to the next reads whatever their own non-serial consistency level
+     * <br/>
+     * <br/>
+     * <pre class="code"><code class="java">
+     * ManagerFactory managerFactory = ManagerFactoryBuilder
+     *                               .builder(cluster)
+     *                               ...
+     *                               <strong>.withNearCache(User.class, NearCacheOptions.builder().ttl(30, TimeUnit.SECONDS).build())</strong>
+     *                               .build();
+     * </code></pre>
+     * <br/>
+     * <em>Remark: you can call this method as many time as there are entities to be cached</em>
+     *
+     * @param entityClass entity class, which should be a table
+     * @param nearCacheOptions near cache options
+     * @return ManagerFactoryBuilder
+     */
+    public T withNearCache(Class<?> entityClass, NearCacheOptions nearCacheOptions) {
+        Validator.validateNotNull(entityClass, "The near cache entity class should not be null");
+        Validator.validateNotNull(nearCacheOptions, "The near cache options should not be null");
+        if (!configMap.containsKey(NEAR_CACHE_OPTIONS)) {
+            configMap.put(NEAR_CACHE_OPTIONS, new HashMap<Class<?>, NearCacheOptions>());
+        }
+        configMap.<Map<Class<?>, NearCacheOptions>>getTyped(NEAR_CACHE_OPTIONS).put(entityClass, nearCacheOptions);
+        return getThis();
+    }
 }
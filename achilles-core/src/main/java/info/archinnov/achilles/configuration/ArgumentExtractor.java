@@ -19,6 +19,7 @@ package info.archinnov.achilles.configuration;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.*;
 import static javax.validation.Validation.buildDefaultValidatorFactory;
 
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.function.Supplier;
@@ -35,13 +36,18 @@ import com.google.common.collect.ImmutableMap;
 
 import info.archinnov.achilles.async.DefaultExecutorThreadFactory;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.cache.PreparedStatementsWarmUp;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.DefaultBeanFactory;
 import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.ConcurrencyLimiter;
 import info.archinnov.achilles.internals.types.ConfigMap;
 import info.archinnov.achilles.json.DefaultJacksonMapperFactory;
 import info.archinnov.achilles.json.JacksonMapperFactory;
+import info.archinnov.achilles.metrics.MetricsRecorder;
+import info.archinnov.achilles.type.CompletionMode;
+import info.archinnov.achilles.type.NearCacheOptions;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -49,6 +55,7 @@ import info.archinnov.achilles.type.factory.BeanFactory;
 import info.archinnov.achilles.type.interceptor.Interceptor;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
 import info.archinnov.achilles.type.strategy.NamingStrategy;
+import info.archinnov.achilles.validation.Validator;
 
 /**
  * Extract bootstrap argument and create a configuration context
@@ -56,6 +63,13 @@ import info.archinnov.achilles.type.strategy.NamingStrategy;
 public class ArgumentExtractor {
 
     static final int DEFAULT_LRU_CACHE_SIZE = 10000;
+    static final int DEFAULT_STATIC_STATEMENTS_PREPARE_MAX_IN_FLIGHT = 32;
+    static final int DEFAULT_PREPARED_STATEMENTS_WARM_UP_MAX_ENTRIES = 1000;
+    static final long DEFAULT_PREPARED_STATEMENTS_WARM_UP_SAVE_INTERVAL = 0L;
+    static final int DEFAULT_BATCH_WRITE_MAX_SIZE = 20;
+    static final int DEFAULT_BATCH_WRITE_CONCURRENCY = 8;
+    static final int DEFAULT_FIND_ALL_BY_ID_CONCURRENCY = 32;
+    static final int DEFAULT_SCAN_PARALLELISM = 4;
     static final boolean DEFAULT_ENABLE_PRE_MUTATE_BEAN_VALIDATION = false;
     static final boolean DEFAULT_ENABLE_POST_LOAD_BEAN_VALIDATION = false;
     static final int DEFAULT_THREAD_POOL_MIN_THREAD_COUNT = 10;
@@ -67,6 +81,7 @@ public class ArgumentExtractor {
     static final NamingStrategy DEFAULT_GLOBAL_NAMING_STRATEGY = NamingStrategy.LOWER_CASE;
     static final BeanFactory DEFAULT_BEAN_FACTORY = new DefaultBeanFactory();
     static final Integer DEFAULT_DML_RESULTS_DISPLAY_SIZE = 10;
+    static final Integer DEFAULT_CONCURRENCY_LIMIT_QUEUE_SIZE = 1000;
     private static final Logger LOGGER = LoggerFactory.getLogger(ArgumentExtractor.class);
 
     public static ConfigurationContext initConfigContext(Cluster cluster, ConfigMap configurationMap) {
@@ -87,6 +102,13 @@ public class ArgumentExtractor {
         configContext.setPostLoadBeanValidationEnabled(initPostLoadBeanValidation(configurationMap));
         configContext.setInterceptors(initInterceptors(configurationMap));
         configContext.setPreparedStatementLRUCacheSize(initPreparedStatementsCacheSize(configurationMap));
+        configContext.setStaticStatementsPrepareMaxInFlight(initStaticStatementsPrepareMaxInFlight(configurationMap));
+        configContext.setPreparedStatementsWarmUp(initPreparedStatementsWarmUp(configurationMap));
+        configContext.setPreparedStatementsWarmUpSaveInterval(initPreparedStatementsWarmUpSaveInterval(configurationMap));
+        configContext.setBatchWriteMaxSize(initBatchWriteMaxSize(configurationMap));
+        configContext.setBatchWriteConcurrency(initBatchWriteConcurrency(configurationMap));
+        configContext.setFindAllByIdConcurrency(initFindAllByIdConcurrency(configurationMap));
+        configContext.setScanParallelism(initScanParallelism(configurationMap));
         configContext.setGlobalInsertStrategy(initInsertStrategy(configurationMap));
         configContext.setGlobalNamingStrategy(initGlobalNamingStrategy(configurationMap));
         configContext.setSchemaNameProvider(initSchemaNameProvider(configurationMap));
@@ -99,6 +121,10 @@ public class ArgumentExtractor {
         configContext.setRuntimeCodecs(initRuntimeCodecs(configurationMap));
         configContext.setValidateSchema(initValidateSchema(configurationMap));
         configContext.setDMLResultsDisplaySize(initDMLResultsDisplayLimit(configurationMap));
+        configContext.setMetricsRecorder(initMetricsRecorder(configurationMap));
+        configContext.setNearCacheOptions(initNearCacheOptions(configurationMap));
+        configContext.setConcurrencyLimiter(initConcurrencyLimiter(configurationMap));
+        configContext.setCompletionMode(initCompletionMode(configurationMap));
         return configContext;
     }
 
@@ -228,6 +254,66 @@ public class ArgumentExtractor {
         return configMap.getTypedOr(PREPARED_STATEMENTS_CACHE_SIZE, DEFAULT_LRU_CACHE_SIZE);
     }
 
+    public static Integer initTenantStatementsCacheSize(ConfigMap configMap) {
+        LOGGER.trace("Extract or init tenant statements cache size");
+        return configMap.getTypedOr(TENANT_STATEMENTS_CACHE_SIZE, initPreparedStatementsCacheSize(configMap));
+    }
+
+    public static Integer initStaticStatementsPrepareMaxInFlight(ConfigMap configMap) {
+        LOGGER.trace("Extract or init static statements prepare max in-flight requests");
+        final Integer maxInFlight = configMap.getTypedOr(STATIC_STATEMENTS_PREPARE_MAX_IN_FLIGHT, DEFAULT_STATIC_STATEMENTS_PREPARE_MAX_IN_FLIGHT);
+        Validator.validateTrue(maxInFlight > 0, "The parameter '%s' should be strictly positive", STATIC_STATEMENTS_PREPARE_MAX_IN_FLIGHT.name());
+        return maxInFlight;
+    }
+
+    public static Optional<PreparedStatementsWarmUp> initPreparedStatementsWarmUp(ConfigMap configMap) {
+        LOGGER.trace("Extract or init prepared statements warm-up manifest");
+        if (configMap.containsKey(PREPARED_STATEMENTS_WARM_UP_FILE)) {
+            final String manifestFile = configMap.getTyped(PREPARED_STATEMENTS_WARM_UP_FILE);
+            final Integer maxEntries = configMap.getTypedOr(PREPARED_STATEMENTS_WARM_UP_MAX_ENTRIES, DEFAULT_PREPARED_STATEMENTS_WARM_UP_MAX_ENTRIES);
+            Validator.validateTrue(maxEntries > 0, "The parameter '%s' should be strictly positive", PREPARED_STATEMENTS_WARM_UP_MAX_ENTRIES.name());
+            return Optional.of(new PreparedStatementsWarmUp(Paths.get(manifestFile), maxEntries,
+                    initPreparedStatementsCacheSize(configMap)));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    public static Long initPreparedStatementsWarmUpSaveInterval(ConfigMap configMap) {
+        LOGGER.trace("Extract or init prepared statements warm-up manifest save interval");
+        final Long saveInterval = configMap.getTypedOr(PREPARED_STATEMENTS_WARM_UP_SAVE_INTERVAL, DEFAULT_PREPARED_STATEMENTS_WARM_UP_SAVE_INTERVAL);
+        Validator.validateTrue(saveInterval >= 0, "The parameter '%s' should be positive", PREPARED_STATEMENTS_WARM_UP_SAVE_INTERVAL.name());
+        return saveInterval;
+    }
+
+    public static Integer initBatchWriteMaxSize(ConfigMap configMap) {
+        LOGGER.trace("Extract or init batch write max size");
+        final Integer maxSize = configMap.getTypedOr(BATCH_WRITE_MAX_SIZE, DEFAULT_BATCH_WRITE_MAX_SIZE);
+        Validator.validateTrue(maxSize > 0, "The parameter '%s' should be strictly positive", BATCH_WRITE_MAX_SIZE.name());
+        return maxSize;
+    }
+
+    public static Integer initBatchWriteConcurrency(ConfigMap configMap) {
+        LOGGER.trace("Extract or init batch write concurrency");
+        final Integer concurrency = configMap.getTypedOr(BATCH_WRITE_CONCURRENCY, DEFAULT_BATCH_WRITE_CONCURRENCY);
+        Validator.validateTrue(concurrency > 0, "The parameter '%s' should be strictly positive", BATCH_WRITE_CONCURRENCY.name());
+        return concurrency;
+    }
+
+    public static Integer initFindAllByIdConcurrency(ConfigMap configMap) {
+        LOGGER.trace("Extract or init find all by id concurrency");
+        final Integer concurrency = configMap.getTypedOr(FIND_ALL_BY_ID_CONCURRENCY, DEFAULT_FIND_ALL_BY_ID_CONCURRENCY);
+        Validator.validateTrue(concurrency > 0, "The parameter '%s' should be strictly positive", FIND_ALL_BY_ID_CONCURRENCY.name());
+        return concurrency;
+    }
+
+    public static Integer initScanParallelism(ConfigMap configMap) {
+        LOGGER.trace("Extract or init scan parallelism");
+        final Integer parallelism = configMap.getTypedOr(SCAN_PARALLELISM, DEFAULT_SCAN_PARALLELISM);
+        Validator.validateTrue(parallelism > 0, "The parameter '%s' should be strictly positive", SCAN_PARALLELISM.name());
+        return parallelism;
+    }
+
     public static InsertStrategy initInsertStrategy(ConfigMap configMap) {
         LOGGER.trace("Extract or init global Insert strategy");
         return configMap.getTypedOr(GLOBAL_INSERT_STRATEGY, DEFAULT_INSERT_STRATEGY);
@@ -255,6 +341,12 @@ public class ArgumentExtractor {
 
     private static Supplier<ExecutorService> initializeDefaultExecutor(final ConfigMap configMap) {
         return () -> {
+            if (configMap.getTypedOr(EXECUTOR_SERVICE_VIRTUAL_THREADS, false)) {
+                final Optional<ExecutorService> virtualThreadsExecutor = initVirtualThreadsExecutor();
+                if (virtualThreadsExecutor.isPresent()) {
+                    return virtualThreadsExecutor.get();
+                }
+            }
             int minThreads = configMap.getTypedOr(DEFAULT_EXECUTOR_SERVICE_MIN_THREAD, DEFAULT_THREAD_POOL_MIN_THREAD_COUNT);
             int maxThreads = configMap.getTypedOr(DEFAULT_EXECUTOR_SERVICE_MAX_THREAD, DEFAULT_THREAD_POOL_MAX_THREAD_COUNT);
             long threadKeepAlive = configMap.getTypedOr(DEFAULT_EXECUTOR_SERVICE_THREAD_KEEPALIVE, DEFAULT_THREAD_POOL_THREAD_TTL);
@@ -281,7 +373,8 @@ public class ArgumentExtractor {
             return configMap.getTyped(STATEMENTS_CACHE);
         } else {
             final Integer cacheSize = initPreparedStatementsCacheSize(configMap);
-            return new StatementsCache(cacheSize);
+            final Integer tenantCacheSize = initTenantStatementsCacheSize(configMap);
+            return new StatementsCache(cacheSize, tenantCacheSize);
         }
     }
 
@@ -302,4 +395,51 @@ public class ArgumentExtractor {
             return DEFAULT_DML_RESULTS_DISPLAY_SIZE;
         }
     }
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor() is only available on JDK 21+
+     */
+    private static Optional<ExecutorService> initVirtualThreadsExecutor() {
+        try {
+            final ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            LOGGER.info("Using virtual threads for asynchronous operations");
+            return Optional.of(executor);
+        } catch (ReflectiveOperationException ex) {
+            LOGGER.warn("Virtual threads are not supported by the current JDK, falling back to the default thread pool");
+            return Optional.empty();
+        }
+    }
+
+    public static CompletionMode initCompletionMode(ConfigMap configMap) {
+        LOGGER.trace("Extract or init completion mode");
+        return configMap.getTypedOr(COMPLETION_MODE, CompletionMode.EXECUTOR);
+    }
+
+    public static Optional<ConcurrencyLimiter> initConcurrencyLimiter(ConfigMap configMap) {
+        LOGGER.trace("Extract or init concurrency limiter");
+        if (!configMap.containsKey(CONCURRENCY_LIMIT)) {
+            return Optional.empty();
+        }
+        final Integer limit = configMap.getTyped(CONCURRENCY_LIMIT);
+        final Integer queueSize = configMap.getTypedOr(CONCURRENCY_LIMIT_QUEUE_SIZE, DEFAULT_CONCURRENCY_LIMIT_QUEUE_SIZE);
+        Validator.validateTrue(limit > 0, "The parameter '%s' should be strictly positive", CONCURRENCY_LIMIT.name());
+        Validator.validateTrue(queueSize >= 0, "The parameter '%s' should be positive or zero", CONCURRENCY_LIMIT_QUEUE_SIZE.name());
+        if (configMap.getTypedOr(CONCURRENCY_LIMIT_ADAPTIVE, false)) {
+            return Optional.of(ConcurrencyLimiter.adaptive(limit, queueSize));
+        } else {
+            return Optional.of(ConcurrencyLimiter.fixed(limit, queueSize));
+        }
+    }
+
+    public static MetricsRecorder initMetricsRecorder(ConfigMap configMap) {
+        LOGGER.trace("Extract or init metrics recorder");
+        return configMap.getTypedOr(METRICS_RECORDER, MetricsRecorder.NO_OP);
+    }
+
+    public static Map<Class<?>, NearCacheOptions> initNearCacheOptions(ConfigMap configMap) {
+        LOGGER.trace("Extract or init near cache options");
+        return configMap.getTypedOr(NEAR_CACHE_OPTIONS, new HashMap<>());
+    }
 }
@@ -49,6 +49,15 @@ package info.archinnov.achilles.configuration;
  *         <strong>DML_RESULTS_DISPLAY_SIZE</strong> (OPTIONAL): set the max number of returned rows to be displayed if ACHILLES_DML_STATEMENT logger or entity logger is debug-enabled
  *         .There is a <strong>hard-coded</strong> limit of 100 rows so if you provide a greater value it will be capped to 100 and floor to 0 (e.g. disable returned results display)
  *     </li>
+ *     <li>
+ *         <strong>METRICS_RECORDER</strong> (OPTIONAL): provide an implementation of {@link info.archinnov.achilles.metrics.MetricsRecorder}
+ *         to collect statement execution, entity mapping, interceptors, LWT and statements cache metrics. By default no metric is recorded
+ *     </li>
+ *     <li>
+ *         <strong>NEAR_CACHE_OPTIONS</strong> (OPTIONAL): map of entity class to {@link info.archinnov.achilles.type.NearCacheOptions}.
+ *         <em>crud().findById(...)</em> on these entities is served by a read-through cache of rows, invalidated by the
+ *         mutations going through the manager. By default no entity is cached
+ *     </li>
  * </ul>
  * <br/>
  * <br/>
@@ -142,9 +151,66 @@ package info.archinnov.achilles.configuration;
  * to store all prepared statements. This option is useful for unit testing to avoid re-preparing many times the same prepared statements
  * <br/><br/>
  * <em>
- * Remark: if your provide the statement cache object yourself, the parameter PREPARED_STATEMENTS_CACHE_SIZE will be ignored
+ * Remark: if your provide the statement cache object yourself, the parameters PREPARED_STATEMENTS_CACHE_SIZE and
+ * TENANT_STATEMENTS_CACHE_SIZE will be ignored
  * </em>
  * </li>
+ * <li>
+ * <strong>TENANT_STATEMENTS_CACHE_SIZE</strong> (OPTIONAL): define the LRU cache size for the static statements prepared for the
+ * keyspaces and tables of a runtime <strong>SchemaNameProvider</strong>. This cache is separated from the dynamic statements cache
+ * so that many tenants do not evict the dynamic statements. Default value is the value of PREPARED_STATEMENTS_CACHE_SIZE
+ * </li>
+ * <li>
+ * <strong>STATIC_STATEMENTS_PREPARE_MAX_IN_FLIGHT</strong> (OPTIONAL): max number of static statements being prepared
+ * concurrently at bootstrap. All static statements are prepared asynchronously, this parameter caps the number of
+ * prepare requests in flight so that large schemas do not flood the cluster. Default value is <strong>32</strong>
+ * </li>
+ * <li>
+ * <strong>PREPARED_STATEMENTS_WARM_UP_FILE</strong> (OPTIONAL): path of the prepared statements warm-up manifest.
+ * When set, <strong>Achilles</strong> records the most used dynamic query strings and saves them into this file on shutdown.
+ * At the next start-up, the query strings of the manifest are re-prepared asynchronously in the background to avoid
+ * paying the prepare round-trip on the first requests. The warm-up is disabled by default
+ * </li>
+ * <li>
+ * <strong>PREPARED_STATEMENTS_WARM_UP_MAX_ENTRIES</strong> (OPTIONAL): max number of query strings saved into the
+ * warm-up manifest. Default value is <strong>1000</strong>
+ * </li>
+ * <li>
+ * <strong>PREPARED_STATEMENTS_WARM_UP_SAVE_INTERVAL</strong> (OPTIONAL): interval in seconds between two periodic saves
+ * of the warm-up manifest. Default value is <strong>0</strong>, the manifest is then only saved on shutdown
+ * </li>
+ * </ul>
+ * <br/>
+ * <br/>
+ * <h4>Batched writes</h4>
+ * <ul>
+ * <li>
+ * <strong>BATCH_WRITE_MAX_SIZE</strong> (OPTIONAL): default max number of statements in a single <strong>UNLOGGED</strong>
+ * batch sent by <code>crud().insertAll(...)</code>. Entities are grouped by partition and each partition is split into
+ * chunks of at most this size. Default value is <strong>20</strong>
+ * </li>
+ * <li>
+ * <strong>BATCH_WRITE_CONCURRENCY</strong> (OPTIONAL): default max number of batches in flight for
+ * <code>crud().insertAll(...)</code>. Default value is <strong>8</strong>
+ * </li>
+ * </ul>
+ * <br/>
+ * <br/>
+ * <h4>Multi-get</h4>
+ * <ul>
+ * <li>
+ * <strong>FIND_ALL_BY_ID_CONCURRENCY</strong> (OPTIONAL): default max number of SELECT requests in flight for
+ * <code>crud().findAllById(...)</code>. Default value is <strong>32</strong>
+ * </li>
+ * </ul>
+ * <br/>
+ * <br/>
+ * <h4>Full table scan</h4>
+ * <ul>
+ * <li>
+ * <strong>SCAN_PARALLELISM</strong> (OPTIONAL): default max number of token ranges scanned in parallel by
+ * <code>manager.scan()</code>. Default value is <strong>4</strong>
+ * </li>
  * </ul>
  * <br/>
  * <br/>
@@ -250,6 +316,28 @@ package info.archinnov.achilles.configuration;
  * </code></pre>
  * For more details, please check <strong><a href="https://github.com/doanduyhai/Achilles/wiki/Asynchronous-Operations">Asynchronous Operations</a></strong></p>
  * </li>
+ * <li>
+ * <strong>EXECUTOR_SERVICE_VIRTUAL_THREADS</strong> (OPTIONAL): when no EXECUTOR_SERVICE is provided, run the internal asynchronous operations
+ * on virtual threads if the JDK supports them (JDK 21+). On older JDKs, the default thread pool is used. <strong>Default = 'false'</strong>
+ * </li>
+ * <li>
+ * <strong>COMPLETION_MODE</strong> (OPTIONAL): thread on which the futures of statement executions are completed. With
+ * <strong>CompletionMode.DIRECT</strong>, they are completed on the driver I/O threads, saving a thread hand-off per statement.
+ * Statements with interceptors, LWT or async listeners are still completed on the executor service. The returned futures are
+ * handed over to the executor service once, so user continuations never run on the driver I/O threads. Default value is <strong>CompletionMode.EXECUTOR</strong>
+ * </li>
+ * <li>
+ * <strong>CONCURRENCY_LIMIT</strong> (OPTIONAL): max number of requests in flight for the manager factory. Requests above
+ * this limit are queued until a permit is released. By default there is no limit
+ * </li>
+ * <li>
+ * <strong>CONCURRENCY_LIMIT_ADAPTIVE</strong> (OPTIONAL): adapt the limit to the observed latency, between 1 and CONCURRENCY_LIMIT.
+ * The limit grows while responses are fast and shrinks when they slow down or when the cluster is overloaded. <strong>Default = 'false'</strong>
+ * </li>
+ * <li>
+ * <strong>CONCURRENCY_LIMIT_QUEUE_SIZE</strong> (OPTIONAL): max number of requests waiting for a permit. Above this size, requests
+ * are rejected with an <em>AchillesConcurrencyLimitException</em>. Default value is <strong>1000</strong>
+ * </li>
  * </ul>
  */
 public enum ConfigurationParameters {
@@ -279,6 +367,18 @@ public enum ConfigurationParameters {
     BEAN_VALIDATION_VALIDATOR("achilles.bean.validation.validator"),
 
     PREPARED_STATEMENTS_CACHE_SIZE("achilles.prepared.statements.cache.size"),
+    TENANT_STATEMENTS_CACHE_SIZE("achilles.tenant.statements.cache.size"),
+    STATIC_STATEMENTS_PREPARE_MAX_IN_FLIGHT("achilles.static.statements.prepare.max.in.flight"),
+    PREPARED_STATEMENTS_WARM_UP_FILE("achilles.prepared.statements.warm.up.file"),
+    PREPARED_STATEMENTS_WARM_UP_MAX_ENTRIES("achilles.prepared.statements.warm.up.max.entries"),
+    PREPARED_STATEMENTS_WARM_UP_SAVE_INTERVAL("achilles.prepared.statements.warm.up.save.interval"),
+
+    BATCH_WRITE_MAX_SIZE("achilles.batch.write.max.size"),
+    BATCH_WRITE_CONCURRENCY("achilles.batch.write.concurrency"),
+
+    FIND_ALL_BY_ID_CONCURRENCY("achilles.find.all.by.id.concurrency"),
+
+    SCAN_PARALLELISM("achilles.scan.parallelism"),
 
     DEFAULT_BEAN_FACTORY("achilles.bean.factory"),
 
@@ -296,8 +396,19 @@ public enum ConfigurationParameters {
     DEFAULT_EXECUTOR_SERVICE_THREAD_KEEPALIVE("achilles.executor.service.default.thread.keepalive"),
     DEFAULT_EXECUTOR_SERVICE_QUEUE_SIZE("achilles.executor.service.default.queue.size"),
     DEFAULT_EXECUTOR_SERVICE_THREAD_FACTORY("achilles.executor.service.thread.factory"),
+    EXECUTOR_SERVICE_VIRTUAL_THREADS("achilles.executor.service.virtual.threads"),
+
+    COMPLETION_MODE("achilles.completion.mode"),
+
+    CONCURRENCY_LIMIT("achilles.concurrency.limit"),
+    CONCURRENCY_LIMIT_ADAPTIVE("achilles.concurrency.limit.adaptive"),
+    CONCURRENCY_LIMIT_QUEUE_SIZE("achilles.concurrency.limit.queue.size"),
+
+    DML_RESULTS_DISPLAY_SIZE("achilles.dml.results_display.size"),
+
+    METRICS_RECORDER("achilles.metrics.recorder"),
 
-    DML_RESULTS_DISPLAY_SIZE("achilles.dml.results_display.size");
+    NEAR_CACHE_OPTIONS("achilles.near.cache.options");
 
 
     private String label;
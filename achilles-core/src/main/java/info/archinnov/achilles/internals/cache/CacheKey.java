@@ -20,11 +20,13 @@ import static info.archinnov.achilles.internals.statements.PreparedStatementGene
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
 
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
@@ -41,6 +43,14 @@ public class CacheKey {
         this.operation = operation;
     }
 
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -66,148 +76,117 @@ public class CacheKey {
 
     public enum Operation {
 
-        FIND {
-            @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare SELECT statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, FIND));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateSelectQuery(meta, provider))
-                        .orElse(psFromCache);
-
-            }
-        },
-        INSERT {
+        FIND("SELECT") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare INSERT statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsert(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> provider) {
+                return generateSelectQuery(meta, provider);
             }
         },
-        INSERT_JSON {
+        INSERT("INSERT") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare INSERT JSON statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_JSON));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsertJSON(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> provider) {
+                return generateInsert(meta, provider);
             }
         },
-        INSERT_STATIC {
+        INSERT_JSON("INSERT JSON") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare INSERT STATIC statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_STATIC));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsertStatic(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> provider) {
+                return generateInsertJSON(meta, provider);
             }
         },
-        INSERT_IF_NOT_EXISTS {
+        INSERT_STATIC("INSERT STATIC") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare INSERT IF NOT EXISTS statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_IF_NOT_EXISTS));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsertIfNotExists(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> provider) {
+                return generateInsertStatic(meta, provider);
             }
         },
-        INSERT_IF_NOT_EXISTS_JSON {
+        INSERT_IF_NOT_EXISTS("INSERT IF NOT EXISTS") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare INSERT JSON ... IF NOT EXISTS statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_IF_NOT_EXISTS_JSON));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsertIfNotExistsJson(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> provider) {
+                return generateInsertIfNotExists(meta, provider);
             }
         },
-        INSERT_STATIC_IF_NOT_EXISTS {
+        INSERT_IF_NOT_EXISTS_JSON("INSERT JSON ... IF NOT EXISTS") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare INSERT STATIC IF NOT EXISTS statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_STATIC_IF_NOT_EXISTS));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsertStaticIfNotExists(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> provider) {
+                return generateInsertIfNotExistsJson(meta, provider);
             }
         },
-        DELETE {
+        INSERT_STATIC_IF_NOT_EXISTS("INSERT STATIC IF NOT EXISTS") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare DELETE statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, DELETE));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateDeleteByKeys(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> provider) {
+                return generateInsertStaticIfNotExists(meta, provider);
             }
         },
-        DELETE_IF_EXISTS {
+        DELETE("DELETE") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare DELETE IF EXISTS statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, DELETE_IF_EXISTS));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateDeleteByKeysIfExists(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> provider) {
+                return generateDeleteByKeys(meta, provider);
             }
         },
-        DELETE_BY_PARTITION {
+        DELETE_IF_EXISTS("DELETE IF EXISTS") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Prepare DELETE BY PARTITION statement for entity of type %s",
-                            meta.entityClass.getCanonicalName()));
-                }
-                final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, DELETE_BY_PARTITION));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateDeleteByPartition(meta, provider))
-                        .orElse(psFromCache);
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> provider) {
+                return generateDeleteByKeysIfExists(meta, provider);
             }
         },
-        UPDATE {
+        DELETE_BY_PARTITION("DELETE BY PARTITION") {
             @Override
-            public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
-                //TODO
-                return null;
+            public RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> provider) {
+                return generateDeleteByPartition(meta, provider);
             }
         };
 
         private static final Logger LOGGER = LoggerFactory.getLogger(Operation.class);
 
-        public abstract PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions);
+        private final String description;
+
+        Operation(String description) {
+            this.description = description;
+        }
+
+        /**
+         * Get the prepared statement of this operation for the given entity. When a runtime
+         * SchemaNameProvider is set in the options, the statement prepared for the keyspace
+         * and table of this provider is returned instead of the static one
+         */
+        public PreparedStatement getPreparedStatement(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(String.format("Prepare %s statement for entity of type %s",
+                        description, meta.entityClass.getCanonicalName()));
+            }
+
+            final CacheKey cacheKey = new CacheKey(meta.entityClass, this);
+            final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
+            if (provider.isPresent()) {
+                return rte.getStaticCacheForSchema(cacheKey, meta, provider.get());
+            } else {
+                return rte.getStaticCache(cacheKey);
+            }
+        }
+
+        /**
+         * Non-blocking version of {@link #getPreparedStatement(RuntimeEngine, AbstractEntityProperty, CassandraOptions)}.
+         * Only the statements of a runtime SchemaNameProvider may need to be prepared, the static ones are already completed
+         */
+        public CompletableFuture<PreparedStatement> getPreparedStatementAsync(RuntimeEngine rte, AbstractEntityProperty<?> meta, CassandraOptions cassandraOptions) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(String.format("Prepare asynchronously %s statement for entity of type %s",
+                        description, meta.entityClass.getCanonicalName()));
+            }
+
+            final CacheKey cacheKey = new CacheKey(meta.entityClass, this);
+            final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
+            if (provider.isPresent()) {
+                return rte.getStaticCacheForSchemaAsync(cacheKey, meta, provider.get());
+            } else {
+                return CompletableFuture.completedFuture(rte.getStaticCache(cacheKey));
+            }
+        }
+
+        /**
+         * Generate the statement of this operation for the given entity and optional SchemaNameProvider
+         */
+        public abstract RegularStatement generateStatement(AbstractEntityProperty<?> meta, Optional<SchemaNameProvider> provider);
     }
 }
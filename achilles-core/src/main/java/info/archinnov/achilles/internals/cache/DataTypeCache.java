@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.datastax.driver.core.DataType;
+
+/**
+ * Cache of resolved UserType/TupleType instances of a meta class, keyed by keyspace name and frozen flag.
+ * <br/>
+ * Entries are tagged with the schema generation of the {@link info.archinnov.achilles.internals.factory.UserTypeFactory}
+ * they were built with. Whenever a newer generation is seen, on schema change events, the cached types are
+ * dropped by swapping the immutable (generation, types) holder and are lazily rebuilt on the next lookup.
+ * The generation of the holder only moves forward, and a type is only put into the holder of its own
+ * generation, so a type built before a schema change is never served afterwards
+ */
+public class DataTypeCache<T extends DataType> {
+
+    private final AtomicReference<Generation<T>> current = new AtomicReference<>(new Generation<>(0L));
+
+    /**
+     * Return the cached type for the given keyspace and frozen flag or null if
+     * it is not cached for the given schema generation
+     */
+    public T get(String keyspace, boolean frozen, long schemaGeneration) {
+        final Generation<T> generation = advanceTo(schemaGeneration);
+        if (generation.value != schemaGeneration) {
+            return null;
+        }
+        return generation.typesFor(frozen).get(keyspace);
+    }
+
+    /**
+     * Cache the type built for the given keyspace and frozen flag and return the cached instance,
+     * which may have been put concurrently by another thread. A type built with an outdated
+     * schema generation is not cached
+     */
+    public T put(String keyspace, boolean frozen, long schemaGeneration, T type) {
+        final Generation<T> generation = advanceTo(schemaGeneration);
+        if (generation.value != schemaGeneration) {
+            return type;
+        }
+        final T previous = generation.typesFor(frozen).putIfAbsent(keyspace, type);
+        return previous != null ? previous : type;
+    }
+
+    private Generation<T> advanceTo(long schemaGeneration) {
+        while (true) {
+            final Generation<T> generation = current.get();
+            if (schemaGeneration <= generation.value) {
+                return generation;
+            }
+            final Generation<T> next = new Generation<>(schemaGeneration);
+            if (current.compareAndSet(generation, next)) {
+                return next;
+            }
+        }
+    }
+
+    private static final class Generation<T> {
+        private final long value;
+        private final ConcurrentMap<String, T> frozenTypes = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, T> nonFrozenTypes = new ConcurrentHashMap<>();
+
+        private Generation(long value) {
+            this.value = value;
+        }
+
+        private ConcurrentMap<String, T> typesFor(boolean frozen) {
+            return frozen ? frozenTypes : nonFrozenTypes;
+        }
+    }
+}
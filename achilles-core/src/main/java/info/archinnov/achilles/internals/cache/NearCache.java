@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static com.google.common.cache.CacheBuilder.newBuilder;
+import static info.archinnov.achilles.metrics.MetricsRecorder.CacheType.NEAR;
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.Row;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+
+import info.archinnov.achilles.metrics.MetricsRecorder;
+import info.archinnov.achilles.type.NearCacheOptions;
+import info.archinnov.achilles.type.NearCacheStats;
+
+/**
+ * Read-through cache of the rows loaded by <em>findById</em> for an entity, keyed by encoded primary key.
+ * <br/>
+ * Concurrent misses for the same primary key share a single query. A row whose key is invalidated
+ * while it is being loaded is not cached, so a read racing with a write cannot put a stale row back.
+ * Absent rows are never cached.
+ * <br/>
+ * Rows are the immutable rows returned by the driver, each read decodes a fresh entity instance from them
+ * with the codecs of the entity. The primary keys cached or being loaded are indexed by partition so that
+ * the rows of a partition are invalidated without scanning the whole cache.
+ * <br/>
+ * The key ignores the consistency level of the read, so a cached row is served to reads
+ * of any non-serial consistency level
+ */
+public class NearCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NearCache.class);
+
+    private final Class<?> entityClass;
+    private final int partitionKeysCount;
+    private final MetricsRecorder metrics;
+    private final Cache<List<Object>, Row> rows;
+    private final ConcurrentMap<List<Object>, CompletableFuture<Row>> loadsInFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<List<Object>, Set<List<Object>>> primaryKeysByPartition = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public NearCache(Class<?> entityClass, int partitionKeysCount, NearCacheOptions options, MetricsRecorder metrics) {
+        this.entityClass = entityClass;
+        this.partitionKeysCount = partitionKeysCount;
+        this.metrics = metrics;
+        final CacheBuilder<Object, Object> builder = newBuilder().maximumSize(options.getMaxSize());
+        options.getTtlInMillis().ifPresent(ttl -> builder.expireAfterWrite(ttl, TimeUnit.MILLISECONDS));
+        this.rows = builder
+                .removalListener((RemovalNotification<List<Object>, Row> notification) -> {
+                    if (notification.wasEvicted()) {
+                        evictions.increment();
+                        metrics.recordCacheEviction(NEAR);
+                    }
+                    final List<Object> primaryKey = notification.getKey();
+                    if (notification.getCause() != RemovalCause.REPLACED && !loadsInFlight.containsKey(primaryKey)) {
+                        unindex(primaryKey);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Return the cached row for the given encoded primary key or load it with the given loader.
+     * The returned future completes with <strong>null</strong> if there is no row for this primary key
+     */
+    public CompletableFuture<Row> get(List<Object> primaryKey, Supplier<CompletableFuture<Row>> loader) {
+        final Row cached = rows.getIfPresent(primaryKey);
+        if (cached != null) {
+            hits.increment();
+            metrics.recordCacheHit(NEAR);
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Near cache hit for entity %s and primary key %s", entityClass.getCanonicalName(), primaryKey));
+            }
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        misses.increment();
+        metrics.recordCacheMiss(NEAR);
+        final CompletableFuture<Row> load = new CompletableFuture<>();
+        final CompletableFuture<Row> inFlight = loadsInFlight.putIfAbsent(primaryKey, load);
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Near cache miss for entity %s and primary key %s", entityClass.getCanonicalName(), primaryKey));
+        }
+
+        // Indexed before the query is sent, so that a partition invalidation cancels the caching of this load
+        index(primaryKey);
+        final CompletableFuture<Row> loaded;
+        try {
+            loaded = loader.get();
+        } catch (Throwable throwable) {
+            loadsInFlight.remove(primaryKey, load);
+            unindex(primaryKey);
+            load.completeExceptionally(throwable);
+            return load;
+        }
+
+        loaded.whenComplete((row, throwable) -> {
+            if (loadsInFlight.remove(primaryKey, load)) {
+                if (throwable == null && row != null) {
+                    index(primaryKey);
+                    rows.put(primaryKey, row);
+                } else {
+                    unindex(primaryKey);
+                }
+            }
+            if (throwable != null) {
+                load.completeExceptionally(throwable);
+            } else {
+                load.complete(row);
+            }
+        });
+        return load;
+    }
+
+    public void invalidate(List<Object> primaryKey) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Invalidate near cache of entity %s for primary key %s", entityClass.getCanonicalName(), primaryKey));
+        }
+        if (loadsInFlight.remove(primaryKey) != null) {
+            unindex(primaryKey);
+        }
+        rows.invalidate(primaryKey);
+    }
+
+    /**
+     * Evict the rows, cached or being loaded, of the given encoded partition keys.
+     * The other partitions are left untouched, unlike {@link #invalidateAll()}
+     */
+    public void invalidatePartition(List<Object> partitionKeys) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Invalidate near cache of entity %s for partition %s", entityClass.getCanonicalName(), partitionKeys));
+        }
+        final Set<List<Object>> primaryKeys = primaryKeysByPartition.remove(partitionKeys);
+        if (primaryKeys != null) {
+            for (List<Object> primaryKey : primaryKeys) {
+                loadsInFlight.remove(primaryKey);
+                rows.invalidate(primaryKey);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Invalidate all the near cache of entity %s", entityClass.getCanonicalName()));
+        }
+        loadsInFlight.clear();
+        rows.invalidateAll();
+        primaryKeysByPartition.clear();
+    }
+
+    public NearCacheStats getStats() {
+        return new NearCacheStats(hits.sum(), misses.sum(), evictions.sum(), rows.size());
+    }
+
+    private void index(List<Object> primaryKey) {
+        primaryKeysByPartition.compute(partitionOf(primaryKey), (partition, primaryKeys) -> {
+            final Set<List<Object>> indexed = primaryKeys != null ? primaryKeys : new HashSet<>();
+            indexed.add(primaryKey);
+            return indexed;
+        });
+    }
+
+    private void unindex(List<Object> primaryKey) {
+        primaryKeysByPartition.computeIfPresent(partitionOf(primaryKey), (partition, primaryKeys) -> {
+            primaryKeys.remove(primaryKey);
+            return primaryKeys.isEmpty() ? null : primaryKeys;
+        });
+    }
+
+    private List<Object> partitionOf(List<Object> primaryKey) {
+        return new ArrayList<>(primaryKey.subList(0, partitionKeysCount));
+    }
+}
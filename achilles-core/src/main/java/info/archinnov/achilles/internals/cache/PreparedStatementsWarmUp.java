@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.cache;
+
+import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
+import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import info.archinnov.achilles.internals.dsl.ConcurrencyHelper;
+
+/**
+ * Warm-up manifest of the dynamic prepared statements.
+ * <br/>
+ * When enabled, the usage of each dynamic query string is counted, for at most
+ * <em>maxTrackedQueries</em> query strings (least recently used ones are dropped). The hottest
+ * query strings, up to <em>maxEntries</em>, are saved as a JSON array into the
+ * manifest file on shutdown and, optionally, periodically. At the next start-up
+ * the query strings of the manifest are re-prepared asynchronously in the background
+ * and put into the dynamic statements cache so that the first requests do not pay
+ * the prepare round-trip
+ */
+public class PreparedStatementsWarmUp {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PreparedStatementsWarmUp.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path manifestFile;
+    private final int maxEntries;
+    private final Cache<String, LongAdder> usages;
+    private volatile ScheduledExecutorService scheduler;
+
+    public PreparedStatementsWarmUp(Path manifestFile, int maxEntries, int maxTrackedQueries) {
+        this.manifestFile = manifestFile;
+        this.maxEntries = maxEntries;
+        this.usages = CacheBuilder.newBuilder()
+                .maximumSize(Math.max(maxEntries, maxTrackedQueries))
+                .build();
+    }
+
+    public void recordUsage(String queryString) {
+        LongAdder counter = usages.getIfPresent(queryString);
+        if (counter == null) {
+            final LongAdder newCounter = new LongAdder();
+            counter = usages.asMap().putIfAbsent(queryString, newCounter);
+            if (counter == null) {
+                counter = newCounter;
+            }
+        }
+        counter.increment();
+    }
+
+    public void forget(String queryString) {
+        usages.invalidate(queryString);
+    }
+
+    /**
+     * @return the most used query strings, up to the max number of entries, most used first
+     */
+    public List<String> hottestQueries() {
+        final Map<String, Long> snapshot = new HashMap<>((int) usages.size());
+        usages.asMap().forEach((queryString, counter) -> snapshot.put(queryString, counter.sum()));
+        return snapshot.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(maxEntries)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Save the hottest query strings into the manifest file. The file is written
+     * into a temporary file first then moved atomically to the manifest location
+     */
+    public synchronized void save() {
+        final List<String> queries = hottestQueries();
+        try {
+            final Path parent = manifestFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            final Path tmpFile = manifestFile.resolveSibling(manifestFile.getFileName() + ".tmp");
+            MAPPER.writeValue(tmpFile.toFile(), queries);
+            Files.move(tmpFile, manifestFile, REPLACE_EXISTING, ATOMIC_MOVE);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Saved %s query strings into prepared statements warm-up manifest %s", queries.size(), manifestFile));
+            }
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.warn(format("Cannot save prepared statements warm-up manifest %s : %s", manifestFile, ex.getMessage()), ex);
+        }
+    }
+
+    /**
+     * Load the query strings from the manifest file. A missing or unreadable
+     * manifest is not an error, the warm-up is simply skipped
+     */
+    public List<String> load() {
+        if (!Files.isReadable(manifestFile)) {
+            LOGGER.info(format("No prepared statements warm-up manifest found at %s", manifestFile));
+            return new ArrayList<>();
+        }
+        try {
+            final List<String> queries = Arrays.asList(MAPPER.readValue(manifestFile.toFile(), String[].class));
+            return queries.size() > maxEntries ? queries.subList(0, maxEntries) : queries;
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.warn(format("Cannot read prepared statements warm-up manifest %s : %s", manifestFile, ex.getMessage()), ex);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Re-prepare in background, on the given executor, the query strings of the manifest
+     * with at most <em>maxInFlight</em> prepare requests in flight. No thread is blocked
+     * waiting for the prepare requests. Query strings which fail to be prepared
+     * (e.g. because the schema has changed) are skipped
+     */
+    public CompletableFuture<Void> warmUp(Session session, StatementsCache cache, ExecutorService executor, int maxInFlight) {
+        return CompletableFuture
+                .supplyAsync(this::load, executor)
+                .thenCompose(queries -> {
+                    if (queries.isEmpty()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    LOGGER.info(format("Warming up %s prepared statements from manifest %s", queries.size(), manifestFile));
+                    final long start = System.nanoTime();
+                    return ConcurrencyHelper
+                            .executeWithBoundedConcurrency(queries, maxInFlight, query -> prepareQuietly(session, cache, executor, query))
+                            .thenAccept(prepared -> {
+                                final long successes = prepared.stream().filter(Boolean::booleanValue).count();
+                                LOGGER.info(format("Prepared statements warm-up done in %s ms, %s prepared, %s failed",
+                                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), successes, queries.size() - successes));
+                            });
+                });
+    }
+
+    private static CompletableFuture<Boolean> prepareQuietly(Session session, StatementsCache cache, ExecutorService executor, String query) {
+        return toCompletableFuture(session.prepareAsync(query), executor)
+                .handle((preparedStatement, throwable) -> {
+                    if (throwable != null) {
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debug(format("Cannot warm up prepared statement '%s' : %s", query, throwable.getMessage()));
+                        }
+                        return false;
+                    }
+                    cache.putDynamicCache(query, preparedStatement);
+                    return true;
+                });
+    }
+
+    /**
+     * Save the manifest periodically, on a dedicated daemon thread
+     */
+    public void startPeriodicSave(long intervalInSeconds) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "achilles-prepared-statements-warm-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::save, intervalInSeconds, intervalInSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stop the periodic save, if any, and save the manifest one last time
+     */
+    public void shutDown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        save();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Structural signature of a DSL query.
+ * <br/>
+ * Each generated DSL method that mutates the underlying statement appends
+ * its own token, computed at compile time by the annotation processor. Two
+ * DSL chains started from the same root class, targeting the same keyspace/table
+ * and having the same token sequence produce the same CQL string, so the prepared
+ * statement can be looked up with the shape without re-building the query string
+ * <br/>
+ * Some DSL methods inject runtime values in the CQL string itself (function calls,
+ * list index ...). They mark the shape as <em>dynamic</em> so that the string-based
+ * cache is used instead
+ */
+public class QueryShape {
+
+    public static final int IF_EXISTS = -1;
+    public static final int USING_TTL = -2;
+
+    public static final int NO_VARIANT = 0;
+    public static final int ALLOW_FILTERING = -10;
+    public static final int SOLR_QUERY = -11;
+    public static final int RAW_SOLR_QUERY = -12;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Class<?> dslClass;
+    private String keyspace;
+    private String table;
+    private int[] tokens;
+    private int size;
+    private int variant = NO_VARIANT;
+    private boolean dynamic;
+
+    public QueryShape(Class<?> dslClass) {
+        this.dslClass = dslClass;
+        this.tokens = new int[INITIAL_CAPACITY];
+    }
+
+    private QueryShape(QueryShape other) {
+        this.dslClass = other.dslClass;
+        this.keyspace = other.keyspace;
+        this.table = other.table;
+        this.tokens = Arrays.copyOf(other.tokens, other.size);
+        this.size = other.size;
+        this.variant = other.variant;
+        this.dynamic = other.dynamic;
+    }
+
+    public void from(int token, String keyspace, String table) {
+        append(token);
+        this.keyspace = keyspace;
+        this.table = table;
+    }
+
+    public void append(int token) {
+        if (size == tokens.length) {
+            tokens = Arrays.copyOf(tokens, size << 1);
+        }
+        tokens[size++] = token;
+    }
+
+    public void markDynamic() {
+        this.dynamic = true;
+    }
+
+    public boolean isDynamic() {
+        return dynamic;
+    }
+
+    /**
+     * Set the final rendering variant of the query (ALLOW FILTERING, Solr query ...).
+     * Unlike tokens, the variant is idempotent because it can be applied
+     * each time the statement is generated
+     */
+    public void variant(int variant) {
+        this.variant = variant;
+    }
+
+    /**
+     * Immutable copy of the current shape, suitable as a cache key
+     */
+    public QueryShape snapshot() {
+        return new QueryShape(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        QueryShape that = (QueryShape) o;
+        if (dslClass != that.dslClass || size != that.size || variant != that.variant || dynamic != that.dynamic) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (tokens[i] != that.tokens[i]) return false;
+        }
+        return Objects.equals(keyspace, that.keyspace) &&
+                Objects.equals(table, that.table);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = dslClass.hashCode();
+        result = 31 * result + Objects.hashCode(keyspace);
+        result = 31 * result + Objects.hashCode(table);
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + tokens[i];
+        }
+        result = 31 * result + variant;
+        result = 31 * result + (dynamic ? 1 : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("QueryShape{");
+        sb.append("dslClass=").append(dslClass.getCanonicalName());
+        sb.append(", keyspace=").append(keyspace);
+        sb.append(", table=").append(table);
+        sb.append(", tokens=").append(Arrays.toString(Arrays.copyOf(tokens, size)));
+        sb.append(", variant=").append(variant);
+        sb.append(", dynamic=").append(dynamic);
+        sb.append('}');
+        return sb.toString();
+    }
+}
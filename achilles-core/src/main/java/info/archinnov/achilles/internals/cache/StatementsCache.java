@@ -17,34 +17,93 @@
 package info.archinnov.achilles.internals.cache;
 
 import static com.google.common.cache.CacheBuilder.newBuilder;
+import static info.archinnov.achilles.metrics.MetricsRecorder.CacheType.*;
 import static java.lang.String.format;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.exceptions.DriverException;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.metrics.MetricsRecorder;
 
 public class StatementsCache {
     private static final Logger LOGGER = LoggerFactory.getLogger(StatementsCache.class);
 
-    private final Cache<String, PreparedStatement> dynamicCache;
+    private final Cache<String, CompletableFuture<PreparedStatement>> dynamicCache;
     private final Cache<CacheKey, PreparedStatement> staticCache;
+    private final Cache<QueryShape, PreparedStatement> shapeCache;
+    private final Cache<TenantCacheKey, CompletableFuture<PreparedStatement>> tenantCache;
+    private final ConcurrentMap<Class<?>, Set<CacheKey>> staticKeysByEntity = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> tenantEvictions = new ConcurrentHashMap<>();
     private final int maxLRUCacheSize;
+    private volatile Optional<PreparedStatementsWarmUp> warmUp = Optional.empty();
+    private volatile MetricsRecorder metrics = MetricsRecorder.NO_OP;
 
 
     public StatementsCache(int maxLRUCacheSize) {
+        this(maxLRUCacheSize, maxLRUCacheSize);
+    }
+
+    public StatementsCache(int maxLRUCacheSize, int maxTenantCacheSize) {
         this.maxLRUCacheSize = maxLRUCacheSize;
-        this.dynamicCache = newBuilder().maximumSize(maxLRUCacheSize).build();
+        this.dynamicCache = newBuilder()
+                .maximumSize(maxLRUCacheSize)
+                .removalListener((RemovalNotification<String, CompletableFuture<PreparedStatement>> notification) -> {
+                    // Failed prepares removed explicitly should not reset the usage of the query string
+                    if (notification.wasEvicted()) {
+                        if (warmUp.isPresent()) warmUp.get().forget(notification.getKey());
+                        metrics.recordCacheEviction(DYNAMIC);
+                    }
+                })
+                .build();
         this.staticCache = newBuilder().build();
+        this.shapeCache = newBuilder()
+                .maximumSize(maxLRUCacheSize)
+                .removalListener((RemovalNotification<QueryShape, PreparedStatement> notification) -> {
+                    if (notification.wasEvicted()) metrics.recordCacheEviction(SHAPE);
+                    // Stop counting the usage of the query string once it is no longer cached at all
+                    if (warmUp.isPresent() && notification.getValue() != null) {
+                        final String queryString = notification.getValue().getQueryString();
+                        if (dynamicCache.getIfPresent(queryString) == null) warmUp.get().forget(queryString);
+                    }
+                })
+                .build();
+        this.tenantCache = newBuilder()
+                .maximumSize(maxTenantCacheSize)
+                .removalListener((RemovalNotification<TenantCacheKey, CompletableFuture<PreparedStatement>> notification) -> {
+                    if (notification.wasEvicted()) {
+                        tenantEvictions.computeIfAbsent(notification.getKey().getKeyspace(), keyspace -> new LongAdder()).increment();
+                        metrics.recordCacheEviction(TENANT);
+                    }
+                })
+                .build();
     }
 
     public void putStaticCache(CacheKey cacheKey, Callable<PreparedStatement> psSupplier) {
@@ -53,34 +112,260 @@ public class StatementsCache {
                 LOGGER.debug(format("Putting static cache for key %s", cacheKey));
             }
             staticCache.get(cacheKey, psSupplier);
+            indexStaticKey(cacheKey);
         } catch (ExecutionException e) {
             throw new AchillesException(e);
         }
     }
 
+    public void putStaticCache(CacheKey cacheKey, PreparedStatement preparedStatement) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Putting static cache for key %s", cacheKey));
+        }
+        staticCache.asMap().putIfAbsent(cacheKey, preparedStatement);
+        indexStaticKey(cacheKey);
+    }
+
+    public boolean hasStaticCache(CacheKey cacheKey) {
+        return staticCache.getIfPresent(cacheKey) != null;
+    }
+
     public PreparedStatement getStaticCache(CacheKey cacheKey) {
         final PreparedStatement preparedStatement = staticCache.getIfPresent(cacheKey);
         if (preparedStatement == null) {
+            metrics.recordCacheMiss(STATIC);
             throw new AchillesException(format("Cannot find static cached prepared statement for cache key %s", cacheKey));
         }
+        metrics.recordCacheHit(STATIC);
         return preparedStatement;
     }
 
     public PreparedStatement getDynamicCache(final String queryString, Session session) {
+        return getResult(getDynamicCacheAsync(queryString, session));
+    }
+
+    /**
+     * Lookup the prepared statement for the given query string without blocking.
+     * <br/>
+     * On cache miss, the statement is prepared with <em>Session.prepareAsync()</em> and
+     * the in-flight future is cached so that concurrent callers for the same query string
+     * share a single prepare request. A failed prepare is evicted from the cache so that
+     * the next caller retries
+     */
+    public CompletableFuture<PreparedStatement> getDynamicCacheAsync(final String queryString, Session session) {
         AtomicBoolean displayStats = new AtomicBoolean(false);
         try {
-            final PreparedStatement preparedStatement = dynamicCache.get(queryString, () -> {
+            final CompletableFuture<PreparedStatement> futurePS = dynamicCache.get(queryString, () -> {
                 displayStats.getAndSet(true);
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug("Preparing dynamic query : " + queryString);
                 }
-                return session.prepare(queryString);
+                final CompletableFuture<PreparedStatement> newFuturePS = prepareAsync(queryString, session);
+                newFuturePS.whenComplete((preparedStatement, throwable) -> {
+                    if (throwable != null) {
+                        dynamicCache.asMap().remove(queryString, newFuturePS);
+                    }
+                });
+                return newFuturePS;
             });
 
-            if (displayStats.get()) displayCacheStatistics();
+            if (displayStats.get()) {
+                metrics.recordCacheMiss(DYNAMIC);
+                displayCacheStatistics();
+            } else {
+                metrics.recordCacheHit(DYNAMIC);
+            }
+            if (futurePS.isCompletedExceptionally()) {
+                // Failed before being cached, evict it now
+                dynamicCache.asMap().remove(queryString, futurePS);
+            }
+            if (warmUp.isPresent()) warmUp.get().recordUsage(queryString);
+            return futurePS;
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new AchillesException(e.getCause());
+        }
+    }
+
+    /**
+     * Put an already prepared dynamic statement into the cache, unless
+     * the query string is already cached
+     */
+    public void putDynamicCache(String queryString, PreparedStatement preparedStatement) {
+        dynamicCache.asMap().putIfAbsent(queryString, CompletableFuture.completedFuture(preparedStatement));
+    }
+
+    /**
+     * Enable the usage tracking of dynamic query strings for the given warm-up manifest
+     */
+    public void enableWarmUp(PreparedStatementsWarmUp warmUp) {
+        this.warmUp = Optional.of(warmUp);
+    }
+
+    /**
+     * Report the hits, misses and evictions of all the caches to the given metrics recorder
+     */
+    public void enableMetrics(MetricsRecorder metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Lookup the prepared statement for the given DSL query shape. The query string
+     * is only generated on cache miss
+     */
+    public PreparedStatement getShapeCache(QueryShape queryShape, Supplier<String> queryString, Session session) {
+        final PreparedStatement preparedStatement = shapeCache.getIfPresent(queryShape);
+        if (preparedStatement != null) {
+            metrics.recordCacheHit(SHAPE);
+            if (warmUp.isPresent()) warmUp.get().recordUsage(preparedStatement.getQueryString());
             return preparedStatement;
+        }
+
+        metrics.recordCacheMiss(SHAPE);
+        final PreparedStatement newPreparedStatement = getDynamicCache(queryString.get(), session);
+        shapeCache.put(queryShape.snapshot(), newPreparedStatement);
+        return newPreparedStatement;
+    }
+
+    /**
+     * Non-blocking version of {@link #getShapeCache(QueryShape, Supplier, Session)}
+     */
+    public CompletableFuture<PreparedStatement> getShapeCacheAsync(QueryShape queryShape, Supplier<String> queryString, Session session) {
+        final PreparedStatement preparedStatement = shapeCache.getIfPresent(queryShape);
+        if (preparedStatement != null) {
+            metrics.recordCacheHit(SHAPE);
+            if (warmUp.isPresent()) warmUp.get().recordUsage(preparedStatement.getQueryString());
+            return CompletableFuture.completedFuture(preparedStatement);
+        }
+
+        metrics.recordCacheMiss(SHAPE);
+        final QueryShape snapshot = queryShape.snapshot();
+        return getDynamicCacheAsync(queryString.get(), session)
+                .thenApply(newPreparedStatement -> {
+                    shapeCache.put(snapshot, newPreparedStatement);
+                    return newPreparedStatement;
+                });
+    }
+
+    /**
+     * Lookup the static statement of the given key prepared for the keyspace and table of a tenant,
+     * blocking until it is prepared
+     */
+    public PreparedStatement getTenantCache(TenantCacheKey tenantKey, Function<CacheKey.Operation, String> queryGenerator, Session session) {
+        return getResult(getTenantCacheAsync(tenantKey, queryGenerator, session));
+    }
+
+    /**
+     * Lookup the static statement of the given key prepared for the keyspace and table of a tenant without blocking.
+     * <br/>
+     * Tenant statements are kept in their own LRU cache, apart from the dynamic queries. On the first
+     * miss for an entity and a tenant, all the static statements of this entity are prepared
+     * asynchronously in one go for this tenant with the given statement generator
+     */
+    public CompletableFuture<PreparedStatement> getTenantCacheAsync(TenantCacheKey tenantKey, Function<CacheKey.Operation, String> queryGenerator, Session session) {
+        final CompletableFuture<PreparedStatement> futurePS = tenantCache.getIfPresent(tenantKey);
+        if (futurePS != null) {
+            metrics.recordCacheHit(TENANT);
+            return futurePS;
+        }
+
+        metrics.recordCacheMiss(TENANT);
+        final Class<?> entityClass = tenantKey.getCacheKey().getEntityClass();
+        final Set<CacheKey> entityKeys = staticKeysByEntity.getOrDefault(entityClass, Collections.emptySet());
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Preparing static statements of entity %s for keyspace '%s' and table '%s'",
+                    entityClass.getCanonicalName(), tenantKey.getKeyspace(), tenantKey.getTable()));
+        }
+
+        final CompletableFuture<PreparedStatement> requested = loadTenantCache(tenantKey, queryGenerator, session);
+        for (CacheKey cacheKey : entityKeys) {
+            if (cacheKey.equals(tenantKey.getCacheKey())) continue;
+            // A failed prefetch should neither fail the requested statement nor stop the other prefetches
+            try {
+                loadTenantCache(tenantKey.withCacheKey(cacheKey), queryGenerator, session);
+            } catch (RuntimeException ex) {
+                LOGGER.warn(format("Cannot prefetch statement %s for keyspace '%s' and table '%s'",
+                        cacheKey, tenantKey.getKeyspace(), tenantKey.getTable()), ex);
+            }
+        }
+        return requested;
+    }
+
+    /**
+     * Number of tenant statements evicted from the cache, by keyspace
+     */
+    public Map<String, Long> getTenantEvictionCounts() {
+        return tenantEvictions.entrySet()
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+    }
+
+    /**
+     * Number of tenant statements currently cached
+     */
+    public long getTenantCacheSize() {
+        return tenantCache.size();
+    }
+
+    private CompletableFuture<PreparedStatement> loadTenantCache(TenantCacheKey tenantKey,
+                                                                 Function<CacheKey.Operation, String> queryGenerator,
+                                                                 Session session) {
+        try {
+            final CompletableFuture<PreparedStatement> futurePS = tenantCache.get(tenantKey, () -> {
+                final CompletableFuture<PreparedStatement> newFuturePS = prepareAsync(queryGenerator.apply(tenantKey.getCacheKey().getOperation()), session);
+                newFuturePS.whenComplete((preparedStatement, throwable) -> {
+                    if (throwable != null) {
+                        tenantCache.asMap().remove(tenantKey, newFuturePS);
+                    }
+                });
+                return newFuturePS;
+            });
+            if (futurePS.isCompletedExceptionally()) {
+                // Failed before being cached, evict it now
+                tenantCache.asMap().remove(tenantKey, futurePS);
+            }
+            return futurePS;
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new AchillesException(e.getCause());
+        }
+    }
+
+    private void indexStaticKey(CacheKey cacheKey) {
+        staticKeysByEntity.computeIfAbsent(cacheKey.getEntityClass(), entityClass -> ConcurrentHashMap.newKeySet()).add(cacheKey);
+    }
+
+    private static CompletableFuture<PreparedStatement> prepareAsync(String queryString, Session session) {
+        final CompletableFuture<PreparedStatement> futurePS = new CompletableFuture<>();
+        Futures.addCallback(session.prepareAsync(queryString), new FutureCallback<PreparedStatement>() {
+            @Override
+            public void onSuccess(PreparedStatement preparedStatement) {
+                futurePS.complete(preparedStatement);
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                futurePS.completeExceptionally(throwable);
+            }
+        }, MoreExecutors.directExecutor());
+        return futurePS;
+    }
+
+    /**
+     * Block until the prepare completes. Driver exceptions are re-thrown
+     * as-is, like a blocking <em>Session.prepare()</em> would do
+     */
+    private static PreparedStatement getResult(CompletableFuture<PreparedStatement> futurePS) {
+        try {
+            return Uninterruptibles.getUninterruptibly(futurePS);
         } catch (ExecutionException e) {
-            throw new AchillesException(e);
+            final Throwable cause = e.getCause();
+            if (cause instanceof DriverException) {
+                throw ((DriverException) cause).copy();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new AchillesException(cause);
+            }
         }
     }
 
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.cache;
+
+import static java.lang.String.format;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Collect the static statements of all managed entities at bootstrap
+ * and prepare them concurrently with <em>Session.prepareAsync()</em>.
+ * <br/>
+ * The number of prepare requests in flight is capped by <em>maxInFlight</em>.
+ * On the first failure no new request is sent, the in-flight ones are awaited
+ * and all the failures are reported in a single AchillesException
+ */
+public class StaticStatementsPreparer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StaticStatementsPreparer.class);
+
+    private final Session session;
+    private final StatementsCache cache;
+    private final int maxInFlight;
+    private final Map<CacheKey, PendingStatement> pendingStatements = new LinkedHashMap<>();
+
+    public StaticStatementsPreparer(Session session, StatementsCache cache, int maxInFlight) {
+        Validator.validateTrue(maxInFlight > 0, "The max number of in-flight static statements preparation should be strictly positive");
+        this.session = session;
+        this.cache = cache;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Register the given statement to be prepared and put into the static cache under the given key.
+     * Keys already registered or already present in the static cache are skipped, as with <em>StatementsCache.putStaticCache()</em>
+     */
+    public void register(CacheKey cacheKey, RegularStatement statement) {
+        if (cache.hasStaticCache(cacheKey)) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Skipping static statement for key %s, already prepared", cacheKey));
+            }
+            return;
+        }
+        pendingStatements.putIfAbsent(cacheKey, new PendingStatement(cacheKey, statement));
+    }
+
+    /**
+     * Prepare all registered statements and block until all of them are prepared
+     *
+     * @return the number of prepared statements
+     */
+    public int prepareAll() {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Preparing %s static statements with at most %s requests in flight",
+                    pendingStatements.size(), maxInFlight));
+        }
+        final Semaphore permits = new Semaphore(maxInFlight);
+        final Queue<AchillesException> failures = new ConcurrentLinkedQueue<>();
+
+        for (PendingStatement pending : pendingStatements.values()) {
+            permits.acquireUninterruptibly();
+            if (!failures.isEmpty()) {
+                permits.release();
+                break;
+            }
+            Futures.addCallback(session.prepareAsync(pending.statement), new FutureCallback<PreparedStatement>() {
+                @Override
+                public void onSuccess(PreparedStatement preparedStatement) {
+                    try {
+                        cache.putStaticCache(pending.cacheKey, preparedStatement);
+                    } finally {
+                        permits.release();
+                    }
+                }
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                    failures.add(new AchillesException(format("Cannot prepare static statement '%s' for key %s : %s",
+                            pending.statement.getQueryString(), pending.cacheKey, throwable.getMessage()), throwable));
+                    permits.release();
+                }
+            }, MoreExecutors.directExecutor());
+        }
+
+        // Wait for all in-flight requests
+        permits.acquireUninterruptibly(maxInFlight);
+        permits.release(maxInFlight);
+
+        if (!failures.isEmpty()) {
+            final AchillesException exception = new AchillesException(format("%s static statement(s) failed to be prepared at bootstrap:\n%s",
+                    failures.size(), failures.stream().map(Throwable::getMessage).collect(Collectors.joining("\n"))));
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+        return pendingStatements.size();
+    }
+
+    private static class PendingStatement {
+        private final CacheKey cacheKey;
+        private final RegularStatement statement;
+
+        private PendingStatement(CacheKey cacheKey, RegularStatement statement) {
+            this.cacheKey = cacheKey;
+            this.statement = statement;
+        }
+    }
+}
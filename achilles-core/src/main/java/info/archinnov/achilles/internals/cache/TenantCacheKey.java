@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.cache;
+
+import java.util.Objects;
+
+/**
+ * Cache key of a static statement prepared for the keyspace and table
+ * resolved by a runtime SchemaNameProvider, e.g. one per tenant schema
+ */
+public class TenantCacheKey {
+
+    private final CacheKey cacheKey;
+    private final String keyspace;
+    private final String table;
+
+    public TenantCacheKey(CacheKey cacheKey, String keyspace, String table) {
+        this.cacheKey = cacheKey;
+        this.keyspace = keyspace;
+        this.table = table;
+    }
+
+    public CacheKey getCacheKey() {
+        return cacheKey;
+    }
+
+    public String getKeyspace() {
+        return keyspace;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Key of another static statement for the same keyspace and table
+     */
+    TenantCacheKey withCacheKey(CacheKey otherCacheKey) {
+        return new TenantCacheKey(otherCacheKey, keyspace, table);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TenantCacheKey that = (TenantCacheKey) o;
+        return Objects.equals(cacheKey, that.cacheKey) &&
+                Objects.equals(keyspace, that.keyspace) &&
+                Objects.equals(table, that.table);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cacheKey, keyspace, table);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("TenantCacheKey{");
+        sb.append("cacheKey=").append(cacheKey);
+        sb.append(", keyspace='").append(keyspace).append('\'');
+        sb.append(", table='").append(table).append('\'');
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ParseUtils;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.exceptions.InvalidTypeException;
+
+/**
+ * Driver codec mapping the CQL <em>text</em> type to the raw UTF-8 bytes
+ * of the value, as a <em>ByteBuffer</em>.
+ * <br/>
+ * Used by <strong>@JSON(streaming = true)</strong> columns so that the
+ * JSON document is written and read as bytes without being converted
+ * to a <em>String</em> by the driver
+ */
+public class TextBytesCodec extends TypeCodec<ByteBuffer> {
+
+    public static final TextBytesCodec instance = new TextBytesCodec();
+
+    private TextBytesCodec() {
+        super(DataType.varchar(), ByteBuffer.class);
+    }
+
+    @Override
+    public ByteBuffer serialize(ByteBuffer value, ProtocolVersion protocolVersion) {
+        return value == null ? null : value.duplicate();
+    }
+
+    @Override
+    public ByteBuffer deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+        return bytes == null ? null : bytes.duplicate();
+    }
+
+    @Override
+    public ByteBuffer parse(String value) {
+        if (value == null || value.isEmpty() || value.equalsIgnoreCase("NULL")) {
+            return null;
+        }
+        if (!ParseUtils.isQuoted(value)) {
+            throw new InvalidTypeException("text values must be enclosed by single quotes");
+        }
+        return ByteBuffer.wrap(ParseUtils.unquote(value).getBytes(UTF_8));
+    }
+
+    @Override
+    public String format(ByteBuffer value) {
+        if (value == null) {
+            return "NULL";
+        }
+        final ByteBuffer duplicate = value.duplicate();
+        final byte[] bytes = new byte[duplicate.remaining()];
+        duplicate.get(bytes);
+        return ParseUtils.quote(new String(bytes, UTF_8));
+    }
+}
@@ -20,7 +20,11 @@ import static info.archinnov.achilles.internals.metamodel.columns.ColumnType.CLU
 import static info.archinnov.achilles.internals.metamodel.columns.ColumnType.PARTITION;
 import static info.archinnov.achilles.internals.parser.TypeUtils.*;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.lang.model.element.Modifier;
 
 import com.squareup.javapoet.*;
@@ -28,6 +32,7 @@ import com.squareup.javapoet.*;
 import info.archinnov.achilles.internals.codegen.meta.EntityMetaCodeGen.EntityMetaSignature;
 import info.archinnov.achilles.internals.metamodel.columns.ClusteringColumnInfo;
 import info.archinnov.achilles.internals.metamodel.columns.PartitionKeyInfo;
+import info.archinnov.achilles.type.tuples.Tuple2;
 import info.archinnov.achilles.type.tuples.Tuple3;
 
 public abstract class CrudAPICodeGen {
@@ -48,6 +53,10 @@ public abstract class CrudAPICodeGen {
                 .addMethod(buildWithSchemaNameProvider(signature))
                 .addMethod(buildFind(signature));
 
+        if (primaryKeyColumnsCount(signature) <= TUPLE_TYPES.size()) {
+            crudClass.addMethod(buildFindAll(signature));
+        }
+
         // API for table
         if (signature.isTable()) {
             crudClass.addMethod(buildDeleteInstance(signature))
@@ -55,6 +64,7 @@ public abstract class CrudAPICodeGen {
 
             if (!signature.isCounterEntity()) {
                 crudClass.addMethod(buildInsert(signature));
+                crudClass.addMethod(buildInsertAll(signature));
                 crudClass.addMethod(buildUpdate(signature));
                 if (signature.hasStatic()) {
                     crudClass.addMethod(buildInsertStatic(signature));
@@ -133,6 +143,54 @@ public abstract class CrudAPICodeGen {
         return builder.build();
     }
 
+    private static MethodSpec buildFindAll(EntityMetaSignature signature) {
+        final List<Tuple2<String, TypeName>> primaryKeys = new ArrayList<>();
+        signature.fieldMetaSignatures
+                .stream()
+                .filter(x -> x.context.columnType == PARTITION)
+                .map(x -> Tuple3.of(x.context.fieldName, x.sourceType, (PartitionKeyInfo) x.context.columnInfo))
+                .sorted(PARTITION_KEY_SORTER)
+                .forEach(tuple -> primaryKeys.add(Tuple2.of(tuple._1(), tuple._2().box())));
+        signature.fieldMetaSignatures
+                .stream()
+                .filter(x -> x.context.columnType == CLUSTERING)
+                .map(x -> Tuple3.of(x.context.fieldName, x.sourceType, (ClusteringColumnInfo) x.context.columnInfo))
+                .sorted(CLUSTERING_COLUMN_SORTER)
+                .forEach(tuple -> primaryKeys.add(Tuple2.of(tuple._1(), tuple._2().box())));
+
+        final TypeName primaryKeyType;
+        final String primaryKeyExtractor;
+        if (primaryKeys.size() == 1) {
+            primaryKeyType = primaryKeys.get(0)._2();
+            primaryKeyExtractor = "id -> new Object[]{id}";
+        } else {
+            primaryKeyType = ParameterizedTypeName.get(TUPLE_TYPES.get(primaryKeys.size() - 1),
+                    primaryKeys.stream().map(Tuple2::_2).toArray(TypeName[]::new));
+            primaryKeyExtractor = IntStream
+                    .rangeClosed(1, primaryKeys.size())
+                    .mapToObj(i -> "id._" + i + "()")
+                    .collect(Collectors.joining(", ", "id -> new Object[]{", "}"));
+        }
+
+        final TypeName returnType = ParameterizedTypeName.get(FIND_ALL_WITH_OPTIONS, primaryKeyType, signature.entityRawClass);
+        return MethodSpec.methodBuilder("findAllById")
+                .addJavadoc("Find entities by their complete primary key, sending the SELECT requests concurrently\n\n")
+                .addJavadoc("@param ids primary keys ($L)\n", primaryKeys.stream().map(Tuple2::_1).collect(Collectors.joining(", ")))
+                .addJavadoc("@return FindAllWithOptions<$T, $T>", primaryKeyType, signature.entityRawClass)
+                .addModifiers(Modifier.FINAL, Modifier.PUBLIC)
+                .addParameter(genericType(COLLECTION, primaryKeyType), "ids", Modifier.FINAL)
+                .addStatement("return findAllByIdInternal(ids, $L, cassandraOptions)", primaryKeyExtractor)
+                .returns(returnType)
+                .build();
+    }
+
+    private static long primaryKeyColumnsCount(EntityMetaSignature signature) {
+        return signature.fieldMetaSignatures
+                .stream()
+                .filter(x -> x.context.columnType == PARTITION || x.context.columnType == CLUSTERING)
+                .count();
+    }
+
     private static MethodSpec buildInsert(EntityMetaSignature signature) {
         return MethodSpec.methodBuilder("insert")
                 .addJavadoc("Insert this entity\n\n")
@@ -145,6 +203,18 @@ public abstract class CrudAPICodeGen {
                 .build();
     }
 
+    private static MethodSpec buildInsertAll(EntityMetaSignature signature) {
+        return MethodSpec.methodBuilder("insertAll")
+                .addJavadoc("Insert these entities with <strong>UNLOGGED</strong> batches, grouped by partition\n\n")
+                .addJavadoc("@param instances a collection of $T\n", signature.entityRawClass)
+                .addJavadoc("@return $T<$T>", INSERT_ALL_WITH_OPTIONS, signature.entityRawClass)
+                .addModifiers(Modifier.FINAL, Modifier.PUBLIC)
+                .addParameter(genericType(COLLECTION, signature.entityRawClass), "instances", Modifier.FINAL)
+                .addStatement("return insertAllInternal(instances, cassandraOptions)")
+                .returns(genericType(INSERT_ALL_WITH_OPTIONS, signature.entityRawClass))
+                .build();
+    }
+
     private static MethodSpec buildUpdate(EntityMetaSignature signature) {
         return MethodSpec.methodBuilder("update")
                 .addJavadoc("Update the cassandra table with <strong>NOT NULL</strong> fields extracted from this entity\n\n")
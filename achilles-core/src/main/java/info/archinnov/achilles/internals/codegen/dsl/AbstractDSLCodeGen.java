@@ -174,6 +174,26 @@ public abstract class AbstractDSLCodeGen {
                 .build();
     }
 
+    public MethodSpec buildGetShapeInternal() {
+        return MethodSpec
+                .methodBuilder("getShapeInternal")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.FINAL, Modifier.PROTECTED)
+                .addStatement("return shape")
+                .returns(QUERY_SHAPE)
+                .build();
+    }
+
+    public MethodSpec buildGetEqPrimaryKeyValuesInternal() {
+        return MethodSpec
+                .methodBuilder("getEqPrimaryKeyValuesInternal")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.FINAL, Modifier.PROTECTED)
+                .addStatement("return eqPrimaryKeyValues")
+                .returns(LIST_OBJECT)
+                .build();
+    }
+
     public MethodSpec buildGetEncodedBoundValuesInternal() {
         return MethodSpec
                 .methodBuilder("getEncodedValuesInternal")
@@ -204,18 +224,21 @@ public abstract class AbstractDSLCodeGen {
                 .build();
     }
 
-    public MethodSpec buildAllColumns(TypeName newTypeName, TypeName whereTypeName, String privateFieldName) {
+    public MethodSpec buildAllColumns(TypeName newTypeName, TypeName whereTypeName, String privateFieldName, ShapeTokens shapeTokens) {
         return MethodSpec.methodBuilder("allColumns_FromBaseTable")
                 .addJavadoc("Generate ... * FROM ...")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("final $T where = $L.all().from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), meta.getTableOrViewName()).where()",
-                        whereTypeName, privateFieldName, "unknown_keyspace_for_")
+                .addStatement("final String currentKeyspace = meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName())",
+                        "unknown_keyspace_for_")
+                .addStatement("final String currentTable = meta.getTableOrViewName()")
+                .addStatement("final $T where = $L.all().from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
+                .addStatement("shape.from($L, currentKeyspace, currentTable)", shapeTokens.next())
                 .addStatement("return new $T(where, new $T())", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
     }
 
-    public MethodSpec buildAllColumnsWithSchemaProvider(TypeName newTypeName, TypeName whereTypeName, String privateFieldName) {
+    public MethodSpec buildAllColumnsWithSchemaProvider(TypeName newTypeName, TypeName whereTypeName, String privateFieldName, ShapeTokens shapeTokens) {
         return MethodSpec.methodBuilder("allColumns_From")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addJavadoc("Generate ... * FROM ... using the given SchemaNameProvider")
@@ -223,23 +246,27 @@ public abstract class AbstractDSLCodeGen {
                 .addStatement("final String currentKeyspace = lookupKeyspace(schemaNameProvider, meta.entityClass)")
                 .addStatement("final String currentTable = lookupTable(schemaNameProvider, meta.entityClass)")
                 .addStatement("final $T where = $L.all().from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
+                .addStatement("shape.from($L, currentKeyspace, currentTable)", shapeTokens.next())
                 .addStatement("return new $T(where, $T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
     }
 
-    public MethodSpec buildFrom(TypeName newTypeName, TypeName whereTypeName, String privateFieldName) {
+    public MethodSpec buildFrom(TypeName newTypeName, TypeName whereTypeName, String privateFieldName, ShapeTokens shapeTokens) {
         return MethodSpec.methodBuilder("fromBaseTable")
                 .addJavadoc("Generate a ... <strong>FROM xxx</strong> ... ")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("final $T where = $L.from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), " +
-                        "meta.getTableOrViewName()).where()", whereTypeName, privateFieldName, "unknown_keyspace_for_")
+                .addStatement("final String currentKeyspace = meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName())",
+                        "unknown_keyspace_for_")
+                .addStatement("final String currentTable = meta.getTableOrViewName()")
+                .addStatement("final $T where = $L.from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
+                .addStatement("shape.from($L, currentKeyspace, currentTable)", shapeTokens.next())
                 .addStatement("return new $T(where, new $T())", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
     }
 
-    public MethodSpec buildFromWithSchemaProvider(TypeName newTypeName, TypeName whereTypeName, String privateFieldName) {
+    public MethodSpec buildFromWithSchemaProvider(TypeName newTypeName, TypeName whereTypeName, String privateFieldName, ShapeTokens shapeTokens) {
         return MethodSpec.methodBuilder("from")
                 .addJavadoc("Generate a ... <strong>FROM xxx</strong> ... using the given SchemaNameProvider")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
@@ -247,6 +274,7 @@ public abstract class AbstractDSLCodeGen {
                 .addStatement("final String currentKeyspace = lookupKeyspace(schemaNameProvider, meta.entityClass)")
                 .addStatement("final String currentTable = lookupTable(schemaNameProvider, meta.entityClass)")
                 .addStatement("final $T where = $L.from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
+                .addStatement("shape.from($L, currentKeyspace, currentTable)", shapeTokens.next())
                 .addStatement("return new $T(where, $T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
@@ -261,23 +289,39 @@ public abstract class AbstractDSLCodeGen {
     }
 
     public List<FieldSignatureInfo> getPartitionKeysSignatureInfo(List<FieldMetaSignature> parsingResults) {
-        return new ArrayList<>(parsingResults
+        final List<Tuple4<String, String, TypeName, PartitionKeyInfo>> partitionKeys = parsingResults
                 .stream()
                 .filter(x -> x.context.columnType == ColumnType.PARTITION)
                 .map(x -> Tuple4.of(x.context.fieldName, x.context.cqlColumn, x.sourceType, (PartitionKeyInfo) x.context.columnInfo))
                 .sorted(TUPLE4_PARTITION_KEY_SORTER)
-                .map(x -> FieldSignatureInfo.of(x._1(), x._2(), x._3()))
-                .collect(toList()));
+                .collect(toList());
+
+        final List<FieldSignatureInfo> signatureInfos = new ArrayList<>();
+        for (int i = 0; i < partitionKeys.size(); i++) {
+            final Tuple4<String, String, TypeName, PartitionKeyInfo> x = partitionKeys.get(i);
+            signatureInfos.add(FieldSignatureInfo.of(x._1(), x._2(), x._3(), i));
+        }
+        return signatureInfos;
     }
 
     public List<FieldSignatureInfo> getClusteringColsSignatureInfo(List<FieldMetaSignature> parsingResults) {
-        return new ArrayList<>(parsingResults
+        final long partitionKeysCount = parsingResults
+                .stream()
+                .filter(x -> x.context.columnType == ColumnType.PARTITION)
+                .count();
+        final List<Tuple4<String, String, TypeName, ClusteringColumnInfo>> clusteringCols = parsingResults
                 .stream()
                 .filter(x -> x.context.columnType == ColumnType.CLUSTERING)
                 .map(x -> Tuple4.of(x.context.fieldName, x.context.cqlColumn, x.sourceType, (ClusteringColumnInfo) x.context.columnInfo))
                 .sorted(TUPLE4_CLUSTERING_COLUMN_SORTER)
-                .map(x -> FieldSignatureInfo.of(x._1(), x._2(), x._3()))
-                .collect(toList()));
+                .collect(toList());
+
+        final List<FieldSignatureInfo> signatureInfos = new ArrayList<>();
+        for (int i = 0; i < clusteringCols.size(); i++) {
+            final Tuple4<String, String, TypeName, ClusteringColumnInfo> x = clusteringCols.get(i);
+            signatureInfos.add(FieldSignatureInfo.of(x._1(), x._2(), x._3(), (int) partitionKeysCount + i));
+        }
+        return signatureInfos;
     }
 
     public List<IndexFieldSignatureInfo> getIndexedColsSignatureInfo(IndexImpl indexImpl, List<FieldMetaSignature> parsingResults) {
@@ -337,16 +381,25 @@ public abstract class AbstractDSLCodeGen {
         public final String cqlColumn;
         public final String quotedCqlColumn;
         public final TypeName typeName;
+        /**
+         * Position of the column in the primary key, partition keys first, if it is a primary key column
+         */
+        public final Optional<Integer> primaryKeyPosition;
 
-        private FieldSignatureInfo(String fieldName, String cqlColumn, TypeName typeName) {
+        private FieldSignatureInfo(String fieldName, String cqlColumn, TypeName typeName, Optional<Integer> primaryKeyPosition) {
             this.fieldName = fieldName;
             this.cqlColumn = cqlColumn;
             this.quotedCqlColumn = NamingHelper.maybeQuote(cqlColumn);
             this.typeName = typeName;
+            this.primaryKeyPosition = primaryKeyPosition;
         }
 
         public static FieldSignatureInfo of(String fieldName, String cqlColumn, TypeName typeName) {
-            return new FieldSignatureInfo(fieldName, cqlColumn, typeName);
+            return new FieldSignatureInfo(fieldName, cqlColumn, typeName, Optional.empty());
+        }
+
+        public static FieldSignatureInfo of(String fieldName, String cqlColumn, TypeName typeName, int primaryKeyPosition) {
+            return new FieldSignatureInfo(fieldName, cqlColumn, typeName, Optional.of(primaryKeyPosition));
         }
     }
 
@@ -356,7 +409,7 @@ public abstract class AbstractDSLCodeGen {
 
         private IndexFieldSignatureInfo(String fieldName, String cqlColumn, TypeName typeName, IndexInfo indexInfo,
                                         IndexMetaSignature indexMetaSignature) {
-            super(fieldName, cqlColumn, typeName);
+            super(fieldName, cqlColumn, typeName, Optional.empty());
             this.indexInfo = indexInfo;
             this.indexMetaSignature = indexMetaSignature;
         }
@@ -408,6 +461,21 @@ public abstract class AbstractDSLCodeGen {
         }
     }
 
+    /**
+     * Query shape token sequence of a DSL root class.
+     * <br/>
+     * A new instance must be created before generating each DSL
+     * root class so that generated tokens are unique within this
+     * class and stable from one compilation to another
+     */
+    public static class ShapeTokens {
+        private int lastToken;
+
+        public int next() {
+            return ++lastToken;
+        }
+    }
+
     public static class ClassSignatureParams {
         public final String dslSuffix;
         public final String whereDslSuffix;
@@ -16,11 +16,13 @@
 
 package info.archinnov.achilles.internals.codegen.dsl;
 
+import static info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.EQ;
 import static info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.relationToSymbolForJavaDoc;
 import static info.archinnov.achilles.internals.parser.TypeUtils.*;
 import static info.archinnov.achilles.internals.utils.NamingHelper.upperCaseFirst;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.lang.model.element.Modifier;
 
@@ -32,11 +34,26 @@ import com.squareup.javapoet.TypeName;
 
 import info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.FieldSignatureInfo;
 import info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.ReturnType;
+import info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.ShapeTokens;
 import info.archinnov.achilles.internals.parser.TypeUtils;
 
 public interface BaseSingleColumnRestriction {
 
-    default MethodSpec buildColumnRelation(String relation, TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType) {
+    default MethodSpec buildColumnRelation(String relation, TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType, ShapeTokens shapeTokens) {
+        return buildColumnRelation(relation, nextType, fieldInfo, returnType, shapeTokens, Optional.empty());
+    }
+
+    /**
+     * Generate the Eq relation of a primary key column for UPDATE and DELETE. The encoded value is
+     * also recorded in <em>eqPrimaryKeyValues</em> when all the previous primary key columns are restricted
+     * with Eq too, so that the near cache evicts only the mutated row or partition
+     */
+    default MethodSpec buildPrimaryKeyColumnEqRelation(TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType, ShapeTokens shapeTokens) {
+        return buildColumnRelation(EQ, nextType, fieldInfo, returnType, shapeTokens, fieldInfo.primaryKeyPosition);
+    }
+
+    default MethodSpec buildColumnRelation(String relation, TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType,
+                                           ShapeTokens shapeTokens, Optional<Integer> eqPrimaryKeyPosition) {
         final String methodName = upperCaseFirst(relation);
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
                 .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>$L $L ?</strong>", fieldInfo.quotedCqlColumn, relationToSymbolForJavaDoc(relation))
@@ -45,10 +62,16 @@ public interface BaseSingleColumnRestriction {
                 .addParameter(fieldInfo.typeName, fieldInfo.fieldName)
                 .addStatement("where.and($T.$L($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, relation, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", fieldInfo.fieldName)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldInfo.fieldName, fieldInfo.fieldName, OPTIONAL)
                 .returns(nextType);
 
+        eqPrimaryKeyPosition.ifPresent(position -> builder
+                .beginControlFlow("if (eqPrimaryKeyValues.size() == $L)", position)
+                .addStatement("eqPrimaryKeyValues.add(encodedValues.get(encodedValues.size() - 1))")
+                .endControlFlow());
+
         if (returnType == ReturnType.NEW) {
             builder.addStatement("return new $T(where, cassandraOptions)", nextType);
         } else {
@@ -58,7 +81,7 @@ public interface BaseSingleColumnRestriction {
         return builder.build();
     }
 
-    default MethodSpec buildColumnInVarargs(TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType) {
+    default MethodSpec buildColumnInVarargs(TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType, ShapeTokens shapeTokens) {
         final String methodName = "IN";
         final String param = fieldInfo.fieldName;
         final TypeName paramTypeName = fieldInfo.typeName;
@@ -71,7 +94,8 @@ public interface BaseSingleColumnRestriction {
                 .addStatement("$T.validateTrue($T.isNotEmpty($L), \"Varargs for field '%s' should not be null/empty\", $S)",
                         VALIDATOR, ARRAYS_UTILS, fieldInfo.fieldName, fieldInfo.fieldName)
                 .addStatement("where.and($T.in($S,$T.bindMarker($S)))",
-                        QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn);
+                        QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next());
 
         if (paramTypeName.isPrimitive()) {
             builder.addStatement("final $T varargs = $T.<Object>asList(($T[])$L)", LIST_OBJECT, ARRAYS, paramTypeName, param)
@@ -98,7 +122,7 @@ public interface BaseSingleColumnRestriction {
         return builder.build();
     }
 
-    default MethodSpec buildTokenValueRelation(String relation, TypeName nextType, List<String> partitionKeyColumns, ReturnType returnType) {
+    default MethodSpec buildTokenValueRelation(String relation, TypeName nextType, List<String> partitionKeyColumns, ReturnType returnType, ShapeTokens shapeTokens) {
         final String fcall = partitionKeyColumns.stream().collect(Collectors.joining(",", "token(", ")"));
         final String methodName = upperCaseFirst(relation);
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
@@ -108,6 +132,7 @@ public interface BaseSingleColumnRestriction {
                 .addParameter(TypeUtils.OBJECT_LONG, "tokenValue")
                 .addStatement("where.and($T.$L($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, relation, fcall, QUERY_BUILDER, "tokenValue")
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", "tokenValue")
                 .addStatement("encodedValues.add($N)", "tokenValue")
                 .returns(nextType);
@@ -28,6 +28,7 @@ import info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.ClassSig
 import info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.FieldSignatureInfo;
 import info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.IndexFieldSignatureInfo;
 import info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.ReturnType;
+import info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.ShapeTokens;
 import info.archinnov.achilles.internals.codegen.dsl.update.UpdateDSLCodeGen.ParentSignature;
 import info.archinnov.achilles.internals.codegen.meta.EntityMetaCodeGen;
 import info.archinnov.achilles.internals.parser.FieldParser.FieldMetaSignature;
@@ -38,7 +39,7 @@ public interface JSONFunctionCallSupport {
     default TypeSpec.Builder buildSelectFromJSON(EntityMetaCodeGen.EntityMetaSignature signature,
                                          String className,
                                          TypeName selectWhereJSONTypeName,
-                                         TypeName selectEndJSONTypeName) {
+                                         TypeName selectEndJSONTypeName, ShapeTokens shapeTokens) {
 
         return TypeSpec.classBuilder(className)
                 .superclass(ABSTRACT_SELECT_FROM_JSON)
@@ -114,7 +115,7 @@ public interface JSONFunctionCallSupport {
     default void buildSetFromJSONToRelationClass(ParentSignature parentSignature,
                                                  FieldMetaSignature fieldMeta,
                                                  TypeName newTypeName,
-                                                 ReturnType returnType) {
+                                                 ReturnType returnType, ShapeTokens shapeTokens) {
 
         final String param = parentSignature.parentFieldName
                 .map(x -> x + "_" + fieldMeta.context.fieldName + "_element")
@@ -130,6 +131,7 @@ public interface JSONFunctionCallSupport {
                 .addParameter(STRING, param, Modifier.FINAL)
                 .addStatement("where.with($T.of($S, $T.fromJson($T.bindMarker($S))))",
                         NON_ESCAPING_ASSIGNMENT, cqlColumn, QUERY_BUILDER, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add($N)", param)
                 .returns(newTypeName);
@@ -144,7 +146,7 @@ public interface JSONFunctionCallSupport {
 
     default void buildEqFromJSONToRelationClass(TypeSpec.Builder relationClassBuilder,
                                                 FieldSignatureInfo fieldInfo,
-                                                ClassSignatureInfo nextSignature) {
+                                                ClassSignatureInfo nextSignature, ShapeTokens shapeTokens) {
         final String methodName = "Eq_FromJson";
         final MethodSpec fromJsonMethod = MethodSpec.methodBuilder(methodName)
                 .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>$L $L </strong>", fieldInfo.quotedCqlColumn, " = fromJson(?)")
@@ -152,6 +154,7 @@ public interface JSONFunctionCallSupport {
                 .addParameter(STRING, fieldInfo.fieldName)
                 .addStatement("where.and($T.eq($S, $T.fromJson($T.bindMarker($S))))",
                         QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", fieldInfo.fieldName)
                 .addStatement("encodedValues.add($N)", fieldInfo.fieldName)
                 .returns(nextSignature.returnClassType)
@@ -164,7 +167,7 @@ public interface JSONFunctionCallSupport {
     default void buildJSONIndexRelationForMapEntry(TypeSpec.Builder relationClassBuilder,
                                                IndexFieldSignatureInfo indexFieldInfo,
                                                TypeName returnClassType,
-                                               ReturnType returnType) {
+                                               ReturnType returnType, ShapeTokens shapeTokens) {
 
         final String paramKey = indexFieldInfo.fieldName + "_JSONKey";
         final String paramValue = indexFieldInfo.fieldName + "_JSONValue";
@@ -179,6 +182,7 @@ public interface JSONFunctionCallSupport {
                         MAP_ENTRY_CLAUSE, indexFieldInfo.quotedCqlColumn,
                         QUERY_BUILDER, QUERY_BUILDER, paramKey,
                         QUERY_BUILDER, QUERY_BUILDER, paramValue)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", paramKey)
                 .addStatement("boundValues.add($N)", paramValue)
                 .addStatement("encodedValues.add($N)", paramKey)
@@ -195,7 +199,7 @@ public interface JSONFunctionCallSupport {
     default void buildJSONIndexRelationForMapKey(TypeSpec.Builder relationClassBuilder,
                                                      IndexFieldSignatureInfo indexFieldInfo,
                                                      TypeName returnClassType,
-                                                     ReturnType returnType) {
+                                                     ReturnType returnType, ShapeTokens shapeTokens) {
 
         final String param = indexFieldInfo.fieldName + "_JSONKey";
 
@@ -206,6 +210,7 @@ public interface JSONFunctionCallSupport {
                 .addParameter(STRING, param)
                 .addStatement("where.and($T.containsKey($S, $T.fromJson($T.bindMarker($S))))",
                         QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add($N)", param)
                 .returns(returnClassType);
@@ -220,7 +225,7 @@ public interface JSONFunctionCallSupport {
     default void buildJSONIndexRelationForMapValue(TypeSpec.Builder relationClassBuilder,
                                                        IndexFieldSignatureInfo indexFieldInfo,
                                                        TypeName returnClassType,
-                                                       ReturnType returnType) {
+                                                       ReturnType returnType, ShapeTokens shapeTokens) {
         final String param = indexFieldInfo.fieldName + "_JSONValue";
 
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("ContainsValue_FromJSON")
@@ -230,6 +235,7 @@ public interface JSONFunctionCallSupport {
                 .addParameter(STRING, param)
                 .addStatement("where.and($T.contains($S, $T.fromJson($T.bindMarker($S))))",
                         QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add($N)", param)
                 .returns(returnClassType);
@@ -244,7 +250,7 @@ public interface JSONFunctionCallSupport {
     default void buildJSONIndexRelationForCollection(TypeSpec.Builder relationClassBuilder,
                                                          IndexFieldSignatureInfo indexFieldInfo,
                                                          TypeName returnClassType,
-                                                         ReturnType returnType) {
+                                                         ReturnType returnType, ShapeTokens shapeTokens) {
         final String param = indexFieldInfo.fieldName + "_JSONElement";
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("Contains_FromJson")
                 .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>$L CONTAINS fromJson(?)</strong>", indexFieldInfo.quotedCqlColumn)
@@ -253,6 +259,7 @@ public interface JSONFunctionCallSupport {
                 .addParameter(STRING, param)
                 .addStatement("where.and($T.contains($S, $T.fromJson($T.bindMarker($S))))",
                         QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add($N)", param)
                 .returns(returnClassType);
@@ -265,7 +272,7 @@ public interface JSONFunctionCallSupport {
 
     default void buildIfEqFromJSONToConditionClass(TypeSpec.Builder conditionClassBuilder,
                                                    FieldSignatureInfo fieldSignatureInfo,
-                                                   ClassSignatureInfo currentSignature) {
+                                                   ClassSignatureInfo currentSignature, ShapeTokens shapeTokens) {
         String methodName = "Eq_FromJSON";
         final String fieldName = fieldSignatureInfo.fieldName;
         final String quotedCqlColumn = fieldSignatureInfo.quotedCqlColumn;
@@ -277,6 +284,7 @@ public interface JSONFunctionCallSupport {
                 .addStatement("encodedValues.add($N)", fieldName)
                 .addStatement("where.onlyIf($T.eq($S, $T.fromJson($T.bindMarker($S))))",
                         QUERY_BUILDER, quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("return $T.this", currentSignature.returnClassType)
                 .returns(currentSignature.returnClassType)
                 .build();
@@ -285,18 +293,21 @@ public interface JSONFunctionCallSupport {
 
     }
 
-    default MethodSpec buildAllColumnsJSON(TypeName newTypeName, TypeName whereTypeName, String privateFieldName) {
+    default MethodSpec buildAllColumnsJSON(TypeName newTypeName, TypeName whereTypeName, String privateFieldName, ShapeTokens shapeTokens) {
         return MethodSpec.methodBuilder("allColumnsAsJSON_FromBaseTable")
                 .addJavadoc("Generate ... * FROM ...")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("final $T where = $L.json().all().from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), meta.getTableOrViewName()).where()",
-                        whereTypeName, privateFieldName, "unknown_keyspace_for_")
+                .addStatement("final String currentKeyspace = meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName())",
+                        "unknown_keyspace_for_")
+                .addStatement("final String currentTable = meta.getTableOrViewName()")
+                .addStatement("final $T where = $L.json().all().from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
+                .addStatement("shape.from($L, currentKeyspace, currentTable)", shapeTokens.next())
                 .addStatement("return new $T(where, new $T())", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
     }
 
-    default MethodSpec buildAllColumnsJSONWithSchemaProvider(TypeName newTypeName, TypeName whereTypeName, String privateFieldName) {
+    default MethodSpec buildAllColumnsJSONWithSchemaProvider(TypeName newTypeName, TypeName whereTypeName, String privateFieldName, ShapeTokens shapeTokens) {
         return MethodSpec.methodBuilder("allColumnsAsJSON_From")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addJavadoc("Generate ... * FROM ... using the given SchemaNameProvider")
@@ -304,6 +315,7 @@ public interface JSONFunctionCallSupport {
                 .addStatement("final String currentKeyspace = lookupKeyspace(schemaNameProvider, meta.entityClass)")
                 .addStatement("final String currentTable = lookupTable(schemaNameProvider, meta.entityClass)")
                 .addStatement("final $T where = $L.json().all().from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
+                .addStatement("shape.from($L, currentKeyspace, currentTable)", shapeTokens.next())
                 .addStatement("return new $T(where, $T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
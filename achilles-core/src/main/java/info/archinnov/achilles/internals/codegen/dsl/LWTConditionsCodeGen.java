@@ -30,9 +30,9 @@ import info.archinnov.achilles.internals.metamodel.columns.ColumnType;
 
 public interface LWTConditionsCodeGen {
 
-    void augmentLWTConditionClass(TypeSpec.Builder conditionClassBuilder, FieldSignatureInfo fieldSignatureInfo, ClassSignatureInfo currentSignature);
+    void augmentLWTConditionClass(TypeSpec.Builder conditionClassBuilder, FieldSignatureInfo fieldSignatureInfo, ClassSignatureInfo currentSignature, ShapeTokens shapeTokens);
 
-    default void buildLWtConditionMethods(EntityMetaSignature signature, String parentFQCN, ClassSignatureInfo currentSignature, boolean hasCounter, TypeSpec.Builder parentBuilder) {
+    default void buildLWtConditionMethods(EntityMetaSignature signature, String parentFQCN, ClassSignatureInfo currentSignature, boolean hasCounter, TypeSpec.Builder parentBuilder, ShapeTokens shapeTokens) {
         if (!hasCounter) {
             signature.fieldMetaSignatures.stream()
                     .filter(x -> x.context.columnType == ColumnType.NORMAL || x.context.columnType == ColumnType.STATIC)
@@ -44,14 +44,14 @@ public interface LWTConditionsCodeGen {
 
                         TypeSpec.Builder conditionClassBuilder = TypeSpec.classBuilder(conditionClassName)
                                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                                .addMethod(buildLWTConditionOnColumn(EQ, fieldSignatureInfo, currentSignature.returnClassType))
-                                .addMethod(buildLWTConditionOnColumn(GT, fieldSignatureInfo, currentSignature.returnClassType))
-                                .addMethod(buildLWTConditionOnColumn(GTE, fieldSignatureInfo, currentSignature.returnClassType))
-                                .addMethod(buildLWTConditionOnColumn(LT, fieldSignatureInfo, currentSignature.returnClassType))
-                                .addMethod(buildLWTConditionOnColumn(LTE, fieldSignatureInfo, currentSignature.returnClassType))
-                                .addMethod(buildLWTNotEqual(fieldSignatureInfo, currentSignature.returnClassType));
+                                .addMethod(buildLWTConditionOnColumn(EQ, fieldSignatureInfo, currentSignature.returnClassType, shapeTokens))
+                                .addMethod(buildLWTConditionOnColumn(GT, fieldSignatureInfo, currentSignature.returnClassType, shapeTokens))
+                                .addMethod(buildLWTConditionOnColumn(GTE, fieldSignatureInfo, currentSignature.returnClassType, shapeTokens))
+                                .addMethod(buildLWTConditionOnColumn(LT, fieldSignatureInfo, currentSignature.returnClassType, shapeTokens))
+                                .addMethod(buildLWTConditionOnColumn(LTE, fieldSignatureInfo, currentSignature.returnClassType, shapeTokens))
+                                .addMethod(buildLWTNotEqual(fieldSignatureInfo, currentSignature.returnClassType, shapeTokens));
 
-                        augmentLWTConditionClass(conditionClassBuilder, fieldSignatureInfo, currentSignature);
+                        augmentLWTConditionClass(conditionClassBuilder, fieldSignatureInfo, currentSignature, shapeTokens);
 
                         parentBuilder.addType(conditionClassBuilder.build());
                         parentBuilder.addMethod(MethodSpec.methodBuilder("if_" + upperCaseFirst(x.context.fieldName))
@@ -64,7 +64,7 @@ public interface LWTConditionsCodeGen {
         }
     }
 
-    default MethodSpec buildLWTConditionOnColumn(String relation, FieldSignatureInfo fieldSignatureInfo, TypeName currentType) {
+    default MethodSpec buildLWTConditionOnColumn(String relation, FieldSignatureInfo fieldSignatureInfo, TypeName currentType, ShapeTokens shapeTokens) {
         String methodName = upperCaseFirst(relation);
         final String fieldName = fieldSignatureInfo.fieldName;
         final String quotedCqlColumn = fieldSignatureInfo.quotedCqlColumn;
@@ -77,13 +77,14 @@ public interface LWTConditionsCodeGen {
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, fieldName, OPTIONAL)
                 .addStatement("where.onlyIf($T.$L($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, relation, quotedCqlColumn, QUERY_BUILDER, quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("return $T.this", currentType)
                 .returns(currentType)
                 .build();
 
     }
 
-    default MethodSpec buildLWTNotEqual(FieldSignatureInfo fieldSignatureInfo, TypeName currentType) {
+    default MethodSpec buildLWTNotEqual(FieldSignatureInfo fieldSignatureInfo, TypeName currentType, ShapeTokens shapeTokens) {
         String methodName =  "NotEq";
         final String fieldName = fieldSignatureInfo.fieldName;
         final String quotedCqlColumn = fieldSignatureInfo.quotedCqlColumn;
@@ -97,6 +98,7 @@ public interface LWTConditionsCodeGen {
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, fieldName, OPTIONAL)
                 .addStatement("where.onlyIf($T.of($S, $T.bindMarker($S)))",
                         NOT_EQ, quotedCqlColumn, QUERY_BUILDER, quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("return $T.this", currentType)
                 .returns(currentType)
                 .build();
@@ -35,17 +35,17 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
 
     default void addSingleColumnSliceRestrictions(TypeSpec.Builder relationClassBuilder, FieldSignatureInfo fieldInfo,
                                                   ClassSignatureInfo nextSignature, ClassSignatureInfo lastSignature,
-                                                  ReturnType returnType) {
-
-        relationClassBuilder.addMethod(buildColumnInVarargs(nextSignature.returnClassType, fieldInfo, returnType))
-                .addMethod(buildColumnRelation(GT, lastSignature.returnClassType, fieldInfo, returnType))
-                .addMethod(buildColumnRelation(GTE, lastSignature.returnClassType, fieldInfo, returnType))
-                .addMethod(buildColumnRelation(LT, lastSignature.returnClassType, fieldInfo, returnType))
-                .addMethod(buildColumnRelation(LTE, lastSignature.returnClassType, fieldInfo, returnType))
-                .addMethod(buildDoubleColumnRelation(GT, LT, lastSignature.returnClassType, fieldInfo, returnType))
-                .addMethod(buildDoubleColumnRelation(GT, LTE, lastSignature.returnClassType, fieldInfo, returnType))
-                .addMethod(buildDoubleColumnRelation(GTE, LT, lastSignature.returnClassType, fieldInfo, returnType))
-                .addMethod(buildDoubleColumnRelation(GTE, LTE, lastSignature.returnClassType, fieldInfo, returnType));
+                                                  ReturnType returnType, ShapeTokens shapeTokens) {
+
+        relationClassBuilder.addMethod(buildColumnInVarargs(nextSignature.returnClassType, fieldInfo, returnType, shapeTokens))
+                .addMethod(buildColumnRelation(GT, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens))
+                .addMethod(buildColumnRelation(GTE, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens))
+                .addMethod(buildColumnRelation(LT, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens))
+                .addMethod(buildColumnRelation(LTE, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens))
+                .addMethod(buildDoubleColumnRelation(GT, LT, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens))
+                .addMethod(buildDoubleColumnRelation(GT, LTE, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens))
+                .addMethod(buildDoubleColumnRelation(GTE, LT, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens))
+                .addMethod(buildDoubleColumnRelation(GTE, LTE, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
 
     }
 
@@ -53,7 +53,7 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
                                                      String parentClassName,
                                                      List<FieldSignatureInfo> clusteringCols,
                                                      ClassSignatureInfo lastSignature,
-                                                     ReturnType returnType) {
+                                                     ReturnType returnType, ShapeTokens shapeTokens) {
         // Tuple notation (col1, col2, ..., colN) < (:col1, :col2, ..., :colN)
         for (int i = 2; i <= clusteringCols.size(); i++) {
             final List<FieldSignatureInfo> fieldInfos = clusteringCols.stream().limit(i).collect(toList());
@@ -68,25 +68,25 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
 
             TypeSpec multiRelationClass = TypeSpec.classBuilder(multiRelationName)
                     .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                    .addMethod(buildTuplesColumnRelation(GT, lastSignature.returnClassType, fieldInfos, returnType))
-                    .addMethod(buildTuplesColumnRelation(GTE, lastSignature.returnClassType, fieldInfos, returnType))
-                    .addMethod(buildTuplesColumnRelation(LT, lastSignature.returnClassType, fieldInfos, returnType))
-                    .addMethod(buildTuplesColumnRelation(LTE, lastSignature.returnClassType, fieldInfos, returnType))
-
-                    .addMethod(buildSymmetricColumnDoubleRelation(GT, LT, lastSignature.returnClassType, fieldInfos, returnType))
-                    .addMethod(buildSymmetricColumnDoubleRelation(GT, LTE, lastSignature.returnClassType, fieldInfos, returnType))
-                    .addMethod(buildSymmetricColumnDoubleRelation(GTE, LT, lastSignature.returnClassType, fieldInfos, returnType))
-                    .addMethod(buildSymmetricColumnDoubleRelation(GTE, LTE, lastSignature.returnClassType, fieldInfos, returnType))
-
-                    .addMethod(buildAsymmetricColumnDoubleRelation(GT, LT, lastSignature.returnClassType, fieldInfos, fieldInfosMinusOne, returnType))
-                    .addMethod(buildAsymmetricColumnDoubleRelation(GT, LTE, lastSignature.returnClassType, fieldInfos, fieldInfosMinusOne, returnType))
-                    .addMethod(buildAsymmetricColumnDoubleRelation(GTE, LT, lastSignature.returnClassType, fieldInfos, fieldInfosMinusOne, returnType))
-                    .addMethod(buildAsymmetricColumnDoubleRelation(GTE, LTE, lastSignature.returnClassType, fieldInfos, fieldInfosMinusOne, returnType))
-
-                    .addMethod(buildAsymmetricColumnDoubleRelation(GT, LT, lastSignature.returnClassType, fieldInfosMinusOne, fieldInfos, returnType))
-                    .addMethod(buildAsymmetricColumnDoubleRelation(GT, LTE, lastSignature.returnClassType, fieldInfosMinusOne, fieldInfos, returnType))
-                    .addMethod(buildAsymmetricColumnDoubleRelation(GTE, LT, lastSignature.returnClassType, fieldInfosMinusOne, fieldInfos, returnType))
-                    .addMethod(buildAsymmetricColumnDoubleRelation(GTE, LTE, lastSignature.returnClassType, fieldInfosMinusOne, fieldInfos, returnType))
+                    .addMethod(buildTuplesColumnRelation(GT, lastSignature.returnClassType, fieldInfos, returnType, shapeTokens))
+                    .addMethod(buildTuplesColumnRelation(GTE, lastSignature.returnClassType, fieldInfos, returnType, shapeTokens))
+                    .addMethod(buildTuplesColumnRelation(LT, lastSignature.returnClassType, fieldInfos, returnType, shapeTokens))
+                    .addMethod(buildTuplesColumnRelation(LTE, lastSignature.returnClassType, fieldInfos, returnType, shapeTokens))
+
+                    .addMethod(buildSymmetricColumnDoubleRelation(GT, LT, lastSignature.returnClassType, fieldInfos, returnType, shapeTokens))
+                    .addMethod(buildSymmetricColumnDoubleRelation(GT, LTE, lastSignature.returnClassType, fieldInfos, returnType, shapeTokens))
+                    .addMethod(buildSymmetricColumnDoubleRelation(GTE, LT, lastSignature.returnClassType, fieldInfos, returnType, shapeTokens))
+                    .addMethod(buildSymmetricColumnDoubleRelation(GTE, LTE, lastSignature.returnClassType, fieldInfos, returnType, shapeTokens))
+
+                    .addMethod(buildAsymmetricColumnDoubleRelation(GT, LT, lastSignature.returnClassType, fieldInfos, fieldInfosMinusOne, returnType, shapeTokens))
+                    .addMethod(buildAsymmetricColumnDoubleRelation(GT, LTE, lastSignature.returnClassType, fieldInfos, fieldInfosMinusOne, returnType, shapeTokens))
+                    .addMethod(buildAsymmetricColumnDoubleRelation(GTE, LT, lastSignature.returnClassType, fieldInfos, fieldInfosMinusOne, returnType, shapeTokens))
+                    .addMethod(buildAsymmetricColumnDoubleRelation(GTE, LTE, lastSignature.returnClassType, fieldInfos, fieldInfosMinusOne, returnType, shapeTokens))
+
+                    .addMethod(buildAsymmetricColumnDoubleRelation(GT, LT, lastSignature.returnClassType, fieldInfosMinusOne, fieldInfos, returnType, shapeTokens))
+                    .addMethod(buildAsymmetricColumnDoubleRelation(GT, LTE, lastSignature.returnClassType, fieldInfosMinusOne, fieldInfos, returnType, shapeTokens))
+                    .addMethod(buildAsymmetricColumnDoubleRelation(GTE, LT, lastSignature.returnClassType, fieldInfosMinusOne, fieldInfos, returnType, shapeTokens))
+                    .addMethod(buildAsymmetricColumnDoubleRelation(GTE, LTE, lastSignature.returnClassType, fieldInfosMinusOne, fieldInfos, returnType, shapeTokens))
                     .build();
 
             parentClassBuilder.addType(multiRelationClass);
@@ -95,7 +95,7 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
 
     }
 
-    default MethodSpec buildDoubleColumnRelation(String relation1, String relation2, TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType) {
+    default MethodSpec buildDoubleColumnRelation(String relation1, String relation2, TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType, ShapeTokens shapeTokens) {
         final String methodName = upperCaseFirst(relation1) + "_And_" + upperCaseFirst(relation2);
         final String param1 = fieldInfo.fieldName + "_" + upperCaseFirst(relation1);
         final String param2 = fieldInfo.fieldName + "_" + upperCaseFirst(relation2);
@@ -112,8 +112,10 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
                 .addParameter(fieldInfo.typeName, param2)
                 .addStatement("where.and($T.$L($S,$T.bindMarker($S)))",
                         QUERY_BUILDER, relation1, fieldInfo.quotedCqlColumn, QUERY_BUILDER, column1)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("where.and($T.$L($S,$T.bindMarker($S)))",
                         QUERY_BUILDER, relation2, fieldInfo.quotedCqlColumn, QUERY_BUILDER, column2)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($L)", param1)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldInfo.fieldName, param1, OPTIONAL)
                 .addStatement("boundValues.add($L)", param2)
@@ -129,7 +131,7 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
         return builder.build();
     }
 
-    default MethodSpec buildDoubleTokenValueRelation(String relation1, String relation2, TypeName nextType, List<String> partitionKeyColumns, ReturnType returnType) {
+    default MethodSpec buildDoubleTokenValueRelation(String relation1, String relation2, TypeName nextType, List<String> partitionKeyColumns, ReturnType returnType, ShapeTokens shapeTokens) {
         final String methodName = upperCaseFirst(relation1) + "_And_" + upperCaseFirst(relation2);
         final String fcall = partitionKeyColumns.stream().collect(Collectors.joining(",", "token(", ")"));
 
@@ -143,8 +145,10 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
                 .addParameter(TypeUtils.OBJECT_LONG, "tokenValue2")
                 .addStatement("where.and($T.$L($S,$T.bindMarker($S)))",
                         QUERY_BUILDER, relation1, fcall, QUERY_BUILDER, "tokenValue1")
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("where.and($T.$L($S,$T.bindMarker($S)))",
                         QUERY_BUILDER, relation2, fcall, QUERY_BUILDER, "tokenValue2")
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", "tokenValue1")
                 .addStatement("encodedValues.add($N)", "tokenValue1")
                 .addStatement("boundValues.add($N)", "tokenValue2")
@@ -160,7 +164,7 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
         return builder.build();
     }
 
-    default MethodSpec buildTuplesColumnRelation(String relation, TypeName nextType, List<FieldSignatureInfo> fieldInfos, ReturnType returnType) {
+    default MethodSpec buildTuplesColumnRelation(String relation, TypeName nextType, List<FieldSignatureInfo> fieldInfos, ReturnType returnType, ShapeTokens shapeTokens) {
         final String methodName = upperCaseFirst(relation);
 
         StringJoiner paramsJoiner = new StringJoiner(",");
@@ -180,6 +184,7 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addStatement("where.and($T.$L($T.asList($L), $T.asList($L).stream().map($T::bindMarker).collect($T.toList())))",
                         QUERY_BUILDER, relation, ARRAYS, params, ARRAYS, params, QUERY_BUILDER, COLLECTORS)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("final $T tupleType = rte.tupleTypeFactory.typeFor($L)", TUPLE_TYPE, dataTypes);
 
         for(FieldSignatureInfo x: fieldInfos) {
@@ -198,7 +203,7 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
         return builder.build();
     }
 
-    default MethodSpec buildSymmetricColumnDoubleRelation(String relation1, String relation2, TypeName nextType, List<FieldSignatureInfo> fieldInfos, ReturnType returnType) {
+    default MethodSpec buildSymmetricColumnDoubleRelation(String relation1, String relation2, TypeName nextType, List<FieldSignatureInfo> fieldInfos, ReturnType returnType, ShapeTokens shapeTokens) {
         final String methodName = upperCaseFirst(relation1) + "_And_" + upperCaseFirst(relation2);
 
         StringJoiner paramsJoinerRelation1AsString = new StringJoiner(",");
@@ -224,8 +229,10 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addStatement("where.and($T.$L($T.asList($L), $T.asList($L).stream().map($T::bindMarker).collect($T.toList())))",
                         QUERY_BUILDER, relation1, ARRAYS, paramsRelation1AsString, ARRAYS, paramsRelation1AsString, QUERY_BUILDER, COLLECTORS)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("where.and($T.$L($T.asList($L), $T.asList($L).stream().map($T::bindMarker).collect($T.toList())))",
-                        QUERY_BUILDER, relation2, ARRAYS, paramsRelation2AsString, ARRAYS, paramsRelation2AsString, QUERY_BUILDER, COLLECTORS);
+                        QUERY_BUILDER, relation2, ARRAYS, paramsRelation2AsString, ARRAYS, paramsRelation2AsString, QUERY_BUILDER, COLLECTORS)
+                .addStatement("shape.append($L)", shapeTokens.next());
 
         for(FieldSignatureInfo x: fieldInfos) {
             final String relation1Param = x.fieldName + "_" + upperCaseFirst(relation1);
@@ -252,7 +259,7 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
         return builder.build();
     }
 
-    default MethodSpec buildAsymmetricColumnDoubleRelation(String relation1, String relation2, TypeName nextType, List<FieldSignatureInfo> fieldInfos1, List<FieldSignatureInfo> fieldInfos2, ReturnType returnType) {
+    default MethodSpec buildAsymmetricColumnDoubleRelation(String relation1, String relation2, TypeName nextType, List<FieldSignatureInfo> fieldInfos1, List<FieldSignatureInfo> fieldInfos2, ReturnType returnType, ShapeTokens shapeTokens) {
         final String methodName =
                 fieldInfos1
                         .stream()
@@ -289,8 +296,10 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addStatement("where.and($T.$L($T.asList($L), $T.asList($L).stream().map($T::bindMarker).collect($T.toList())))",
                         QUERY_BUILDER, relation1, ARRAYS, paramsRelation1AsString, ARRAYS, paramsRelation1AsString, QUERY_BUILDER, COLLECTORS)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("where.and($T.$L($T.asList($L), $T.asList($L).stream().map($T::bindMarker).collect($T.toList())))",
-                        QUERY_BUILDER, relation2, ARRAYS, paramsRelation2AsString, ARRAYS, paramsRelation2AsString, QUERY_BUILDER, COLLECTORS);
+                        QUERY_BUILDER, relation2, ARRAYS, paramsRelation2AsString, ARRAYS, paramsRelation2AsString, QUERY_BUILDER, COLLECTORS)
+                .addStatement("shape.append($L)", shapeTokens.next());
 
         for(FieldSignatureInfo x: fieldInfos1) {
             final String relation1Param = x.fieldName + "_" + upperCaseFirst(relation1);
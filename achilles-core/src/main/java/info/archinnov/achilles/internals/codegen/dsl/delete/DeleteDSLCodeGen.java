@@ -43,6 +43,8 @@ public abstract class DeleteDSLCodeGen extends AbstractDSLCodeGen {
 
     public TypeSpec buildDeleteClass(EntityMetaSignature signature, DeleteWhereDSLCodeGen deleteWhereDSLCodeGen) {
 
+        final ShapeTokens shapeTokens = new ShapeTokens();
+
         final String firstPartitionKey = signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType == ColumnType.PARTITION)
@@ -67,25 +69,27 @@ public abstract class DeleteDSLCodeGen extends AbstractDSLCodeGen {
                 .addField(buildExactEntityMetaField(signature))
                 .addField(buildEntityClassField(signature))
                 .addType(buildDeleteColumns(signature, COLUMNS_DSL_SUFFIX,
-                        deleteColumnsTypeName, deleteFromTypeName, candidateColumns))
+                        deleteColumnsTypeName, deleteFromTypeName, candidateColumns, shapeTokens))
                 .addType(buildDeleteFrom(signature, FROM_DSL_SUFFIX, deleteWhereTypeName));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> candidateColumns.contains(x.context.columnType))
-                .forEach(x -> builder.addMethod(buildDeleteColumnMethod(deleteColumnsTypeName, x, ReturnType.NEW)));
+                .forEach(x -> builder.addMethod(buildDeleteColumnMethod(deleteColumnsTypeName, x, ReturnType.NEW, shapeTokens)));
 
-        builder.addMethod(buildAllColumns(deleteFromTypeName, DELETE_DOT_WHERE, "delete"));
-        builder.addMethod(buildAllColumnsWithSchemaProvider(deleteFromTypeName, DELETE_DOT_WHERE, "delete"));
+        builder.addMethod(buildAllColumns(deleteFromTypeName, DELETE_DOT_WHERE, "delete", shapeTokens));
+        builder.addMethod(buildAllColumnsWithSchemaProvider(deleteFromTypeName, DELETE_DOT_WHERE, "delete", shapeTokens));
 
 
-        deleteWhereDSLCodeGen.buildWhereClasses(signature).forEach(builder::addType);
+        deleteWhereDSLCodeGen.buildWhereClasses(signature, shapeTokens).forEach(builder::addType);
 
         return builder.build();
     }
 
     public TypeSpec buildDeleteStaticClass(EntityMetaSignature signature, DeleteWhereDSLCodeGen deleteWhereDSLCodeGen) {
 
+        final ShapeTokens shapeTokens = new ShapeTokens();
+
         final String firstPartitionKey = signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType == ColumnType.PARTITION)
@@ -109,16 +113,16 @@ public abstract class DeleteDSLCodeGen extends AbstractDSLCodeGen {
                 .addField(buildExactEntityMetaField(signature))
                 .addField(buildEntityClassField(signature))
                 .addType(buildDeleteColumns(signature, COLUMNS_DSL_SUFFIX,
-                        deleteStaticColumnsTypeName, deleteStaticFromTypeName, candidateColumns))
+                        deleteStaticColumnsTypeName, deleteStaticFromTypeName, candidateColumns, shapeTokens))
                 .addType(buildDeleteFrom(signature, FROM_DSL_SUFFIX, deleteStaticWhereTypeName));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> candidateColumns.contains(x.context.columnType))
-                .forEach(x -> builder.addMethod(buildDeleteColumnMethod(deleteStaticColumnsTypeName, x, ReturnType.NEW)));
+                .forEach(x -> builder.addMethod(buildDeleteColumnMethod(deleteStaticColumnsTypeName, x, ReturnType.NEW, shapeTokens)));
 
 
-        deleteWhereDSLCodeGen.buildWhereClassesForStatic(signature).forEach(builder::addType);
+        deleteWhereDSLCodeGen.buildWhereClassesForStatic(signature, shapeTokens).forEach(builder::addType);
 
         return builder.build();
     }
@@ -141,7 +145,7 @@ public abstract class DeleteDSLCodeGen extends AbstractDSLCodeGen {
                                                String deleteColumnClass,
                                                TypeName deleteColumnsTypeName,
                                                TypeName deleteFromTypeName,
-                                               List<ColumnType> candidateColumns) {
+                                               List<ColumnType> candidateColumns, ShapeTokens shapeTokens) {
 
         final TypeSpec.Builder builder = TypeSpec.classBuilder(deleteColumnClass)
                 .superclass(ABSTRACT_DELETE_COLUMNS)
@@ -154,10 +158,10 @@ public abstract class DeleteDSLCodeGen extends AbstractDSLCodeGen {
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> candidateColumns.contains(x.context.columnType))
-                .forEach(x -> builder.addMethod(buildDeleteColumnMethod(deleteColumnsTypeName, x, ReturnType.THIS)));
+                .forEach(x -> builder.addMethod(buildDeleteColumnMethod(deleteColumnsTypeName, x, ReturnType.THIS, shapeTokens)));
 
-        builder.addMethod(buildFrom(deleteFromTypeName, DELETE_DOT_WHERE, "deleteColumns"));
-        builder.addMethod(buildFromWithSchemaProvider(deleteFromTypeName, DELETE_DOT_WHERE, "deleteColumns"));
+        builder.addMethod(buildFrom(deleteFromTypeName, DELETE_DOT_WHERE, "deleteColumns", shapeTokens));
+        builder.addMethod(buildFromWithSchemaProvider(deleteFromTypeName, DELETE_DOT_WHERE, "deleteColumns", shapeTokens));
 
         return builder.build();
     }
@@ -183,12 +187,13 @@ public abstract class DeleteDSLCodeGen extends AbstractDSLCodeGen {
                 .build();
     }
 
-    public MethodSpec buildDeleteColumnMethod(TypeName deleteTypeName, FieldMetaSignature parsingResult, ReturnType returnType) {
+    public MethodSpec buildDeleteColumnMethod(TypeName deleteTypeName, FieldMetaSignature parsingResult, ReturnType returnType, ShapeTokens shapeTokens) {
 
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(parsingResult.context.fieldName)
                 .addJavadoc("Generate DELETE <strong>$L</strong> ...", parsingResult.context.quotedCqlColumn)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addStatement("delete.column($S)", parsingResult.context.quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .returns(deleteTypeName);
 
         if (returnType == ReturnType.NEW) {
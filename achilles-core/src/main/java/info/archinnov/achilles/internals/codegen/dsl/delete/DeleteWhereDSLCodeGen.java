@@ -38,20 +38,20 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
 
     public abstract void augmentPartitionKeyRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder,
                                                             FieldSignatureInfo fieldSignatureInfo,
-                                                            ClassSignatureInfo nextSignature);
+                                                            ClassSignatureInfo nextSignature, ShapeTokens shapeTokens);
 
     public abstract void augmentClusteringColRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder,
                                                                         FieldSignatureInfo fieldSignatureInfo,
                                                                         ClassSignatureInfo nextSignature,
-                                                                        ClassSignatureInfo lastSignature);
+                                                                        ClassSignatureInfo lastSignature, ShapeTokens shapeTokens);
 
     public abstract void augmentWhereClass(TypeSpec.Builder whereClassBuilder,
                                            EntityMetaSignature signature,
                                            List<FieldSignatureInfo> clusteringCols,
                                            List<ClassSignatureInfo> classesSignature,
-                                           ClassSignatureInfo lastSignature);
+                                           ClassSignatureInfo lastSignature, ShapeTokens shapeTokens);
 
-    public List<TypeSpec> buildWhereClasses(EntityMetaSignature signature) {
+    public List<TypeSpec> buildWhereClasses(EntityMetaSignature signature, ShapeTokens shapeTokens) {
         final List<FieldSignatureInfo> partitionKeys = getPartitionKeysSignatureInfo(signature.fieldMetaSignatures);
         final List<FieldSignatureInfo> clusteringCols = getClusteringColsSignatureInfo(signature.fieldMetaSignatures);
 
@@ -67,19 +67,19 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
         final ClassSignatureInfo lastSignature = classesSignature.get(classesSignature.size() - 1);
 
         final List<TypeSpec> partitionKeysWhereClasses = buildWhereClassesForPartitionKeys(signature.deleteClassName(),
-                partitionKeys, classesSignature, clusteringCols.size() > 0);
+                partitionKeys, classesSignature, clusteringCols.size() > 0, shapeTokens);
 
         final List<TypeSpec> clusteringColsWhereClasses = buildWhereClassesForClusteringColumns(signature,
-                clusteringCols, classesSignature, lastSignature);
+                clusteringCols, classesSignature, lastSignature, shapeTokens);
 
-        final TypeSpec deleteEndClass = buildDeleteEndClass(signature, lastSignature, hasCounter);
+        final TypeSpec deleteEndClass = buildDeleteEndClass(signature, lastSignature, hasCounter, shapeTokens);
 
         partitionKeysWhereClasses.addAll(clusteringColsWhereClasses);
         partitionKeysWhereClasses.add(deleteEndClass);
         return partitionKeysWhereClasses;
     }
 
-    public List<TypeSpec> buildWhereClassesForStatic(EntityMetaSignature signature) {
+    public List<TypeSpec> buildWhereClassesForStatic(EntityMetaSignature signature, ShapeTokens shapeTokens) {
         final List<FieldSignatureInfo> partitionKeys = getPartitionKeysSignatureInfo(signature.fieldMetaSignatures);
 
         final ClassSignatureParams classSignatureParams = ClassSignatureParams.of(DELETE_STATIC_DSL_SUFFIX,
@@ -94,9 +94,9 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
         final ClassSignatureInfo lastSignature = classesSignature.get(classesSignature.size() - 1);
 
         final List<TypeSpec> partitionKeysWhereClasses = buildWhereClassesForPartitionKeys(signature.deleteStaticClassName(),
-                partitionKeys, classesSignature, false);
+                partitionKeys, classesSignature, false, shapeTokens);
 
-        final TypeSpec deleteEndClass = buildDeleteEndClass(signature, lastSignature, hasCounter);
+        final TypeSpec deleteEndClass = buildDeleteEndClass(signature, lastSignature, hasCounter, shapeTokens);
 
         partitionKeysWhereClasses.add(deleteEndClass);
         return partitionKeysWhereClasses;
@@ -105,7 +105,7 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
 
     public TypeSpec buildDeleteEndClass(EntityMetaSignature signature,
                                                 ClassSignatureInfo lastSignature,
-                                                boolean hasCounter) {
+                                                boolean hasCounter, ShapeTokens shapeTokens) {
 
 
         final TypeSpec.Builder builder = TypeSpec.classBuilder(lastSignature.className)
@@ -117,10 +117,12 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
+                .addMethod(buildGetShapeInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetEqPrimaryKeyValuesInternal())
                 .addMethod(buildGetThis(lastSignature.returnClassType));
 
-        buildLWtConditionMethods(signature, lastSignature.className, lastSignature, hasCounter, builder);
+        buildLWtConditionMethods(signature, lastSignature.className, lastSignature, hasCounter, builder, shapeTokens);
 
         return builder.build();
     }
@@ -128,7 +130,7 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
     public List<TypeSpec> buildWhereClassesForPartitionKeys(String rootClassName,
                                                             List<FieldSignatureInfo> partitionKeys,
                                                             List<ClassSignatureInfo> classesSignature,
-                                                            boolean hasClusterings) {
+                                                            boolean hasClusterings, ShapeTokens shapeTokens) {
         if (partitionKeys.isEmpty()) {
             return new ArrayList<>();
         } else {
@@ -140,10 +142,10 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
             classesSignature.remove(0);
 
             final TypeSpec typeSpec = buildDeleteWhereForPartitionKey(rootClassName, partitionKeyInfo, currentSignature,
-                    nextSignature);
+                    nextSignature, shapeTokens);
 
             final List<TypeSpec> typeSpecs = buildWhereClassesForPartitionKeys(rootClassName, partitionKeys,
-                    classesSignature, hasClusterings);
+                    classesSignature, hasClusterings, shapeTokens);
 
             typeSpecs.add(0, typeSpec);
             return typeSpecs;
@@ -153,7 +155,7 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
     public TypeSpec buildDeleteWhereForPartitionKey(String rootClassName,
                                                     FieldSignatureInfo partitionInfo,
                                                     ClassSignatureInfo classSignature,
-                                                    ClassSignatureInfo nextSignature) {
+                                                    ClassSignatureInfo nextSignature, ShapeTokens shapeTokens) {
 
         TypeName relationClassTypeName = ClassName.get(DSL_PACKAGE, rootClassName
                 + "." + classSignature.className
@@ -161,10 +163,10 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
 
         final TypeSpec.Builder relationClassBuilder = TypeSpec.classBuilder(DSL_RELATION)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildColumnRelation(EQ, nextSignature.returnClassType, partitionInfo, ReturnType.NEW))
-                .addMethod(buildColumnInVarargs(nextSignature.returnClassType, partitionInfo, ReturnType.NEW));
+                .addMethod(buildPrimaryKeyColumnEqRelation(nextSignature.returnClassType, partitionInfo, ReturnType.NEW, shapeTokens))
+                .addMethod(buildColumnInVarargs(nextSignature.returnClassType, partitionInfo, ReturnType.NEW, shapeTokens));
 
-        augmentPartitionKeyRelationClassForWhereClause(relationClassBuilder, partitionInfo, nextSignature);
+        augmentPartitionKeyRelationClassForWhereClause(relationClassBuilder, partitionInfo, nextSignature, shapeTokens);
 
         return TypeSpec.classBuilder(classSignature.className)
                 .superclass(classSignature.superType)
@@ -180,7 +182,7 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
     public List<TypeSpec> buildWhereClassesForClusteringColumns(EntityMetaSignature signature,
                                                                 List<FieldSignatureInfo> clusteringCols,
                                                                 List<ClassSignatureInfo> classesSignature,
-                                                                ClassSignatureInfo lastSignature) {
+                                                                ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
         if (clusteringCols.isEmpty()) {
             return new ArrayList<>();
         } else {
@@ -188,8 +190,8 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
             final List<ClassSignatureInfo> copyClassesSignature = new ArrayList<>(classesSignature);
             clusteringCols.remove(0);
             classesSignature.remove(0);
-            final TypeSpec currentType = buildDeleteWhereForClusteringColumn(signature, copyClusteringCols, copyClassesSignature, lastSignature);
-            final List<TypeSpec> typeSpecs = buildWhereClassesForClusteringColumns(signature, clusteringCols, classesSignature, lastSignature);
+            final TypeSpec currentType = buildDeleteWhereForClusteringColumn(signature, copyClusteringCols, copyClassesSignature, lastSignature, shapeTokens);
+            final List<TypeSpec> typeSpecs = buildWhereClassesForClusteringColumns(signature, clusteringCols, classesSignature, lastSignature, shapeTokens);
             typeSpecs.add(0, currentType);
             return typeSpecs;
         }
@@ -198,7 +200,7 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
     public TypeSpec buildDeleteWhereForClusteringColumn(EntityMetaSignature signature,
                                                         List<FieldSignatureInfo> clusteringCols,
                                                         List<ClassSignatureInfo> classesSignature,
-                                                        ClassSignatureInfo lastSignature) {
+                                                        ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
 
 
         final ClassSignatureInfo classSignature = classesSignature.get(0);
@@ -212,9 +214,9 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
 
         final TypeSpec.Builder relationClassBuilder = TypeSpec.classBuilder(DSL_RELATION)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildColumnRelation(EQ, nextSignature.returnClassType, clusteringColumnInfo, ReturnType.NEW));
+                .addMethod(buildPrimaryKeyColumnEqRelation(nextSignature.returnClassType, clusteringColumnInfo, ReturnType.NEW, shapeTokens));
 
-        augmentClusteringColRelationClassForWhereClause(relationClassBuilder, clusteringColumnInfo, nextSignature, lastSignature);
+        augmentClusteringColRelationClassForWhereClause(relationClassBuilder, clusteringColumnInfo, nextSignature, lastSignature, shapeTokens);
 
         final TypeSpec.Builder whereClassBuilder = TypeSpec.classBuilder(classSignature.className)
                 .superclass(classSignature.superType)
@@ -223,7 +225,7 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addType(relationClassBuilder.build())
                 .addMethod(buildRelationMethod(clusteringColumnInfo.fieldName, relationClassTypeName));
 
-        augmentWhereClass(whereClassBuilder, signature, clusteringCols, classesSignature, lastSignature);
+        augmentWhereClass(whereClassBuilder, signature, clusteringCols, classesSignature, lastSignature, shapeTokens);
 
         return whereClassBuilder.build();
     }
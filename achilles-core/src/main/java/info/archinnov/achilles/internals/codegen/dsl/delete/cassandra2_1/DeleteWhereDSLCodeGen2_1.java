@@ -27,7 +27,7 @@ public class DeleteWhereDSLCodeGen2_1 extends DeleteWhereDSLCodeGen {
     @Override
     public void augmentPartitionKeyRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder,
                                                                FieldSignatureInfo fieldSignatureInfo,
-                                                               ClassSignatureInfo nextSignature) {
+                                                               ClassSignatureInfo nextSignature, ShapeTokens shapeTokens) {
         //NO Op
     }
 
@@ -35,7 +35,7 @@ public class DeleteWhereDSLCodeGen2_1 extends DeleteWhereDSLCodeGen {
     public void augmentClusteringColRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder,
                                                                 FieldSignatureInfo fieldSignatureInfo,
                                                                 ClassSignatureInfo nextSignature,
-                                                                ClassSignatureInfo lastSignature) {
+                                                                ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
         //NO Op
     }
 
@@ -43,14 +43,14 @@ public class DeleteWhereDSLCodeGen2_1 extends DeleteWhereDSLCodeGen {
     public void augmentWhereClass(TypeSpec.Builder whereClassBuilder, EntityMetaSignature signature,
                                   List<FieldSignatureInfo> clusteringCols,
                                   List<ClassSignatureInfo> classesSignature,
-                                  ClassSignatureInfo lastSignature) {
+                                  ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
         //NO Op
     }
 
     @Override
     public void augmentLWTConditionClass(TypeSpec.Builder conditionClassBuilder,
                                          FieldSignatureInfo fieldSignatureInfo,
-                                         ClassSignatureInfo currentSignature) {
+                                         ClassSignatureInfo currentSignature, ShapeTokens shapeTokens) {
         //NO Op
     }
 }
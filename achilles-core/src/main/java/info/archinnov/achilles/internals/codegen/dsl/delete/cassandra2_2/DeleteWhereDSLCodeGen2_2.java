@@ -29,17 +29,17 @@ public class DeleteWhereDSLCodeGen2_2 extends DeleteWhereDSLCodeGen
     @Override
     public void augmentPartitionKeyRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder,
                                                                FieldSignatureInfo fieldInfo,
-                                                   ClassSignatureInfo nextSignature) {
+                                                   ClassSignatureInfo nextSignature, ShapeTokens shapeTokens) {
 
-        buildEqFromJSONToRelationClass(relationClassBuilder, fieldInfo, nextSignature);
+        buildEqFromJSONToRelationClass(relationClassBuilder, fieldInfo, nextSignature, shapeTokens);
     }
 
     @Override
     public void augmentClusteringColRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder,
                                                                 FieldSignatureInfo fieldInfo,
                                                                 ClassSignatureInfo nextSignature,
-                                                                ClassSignatureInfo lastSignature) {
-        buildEqFromJSONToRelationClass(relationClassBuilder, fieldInfo, nextSignature);
+                                                                ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
+        buildEqFromJSONToRelationClass(relationClassBuilder, fieldInfo, nextSignature, shapeTokens);
 
     }
 
@@ -47,14 +47,14 @@ public class DeleteWhereDSLCodeGen2_2 extends DeleteWhereDSLCodeGen
     public void augmentWhereClass(TypeSpec.Builder whereClassBuilder, EntityMetaSignature signature,
                                   List<FieldSignatureInfo> clusteringCols,
                                   List<ClassSignatureInfo> classesSignature,
-                                  ClassSignatureInfo lastSignature) {
+                                  ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
         //NO Op
     }
 
     @Override
     public void augmentLWTConditionClass(TypeSpec.Builder conditionClassBuilder,
                                          FieldSignatureInfo fieldSignatureInfo,
-                                         ClassSignatureInfo currentSignature) {
-        buildIfEqFromJSONToConditionClass(conditionClassBuilder, fieldSignatureInfo, currentSignature);
+                                         ClassSignatureInfo currentSignature, ShapeTokens shapeTokens) {
+        buildIfEqFromJSONToConditionClass(conditionClassBuilder, fieldSignatureInfo, currentSignature, shapeTokens);
     }
 }
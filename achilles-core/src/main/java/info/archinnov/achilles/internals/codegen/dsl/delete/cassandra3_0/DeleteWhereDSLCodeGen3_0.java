@@ -38,7 +38,7 @@ public class DeleteWhereDSLCodeGen3_0 extends DeleteWhereDSLCodeGen2_2
      * @return
      */
     @Override
-    public List<TypeSpec> buildWhereClasses(EntityMetaSignature signature) {
+    public List<TypeSpec> buildWhereClasses(EntityMetaSignature signature, ShapeTokens shapeTokens) {
         final List<FieldSignatureInfo> partitionKeys = getPartitionKeysSignatureInfo(signature.fieldMetaSignatures);
         final List<FieldSignatureInfo> clusteringCols = getClusteringColsSignatureInfo(signature.fieldMetaSignatures);
 
@@ -54,12 +54,12 @@ public class DeleteWhereDSLCodeGen3_0 extends DeleteWhereDSLCodeGen2_2
         final ClassSignatureInfo lastSignature = classesSignature.get(classesSignature.size() - 1);
 
         final List<TypeSpec> partitionKeysWhereClasses = buildWhereClassesForPartitionKeys(signature.deleteClassName(),
-                partitionKeys, classesSignature, clusteringCols.size() > 0);
+                partitionKeys, classesSignature, clusteringCols.size() > 0, shapeTokens);
 
         final List<TypeSpec> clusteringColsWhereClasses = buildWhereClassesForClusteringColumns(signature,
-                clusteringCols, classesSignature, lastSignature);
+                clusteringCols, classesSignature, lastSignature, shapeTokens);
 
-        final TypeSpec deleteEndClass = buildDeleteEndClass(signature, lastSignature, hasCounter);
+        final TypeSpec deleteEndClass = buildDeleteEndClass(signature, lastSignature, hasCounter, shapeTokens);
 
         partitionKeysWhereClasses.addAll(clusteringColsWhereClasses);
         partitionKeysWhereClasses.add(deleteEndClass);
@@ -78,7 +78,7 @@ public class DeleteWhereDSLCodeGen3_0 extends DeleteWhereDSLCodeGen2_2
     public TypeSpec buildDeleteWhereForClusteringColumn(EntityMetaSignature signature,
                                                         List<FieldSignatureInfo> clusteringCols,
                                                         List<ClassSignatureInfo> classesSignature,
-                                                        ClassSignatureInfo lastSignature) {
+                                                        ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
 
 
         final ClassSignatureInfo classSignature = classesSignature.get(0);
@@ -101,28 +101,30 @@ public class DeleteWhereDSLCodeGen3_0 extends DeleteWhereDSLCodeGen2_2
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
-                .addMethod(buildGetEncodedBoundValuesInternal());
+                .addMethod(buildGetShapeInternal())
+                .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetEqPrimaryKeyValuesInternal());
 
         final TypeSpec.Builder relationClassBuilder = TypeSpec.classBuilder(DSL_RELATION)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildColumnRelation(EQ, nextSignature.returnClassType, clusteringColumnInfo, ReturnType.NEW));
+                .addMethod(buildPrimaryKeyColumnEqRelation(nextSignature.returnClassType, clusteringColumnInfo, ReturnType.NEW, shapeTokens));
 
-        augmentClusteringColRelationClassForWhereClause(relationClassBuilder, clusteringColumnInfo, nextSignature, lastSignature);
+        augmentClusteringColRelationClassForWhereClause(relationClassBuilder, clusteringColumnInfo, nextSignature, lastSignature, shapeTokens);
 
         whereClassBuilder
                 .addMethod(buildRelationMethod(clusteringColumnInfo.fieldName, relationClassTypeName))
                 .addType(relationClassBuilder.build());
 
-        augmentWhereClass(whereClassBuilder, signature, clusteringCols, classesSignature, lastSignature);
+        augmentWhereClass(whereClassBuilder, signature, clusteringCols, classesSignature, lastSignature, shapeTokens);
 
         return whereClassBuilder.build();
     }
 
     @Override
     public void augmentClusteringColRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder, FieldSignatureInfo fieldInfo,
-                                                                ClassSignatureInfo nextSignature, ClassSignatureInfo lastSignature) {
-        super.augmentClusteringColRelationClassForWhereClause(relationClassBuilder, fieldInfo, nextSignature, lastSignature);
-        addSingleColumnSliceRestrictions(relationClassBuilder, fieldInfo, nextSignature, lastSignature, ReturnType.NEW);
+                                                                ClassSignatureInfo nextSignature, ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
+        super.augmentClusteringColRelationClassForWhereClause(relationClassBuilder, fieldInfo, nextSignature, lastSignature, shapeTokens);
+        addSingleColumnSliceRestrictions(relationClassBuilder, fieldInfo, nextSignature, lastSignature, ReturnType.NEW, shapeTokens);
     }
 
     @Override
@@ -130,8 +132,8 @@ public class DeleteWhereDSLCodeGen3_0 extends DeleteWhereDSLCodeGen2_2
                                   EntityMetaSignature signature,
                                   List<FieldSignatureInfo> clusteringCols,
                                   List<ClassSignatureInfo> classesSignature,
-                                  ClassSignatureInfo lastSignature) {
+                                  ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
         String parentClassName = signature.deleteClassName() + "." + classesSignature.get(0).className;
-        addMultipleColumnsSliceRestrictions(whereClassBuilder, parentClassName, clusteringCols, lastSignature, ReturnType.NEW);
+        addMultipleColumnsSliceRestrictions(whereClassBuilder, parentClassName, clusteringCols, lastSignature, ReturnType.NEW, shapeTokens);
     }
 }
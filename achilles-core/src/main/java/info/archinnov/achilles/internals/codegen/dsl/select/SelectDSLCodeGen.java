@@ -40,10 +40,12 @@ import info.archinnov.achilles.type.tuples.Tuple2;
 
 public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
 
-    public abstract void augmentSelectClass(GlobalParsingContext context, EntityMetaSignature signature, TypeSpec.Builder builder);
+    public abstract void augmentSelectClass(GlobalParsingContext context, EntityMetaSignature signature, TypeSpec.Builder builder, ShapeTokens shapeTokens);
 
     public TypeSpec buildSelectClass(GlobalParsingContext context, EntityMetaSignature signature) {
 
+        final ShapeTokens shapeTokens = new ShapeTokens();
+
         final String firstPartitionKey = signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType == ColumnType.PARTITION)
@@ -74,35 +76,35 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
                 .addMethod(buildSelectConstructor(signature))
                 .addField(buildExactEntityMetaField(signature))
                 .addField(buildEntityClassField(signature))
-                .addType(buildSelectColumns(signature, signatureForSelectColumns))
-                .addType(buildSelectColumnsTypedMap(signature, signatureForSelectColumnsTypedMap))
-                .addType(buildSelectFrom(signature, firstPartitionKey).build())
-                .addType(buildSelectFromTypedMap(signature, firstPartitionKey).build());
+                .addType(buildSelectColumns(signature, signatureForSelectColumns, shapeTokens))
+                .addType(buildSelectColumnsTypedMap(signature, signatureForSelectColumnsTypedMap, shapeTokens))
+                .addType(buildSelectFrom(signature, firstPartitionKey, shapeTokens).build())
+                .addType(buildSelectFromTypedMap(signature, firstPartitionKey, shapeTokens).build());
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType != ColumnType.COMPUTED && !x.isUDT())
-                .forEach(x -> selectClassBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, "select", NEW)));
+                .forEach(x -> selectClassBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, "select", NEW, shapeTokens)));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.isUDT())
                 .forEach(x -> buildSelectUDTClassAndMethods(selectClassBuilder, selectColumnsTypeName,
-                        signature.selectClassName(), "", x, "select", NEW));
+                        signature.selectClassName(), "", x, "select", NEW, shapeTokens));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType == ColumnType.COMPUTED)
-                .forEach(x -> selectClassBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, "select", NEW)));
+                .forEach(x -> selectClassBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, "select", NEW, shapeTokens)));
 
         selectClassBuilder.addMethod(buildSelectFunctionCallMethod(selectColumnsTypeMapTypeName, "select", NEW));
 
-        selectClassBuilder.addMethod(buildAllColumns(selectFromTypeName, SELECT_DOT_WHERE, "select"));
-        selectClassBuilder.addMethod(buildAllColumnsWithSchemaProvider(selectFromTypeName, SELECT_DOT_WHERE, "select"));
+        selectClassBuilder.addMethod(buildAllColumns(selectFromTypeName, SELECT_DOT_WHERE, "select", shapeTokens));
+        selectClassBuilder.addMethod(buildAllColumnsWithSchemaProvider(selectFromTypeName, SELECT_DOT_WHERE, "select", shapeTokens));
 
-        augmentSelectClass(context, signature, selectClassBuilder);
+        augmentSelectClass(context, signature, selectClassBuilder, shapeTokens);
 
-        context.selectWhereDSLCodeGen().buildWhereClasses(context, signature).forEach(selectClassBuilder::addType);
+        context.selectWhereDSLCodeGen().buildWhereClasses(context, signature, shapeTokens).forEach(selectClassBuilder::addType);
 
         return selectClassBuilder.build();
     }
@@ -121,7 +123,7 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
         return builder.build();
     }
 
-    public TypeSpec buildSelectColumns(EntityMetaSignature signature, SelectColumnsSignature classesSignature) {
+    public TypeSpec buildSelectColumns(EntityMetaSignature signature, SelectColumnsSignature classesSignature, ShapeTokens shapeTokens) {
 
         TypeName selectColumnsTypeName = ClassName.get(DSL_PACKAGE, classesSignature.selectColumnsReturnType);
         TypeName selectColumnsTypedMapTypeName = ClassName.get(DSL_PACKAGE, classesSignature.selectColumnsTypedMapReturnType);
@@ -140,27 +142,27 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType != ColumnType.COMPUTED && !x.isUDT())
-                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, "selection", THIS)));
+                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, "selection", THIS, shapeTokens)));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.isUDT())
-                .forEach(x -> buildSelectUDTClassAndMethods(selectColumnsBuilder, selectColumnsTypeName, signature.selectColumnsReturnType(), "", x, "selection", THIS));
+                .forEach(x -> buildSelectUDTClassAndMethods(selectColumnsBuilder, selectColumnsTypeName, signature.selectColumnsReturnType(), "", x, "selection", THIS, shapeTokens));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType == ColumnType.COMPUTED)
-                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, "selection", THIS)));
+                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, "selection", THIS, shapeTokens)));
 
         selectColumnsBuilder.addMethod(buildSelectFunctionCallMethod(selectColumnsTypedMapTypeName, "selection", NEW));
 
-        selectColumnsBuilder.addMethod(buildFrom(selectFromTypeName, SELECT_DOT_WHERE, "selection"));
-        selectColumnsBuilder.addMethod(buildFromWithSchemaProvider(selectFromTypeName, SELECT_DOT_WHERE, "selection"));
+        selectColumnsBuilder.addMethod(buildFrom(selectFromTypeName, SELECT_DOT_WHERE, "selection", shapeTokens));
+        selectColumnsBuilder.addMethod(buildFromWithSchemaProvider(selectFromTypeName, SELECT_DOT_WHERE, "selection", shapeTokens));
 
         return selectColumnsBuilder.build();
     }
 
-    public TypeSpec buildSelectColumnsTypedMap(EntityMetaSignature signature, SelectColumnsSignature classesSignature) {
+    public TypeSpec buildSelectColumnsTypedMap(EntityMetaSignature signature, SelectColumnsSignature classesSignature, ShapeTokens shapeTokens) {
 
         TypeName selectColumnsTypedMapTypeName = ClassName.get(DSL_PACKAGE, classesSignature.selectColumnsTypedMapReturnType);
 
@@ -178,27 +180,27 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType != ColumnType.COMPUTED && !x.isUDT())
-                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypedMapTypeName, x, "selection", THIS)));
+                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypedMapTypeName, x, "selection", THIS, shapeTokens)));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.isUDT())
-                .forEach(x -> buildSelectUDTClassAndMethods(selectColumnsBuilder, selectColumnsTypedMapTypeName, classesSignature.selectColumnsTypedMapReturnType, "", x, "selection", THIS));
+                .forEach(x -> buildSelectUDTClassAndMethods(selectColumnsBuilder, selectColumnsTypedMapTypeName, classesSignature.selectColumnsTypedMapReturnType, "", x, "selection", THIS, shapeTokens));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType == ColumnType.COMPUTED)
-                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypedMapTypeName, x, "selection", THIS)));
+                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypedMapTypeName, x, "selection", THIS, shapeTokens)));
 
         selectColumnsBuilder.addMethod(buildSelectFunctionCallMethod(selectColumnsTypedMapTypeName, "selection", THIS));
 
-        selectColumnsBuilder.addMethod(buildFrom(selectFromTypedMapTypeName, SELECT_DOT_WHERE, "selection"));
-        selectColumnsBuilder.addMethod(buildFromWithSchemaProvider(selectFromTypedMapTypeName, SELECT_DOT_WHERE, "selection"));
+        selectColumnsBuilder.addMethod(buildFrom(selectFromTypedMapTypeName, SELECT_DOT_WHERE, "selection", shapeTokens));
+        selectColumnsBuilder.addMethod(buildFromWithSchemaProvider(selectFromTypedMapTypeName, SELECT_DOT_WHERE, "selection", shapeTokens));
 
         return selectColumnsBuilder.build();
     }
 
-    public TypeSpec.Builder buildSelectFrom(EntityMetaSignature signature, String firstPartitionKey) {
+    public TypeSpec.Builder buildSelectFrom(EntityMetaSignature signature, String firstPartitionKey, ShapeTokens shapeTokens) {
         TypeName selectWhereTypeName = ClassName.get(DSL_PACKAGE, signature.selectWhereReturnType(firstPartitionKey));
 
         TypeName selectEndTypeName = ClassName.get(DSL_PACKAGE, signature.selectEndReturnType());
@@ -225,7 +227,7 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
                         .build());
     }
 
-    public TypeSpec.Builder buildSelectFromTypedMap(EntityMetaSignature signature, String firstPartitionKey) {
+    public TypeSpec.Builder buildSelectFromTypedMap(EntityMetaSignature signature, String firstPartitionKey, ShapeTokens shapeTokens) {
         TypeName selectWhereTypedMapTypeName = ClassName.get(DSL_PACKAGE, signature.selectWhereTypedMapReturnType(firstPartitionKey));
 
         TypeName selectEndTypedMapTypeName = ClassName.get(DSL_PACKAGE, signature.selectEndTypedMapReturnType());
@@ -252,12 +254,13 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
                         .build());
     }
 
-    public MethodSpec buildSelectColumnMethod(TypeName newTypeName, FieldMetaSignature parsingResult, String selectVariable, ReturnType returnType) {
+    public MethodSpec buildSelectColumnMethod(TypeName newTypeName, FieldMetaSignature parsingResult, String selectVariable, ReturnType returnType, ShapeTokens shapeTokens) {
 
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(parsingResult.context.fieldName)
                 .addJavadoc("Generate a SELECT ... <strong>$L</strong> ...", parsingResult.context.quotedCqlColumn)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addStatement("$L.column($S)", selectVariable, parsingResult.context.quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .returns(newTypeName);
 
         if (returnType == NEW) {
@@ -269,7 +272,7 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
 
 
     public void buildSelectUDTClassAndMethods(TypeSpec.Builder parentClassBuilder, TypeName returnClassTypeName, String parentClassName,
-                                               String parentQuotedCqlColumn, FieldMetaSignature fieldSignature, String selectVariable, ReturnType returnType) {
+                                               String parentQuotedCqlColumn, FieldMetaSignature fieldSignature, String selectVariable, ReturnType returnType, ShapeTokens shapeTokens) {
         final UDTMetaSignature udtMetaSignature = fieldSignature.udtMetaSignature.get();
         final String udtClassName = parentClassName + "." + fieldSignature.context.udtClassName();
         TypeName udtClassTypeName = ClassName.get(DSL_PACKAGE, udtClassName);
@@ -288,17 +291,18 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
                         selectVariable,
                         x.context.fieldName,
                         quotedCqlColumn + "." + x.context.quotedCqlColumn,
-                        returnType)));
+                        returnType, shapeTokens)));
 
         udtMetaSignature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.isUDT())
-                .forEach(x -> buildSelectUDTClassAndMethods(udtClassBuilder, returnClassTypeName, udtClassName, quotedCqlColumn, x, selectVariable, returnType));
+                .forEach(x -> buildSelectUDTClassAndMethods(udtClassBuilder, returnClassTypeName, udtClassName, quotedCqlColumn, x, selectVariable, returnType, shapeTokens));
 
         final MethodSpec.Builder allColumnsMethodBuilder = MethodSpec.methodBuilder("allColumns")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addJavadoc("Generate a SELECT ... <strong>$L</strong> ...", quotedCqlColumn)
                 .addStatement("$L.raw($S)", selectVariable, quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .returns(returnClassTypeName);
 
         if (returnType == NEW) {
@@ -318,12 +322,13 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
     }
 
     public MethodSpec buildSelectUDTColumnMethod(TypeName newTypeName, String selectVariable,
-                                                  String fieldName, String quotedCqlColumn, ReturnType returnType) {
+                                                  String fieldName, String quotedCqlColumn, ReturnType returnType, ShapeTokens shapeTokens) {
 
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(fieldName)
                 .addJavadoc("Generate a SELECT ... <strong>$L</strong> ...", quotedCqlColumn)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addStatement("$L.raw($S)", selectVariable, quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .returns(newTypeName);
 
         if (returnType == NEW) {
@@ -397,7 +402,8 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
                 .addJavadoc("@return a built-in function call passed to the QueryBuilder object\n")
                 .addParameter(FUNCTION_CALL, "functionCall", Modifier.FINAL)
                 .addParameter(STRING, "alias", Modifier.FINAL)
-                .addStatement("functionCall.addToSelect($L, alias)", fieldName);
+                .addStatement("functionCall.addToSelect($L, alias)", fieldName)
+                .addStatement("shape.markDynamic()");
 
         if (returnType == NEW) {
             return builder.addStatement("return new $T(select)", newTypeName).build();
@@ -407,7 +413,7 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
     }
 
 
-    public MethodSpec buildSelectComputedColumnMethod(TypeName newTypeName, FieldMetaSignature parsingResult, String fieldName, ReturnType returnType) {
+    public MethodSpec buildSelectComputedColumnMethod(TypeName newTypeName, FieldMetaSignature parsingResult, String fieldName, ReturnType returnType, ShapeTokens shapeTokens) {
 
         final ComputedColumnInfo columnInfo = (ComputedColumnInfo) parsingResult.context.columnInfo;
         StringJoiner joiner = new StringJoiner(",", fieldName + ".fcall($S,", ").as($S)");
@@ -426,6 +432,7 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
                 .addJavadoc("Generate a SELECT ... <strong>$L($L) AS $L</strong> ...", varargs)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addStatement(joiner.toString(), varargs)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .returns(newTypeName);
 
         if (returnType == NEW) {
@@ -41,24 +41,24 @@ import info.archinnov.achilles.internals.parser.context.GlobalParsingContext;
 public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
         implements BaseSingleColumnRestriction, MultiColumnsSliceRestrictionCodeGen {
 
-    public abstract void augmentSelectEndClass(TypeSpec.Builder selectEndClassBuilder, ClassSignatureInfo lastSignature);
+    public abstract void augmentSelectEndClass(TypeSpec.Builder selectEndClassBuilder, ClassSignatureInfo lastSignature, ShapeTokens shapeTokens);
 
     public abstract List<TypeSpec> generateExtraWhereClasses(GlobalParsingContext context,
                                                              EntityMetaSignature signature,
                                                              List<FieldSignatureInfo> partitionKeys,
-                                                             List<FieldSignatureInfo> clusteringCols);
+                                                             List<FieldSignatureInfo> clusteringCols, ShapeTokens shapeTokens);
 
     public abstract void augmentRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder,
                                                             FieldSignatureInfo fieldSignatureInfo,
                                                             ClassSignatureInfo nextSignature,
-                                                            ReturnType returnType);
+                                                            ReturnType returnType, ShapeTokens shapeTokens);
 
 //    public abstract void augmentClusteringWhereClass(TypeSpec.Builder clusteringClassBuilder,
 //                                                     String rootClassName,
 //                                                     List<ClassSignatureInfo> classesSignature,
 //                                                     ClassSignatureInfo lastSignature);
 
-    public List<TypeSpec> buildWhereClasses(GlobalParsingContext context, EntityMetaSignature signature) {
+    public List<TypeSpec> buildWhereClasses(GlobalParsingContext context, EntityMetaSignature signature, ShapeTokens shapeTokens) {
         SelectWhereDSLCodeGen selectWhereDSLCodeGen = context.selectWhereDSLCodeGen();
 
         final List<FieldSignatureInfo> partitionKeys = getPartitionKeysSignatureInfo(signature.fieldMetaSignatures);
@@ -74,19 +74,19 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                 ABSTRACT_SELECT_WHERE_PARTITION_TYPED_MAP, ABSTRACT_SELECT_WHERE_TYPED_MAP);
 
         final List<TypeSpec> partitionKeysWhereClasses = buildWhereClassesInternal(signature, selectWhereDSLCodeGen, partitionKeys, clusteringCols,
-                classSignatureParams);
+                classSignatureParams, shapeTokens);
         final List<TypeSpec> partitionKeysWhereTypedMapClasses = buildWhereClassesInternal(signature, selectWhereDSLCodeGen, partitionKeys, clusteringCols,
-                typedMapClassSignatureParams);
+                typedMapClassSignatureParams, shapeTokens);
         partitionKeysWhereClasses.addAll(partitionKeysWhereTypedMapClasses);
 
-        partitionKeysWhereClasses.addAll(generateExtraWhereClasses(context, signature, partitionKeys, clusteringCols));
+        partitionKeysWhereClasses.addAll(generateExtraWhereClasses(context, signature, partitionKeys, clusteringCols, shapeTokens));
 
         return partitionKeysWhereClasses;
     }
 
     public List<TypeSpec> buildWhereClassesInternal(EntityMetaSignature signature, SelectWhereDSLCodeGen selectWhereDSLCodeGen,
                                                     List<FieldSignatureInfo> partitionKeys, List<FieldSignatureInfo> clusteringCols,
-                                                    ClassSignatureParams classSignatureParams) {
+                                                    ClassSignatureParams classSignatureParams, ShapeTokens shapeTokens) {
 
         final List<ClassSignatureInfo> classesSignature = selectWhereDSLCodeGen.buildClassesSignatureForWhereClause(signature, classSignatureParams,
                 partitionKeys, clusteringCols, WhereClauseFor.NORMAL);
@@ -97,17 +97,17 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
 
         final ClassSignatureInfo lastSignature = classesSignature.get(classesSignature.size() - 1);
 
-        final List<TypeSpec> partitionKeysWhereClasses = buildWhereClassesForPartitionKeys(signature.selectClassName(), true, lastSignature, classesSignature);
-        final List<TypeSpec> clusteringColsWhereClasses = buildWhereClassesForClusteringColumns(signature, firstClusteringClassSignature, classesSignature, lastSignature);
+        final List<TypeSpec> partitionKeysWhereClasses = buildWhereClassesForPartitionKeys(signature.selectClassName(), true, lastSignature, classesSignature, shapeTokens);
+        final List<TypeSpec> clusteringColsWhereClasses = buildWhereClassesForClusteringColumns(signature, firstClusteringClassSignature, classesSignature, lastSignature, shapeTokens);
 
-        final TypeSpec selectEndClass = buildSelectEndClass(signature, lastSignature, firstClusteringClassSignature);
+        final TypeSpec selectEndClass = buildSelectEndClass(signature, lastSignature, firstClusteringClassSignature, shapeTokens);
 
         partitionKeysWhereClasses.addAll(clusteringColsWhereClasses);
         partitionKeysWhereClasses.add(selectEndClass);
         return partitionKeysWhereClasses;
     }
 
-    public TypeSpec buildSelectEndClass(EntityMetaSignature signature, ClassSignatureInfo lastSignature, Optional<ClassSignatureInfo> firstClusteringClassSignature) {
+    public TypeSpec buildSelectEndClass(EntityMetaSignature signature, ClassSignatureInfo lastSignature, Optional<ClassSignatureInfo> firstClusteringClassSignature, ShapeTokens shapeTokens) {
 
         final TypeSpec.Builder builder = TypeSpec.classBuilder(lastSignature.className)
                 .superclass(lastSignature.superType)
@@ -118,18 +118,19 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
+                .addMethod(buildGetShapeInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
-                .addMethod(buildLimit(lastSignature))
+                .addMethod(buildLimit(lastSignature, shapeTokens))
                 .addMethod(buildGetThis(lastSignature.returnClassType));
 
-        augmentSelectEndClass(builder, lastSignature);
+        augmentSelectEndClass(builder, lastSignature, shapeTokens);
 
-        maybeBuildOrderingBy(lastSignature, firstClusteringClassSignature.map(x -> x.fieldSignatureInfo), builder);
+        maybeBuildOrderingBy(lastSignature, firstClusteringClassSignature.map(x -> x.fieldSignatureInfo), builder, shapeTokens);
 
         return builder.build();
     }
 
-    public void maybeBuildOrderingBy(ClassSignatureInfo lastSignature, Optional<FieldSignatureInfo> fieldSignatureInfoOptional, TypeSpec.Builder builder) {
+    public void maybeBuildOrderingBy(ClassSignatureInfo lastSignature, Optional<FieldSignatureInfo> fieldSignatureInfoOptional, TypeSpec.Builder builder, ShapeTokens shapeTokens) {
         if (fieldSignatureInfoOptional.isPresent()) {
             final FieldSignatureInfo fieldSignatureInfo = fieldSignatureInfoOptional.get();
             final MethodSpec orderByAsc = MethodSpec
@@ -138,6 +139,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                     .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                     .returns(lastSignature.returnClassType)
                     .addStatement("where.orderBy($T.asc($S))", QUERY_BUILDER, fieldSignatureInfo.cqlColumn)
+                    .addStatement("shape.append($L)", shapeTokens.next())
                     .addStatement("return this")
                     .build();
 
@@ -147,6 +149,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                     .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                     .returns(lastSignature.returnClassType)
                     .addStatement("where.orderBy($T.desc($S))", QUERY_BUILDER, fieldSignatureInfo.cqlColumn)
+                    .addStatement("shape.append($L)", shapeTokens.next())
                     .addStatement("return this")
                     .build();
 
@@ -154,13 +157,14 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
         }
     }
 
-    public MethodSpec buildLimit(ClassSignatureInfo lastSignature) {
+    public MethodSpec buildLimit(ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
         return MethodSpec.methodBuilder("limit")
                 .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>LIMIT :limit</strong>")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(TypeName.INT.box(), "limit", Modifier.FINAL)
                 .returns(lastSignature.returnClassType)
                 .addStatement("where.limit($T.bindMarker($S))", QUERY_BUILDER, "lim")
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", "limit")
                 .addStatement("encodedValues.add($N)", "limit")
                 .addStatement("return this")
@@ -171,13 +175,13 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
     public List<TypeSpec> buildWhereClassesForPartitionKeys(String rootClassName,
                                                             boolean buildTokenFunction,
                                                             ClassSignatureInfo lastSignature,
-                                                            List<ClassSignatureInfo> classesSignature) {
+                                                            List<ClassSignatureInfo> classesSignature, ShapeTokens shapeTokens) {
         final ColumnType columnType = classesSignature.get(0).columnType;
         if (columnType == ColumnType.CLUSTERING || columnType == null) {
             return new ArrayList<>();
         } else {
             final ClassSignatureInfo classSignature = classesSignature.remove(0);
-            final TypeSpec.Builder builder = buildSelectWhereForPartitionKey(rootClassName, classSignature, classesSignature.get(0));
+            final TypeSpec.Builder builder = buildSelectWhereForPartitionKey(rootClassName, classSignature, classesSignature.get(0), shapeTokens);
             final TypeSpec typeSpec;
             if (buildTokenFunction) {
                 final List<String> partitionKeyColumns = new ArrayList<>(classesSignature
@@ -186,12 +190,12 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                         .map(x -> x.fieldSignatureInfo.quotedCqlColumn)
                         .collect(toList()));
                 partitionKeyColumns.add(0, classSignature.fieldSignatureInfo.quotedCqlColumn);
-                typeSpec = augmentWithTokenValueRelationClass(rootClassName, builder, lastSignature, classSignature, partitionKeyColumns);
+                typeSpec = augmentWithTokenValueRelationClass(rootClassName, builder, lastSignature, classSignature, partitionKeyColumns, shapeTokens);
             } else {
                 typeSpec = builder.build();
             }
 
-            final List<TypeSpec> typeSpecs = buildWhereClassesForPartitionKeys(rootClassName, false, lastSignature, classesSignature);
+            final List<TypeSpec> typeSpecs = buildWhereClassesForPartitionKeys(rootClassName, false, lastSignature, classesSignature, shapeTokens);
             typeSpecs.add(0, typeSpec);
             return typeSpecs;
         }
@@ -201,7 +205,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                                                        TypeSpec.Builder builder,
                                                        ClassSignatureInfo nextClassSignatureForTokenFunction,
                                                        ClassSignatureInfo classSignature,
-                                                       List<String> partitionKeyColumns) {
+                                                       List<String> partitionKeyColumns, ShapeTokens shapeTokens) {
 
         TypeName relationClassTypeName = ClassName.get(DSL_PACKAGE, rootClassName
                 + "." + classSignature.className
@@ -209,15 +213,15 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
 
         final TypeSpec tokenClass = TypeSpec.classBuilder(DSL_TOKEN)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildTokenValueRelation(EQ, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW))
-                .addMethod(buildTokenValueRelation(GT, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW))
-                .addMethod(buildTokenValueRelation(GTE, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW))
-                .addMethod(buildTokenValueRelation(LT, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW))
-                .addMethod(buildTokenValueRelation(LTE, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW))
-                .addMethod(buildDoubleTokenValueRelation(GT, LT, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW))
-                .addMethod(buildDoubleTokenValueRelation(GT, LTE, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW))
-                .addMethod(buildDoubleTokenValueRelation(GTE, LT, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW))
-                .addMethod(buildDoubleTokenValueRelation(GTE, LTE, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW))
+                .addMethod(buildTokenValueRelation(EQ, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW, shapeTokens))
+                .addMethod(buildTokenValueRelation(GT, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW, shapeTokens))
+                .addMethod(buildTokenValueRelation(GTE, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW, shapeTokens))
+                .addMethod(buildTokenValueRelation(LT, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW, shapeTokens))
+                .addMethod(buildTokenValueRelation(LTE, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW, shapeTokens))
+                .addMethod(buildDoubleTokenValueRelation(GT, LT, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW, shapeTokens))
+                .addMethod(buildDoubleTokenValueRelation(GT, LTE, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW, shapeTokens))
+                .addMethod(buildDoubleTokenValueRelation(GTE, LT, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW, shapeTokens))
+                .addMethod(buildDoubleTokenValueRelation(GTE, LTE, nextClassSignatureForTokenFunction.returnClassType, partitionKeyColumns, ReturnType.NEW, shapeTokens))
                 .build();
 
         final String methodName = partitionKeyColumns.stream().collect(Collectors.joining("_", "tokenValueOf_", "")).replaceAll("\"", "");
@@ -231,7 +235,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
 
     public TypeSpec.Builder buildSelectWhereForPartitionKey(String rootClassName,
                                                     ClassSignatureInfo classSignature,
-                                                    ClassSignatureInfo nextSignature) {
+                                                    ClassSignatureInfo nextSignature, ShapeTokens shapeTokens) {
 
         FieldSignatureInfo partitionInfo = classSignature.fieldSignatureInfo;
 
@@ -241,10 +245,10 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
 
         final TypeSpec.Builder relationClassBuilder = TypeSpec.classBuilder(DSL_RELATION)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildColumnRelation(EQ, nextSignature.returnClassType, partitionInfo, ReturnType.NEW))
-                .addMethod(buildColumnInVarargs(nextSignature.returnClassType, partitionInfo, ReturnType.NEW));
+                .addMethod(buildColumnRelation(EQ, nextSignature.returnClassType, partitionInfo, ReturnType.NEW, shapeTokens))
+                .addMethod(buildColumnInVarargs(nextSignature.returnClassType, partitionInfo, ReturnType.NEW, shapeTokens));
 
-        augmentRelationClassForWhereClause(relationClassBuilder, partitionInfo, nextSignature, ReturnType.NEW);
+        augmentRelationClassForWhereClause(relationClassBuilder, partitionInfo, nextSignature, ReturnType.NEW, shapeTokens);
 
         return TypeSpec.classBuilder(classSignature.className)
                 .superclass(classSignature.superType)
@@ -258,14 +262,14 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
     public List<TypeSpec> buildWhereClassesForClusteringColumns(EntityMetaSignature signature,
                                                                 Optional<ClassSignatureInfo> firstClusteringClassSignature,
                                                                 List<ClassSignatureInfo> classesSignature,
-                                                                ClassSignatureInfo lastSignature) {
+                                                                ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
         if (classesSignature.get(0).columnType == null) {
             return new ArrayList<>();
         } else {
             final List<ClassSignatureInfo> copyClassesSignature = new ArrayList<>(classesSignature);
             classesSignature.remove(0);
-            final TypeSpec currentType = buildSelectWhereForClusteringColumn(signature, firstClusteringClassSignature, copyClassesSignature, lastSignature).build();
-            final List<TypeSpec> typeSpecs = buildWhereClassesForClusteringColumns(signature, firstClusteringClassSignature, classesSignature, lastSignature);
+            final TypeSpec currentType = buildSelectWhereForClusteringColumn(signature, firstClusteringClassSignature, copyClassesSignature, lastSignature, shapeTokens).build();
+            final List<TypeSpec> typeSpecs = buildWhereClassesForClusteringColumns(signature, firstClusteringClassSignature, classesSignature, lastSignature, shapeTokens);
             typeSpecs.add(0, currentType);
             return typeSpecs;
         }
@@ -274,7 +278,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
     public TypeSpec.Builder buildSelectWhereForClusteringColumn(EntityMetaSignature signature,
                                                         Optional<ClassSignatureInfo> firstClusteringClassSignature,
                                                         List<ClassSignatureInfo> classesSignature,
-                                                        ClassSignatureInfo lastSignature) {
+                                                        ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
 
         final String rootClassName = signature.selectClassName();
         final ClassSignatureInfo classSignature = classesSignature.get(0);
@@ -294,18 +298,19 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
+                .addMethod(buildGetShapeInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
-                .addMethod(buildLimit(classSignature));
+                .addMethod(buildLimit(classSignature, shapeTokens));
 
 //        augmentClusteringWhereClass(builder, rootClassName, classesSignature, lastSignature);
 
         TypeSpec.Builder relationClassBuilder = TypeSpec.classBuilder(DSL_RELATION)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildColumnRelation(EQ, nextSignature.returnClassType, clusteringColumnInfo, ReturnType.NEW));
+                .addMethod(buildColumnRelation(EQ, nextSignature.returnClassType, clusteringColumnInfo, ReturnType.NEW, shapeTokens));
 
-        addSingleColumnSliceRestrictions(relationClassBuilder, clusteringColumnInfo, nextSignature, lastSignature, ReturnType.NEW);
+        addSingleColumnSliceRestrictions(relationClassBuilder, clusteringColumnInfo, nextSignature, lastSignature, ReturnType.NEW, shapeTokens);
 
-        augmentRelationClassForWhereClause(relationClassBuilder, clusteringColumnInfo, nextSignature, ReturnType.NEW);
+        augmentRelationClassForWhereClause(relationClassBuilder, clusteringColumnInfo, nextSignature, ReturnType.NEW, shapeTokens);
 
         builder.addType(relationClassBuilder.build());
         builder.addMethod(buildRelationMethod(clusteringColumnInfo.fieldName, relationClassTypeName));
@@ -317,9 +322,9 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
 
         addMultipleColumnsSliceRestrictions(builder, parentClassName,
                 classesSignatureCopy.stream().map(x -> x.fieldSignatureInfo).collect(toList()),
-                lastSignature, ReturnType.NEW);
+                lastSignature, ReturnType.NEW, shapeTokens);
 
-        maybeBuildOrderingBy(classSignature, firstClusteringClassSignature.map(x -> x.fieldSignatureInfo), builder);
+        maybeBuildOrderingBy(classSignature, firstClusteringClassSignature.map(x -> x.fieldSignatureInfo), builder, shapeTokens);
 
         return builder;
     }
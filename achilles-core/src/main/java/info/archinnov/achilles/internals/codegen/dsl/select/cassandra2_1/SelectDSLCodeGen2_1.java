@@ -25,7 +25,7 @@ import info.archinnov.achilles.internals.parser.context.GlobalParsingContext;
 public class SelectDSLCodeGen2_1 extends SelectDSLCodeGen {
 
     @Override
-    public void augmentSelectClass(GlobalParsingContext context, EntityMetaCodeGen.EntityMetaSignature signature, TypeSpec.Builder builder) {
+    public void augmentSelectClass(GlobalParsingContext context, EntityMetaCodeGen.EntityMetaSignature signature, TypeSpec.Builder builder, ShapeTokens shapeTokens) {
         // No Op
     }
 }
@@ -28,7 +28,7 @@ import info.archinnov.achilles.internals.parser.context.GlobalParsingContext;
 
 public class SelectWhereDSLCodeGen2_1 extends SelectWhereDSLCodeGen {
     @Override
-    public void augmentSelectEndClass(TypeSpec.Builder selectEndClassBuilder, ClassSignatureInfo lastSignature) {
+    public void augmentSelectEndClass(TypeSpec.Builder selectEndClassBuilder, ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
         //NO Op
     }
 
@@ -36,12 +36,12 @@ public class SelectWhereDSLCodeGen2_1 extends SelectWhereDSLCodeGen {
     public List<TypeSpec> generateExtraWhereClasses(GlobalParsingContext context,
                                                     EntityMetaCodeGen.EntityMetaSignature signature,
                                                     List<FieldSignatureInfo> partitionKeys,
-                                                    List<FieldSignatureInfo> clusteringCols) {
+                                                    List<FieldSignatureInfo> clusteringCols, ShapeTokens shapeTokens) {
         return Collections.emptyList();
     }
 
     @Override
-    public void augmentRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder, FieldSignatureInfo fieldSignatureInfo, ClassSignatureInfo nextSignature, ReturnType returnType) {
+    public void augmentRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder, FieldSignatureInfo fieldSignatureInfo, ClassSignatureInfo nextSignature, ReturnType returnType, ShapeTokens shapeTokens) {
         // No Op
     }
 
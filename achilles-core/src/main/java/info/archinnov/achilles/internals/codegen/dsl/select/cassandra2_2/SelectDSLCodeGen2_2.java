@@ -34,7 +34,7 @@ public class SelectDSLCodeGen2_2 extends SelectDSLCodeGen
         implements JSONFunctionCallSupport {
 
     @Override
-    public void augmentSelectClass(GlobalParsingContext context, EntityMetaCodeGen.EntityMetaSignature signature, TypeSpec.Builder builder) {
+    public void augmentSelectClass(GlobalParsingContext context, EntityMetaCodeGen.EntityMetaSignature signature, TypeSpec.Builder builder, ShapeTokens shapeTokens) {
 
         TypeName selectFromJSONTypeName = ClassName.get(DSL_PACKAGE, signature.selectFromJSONReturnType());
 
@@ -52,8 +52,8 @@ public class SelectDSLCodeGen2_2 extends SelectDSLCodeGen
         TypeName selectEndJSONTypeName = ClassName.get(DSL_PACKAGE, signature.selectEndJSONReturnType());
 
         final String className = FROM_JSON_DSL_SUFFIX;
-        builder.addType(buildSelectFromJSON(signature, className, selectWhereJSONTypeName, selectEndJSONTypeName).build());
-        builder.addMethod(buildAllColumnsJSON(selectFromJSONTypeName, SELECT_DOT_WHERE, "select"));
-        builder.addMethod(buildAllColumnsJSONWithSchemaProvider(selectFromJSONTypeName, SELECT_DOT_WHERE, "select"));
+        builder.addType(buildSelectFromJSON(signature, className, selectWhereJSONTypeName, selectEndJSONTypeName, shapeTokens).build());
+        builder.addMethod(buildAllColumnsJSON(selectFromJSONTypeName, SELECT_DOT_WHERE, "select", shapeTokens));
+        builder.addMethod(buildAllColumnsJSONWithSchemaProvider(selectFromJSONTypeName, SELECT_DOT_WHERE, "select", shapeTokens));
     }
 }
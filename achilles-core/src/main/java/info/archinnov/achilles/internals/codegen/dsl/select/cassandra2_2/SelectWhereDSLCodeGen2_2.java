@@ -32,7 +32,7 @@ public class SelectWhereDSLCodeGen2_2 extends SelectWhereDSLCodeGen
         implements JSONFunctionCallSupport {
 
     @Override
-    public void augmentSelectEndClass(TypeSpec.Builder selectEndClassBuilder, ClassSignatureInfo lastSignature) {
+    public void augmentSelectEndClass(TypeSpec.Builder selectEndClassBuilder, ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
         //No Op
     }
 
@@ -40,21 +40,21 @@ public class SelectWhereDSLCodeGen2_2 extends SelectWhereDSLCodeGen
     public List<TypeSpec> generateExtraWhereClasses(GlobalParsingContext context,
                                                     EntityMetaCodeGen.EntityMetaSignature signature,
                                                     List<FieldSignatureInfo> partitionKeys,
-                                                    List<FieldSignatureInfo> clusteringCols) {
+                                                    List<FieldSignatureInfo> clusteringCols, ShapeTokens shapeTokens) {
         final ClassSignatureParams jsonClassSignatureParams = ClassSignatureParams.of(SELECT_DSL_SUFFIX,
                 WHERE_JSON_DSL_SUFFIX, END_JSON_DSL_SUFFIX,
                 ABSTRACT_SELECT_WHERE_PARTITION_JSON, ABSTRACT_SELECT_WHERE_JSON);
 
         return buildWhereClassesInternal(signature, context.selectWhereDSLCodeGen(),
                 partitionKeys, clusteringCols,
-                jsonClassSignatureParams);
+                jsonClassSignatureParams, shapeTokens);
 
     }
 
     @Override
     public void augmentRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder,
                                                    FieldSignatureInfo fieldInfo,
-                                                   ClassSignatureInfo nextSignature, ReturnType returnType) {
-        buildEqFromJSONToRelationClass(relationClassBuilder, fieldInfo, nextSignature);
+                                                   ClassSignatureInfo nextSignature, ReturnType returnType, ShapeTokens shapeTokens) {
+        buildEqFromJSONToRelationClass(relationClassBuilder, fieldInfo, nextSignature, shapeTokens);
     }
 }
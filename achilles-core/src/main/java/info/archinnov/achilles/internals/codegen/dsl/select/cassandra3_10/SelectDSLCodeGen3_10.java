@@ -36,28 +36,28 @@ import info.archinnov.achilles.type.tuples.Tuple2;
 public class SelectDSLCodeGen3_10 extends SelectDSLCodeGen2_2 {
 
     @Override
-    public TypeSpec.Builder buildSelectFrom(EntityMetaSignature signature, String firstPartitionKey) {
-        final TypeSpec.Builder builder = super.buildSelectFrom(signature, firstPartitionKey);
-        addGroupBy(signature, builder, FROM_DSL_SUFFIX);
+    public TypeSpec.Builder buildSelectFrom(EntityMetaSignature signature, String firstPartitionKey, ShapeTokens shapeTokens) {
+        final TypeSpec.Builder builder = super.buildSelectFrom(signature, firstPartitionKey, shapeTokens);
+        addGroupBy(signature, builder, FROM_DSL_SUFFIX, shapeTokens);
 
         return builder;
     }
 
     @Override
-    public TypeSpec.Builder buildSelectFromTypedMap(EntityMetaSignature signature, String firstPartitionKey) {
-        final TypeSpec.Builder builder = super.buildSelectFromTypedMap(signature, firstPartitionKey);
-        addGroupBy(signature, builder, FROM_TYPED_MAP_DSL_SUFFIX);
+    public TypeSpec.Builder buildSelectFromTypedMap(EntityMetaSignature signature, String firstPartitionKey, ShapeTokens shapeTokens) {
+        final TypeSpec.Builder builder = super.buildSelectFromTypedMap(signature, firstPartitionKey, shapeTokens);
+        addGroupBy(signature, builder, FROM_TYPED_MAP_DSL_SUFFIX, shapeTokens);
         return builder;
     }
 
     @Override
-    public TypeSpec.Builder buildSelectFromJSON(EntityMetaSignature signature, String className, TypeName selectWhereJSONTypeName, TypeName selectEndJSONTypeName) {
-        final TypeSpec.Builder builder = super.buildSelectFromJSON(signature, className, selectWhereJSONTypeName, selectEndJSONTypeName);
-        addGroupBy(signature, builder, FROM_JSON_DSL_SUFFIX);
+    public TypeSpec.Builder buildSelectFromJSON(EntityMetaSignature signature, String className, TypeName selectWhereJSONTypeName, TypeName selectEndJSONTypeName, ShapeTokens shapeTokens) {
+        final TypeSpec.Builder builder = super.buildSelectFromJSON(signature, className, selectWhereJSONTypeName, selectEndJSONTypeName, shapeTokens);
+        addGroupBy(signature, builder, FROM_JSON_DSL_SUFFIX, shapeTokens);
         return builder;
     }
 
-    private void addGroupBy(EntityMetaSignature signature, TypeSpec.Builder builder, String DSLSuffix) {
+    private void addGroupBy(EntityMetaSignature signature, TypeSpec.Builder builder, String DSLSuffix, ShapeTokens shapeTokens) {
         final TypeName selectEndTypeName = ClassName.get(DSL_PACKAGE, signature.selectEndReturnType());
 
         final TypeName groupByClassTypeName = ClassName.get(DSL_PACKAGE, signature.selectClassName()
@@ -93,6 +93,7 @@ public class SelectDSLCodeGen3_10 extends SelectDSLCodeGen2_2 {
                 .addJavadoc("SELECT ... FROM ... WHERE ... GROUP BY $L", partitionCQLColumnsForJavaDoc)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addStatement("where.groupBy($L)", partitionCQLColumns)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("return new $T(where, cassandraOptions)", selectEndTypeName)
                 .returns(selectEndTypeName)
                 .build());
@@ -127,6 +128,7 @@ public class SelectDSLCodeGen3_10 extends SelectDSLCodeGen2_2 {
                     .addJavadoc("SELECT ... FROM ... WHERE ... GROUP BY $L", groupByColumnsForJavaDoc)
                     .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                     .addStatement("where.groupBy($L)", groupByColumns)
+                    .addStatement("shape.append($L)", shapeTokens.next())
                     .addStatement("return new $T(where, cassandraOptions)", selectEndTypeName)
                     .returns(selectEndTypeName)
                     .build());
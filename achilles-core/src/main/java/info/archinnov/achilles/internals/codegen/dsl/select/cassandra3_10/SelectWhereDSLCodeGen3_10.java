@@ -41,15 +41,15 @@ public class SelectWhereDSLCodeGen3_10 extends SelectWhereDSLCodeGen3_6 {
     public TypeSpec.Builder buildSelectWhereForClusteringColumn(EntityMetaCodeGen.EntityMetaSignature signature,
                                                                 Optional<ClassSignatureInfo> firstClusteringClassSignature,
                                                                 List<ClassSignatureInfo> classesSignature,
-                                                                ClassSignatureInfo lastSignature) {
-        final TypeSpec.Builder builder = super.buildSelectWhereForClusteringColumn(signature, firstClusteringClassSignature, classesSignature, lastSignature);
+                                                                ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
+        final TypeSpec.Builder builder = super.buildSelectWhereForClusteringColumn(signature, firstClusteringClassSignature, classesSignature, lastSignature, shapeTokens);
 
         final String rootClassName = signature.selectClassName();
-        addGroupBy(builder, rootClassName, classesSignature, lastSignature);
+        addGroupBy(builder, rootClassName, classesSignature, lastSignature, shapeTokens);
         return builder;
     }
 
-    private void addGroupBy(TypeSpec.Builder clusteringClassBuilder, String rootClassName, List<ClassSignatureInfo> originalClassesSignature, ClassSignatureInfo lastSignature) {
+    private void addGroupBy(TypeSpec.Builder clusteringClassBuilder, String rootClassName, List<ClassSignatureInfo> originalClassesSignature, ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
 
         final LinkedList<ClassSignatureInfo> classesSignature = new LinkedList<>(originalClassesSignature);
 
@@ -94,6 +94,7 @@ public class SelectWhereDSLCodeGen3_10 extends SelectWhereDSLCodeGen3_6 {
                     .addJavadoc("SELECT ... FROM ... WHERE ... GROUP BY $L", groupByColumnsForJavaDoc)
                     .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                     .addStatement("where.groupBy($L)", groupByColumns)
+                    .addStatement("shape.append($L)", shapeTokens.next())
                     .addStatement("return new $T(where, cassandraOptions)", lastSignature.returnClassType)
                     .returns(lastSignature.returnClassType)
                     .build());
@@ -29,7 +29,7 @@ import info.archinnov.achilles.internals.codegen.dsl.select.cassandra2_2.SelectW
 public class SelectWhereDSLCodeGen3_6 extends SelectWhereDSLCodeGen2_2 {
 
     @Override
-    public void augmentSelectEndClass(TypeSpec.Builder selectEndClassBuilder, ClassSignatureInfo lastSignature) {
+    public void augmentSelectEndClass(TypeSpec.Builder selectEndClassBuilder, ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
 
         selectEndClassBuilder.addMethod(MethodSpec.methodBuilder("perPartitionLimit")
             .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>PER PARTITION LIMIT :perPartitionLimit</strong>")
@@ -37,6 +37,7 @@ public class SelectWhereDSLCodeGen3_6 extends SelectWhereDSLCodeGen2_2 {
             .addParameter(TypeName.INT.box(), "perPartitionLimit", Modifier.FINAL)
             .returns(lastSignature.returnClassType)
             .addStatement("where.perPartitionLimit($T.bindMarker($S))", QUERY_BUILDER, "perPartitionLimit")
+            .addStatement("shape.append($L)", shapeTokens.next())
             .addStatement("boundValues.add($N)", "perPartitionLimit")
             .addStatement("encodedValues.add($N)", "perPartitionLimit")
             .addStatement("return this")
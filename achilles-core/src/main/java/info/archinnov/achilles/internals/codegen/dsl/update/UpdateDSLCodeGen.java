@@ -41,10 +41,12 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
     protected abstract void augmentUpdateRelationClass(ParentSignature parentSignature,
                                                        FieldMetaSignature parsingResult,
                                                        TypeName newTypeName,
-                                                       ReturnType returnType);
+                                                       ReturnType returnType, ShapeTokens shapeTokens);
 
     public TypeSpec buildUpdateClass(AptUtils aptUtils, EntityMetaSignature signature, UpdateWhereDSLCodeGen updateWhereDSLCodeGen) {
 
+        final ShapeTokens shapeTokens = new ShapeTokens();
+
         final String firstPartitionKey = signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType == ColumnType.PARTITION)
@@ -69,20 +71,22 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addMethod(buildUpdateConstructor(signature))
                 .addField(buildExactEntityMetaField(signature))
                 .addField(buildEntityClassField(signature))
-                .addMethod(buildFromBaseTableMethod(updateFromTypeName))
-                .addMethod(buildFromSchemaProviderMethod(updateFromTypeName))
+                .addMethod(buildFromBaseTableMethod(updateFromTypeName, shapeTokens))
+                .addMethod(buildFromSchemaProviderMethod(updateFromTypeName, shapeTokens))
                 .addType(buildUpdateColumns(aptUtils, signature, COLUMNS_DSL_SUFFIX,
-                        updateColumnsTypeName, updateWhereTypeName, candidateColumns))
-                .addType(buildUpdateFrom(aptUtils, signature, FROM_DSL_SUFFIX, updateColumnsTypeName, candidateColumns));
+                        updateColumnsTypeName, updateWhereTypeName, candidateColumns, shapeTokens))
+                .addType(buildUpdateFrom(aptUtils, signature, FROM_DSL_SUFFIX, updateColumnsTypeName, candidateColumns, shapeTokens));
 
 
-        updateWhereDSLCodeGen.buildWhereClasses(signature).forEach(builder::addType);
+        updateWhereDSLCodeGen.buildWhereClasses(signature, shapeTokens).forEach(builder::addType);
 
         return builder.build();
     }
 
     public TypeSpec buildUpdateStaticClass(AptUtils aptUtils, EntityMetaSignature signature, UpdateWhereDSLCodeGen updateWhereDSLCodeGen) {
 
+        final ShapeTokens shapeTokens = new ShapeTokens();
+
         final String firstPartitionKey = signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType == ColumnType.PARTITION)
@@ -106,14 +110,14 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addMethod(buildUpdateConstructor(signature))
                 .addField(buildExactEntityMetaField(signature))
                 .addField(buildEntityClassField(signature))
-                .addMethod(buildFromBaseTableMethod(updateStaticFromTypeName))
-                .addMethod(buildFromSchemaProviderMethod(updateStaticFromTypeName))
+                .addMethod(buildFromBaseTableMethod(updateStaticFromTypeName, shapeTokens))
+                .addMethod(buildFromSchemaProviderMethod(updateStaticFromTypeName, shapeTokens))
                 .addType(buildUpdateColumns(aptUtils, signature, COLUMNS_DSL_SUFFIX,
-                        updateStaticColumnsTypeName, updateStaticWhereTypeName, candidateColumns))
-                .addType(buildUpdateFrom(aptUtils, signature, FROM_DSL_SUFFIX, updateStaticColumnsTypeName, candidateColumns));
+                        updateStaticColumnsTypeName, updateStaticWhereTypeName, candidateColumns, shapeTokens))
+                .addType(buildUpdateFrom(aptUtils, signature, FROM_DSL_SUFFIX, updateStaticColumnsTypeName, candidateColumns, shapeTokens));
 
 
-        updateWhereDSLCodeGen.buildWhereClassesForStatic(signature).forEach(builder::addType);
+        updateWhereDSLCodeGen.buildWhereClassesForStatic(signature, shapeTokens).forEach(builder::addType);
 
         return builder.build();
     }
@@ -132,7 +136,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
 
     }
 
-    public MethodSpec buildFromSchemaProviderMethod(TypeName updateFromTypeName) {
+    public MethodSpec buildFromSchemaProviderMethod(TypeName updateFromTypeName, ShapeTokens shapeTokens) {
         return MethodSpec.methodBuilder("from")
                 .addJavadoc("Generate an UPDATE <strong>FROM</strong> ... using the given SchemaNameProvider")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
@@ -140,18 +144,21 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addStatement("final String currentKeyspace = lookupKeyspace(schemaNameProvider, meta.entityClass)")
                 .addStatement("final String currentTable = lookupTable(schemaNameProvider, meta.entityClass)")
                 .addStatement("final $T where = $T.update(currentKeyspace, currentTable).where()", UPDATE_DOT_WHERE, QUERY_BUILDER)
+                .addStatement("shape.from($L, currentKeyspace, currentTable)", shapeTokens.next())
                 .addStatement("return new $T(where, $T.withSchemaNameProvider(schemaNameProvider))", updateFromTypeName, OPTIONS)
                 .returns(updateFromTypeName)
                 .build();
     }
 
-    public MethodSpec buildFromBaseTableMethod(TypeName updateFromTypeName) {
+    public MethodSpec buildFromBaseTableMethod(TypeName updateFromTypeName, ShapeTokens shapeTokens) {
         return MethodSpec.methodBuilder("fromBaseTable")
                 .addJavadoc("Generate an UPDATE <strong>FROM</strong> ...")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addStatement("final String currentKeyspace = meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName())",
                         "unknown_keyspace_for_")
-                .addStatement("final $T where = $T.update(currentKeyspace, meta.getTableOrViewName()).where()", UPDATE_DOT_WHERE, QUERY_BUILDER)
+                .addStatement("final String currentTable = meta.getTableOrViewName()")
+                .addStatement("final $T where = $T.update(currentKeyspace, currentTable).where()", UPDATE_DOT_WHERE, QUERY_BUILDER)
+                .addStatement("shape.from($L, currentKeyspace, currentTable)", shapeTokens.next())
                 .addStatement("return new $T(where, new $T())", updateFromTypeName, OPTIONS)
                 .returns(updateFromTypeName)
                 .build();
@@ -160,7 +167,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
     public TypeSpec buildUpdateFrom(AptUtils aptUtils, EntityMetaSignature signature,
                                             String updateFromClassName,
                                             TypeName updateColumnsTypeName,
-                                            List<ColumnType> candidateColumns) {
+                                            List<ColumnType> candidateColumns, ShapeTokens shapeTokens) {
 
 
         final TypeSpec.Builder builder = TypeSpec.classBuilder(updateFromClassName)
@@ -176,7 +183,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .stream()
                 .filter(x -> candidateColumns.contains(x.context.columnType))
                 .forEach(x -> buildUpdateColumnMethods(ParentSignature.of(aptUtils, builder, updateFromClassName, Optional.empty(), Optional.empty()),
-                        updateColumnsTypeName, x, ReturnType.NEW));
+                        updateColumnsTypeName, x, ReturnType.NEW, shapeTokens));
 
         return builder.build();
     }
@@ -185,7 +192,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                                                String updateColumnsClassName,
                                                TypeName updateColumnsTypeName,
                                                TypeName updateWhereTypeName,
-                                               List<ColumnType> candidateColumns) {
+                                               List<ColumnType> candidateColumns, ShapeTokens shapeTokens) {
 
 
         final TypeSpec.Builder builder = TypeSpec.classBuilder(updateColumnsClassName)
@@ -201,7 +208,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .stream()
                 .filter(x -> candidateColumns.contains(x.context.columnType))
                 .forEach(x -> buildUpdateColumnMethods(ParentSignature.of(aptUtils, builder, updateColumnsClassName, Optional.empty(), Optional.empty()),
-                        updateColumnsTypeName, x, ReturnType.THIS));
+                        updateColumnsTypeName, x, ReturnType.THIS, shapeTokens));
 
         builder.addMethod(MethodSpec.methodBuilder("where")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
@@ -216,28 +223,28 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
     public void buildUpdateColumnMethods(ParentSignature parentSignature,
                                          TypeName nextTypeName,
                                          FieldMetaSignature fieldMeta,
-                                         ReturnType returnType) {
+                                         ReturnType returnType, ShapeTokens shapeTokens) {
 
         final ColumnType columnType = fieldMeta.context.columnType;
         final boolean isCounterColumn = columnType == COUNTER || columnType == STATIC_COUNTER;
 
         if (fieldMeta.isList()) {
-            buildMethodsForListUpdate(parentSignature, nextTypeName, fieldMeta, returnType);
+            buildMethodsForListUpdate(parentSignature, nextTypeName, fieldMeta, returnType, shapeTokens);
         } else if (fieldMeta.isSet()) {
-            buildMethodsForSetUpdate(parentSignature, nextTypeName, fieldMeta, returnType);
+            buildMethodsForSetUpdate(parentSignature, nextTypeName, fieldMeta, returnType, shapeTokens);
         } else if (fieldMeta.isMap()) {
-            buildMethodsForMapUpdate(parentSignature, nextTypeName, fieldMeta, returnType);
+            buildMethodsForMapUpdate(parentSignature, nextTypeName, fieldMeta, returnType, shapeTokens);
         } else if (isCounterColumn) {
-            buildMethodsForCounterUpdate(parentSignature, nextTypeName, fieldMeta, returnType);
+            buildMethodsForCounterUpdate(parentSignature, nextTypeName, fieldMeta, returnType, shapeTokens);
         } else {
-            buildMethodForSimpleUpdate(parentSignature, nextTypeName, fieldMeta, returnType);
+            buildMethodForSimpleUpdate(parentSignature, nextTypeName, fieldMeta, returnType, shapeTokens);
         }
     }
 
     public void buildMethodForSimpleUpdate(ParentSignature parentSignature,
                                            TypeName newTypeName,
                                            FieldMetaSignature parsingResult,
-                                           ReturnType returnType) {
+                                           ReturnType returnType, ShapeTokens shapeTokens) {
 
         final String fieldName = parentSignature.parentFieldName
                 .map(x -> String.format("%s.udtClassProperty.%s",x, parsingResult.context.fieldName))
@@ -265,6 +272,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(sourceType, param, Modifier.FINAL)
                 .addStatement("where.with($T.of($S, $T.bindMarker($S)))",
                         NON_ESCAPING_ASSIGNMENT, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
                 .returns(newTypeName);
@@ -277,14 +285,14 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
 
         createRelationClassForColumn(parentSignature,
                 parsingResult, newTypeName,
-                returnType, Arrays.asList(builder.build()));
+                returnType, Arrays.asList(builder.build()), shapeTokens);
     }
 
 
     public void buildMethodsForListUpdate(ParentSignature parentSignature,
                                           TypeName newTypeName,
                                           FieldMetaSignature fieldMetaSignature,
-                                          ReturnType returnType) {
+                                          ReturnType returnType, ShapeTokens shapeTokens) {
 
         final String fieldName = parentSignature.parentFieldName
                 .map(x -> String.format("%s.udtClassProperty.%s",x, fieldMetaSignature.context.fieldName))
@@ -309,6 +317,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(nestedType, param, Modifier.FINAL)
                 .addStatement("where.with($T.appendAll($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($T.asList($N))", ARRAYS, param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($T.asList($N), $T.of(cassandraOptions)))", fieldName, ARRAYS, param, OPTIONAL)
                 .returns(newTypeName);
@@ -321,6 +330,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(sourceType, param, Modifier.FINAL)
                 .addStatement("where.with($T.appendAll($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
                 .returns(newTypeName);
@@ -333,6 +343,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(nestedType, param, Modifier.FINAL)
                 .addStatement("where.with($T.prependAll($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($T.asList($N))", ARRAYS, param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($T.asList($N), $T.of(cassandraOptions)))", fieldName, ARRAYS, param, OPTIONAL)
                 .returns(newTypeName);
@@ -345,6 +356,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(sourceType, param, Modifier.FINAL)
                 .addStatement("where.with($T.prependAll($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
                 .returns(newTypeName);
@@ -356,6 +368,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(nestedType, param, Modifier.FINAL)
                 .addStatement("where.with($T.setIdx($S, index, $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.markDynamic()")
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.valueProperty.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
                 .returns(newTypeName);
@@ -366,6 +379,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(TypeName.INT, "index", Modifier.FINAL)
                 .addStatement("where.with($T.setIdx($S, index, $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.markDynamic()")
                 .addStatement("boundValues.add(null)")
                 .addStatement("encodedValues.add(null)")
                 .returns(newTypeName);
@@ -377,6 +391,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(nestedType, param, Modifier.FINAL)
                 .addStatement("where.with($T.discardAll($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($T.asList($N))", ARRAYS, param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($T.asList($N), $T.of(cassandraOptions)))", fieldName, ARRAYS, param, OPTIONAL)
                 .returns(newTypeName);
@@ -388,6 +403,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(sourceType, param, Modifier.FINAL)
                 .addStatement("where.with($T.discardAll($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
                 .returns(newTypeName);
@@ -399,6 +415,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(sourceType, param, Modifier.FINAL)
                 .addStatement("where.with($T.of($S, $T.bindMarker($S)))",
                         NON_ESCAPING_ASSIGNMENT, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
                 .returns(newTypeName);
@@ -441,13 +458,13 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
 
         createRelationClassForColumn(parentSignature,
                 fieldMetaSignature, newTypeName,
-                returnType, updateMethods);
+                returnType, updateMethods, shapeTokens);
     }
 
     public void buildMethodsForSetUpdate(ParentSignature parentSignature,
                                          TypeName newTypeName,
                                          FieldMetaSignature fieldMetaSignature,
-                                         ReturnType returnType) {
+                                         ReturnType returnType, ShapeTokens shapeTokens) {
         final String fieldName = parentSignature.parentFieldName
                 .map(x -> String.format("%s.udtClassProperty.%s",x, fieldMetaSignature.context.fieldName))
                 .orElse(fieldMetaSignature.context.fieldName);
@@ -471,6 +488,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(nestedType, param, Modifier.FINAL)
                 .addStatement("where.with($T.addAll($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($T.newHashSet($N))", SETS, param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($T.newHashSet($N), $T.of(cassandraOptions)))", fieldName, SETS, param, OPTIONAL)
                 .returns(newTypeName);
@@ -482,6 +500,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(sourceType, param, Modifier.FINAL)
                 .addStatement("where.with($T.addAll($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
                 .returns(newTypeName);
@@ -493,6 +512,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(nestedType, param, Modifier.FINAL)
                 .addStatement("where.with($T.removeAll($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($T.newHashSet($N))", SETS, param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($T.newHashSet($N), $T.of(cassandraOptions)))", fieldName, SETS, param, OPTIONAL)
                 .returns(newTypeName);
@@ -504,6 +524,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(sourceType, param, Modifier.FINAL)
                 .addStatement("where.with($T.removeAll($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
                 .returns(newTypeName);
@@ -515,6 +536,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(sourceType, param, Modifier.FINAL)
                 .addStatement("where.with($T.of($S, $T.bindMarker($S)))",
                         NON_ESCAPING_ASSIGNMENT, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
                 .returns(newTypeName);
@@ -545,13 +567,13 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
 
         createRelationClassForColumn(parentSignature,
                 fieldMetaSignature, newTypeName,
-                returnType, updateMethods);
+                returnType, updateMethods, shapeTokens);
     }
 
     public void buildMethodsForMapUpdate(ParentSignature parentSignature,
                                          TypeName newTypeName,
                                          FieldMetaSignature fieldMetaSignature,
-                                         ReturnType returnType) {
+                                         ReturnType returnType, ShapeTokens shapeTokens) {
         final String fieldName = parentSignature.parentFieldName
                 .map(x -> String.format("%s.udtClassProperty.%s",x, fieldMetaSignature.context.fieldName))
                 .orElse(fieldMetaSignature.context.fieldName);
@@ -584,6 +606,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(nestedValueType, paramValue, Modifier.FINAL)
                 .addStatement("where.with($T.put($S, $T.bindMarker($S), $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, paramKey, QUERY_BUILDER, paramValue)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", paramKey)
                 .addStatement("boundValues.add($N)", paramValue)
                 .addStatement("encodedValues.add(meta.$L.keyProperty.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, paramKey, OPTIONAL)
@@ -597,6 +620,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(sourceType, param, Modifier.FINAL)
                 .addStatement("where.with($T.addAll($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
                 .returns(newTypeName);
@@ -608,6 +632,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(nestedKeyType, paramKey, Modifier.FINAL)
                 .addStatement("where.with($T.put($S, $T.bindMarker($S), $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, paramKey, QUERY_BUILDER, paramValue)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", paramKey)
                 .addStatement("boundValues.add(null)")
                 .addStatement("encodedValues.add(meta.$L.keyProperty.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, paramKey, OPTIONAL)
@@ -621,6 +646,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(sourceType, param, Modifier.FINAL)
                 .addStatement("where.with($T.of($S, $T.bindMarker($S)))",
                         NON_ESCAPING_ASSIGNMENT, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
                 .returns(newTypeName);
@@ -648,13 +674,13 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
 
         createRelationClassForColumn(parentSignature,
                 fieldMetaSignature, newTypeName,
-                returnType, updateMethods);
+                returnType, updateMethods, shapeTokens);
     }
 
     public void buildMethodsForCounterUpdate(ParentSignature parentSignature,
                                              TypeName newTypeName,
                                              FieldMetaSignature parsingResult,
-                                             ReturnType returnType) {
+                                             ReturnType returnType, ShapeTokens shapeTokens) {
         final String fieldName =parsingResult.context.fieldName;
         final String paramIncr = parsingResult.context.fieldName + "_increment";
         final String paramDecr = parsingResult.context.fieldName + "_decrement";
@@ -669,6 +695,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addStatement("where.with($T.incr($S))",
                         QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .returns(newTypeName);
 
         final MethodSpec.Builder incr = MethodSpec.methodBuilder("Incr")
@@ -678,6 +705,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(sourceType, paramIncr, Modifier.FINAL)
                 .addStatement("where.with($T.incr($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", paramIncr)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, paramIncr, OPTIONAL)
                 .returns(newTypeName);
@@ -687,6 +715,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addStatement("where.with($T.decr($S))",
                         QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .returns(newTypeName);
 
         final MethodSpec.Builder decr = MethodSpec.methodBuilder("Decr")
@@ -696,6 +725,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(sourceType, paramDecr, Modifier.FINAL)
                 .addStatement("where.with($T.decr($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", paramDecr)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, paramDecr, OPTIONAL)
                 .returns(newTypeName);
@@ -719,12 +749,12 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
 
         createRelationClassForColumn(parentSignature,
                 parsingResult, newTypeName,
-                returnType, updateMethods);
+                returnType, updateMethods, shapeTokens);
     }
 
 
     public void createRelationClassForColumn(ParentSignature parentSignature, FieldMetaSignature fieldSignature,
-                                             TypeName newTypeName, ReturnType returnType, List<MethodSpec> methods) {
+                                             TypeName newTypeName, ReturnType returnType, List<MethodSpec> methods, ShapeTokens shapeTokens) {
         final AptUtils aptUtils = parentSignature.aptUtils;
         final String parentClassName = parentSignature.parentClassName;
         final TypeSpec.Builder parentBuilder = parentSignature.parentBuilder;
@@ -740,7 +770,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 parentClassName + "." + fieldSignature.relationClassnameForUpdate(),
                 parentSignature.parentQuotedCQLColumn,
                 parentSignature.parentFieldName),
-                fieldSignature, newTypeName, returnType);
+                fieldSignature, newTypeName, returnType, shapeTokens);
 
         final TypeSpec relationClass = relationClassBuilder.build();
 
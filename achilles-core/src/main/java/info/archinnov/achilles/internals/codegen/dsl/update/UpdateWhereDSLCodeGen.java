@@ -44,13 +44,13 @@ public abstract class UpdateWhereDSLCodeGen extends AbstractDSLCodeGen
 
     public abstract void augmentPartitionKeyRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder,
                                                             FieldSignatureInfo fieldSignatureInfo,
-                                                            ClassSignatureInfo nextSignature);
+                                                            ClassSignatureInfo nextSignature, ShapeTokens shapeTokens);
 
     public abstract void augmentClusteringColRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder,
                                                                         FieldSignatureInfo fieldSignatureInfo,
-                                                                        ClassSignatureInfo nextSignature);
+                                                                        ClassSignatureInfo nextSignature, ShapeTokens shapeTokens);
 
-    public List<TypeSpec> buildWhereClasses(EntityMetaSignature signature) {
+    public List<TypeSpec> buildWhereClasses(EntityMetaSignature signature, ShapeTokens shapeTokens) {
         final List<FieldSignatureInfo> partitionKeys = getPartitionKeysSignatureInfo(signature.fieldMetaSignatures);
         final List<FieldSignatureInfo> clusteringCols = getClusteringColsSignatureInfo(signature.fieldMetaSignatures);
 
@@ -65,18 +65,18 @@ public abstract class UpdateWhereDSLCodeGen extends AbstractDSLCodeGen
         boolean hasCounter = hasCounter(signature);
         final ClassSignatureInfo lastSignature = classesSignature.get(classesSignature.size() - 1);
 
-        final List<TypeSpec> partitionKeysWhereClasses = buildWhereClassesForPartitionKeys(signature.updateClassName(), partitionKeys, classesSignature);
+        final List<TypeSpec> partitionKeysWhereClasses = buildWhereClassesForPartitionKeys(signature.updateClassName(), partitionKeys, classesSignature, shapeTokens);
 
-        final List<TypeSpec> clusteringColsWhereClasses = buildWhereClassesForClusteringColumns(signature.updateClassName(), clusteringCols, classesSignature);
+        final List<TypeSpec> clusteringColsWhereClasses = buildWhereClassesForClusteringColumns(signature.updateClassName(), clusteringCols, classesSignature, shapeTokens);
 
-        final TypeSpec updateEndClass = buildUpdateEndClass(signature, lastSignature, hasCounter);
+        final TypeSpec updateEndClass = buildUpdateEndClass(signature, lastSignature, hasCounter, shapeTokens);
 
         partitionKeysWhereClasses.addAll(clusteringColsWhereClasses);
         partitionKeysWhereClasses.add(updateEndClass);
         return partitionKeysWhereClasses;
     }
 
-    public List<TypeSpec> buildWhereClassesForStatic(EntityMetaSignature signature) {
+    public List<TypeSpec> buildWhereClassesForStatic(EntityMetaSignature signature, ShapeTokens shapeTokens) {
         final List<FieldSignatureInfo> partitionKeys = getPartitionKeysSignatureInfo(signature.fieldMetaSignatures);
         final List<FieldSignatureInfo> clusteringCols = getClusteringColsSignatureInfo(signature.fieldMetaSignatures);
 
@@ -91,9 +91,9 @@ public abstract class UpdateWhereDSLCodeGen extends AbstractDSLCodeGen
         boolean hasCounter = hasCounter(signature);
         final ClassSignatureInfo lastSignature = classesSignature.get(classesSignature.size() - 1);
 
-        final List<TypeSpec> partitionKeysWhereClasses = buildWhereClassesForPartitionKeys(signature.updateStaticClassName(), partitionKeys, classesSignature);
+        final List<TypeSpec> partitionKeysWhereClasses = buildWhereClassesForPartitionKeys(signature.updateStaticClassName(), partitionKeys, classesSignature, shapeTokens);
 
-        final TypeSpec updateEndClass = buildUpdateEndClass(signature, lastSignature, hasCounter);
+        final TypeSpec updateEndClass = buildUpdateEndClass(signature, lastSignature, hasCounter, shapeTokens);
 
         partitionKeysWhereClasses.add(updateEndClass);
         return partitionKeysWhereClasses;
@@ -101,7 +101,7 @@ public abstract class UpdateWhereDSLCodeGen extends AbstractDSLCodeGen
 
     public TypeSpec buildUpdateEndClass(EntityMetaSignature signature,
                                                 ClassSignatureInfo lastSignature,
-                                                boolean hasCounter) {
+                                                boolean hasCounter, ShapeTokens shapeTokens) {
 
         final TypeSpec.Builder builder = TypeSpec.classBuilder(lastSignature.className)
                 .superclass(lastSignature.superType)
@@ -112,17 +112,19 @@ public abstract class UpdateWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
+                .addMethod(buildGetShapeInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetEqPrimaryKeyValuesInternal())
                 .addMethod(buildGetThis(lastSignature.returnClassType));
 
-        buildLWtConditionMethods(signature, lastSignature.className, lastSignature, hasCounter, builder);
+        buildLWtConditionMethods(signature, lastSignature.className, lastSignature, hasCounter, builder, shapeTokens);
 
         return builder.build();
     }
 
     public List<TypeSpec> buildWhereClassesForPartitionKeys(String rootClassName,
                                                             List<FieldSignatureInfo> partitionKeys,
-                                                            List<ClassSignatureInfo> classesSignature) {
+                                                            List<ClassSignatureInfo> classesSignature, ShapeTokens shapeTokens) {
         if (partitionKeys.isEmpty()) {
             return new ArrayList<>();
         } else {
@@ -131,8 +133,8 @@ public abstract class UpdateWhereDSLCodeGen extends AbstractDSLCodeGen
             final ClassSignatureInfo nextSignature = classesSignature.get(1);
             partitionKeys.remove(0);
             classesSignature.remove(0);
-            final TypeSpec typeSpec = buildUpdateWhereForPartitionKey(rootClassName, partitionKeyInfo, currentSignature, nextSignature);
-            final List<TypeSpec> typeSpecs = buildWhereClassesForPartitionKeys(rootClassName, partitionKeys, classesSignature);
+            final TypeSpec typeSpec = buildUpdateWhereForPartitionKey(rootClassName, partitionKeyInfo, currentSignature, nextSignature, shapeTokens);
+            final List<TypeSpec> typeSpecs = buildWhereClassesForPartitionKeys(rootClassName, partitionKeys, classesSignature, shapeTokens);
             typeSpecs.add(0, typeSpec);
             return typeSpecs;
         }
@@ -141,7 +143,7 @@ public abstract class UpdateWhereDSLCodeGen extends AbstractDSLCodeGen
     public TypeSpec buildUpdateWhereForPartitionKey(String rootClassName,
                                                     FieldSignatureInfo partitionInfo,
                                                     ClassSignatureInfo classSignature,
-                                                    ClassSignatureInfo nextSignature) {
+                                                    ClassSignatureInfo nextSignature, ShapeTokens shapeTokens) {
 
         TypeName relationClassTypeName = ClassName.get(DSL_PACKAGE, rootClassName
                 + "." + classSignature.className
@@ -149,10 +151,10 @@ public abstract class UpdateWhereDSLCodeGen extends AbstractDSLCodeGen
 
         final TypeSpec.Builder relationClassBuilder = TypeSpec.classBuilder(DSL_RELATION)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildColumnRelation(EQ, nextSignature.returnClassType, partitionInfo, ReturnType.NEW))
-                .addMethod(buildColumnInVarargs(nextSignature.returnClassType, partitionInfo, ReturnType.NEW));
+                .addMethod(buildPrimaryKeyColumnEqRelation(nextSignature.returnClassType, partitionInfo, ReturnType.NEW, shapeTokens))
+                .addMethod(buildColumnInVarargs(nextSignature.returnClassType, partitionInfo, ReturnType.NEW, shapeTokens));
 
-        augmentPartitionKeyRelationClassForWhereClause(relationClassBuilder, partitionInfo, nextSignature);
+        augmentPartitionKeyRelationClassForWhereClause(relationClassBuilder, partitionInfo, nextSignature, shapeTokens);
 
         return TypeSpec.classBuilder(classSignature.className)
                 .superclass(classSignature.superType)
@@ -166,7 +168,7 @@ public abstract class UpdateWhereDSLCodeGen extends AbstractDSLCodeGen
 
     public List<TypeSpec> buildWhereClassesForClusteringColumns(String rootClassName,
                                                                 List<FieldSignatureInfo> clusteringCols,
-                                                                List<ClassSignatureInfo> classesSignature) {
+                                                                List<ClassSignatureInfo> classesSignature, ShapeTokens shapeTokens) {
         if (clusteringCols.isEmpty()) {
             return new ArrayList<>();
         } else {
@@ -176,8 +178,8 @@ public abstract class UpdateWhereDSLCodeGen extends AbstractDSLCodeGen
             clusteringCols.remove(0);
             classesSignature.remove(0);
             final TypeSpec currentType = buildUpdateWhereForClusteringColumn(rootClassName, clusteringColumnInfo, classSignature,
-                    nextSignature);
-            final List<TypeSpec> typeSpecs = buildWhereClassesForClusteringColumns(rootClassName, clusteringCols, classesSignature);
+                    nextSignature, shapeTokens);
+            final List<TypeSpec> typeSpecs = buildWhereClassesForClusteringColumns(rootClassName, clusteringCols, classesSignature, shapeTokens);
             typeSpecs.add(0, currentType);
             return typeSpecs;
         }
@@ -186,7 +188,7 @@ public abstract class UpdateWhereDSLCodeGen extends AbstractDSLCodeGen
     public TypeSpec buildUpdateWhereForClusteringColumn(String rootClassName,
                                                         FieldSignatureInfo clusteringColumnInfo,
                                                         ClassSignatureInfo classSignature,
-                                                        ClassSignatureInfo nextSignature) {
+                                                        ClassSignatureInfo nextSignature, ShapeTokens shapeTokens) {
 
         TypeName relationClassTypeName = ClassName.get(DSL_PACKAGE, rootClassName
                 + "." + classSignature.className
@@ -194,9 +196,9 @@ public abstract class UpdateWhereDSLCodeGen extends AbstractDSLCodeGen
 
         final TypeSpec.Builder relationClassBuilder = TypeSpec.classBuilder(DSL_RELATION)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildColumnRelation(EQ, nextSignature.returnClassType, clusteringColumnInfo, ReturnType.NEW));
+                .addMethod(buildPrimaryKeyColumnEqRelation(nextSignature.returnClassType, clusteringColumnInfo, ReturnType.NEW, shapeTokens));
 
-        augmentClusteringColRelationClassForWhereClause(relationClassBuilder, clusteringColumnInfo, nextSignature);
+        augmentClusteringColRelationClassForWhereClause(relationClassBuilder, clusteringColumnInfo, nextSignature, shapeTokens);
 
         return TypeSpec.classBuilder(classSignature.className)
                 .superclass(classSignature.superType)
@@ -24,7 +24,7 @@ import info.archinnov.achilles.internals.parser.FieldParser.FieldMetaSignature;
 public class UpdateDSLCodeGen2_1 extends UpdateDSLCodeGen {
     @Override
     protected void augmentUpdateRelationClass(ParentSignature parentSignature, FieldMetaSignature parsingResult,
-                                              TypeName newTypeName, ReturnType returnType) {
+                                              TypeName newTypeName, ReturnType returnType, ShapeTokens shapeTokens) {
         //NO Op
     }
 }
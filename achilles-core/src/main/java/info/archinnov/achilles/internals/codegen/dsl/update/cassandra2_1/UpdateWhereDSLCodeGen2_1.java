@@ -22,18 +22,18 @@ import info.archinnov.achilles.internals.codegen.dsl.update.UpdateWhereDSLCodeGe
 
 public class UpdateWhereDSLCodeGen2_1 extends UpdateWhereDSLCodeGen {
     @Override
-    public void augmentPartitionKeyRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder, FieldSignatureInfo fieldSignatureInfo, ClassSignatureInfo nextSignature) {
+    public void augmentPartitionKeyRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder, FieldSignatureInfo fieldSignatureInfo, ClassSignatureInfo nextSignature, ShapeTokens shapeTokens) {
         //NO Op
     }
 
     @Override
-    public void augmentClusteringColRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder, FieldSignatureInfo fieldSignatureInfo, ClassSignatureInfo nextSignature) {
+    public void augmentClusteringColRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder, FieldSignatureInfo fieldSignatureInfo, ClassSignatureInfo nextSignature, ShapeTokens shapeTokens) {
         //NO Op
     }
 
 
     @Override
-    public void augmentLWTConditionClass(TypeSpec.Builder conditionClassBuilder, FieldSignatureInfo fieldSignatureInfo, ClassSignatureInfo currentSignature) {
+    public void augmentLWTConditionClass(TypeSpec.Builder conditionClassBuilder, FieldSignatureInfo fieldSignatureInfo, ClassSignatureInfo currentSignature, ShapeTokens shapeTokens) {
         //NO Op
     }
 }
@@ -26,7 +26,7 @@ public class UpdateDSLCodeGen2_2 extends UpdateDSLCodeGen implements JSONFunctio
 
     @Override
     protected void augmentUpdateRelationClass(ParentSignature parentSignature, FieldMetaSignature fieldMeta,
-                                              TypeName newTypeName, ReturnType returnType) {
-        buildSetFromJSONToRelationClass(parentSignature, fieldMeta, newTypeName, returnType);
+                                              TypeName newTypeName, ReturnType returnType, ShapeTokens shapeTokens) {
+        buildSetFromJSONToRelationClass(parentSignature, fieldMeta, newTypeName, returnType, shapeTokens);
     }
 }
@@ -27,22 +27,22 @@ public class UpdateWhereDSLCodeGen2_2 extends UpdateWhereDSLCodeGen
     @Override
     public void augmentPartitionKeyRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder,
                                                                FieldSignatureInfo fieldInfo,
-                                                               ClassSignatureInfo nextSignature) {
-        buildEqFromJSONToRelationClass(relationClassBuilder, fieldInfo, nextSignature);
+                                                               ClassSignatureInfo nextSignature, ShapeTokens shapeTokens) {
+        buildEqFromJSONToRelationClass(relationClassBuilder, fieldInfo, nextSignature, shapeTokens);
     }
 
     @Override
     public void augmentClusteringColRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder,
                                                                 FieldSignatureInfo fieldInfo,
-                                                                ClassSignatureInfo nextSignature) {
-        buildEqFromJSONToRelationClass(relationClassBuilder, fieldInfo, nextSignature);
+                                                                ClassSignatureInfo nextSignature, ShapeTokens shapeTokens) {
+        buildEqFromJSONToRelationClass(relationClassBuilder, fieldInfo, nextSignature, shapeTokens);
     }
 
     @Override
     public void augmentLWTConditionClass(TypeSpec.Builder conditionClassBuilder,
                                          FieldSignatureInfo fieldSignatureInfo,
-                                         ClassSignatureInfo currentSignature) {
+                                         ClassSignatureInfo currentSignature, ShapeTokens shapeTokens) {
 
-        buildIfEqFromJSONToConditionClass(conditionClassBuilder, fieldSignatureInfo, currentSignature);
+        buildIfEqFromJSONToConditionClass(conditionClassBuilder, fieldSignatureInfo, currentSignature, shapeTokens);
     }
 }
@@ -23,9 +23,9 @@ import info.archinnov.achilles.internals.codegen.dsl.update.cassandra2_2.UpdateW
 public class UpdateWhereDSLCodeGen3_0 extends UpdateWhereDSLCodeGen2_2 {
 
     @Override
-    public void augmentClusteringColRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder, FieldSignatureInfo fieldInfo, ClassSignatureInfo nextSignature) {
-        super.augmentClusteringColRelationClassForWhereClause(relationClassBuilder, fieldInfo, nextSignature);
-        relationClassBuilder.addMethod(buildColumnInVarargs(nextSignature.returnClassType, fieldInfo, ReturnType.NEW));
+    public void augmentClusteringColRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder, FieldSignatureInfo fieldInfo, ClassSignatureInfo nextSignature, ShapeTokens shapeTokens) {
+        super.augmentClusteringColRelationClassForWhereClause(relationClassBuilder, fieldInfo, nextSignature, shapeTokens);
+        relationClassBuilder.addMethod(buildColumnInVarargs(nextSignature.returnClassType, fieldInfo, ReturnType.NEW, shapeTokens));
     }
 
 }
@@ -28,8 +28,8 @@ public class UpdateDSLCodeGen3_6 extends UpdateDSLCodeGen2_2 {
 
     @Override
     protected void augmentUpdateRelationClass(ParentSignature parentSignature,
-                                              FieldMetaSignature parsingResult, TypeName newTypeName, ReturnType returnType) {
-        super.augmentUpdateRelationClass(parentSignature, parsingResult, newTypeName, returnType);
+                                              FieldMetaSignature parsingResult, TypeName newTypeName, ReturnType returnType, ShapeTokens shapeTokens) {
+        super.augmentUpdateRelationClass(parentSignature, parsingResult, newTypeName, returnType, shapeTokens);
         final Optional<UDTMetaSignature> udtMetaSignature = parsingResult.udtMetaSignature;
 
         if (udtMetaSignature.isPresent() && !udtMetaSignature.get().isFrozen) {
@@ -44,7 +44,7 @@ public class UpdateDSLCodeGen3_6 extends UpdateDSLCodeGen2_2 {
                 buildUpdateColumnMethods(nestedParentSignature,
                         newTypeName,
                         udtFieldMeta,
-                        returnType);
+                        returnType, shapeTokens);
             }
 
         }
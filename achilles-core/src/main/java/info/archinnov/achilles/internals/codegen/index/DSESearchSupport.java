@@ -36,7 +36,7 @@ public interface DSESearchSupport {
                                                          AugmentRelationClassForWhereClauseLambda augmentRelationClassForWhereClauseLambda,
                                                          String parentClassName,
                                                          ClassSignatureInfo lastSignature,
-                                                         ReturnType returnType) {
+                                                         ReturnType returnType, ShapeTokens shapeTokens) {
 
         final List<IndexFieldSignatureInfo> dseSearchColumns = getDSESearchColsSignatureInfo(signature.fieldMetaSignatures);
 
@@ -54,36 +54,36 @@ public interface DSESearchSupport {
 
             if (targetType.equals(STRING)) {
                 if (dseSearchInfoContext.fullTextSearchEnabled) {
-                    relationClassBuilder.addMethod(buildDSETextStartWith(lastSignature.returnClassType, fieldInfo, returnType));
-                    relationClassBuilder.addMethod(buildDSETextEndWith(lastSignature.returnClassType, fieldInfo, returnType));
-                    relationClassBuilder.addMethod(buildDSETextContains(lastSignature.returnClassType, fieldInfo, returnType));
+                    relationClassBuilder.addMethod(buildDSETextStartWith(lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                    relationClassBuilder.addMethod(buildDSETextEndWith(lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                    relationClassBuilder.addMethod(buildDSETextContains(lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
                 }
-                relationClassBuilder.addMethod(buildDSESingleRelation(EQ, lastSignature.returnClassType, fieldInfo, returnType));
+                relationClassBuilder.addMethod(buildDSESingleRelation(EQ, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
             } else if (targetType.equals(JAVA_UTIL_DATE)) {
-                relationClassBuilder.addMethod(buildDSESingleDateRelation(EQ, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSESingleDateRelation(GT, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSESingleDateRelation(GTE, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSESingleDateRelation(LT, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSESingleDateRelation(LTE, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSEDoubleDateRelation(GT, LT, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSEDoubleDateRelation(GT, LTE, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSEDoubleDateRelation(GTE, LT, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSEDoubleDateRelation(GTE, LTE, lastSignature.returnClassType, fieldInfo, returnType));
+                relationClassBuilder.addMethod(buildDSESingleDateRelation(EQ, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSESingleDateRelation(GT, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSESingleDateRelation(GTE, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSESingleDateRelation(LT, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSESingleDateRelation(LTE, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSEDoubleDateRelation(GT, LT, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSEDoubleDateRelation(GT, LTE, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSEDoubleDateRelation(GTE, LT, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSEDoubleDateRelation(GTE, LTE, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
             } else {
-                relationClassBuilder.addMethod(buildDSESingleRelation(EQ, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSESingleRelation(GT, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSESingleRelation(GTE, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSESingleRelation(LT, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSESingleRelation(LTE, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSEDoubleRelation(GT, LT, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSEDoubleRelation(GT, LTE, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSEDoubleRelation(GTE, LT, lastSignature.returnClassType, fieldInfo, returnType));
-                relationClassBuilder.addMethod(buildDSEDoubleRelation(GTE, LTE, lastSignature.returnClassType, fieldInfo, returnType));
+                relationClassBuilder.addMethod(buildDSESingleRelation(EQ, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSESingleRelation(GT, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSESingleRelation(GTE, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSESingleRelation(LT, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSESingleRelation(LTE, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSEDoubleRelation(GT, LT, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSEDoubleRelation(GT, LTE, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSEDoubleRelation(GTE, LT, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
+                relationClassBuilder.addMethod(buildDSEDoubleRelation(GTE, LTE, lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
             }
 
-            relationClassBuilder.addMethod(buildDSERawPredicate(lastSignature.returnClassType, fieldInfo, returnType));
+            relationClassBuilder.addMethod(buildDSERawPredicate(lastSignature.returnClassType, fieldInfo, returnType, shapeTokens));
 
-            augmentRelationClassForWhereClauseLambda.augmentRelationClassForWhereClause(relationClassBuilder, fieldInfo, lastSignature, returnType);
+            augmentRelationClassForWhereClauseLambda.augmentRelationClassForWhereClause(relationClassBuilder, fieldInfo, lastSignature, returnType, shapeTokens);
 
             indexSelectWhereBuilder.addType(relationClassBuilder.build());
 
@@ -92,11 +92,11 @@ public interface DSESearchSupport {
 
         //Do not generate rawSolrQuery() method in SelectEnd
         if (returnType == ReturnType.NEW) {
-            indexSelectWhereBuilder.addMethod(buildDSERawSolrQuery(lastSignature.returnClassType));
+            indexSelectWhereBuilder.addMethod(buildDSERawSolrQuery(lastSignature.returnClassType, shapeTokens));
         }
     }
 
-    default MethodSpec buildDSETextStartWith(TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType) {
+    default MethodSpec buildDSETextStartWith(TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType, ShapeTokens shapeTokens) {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("StartWith")
                 .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>solr_query='$L:?*'</strong>", fieldInfo.quotedCqlColumn)
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
@@ -105,6 +105,7 @@ public interface DSESearchSupport {
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
                 .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($S + $N + $S)", fieldInfo.quotedCqlColumn + ":",
                         fieldInfo.fieldName, "*")
@@ -118,7 +119,7 @@ public interface DSESearchSupport {
         return builder.build();
     }
 
-    default MethodSpec buildDSETextEndWith(TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType) {
+    default MethodSpec buildDSETextEndWith(TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType, ShapeTokens shapeTokens) {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("EndWith")
                 .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>solr_query='$L:*?'</strong>", fieldInfo.quotedCqlColumn)
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
@@ -127,6 +128,7 @@ public interface DSESearchSupport {
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
                 .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($S + $N)", fieldInfo.quotedCqlColumn + ":*", fieldInfo.fieldName)
                 .returns(nextType);
@@ -139,7 +141,7 @@ public interface DSESearchSupport {
         return builder.build();
     }
 
-    default MethodSpec buildDSETextContains(TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType) {
+    default MethodSpec buildDSETextContains(TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType, ShapeTokens shapeTokens) {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("Contains")
                 .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>solr_query='$L:*?*'</strong>", fieldInfo.quotedCqlColumn)
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
@@ -148,6 +150,7 @@ public interface DSESearchSupport {
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
                 .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($S + $N + $S)", fieldInfo.quotedCqlColumn + ":*", fieldInfo.fieldName, "*")
                 .returns(nextType);
@@ -160,7 +163,7 @@ public interface DSESearchSupport {
         return builder.build();
     }
 
-    default MethodSpec buildDSESingleRelation(String relation, TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType) {
+    default MethodSpec buildDSESingleRelation(String relation, TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType, ShapeTokens shapeTokens) {
 
         final String param = fieldInfo.fieldName;
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(upperCaseFirst(relation))
@@ -171,6 +174,7 @@ public interface DSESearchSupport {
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
                 .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($T.format($S, $S, meta.$L.encodeFromJava($N, $T.of(cassandraOptions))))",
                         STRING, relationToSolrSyntaxForQuery(relation),
@@ -188,7 +192,7 @@ public interface DSESearchSupport {
         return builder.build();
     }
 
-    default MethodSpec buildDSESingleDateRelation(String relation, TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType) {
+    default MethodSpec buildDSESingleDateRelation(String relation, TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType, ShapeTokens shapeTokens) {
         final String param = fieldInfo.fieldName;
 
         final String queryString = relation.equals(EQ)
@@ -204,6 +208,7 @@ public interface DSESearchSupport {
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
                 .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($T.format($S, $S, dateFormat.format(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))))",
                         STRING, queryString,
@@ -220,7 +225,7 @@ public interface DSESearchSupport {
         return builder.build();
     }
 
-    default MethodSpec buildDSEDoubleRelation(String relation1, String relation2, TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType) {
+    default MethodSpec buildDSEDoubleRelation(String relation1, String relation2, TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType, ShapeTokens shapeTokens) {
         final String param1 = fieldInfo.fieldName + "_" + relation1;
         final String param2 = fieldInfo.fieldName + "_" + relation2;
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(upperCaseFirst(relation1) + "_And_" + upperCaseFirst(relation2))
@@ -232,6 +237,7 @@ public interface DSESearchSupport {
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
                 .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($T.format($S, $S, meta.$L.encodeFromJava($N, $T.of(cassandraOptions)), meta.$L.encodeFromJava($N, $T.of(cassandraOptions))))",
                         STRING, relationToSolrSyntaxForQuery(relation1, relation2),
@@ -248,7 +254,7 @@ public interface DSESearchSupport {
         return builder.build();
     }
 
-    default MethodSpec buildDSEDoubleDateRelation(String relation1, String relation2, TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType) {
+    default MethodSpec buildDSEDoubleDateRelation(String relation1, String relation2, TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType, ShapeTokens shapeTokens) {
         final String param1 = fieldInfo.fieldName + "_" + relation1;
         final String param2 = fieldInfo.fieldName + "_" + relation2;
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(upperCaseFirst(relation1) + "_And_" + upperCaseFirst(relation2))
@@ -261,6 +267,7 @@ public interface DSESearchSupport {
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
                 .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($T.format($S, $S, dateFormat.format(meta.$L.encodeFromJava($N, $T.of(cassandraOptions))), dateFormat.format(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))))",
                         STRING, relationToSolrSyntaxForQuery(relation1, relation2),
@@ -277,7 +284,7 @@ public interface DSESearchSupport {
         return builder.build();
     }
 
-    default MethodSpec buildDSERawPredicate(TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType) {
+    default MethodSpec buildDSERawPredicate(TypeName nextType, FieldSignatureInfo fieldInfo, ReturnType returnType, ShapeTokens shapeTokens) {
 
         final String param = "rawSolrPredicate";
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("RawPredicate")
@@ -288,6 +295,7 @@ public interface DSESearchSupport {
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
                 .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($T.format($S, $S, $N))",
                         STRING, "%s:%s", fieldInfo.quotedCqlColumn, param)
@@ -301,7 +309,7 @@ public interface DSESearchSupport {
         return builder.build();
     }
 
-    default MethodSpec buildDSERawSolrQuery(TypeName nextType) {
+    default MethodSpec buildDSERawSolrQuery(TypeName nextType, ShapeTokens shapeTokens) {
 
         final String param = "solr_query";
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("rawSolrQuery")
@@ -314,6 +322,7 @@ public interface DSESearchSupport {
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
                 .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .endControlFlow()
                 .addStatement("cassandraOptions.rawSolrQuery($N)", param)
                 .returns(nextType);
@@ -389,7 +398,8 @@ public interface DSESearchSupport {
         void augmentRelationClassForWhereClause (TypeSpec.Builder relationClassBuilder,
                                                         FieldSignatureInfo fieldInfo,
                                                         ClassSignatureInfo lastSignature,
-                                                        ReturnType returnType);
+                                                        ReturnType returnType,
+                                                        ShapeTokens shapeTokens);
     }
 
     static MethodSpec buildSearchRelationMethod(String fieldName, TypeName relationClassTypeName) {
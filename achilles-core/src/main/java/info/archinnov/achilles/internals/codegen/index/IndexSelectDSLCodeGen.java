@@ -34,10 +34,12 @@ import info.archinnov.achilles.internals.parser.context.GlobalParsingContext;
 
 public abstract class IndexSelectDSLCodeGen extends SelectDSLCodeGen {
 
-    public abstract void augmentSelectClass(GlobalParsingContext context, EntityMetaSignature signature, TypeSpec.Builder builder);
+    public abstract void augmentSelectClass(GlobalParsingContext context, EntityMetaSignature signature, TypeSpec.Builder builder, ShapeTokens shapeTokens);
 
     public TypeSpec buildSelectClass(GlobalParsingContext context, EntityMetaSignature signature) {
 
+        final ShapeTokens shapeTokens = new ShapeTokens();
+
         TypeName selectFromTypeName = ClassName.get(DSL_PACKAGE, signature.indexSelectFromReturnType());
         TypeName selectColumnsTypeName = ClassName.get(DSL_PACKAGE, signature.indexSelectColumnsReturnType());
         TypeName selectColumnsTypeMapTypeName = ClassName.get(DSL_PACKAGE, signature.indexSelectColumnsTypedMapReturnType());
@@ -59,40 +61,40 @@ public abstract class IndexSelectDSLCodeGen extends SelectDSLCodeGen {
                 .addMethod(buildSelectConstructor(signature))
                 .addField(buildExactEntityMetaField(signature))
                 .addField(buildEntityClassField(signature))
-                .addType(buildIndexedSelectColumns(signature, signatureForSelectColumns))
-                .addType(buildSelectColumnsTypedMap(signature, signatureForSelectColumnsTypedMap))
-                .addType(buildSelectFrom(signature))
-                .addType(buildSelectFromTypedMap(signature));
+                .addType(buildIndexedSelectColumns(signature, signatureForSelectColumns, shapeTokens))
+                .addType(buildSelectColumnsTypedMap(signature, signatureForSelectColumnsTypedMap, shapeTokens))
+                .addType(buildSelectFrom(signature, shapeTokens))
+                .addType(buildSelectFromTypedMap(signature, shapeTokens));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType != ColumnType.COMPUTED && !x.isUDT())
-                .forEach(x -> selectClassBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, "select", NEW)));
+                .forEach(x -> selectClassBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, "select", NEW, shapeTokens)));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.isUDT())
                 .forEach(x -> buildSelectUDTClassAndMethods(selectClassBuilder, selectColumnsTypeName,
-                        signature.indexSelectClassName(), "", x, "select", NEW));
+                        signature.indexSelectClassName(), "", x, "select", NEW, shapeTokens));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType == ColumnType.COMPUTED)
-                .forEach(x -> selectClassBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, "select", NEW)));
+                .forEach(x -> selectClassBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, "select", NEW, shapeTokens)));
 
         selectClassBuilder.addMethod(buildSelectFunctionCallMethod(selectColumnsTypeMapTypeName, "select", NEW));
 
-        selectClassBuilder.addMethod(buildAllColumns(selectFromTypeName, SELECT_DOT_WHERE, "select"));
-        selectClassBuilder.addMethod(buildAllColumnsWithSchemaProvider(selectFromTypeName, SELECT_DOT_WHERE, "select"));
+        selectClassBuilder.addMethod(buildAllColumns(selectFromTypeName, SELECT_DOT_WHERE, "select", shapeTokens));
+        selectClassBuilder.addMethod(buildAllColumnsWithSchemaProvider(selectFromTypeName, SELECT_DOT_WHERE, "select", shapeTokens));
 
-        augmentSelectClass(context, signature, selectClassBuilder);
+        augmentSelectClass(context, signature, selectClassBuilder, shapeTokens);
 
-        context.indexSelectWhereDSLCodeGen().buildWhereClasses(context, signature).forEach(selectClassBuilder::addType);
+        context.indexSelectWhereDSLCodeGen().buildWhereClasses(context, signature, shapeTokens).forEach(selectClassBuilder::addType);
 
         return selectClassBuilder.build();
     }
 
-    public TypeSpec buildIndexedSelectColumns(EntityMetaSignature signature, SelectColumnsSignature classesSignature) {
+    public TypeSpec buildIndexedSelectColumns(EntityMetaSignature signature, SelectColumnsSignature classesSignature, ShapeTokens shapeTokens) {
 
         TypeName selectColumnsTypeName = ClassName.get(DSL_PACKAGE, classesSignature.selectColumnsReturnType);
         TypeName selectColumnsTypedMapTypeName = ClassName.get(DSL_PACKAGE, classesSignature.selectColumnsTypedMapReturnType);
@@ -111,27 +113,27 @@ public abstract class IndexSelectDSLCodeGen extends SelectDSLCodeGen {
         signature.fieldMetaSignatures
             .stream()
             .filter(x -> x.context.columnType != ColumnType.COMPUTED && !x.isUDT())
-            .forEach(x -> selectColumnsBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, "selection", THIS)));
+            .forEach(x -> selectColumnsBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, "selection", THIS, shapeTokens)));
 
         signature.fieldMetaSignatures
             .stream()
             .filter(x -> x.isUDT())
-            .forEach(x -> buildSelectUDTClassAndMethods(selectColumnsBuilder, selectColumnsTypeName, signature.indexSelectColumnsReturnType(), "", x, "selection", THIS));
+            .forEach(x -> buildSelectUDTClassAndMethods(selectColumnsBuilder, selectColumnsTypeName, signature.indexSelectColumnsReturnType(), "", x, "selection", THIS, shapeTokens));
 
         signature.fieldMetaSignatures
             .stream()
             .filter(x -> x.context.columnType == ColumnType.COMPUTED)
-            .forEach(x -> selectColumnsBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, "selection", THIS)));
+            .forEach(x -> selectColumnsBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, "selection", THIS, shapeTokens)));
 
         selectColumnsBuilder.addMethod(buildSelectFunctionCallMethod(selectColumnsTypedMapTypeName, "selection", NEW));
 
-        selectColumnsBuilder.addMethod(buildFrom(selectFromTypeName, SELECT_DOT_WHERE, "selection"));
-        selectColumnsBuilder.addMethod(buildFromWithSchemaProvider(selectFromTypeName, SELECT_DOT_WHERE, "selection"));
+        selectColumnsBuilder.addMethod(buildFrom(selectFromTypeName, SELECT_DOT_WHERE, "selection", shapeTokens));
+        selectColumnsBuilder.addMethod(buildFromWithSchemaProvider(selectFromTypeName, SELECT_DOT_WHERE, "selection", shapeTokens));
 
         return selectColumnsBuilder.build();
     }
 
-    public TypeSpec buildSelectFrom(EntityMetaSignature signature) {
+    public TypeSpec buildSelectFrom(EntityMetaSignature signature, ShapeTokens shapeTokens) {
         TypeName selectWhereTypeName = ClassName.get(DSL_PACKAGE, signature.indexSelectWhereReturnType());
 
         TypeName selectEndTypeName = ClassName.get(DSL_PACKAGE, signature.indexSelectEndReturnType());
@@ -159,7 +161,7 @@ public abstract class IndexSelectDSLCodeGen extends SelectDSLCodeGen {
                 .build();
     }
 
-    public TypeSpec buildSelectFromTypedMap(EntityMetaSignature signature) {
+    public TypeSpec buildSelectFromTypedMap(EntityMetaSignature signature, ShapeTokens shapeTokens) {
         TypeName selectWhereTypedMapTypeName = ClassName.get(DSL_PACKAGE, signature.indexSelectWhereTypedMapReturnType());
 
         TypeName selectEndTypedMapTypeName = ClassName.get(DSL_PACKAGE, signature.indexSelectEndTypedMapReturnType());
@@ -41,15 +41,15 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                                                 EntityMetaSignature signature,
                                                 String parentClassName,
                                                 ClassSignatureInfo lastSignature,
-                                                ReturnType returnType);
+                                                ReturnType returnType, ShapeTokens shapeTokens);
 
     public abstract void buildDSESearchIndexRelation(TypeSpec.Builder indexSelectWhereBuilder,
                                                 EntityMetaSignature signature,
                                                 String parentClassName,
                                                 ClassSignatureInfo lastSignature,
-                                                ReturnType returnType);
+                                                ReturnType returnType, ShapeTokens shapeTokens);
 
-    public List<TypeSpec> buildWhereClasses(GlobalParsingContext context, EntityMetaSignature signature) {
+    public List<TypeSpec> buildWhereClasses(GlobalParsingContext context, EntityMetaSignature signature, ShapeTokens shapeTokens) {
 
         final ClassSignatureParams classSignatureParams = ClassSignatureParams.of(INDEX_SELECT_DSL_SUFFIX,
                 WHERE_DSL_SUFFIX, END_DSL_SUFFIX,
@@ -59,17 +59,17 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                 WHERE_TYPED_MAP_DSL_SUFFIX, END_TYPED_MAP_DSL_SUFFIX,
                 ABSTRACT_SELECT_WHERE_PARTITION_TYPED_MAP, ABSTRACT_INDEX_SELECT_WHERE_TYPED_MAP);
 
-        final List<TypeSpec> typeSpecs = buildWhereClassesInternal(signature, classSignatureParams);
-        typeSpecs.addAll(buildWhereClassesInternal(signature, typedMapClassSignatureParams));
+        final List<TypeSpec> typeSpecs = buildWhereClassesInternal(signature, classSignatureParams, shapeTokens);
+        typeSpecs.addAll(buildWhereClassesInternal(signature, typedMapClassSignatureParams, shapeTokens));
 
         typeSpecs.addAll(generateExtraWhereClasses(context, signature,
                 getPartitionKeysSignatureInfo(signature.fieldMetaSignatures),
-                getClusteringColsSignatureInfo(signature.fieldMetaSignatures)));
+                getClusteringColsSignatureInfo(signature.fieldMetaSignatures), shapeTokens));
 
         return typeSpecs;
     }
 
-    public List<TypeSpec> buildWhereClassesInternal(EntityMetaSignature signature, ClassSignatureParams classSignatureParams) {
+    public List<TypeSpec> buildWhereClassesInternal(EntityMetaSignature signature, ClassSignatureParams classSignatureParams, ShapeTokens shapeTokens) {
 
         List<TypeSpec> typeSpecs = new ArrayList<>();
 
@@ -95,18 +95,18 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                                                     x,
                                                     parentClassName,
                                                     lastSignature,
-                                                    ReturnType.NEW));
+                                                    ReturnType.NEW, shapeTokens));
 
-        buildSASIIndexRelation(indexSelectWhereBuilder, signature, parentClassName, lastSignature, ReturnType.NEW);
-        buildDSESearchIndexRelation(indexSelectWhereBuilder, signature, parentClassName, lastSignature, ReturnType.NEW);
+        buildSASIIndexRelation(indexSelectWhereBuilder, signature, parentClassName, lastSignature, ReturnType.NEW, shapeTokens);
+        buildDSESearchIndexRelation(indexSelectWhereBuilder, signature, parentClassName, lastSignature, ReturnType.NEW, shapeTokens);
 
         typeSpecs.add(indexSelectWhereBuilder.build());
-        typeSpecs.add(buildSelectEndClass(signature, lastSignature, classSignatureParams));
+        typeSpecs.add(buildSelectEndClass(signature, lastSignature, classSignatureParams, shapeTokens));
 
         return typeSpecs;
     }
 
-    public TypeSpec buildSelectEndClass(EntityMetaSignature signature, ClassSignatureInfo lastSignature, ClassSignatureParams classSignatureParams) {
+    public TypeSpec buildSelectEndClass(EntityMetaSignature signature, ClassSignatureInfo lastSignature, ClassSignatureParams classSignatureParams, ShapeTokens shapeTokens) {
 
         final Optional<FieldSignatureInfo> firstClustering = getClusteringColsSignatureInfo(signature.fieldMetaSignatures)
                 .stream()
@@ -122,31 +122,32 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
+                .addMethod(buildGetShapeInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
-                .addMethod(buildLimit(lastSignature))
+                .addMethod(buildLimit(lastSignature, shapeTokens))
                 .addMethod(buildGetThis(lastSignature.returnClassType));
 
-        augmentSelectEndClass(builder, lastSignature);
+        augmentSelectEndClass(builder, lastSignature, shapeTokens);
 
         final List<FieldSignatureInfo> partitionKeys = getPartitionKeysSignatureInfo(signature.fieldMetaSignatures);
         final List<FieldSignatureInfo> clusteringCols = getClusteringColsSignatureInfo(signature.fieldMetaSignatures);
 
         final List<IndexFieldSignatureInfo> nativeIndexCols = getIndexedColsSignatureInfo(IndexImpl.NATIVE, signature.fieldMetaSignatures);
 
-        partitionKeys.forEach(x -> this.buildPartitionKeyRelation(builder, signature,x, lastSignature, classSignatureParams));
-        clusteringCols.forEach(x -> this.buildClusteringColumnRelation(builder, signature,x, lastSignature, classSignatureParams));
+        partitionKeys.forEach(x -> this.buildPartitionKeyRelation(builder, signature,x, lastSignature, classSignatureParams, shapeTokens));
+        clusteringCols.forEach(x -> this.buildClusteringColumnRelation(builder, signature,x, lastSignature, classSignatureParams, shapeTokens));
 
         String parentClassName = signature.indexSelectClassName()
                 + "." + classSignatureParams.endDslSuffix;
 
-        nativeIndexCols.forEach(x -> buildNativeIndexRelation(builder, x, parentClassName, lastSignature, ReturnType.THIS));
+        nativeIndexCols.forEach(x -> buildNativeIndexRelation(builder, x, parentClassName, lastSignature, ReturnType.THIS, shapeTokens));
 
-        buildSASIIndexRelation(builder, signature, parentClassName, lastSignature, ReturnType.THIS);
-        buildDSESearchIndexRelation(builder, signature, parentClassName, lastSignature, ReturnType.THIS);
+        buildSASIIndexRelation(builder, signature, parentClassName, lastSignature, ReturnType.THIS, shapeTokens);
+        buildDSESearchIndexRelation(builder, signature, parentClassName, lastSignature, ReturnType.THIS, shapeTokens);
 
-        addMultipleColumnsSliceRestrictions(builder, parentClassName, clusteringCols, lastSignature, ReturnType.THIS);
+        addMultipleColumnsSliceRestrictions(builder, parentClassName, clusteringCols, lastSignature, ReturnType.THIS, shapeTokens);
 
-        maybeBuildOrderingBy(lastSignature, firstClustering, builder);
+        maybeBuildOrderingBy(lastSignature, firstClustering, builder, shapeTokens);
 
         return builder.build();
     }
@@ -155,7 +156,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                                          IndexFieldSignatureInfo indexFieldInfo,
                                          String parentClassName,
                                          ClassSignatureInfo lastSignature,
-                                         ReturnType returnType) {
+                                         ReturnType returnType, ShapeTokens shapeTokens) {
 
         final String relationClassName = "Indexed_"+upperCaseFirst(indexFieldInfo.fieldName);
         TypeName relationClassTypeName = ClassName.get(DSL_PACKAGE, parentClassName + "." + relationClassName);
@@ -167,26 +168,26 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
 
         switch (indexType) {
             case COLLECTION:
-                relationClassBuilder.addMethod(buildIndexRelationForCollection(indexFieldInfo, lastSignature.returnClassType, returnType));
+                relationClassBuilder.addMethod(buildIndexRelationForCollection(indexFieldInfo, lastSignature.returnClassType, returnType, shapeTokens));
                 break;
             case MAP_KEY:
-                relationClassBuilder.addMethod(buildIndexRelationForMapKey(indexFieldInfo, lastSignature.returnClassType, returnType));
+                relationClassBuilder.addMethod(buildIndexRelationForMapKey(indexFieldInfo, lastSignature.returnClassType, returnType, shapeTokens));
                 break;
             case MAP_VALUE:
-                relationClassBuilder.addMethod(buildIndexRelationForMapValue(indexFieldInfo, lastSignature.returnClassType, returnType));
+                relationClassBuilder.addMethod(buildIndexRelationForMapValue(indexFieldInfo, lastSignature.returnClassType, returnType, shapeTokens));
                 break;
             case MAP_ENTRY:
-                relationClassBuilder.addMethod(buildIndexRelationForMapEntry(indexFieldInfo, lastSignature.returnClassType, returnType));
+                relationClassBuilder.addMethod(buildIndexRelationForMapEntry(indexFieldInfo, lastSignature.returnClassType, returnType, shapeTokens));
                 break;
             case FULL:
             case NORMAL:
-                relationClassBuilder.addMethod(buildColumnRelation(EQ, lastSignature.returnClassType, indexFieldInfo, returnType));
+                relationClassBuilder.addMethod(buildColumnRelation(EQ, lastSignature.returnClassType, indexFieldInfo, returnType, shapeTokens));
                 break;
             case NONE:
                 break;
         }
 
-        augmentRelationClassForWhereClause(relationClassBuilder, indexFieldInfo, lastSignature, returnType);
+        augmentRelationClassForWhereClause(relationClassBuilder, indexFieldInfo, lastSignature, returnType, shapeTokens);
 
         indexSelectWhereBuilder.addType(relationClassBuilder.build());
 
@@ -201,7 +202,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                 .build();
     }
 
-    public MethodSpec buildIndexRelationForMapEntry(IndexFieldSignatureInfo indexFieldInfo, TypeName returnClassType, ReturnType returnType) {
+    public MethodSpec buildIndexRelationForMapEntry(IndexFieldSignatureInfo indexFieldInfo, TypeName returnClassType, ReturnType returnType, ShapeTokens shapeTokens) {
         final String paramKey = indexFieldInfo.fieldName + "_key";
         final String paramValue = indexFieldInfo.fieldName + "_value";
 
@@ -215,6 +216,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                         MAP_ENTRY_CLAUSE, indexFieldInfo.quotedCqlColumn,
                         QUERY_BUILDER, paramKey,
                         QUERY_BUILDER, paramValue)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", paramKey)
                 .addStatement("boundValues.add($N)", paramValue)
                 .addStatement("encodedValues.add(meta.$L.encodeSingleKeyElement($N, $T.of(cassandraOptions)))", indexFieldInfo.fieldName, paramKey, OPTIONAL)
@@ -228,7 +230,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
         }
     }
 
-    protected MethodSpec buildIndexRelationForMapKey(IndexFieldSignatureInfo indexFieldInfo, TypeName returnClassType, ReturnType returnType) {
+    protected MethodSpec buildIndexRelationForMapKey(IndexFieldSignatureInfo indexFieldInfo, TypeName returnClassType, ReturnType returnType, ShapeTokens shapeTokens) {
         final String param = indexFieldInfo.fieldName + "_key";
 
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("ContainsKey")
@@ -238,6 +240,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                 .addParameter(indexFieldInfo.indexMetaSignature.mapKeyType, param)
                 .addStatement("where.and($T.containsKey($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeSingleKeyElement($N, $T.of(cassandraOptions)))", indexFieldInfo.fieldName, param, OPTIONAL)
                 .returns(returnClassType);
@@ -249,7 +252,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
         }
     }
 
-    protected MethodSpec buildIndexRelationForMapValue(IndexFieldSignatureInfo indexFieldInfo, TypeName returnClassType, ReturnType returnType) {
+    protected MethodSpec buildIndexRelationForMapValue(IndexFieldSignatureInfo indexFieldInfo, TypeName returnClassType, ReturnType returnType, ShapeTokens shapeTokens) {
         final String param = indexFieldInfo.fieldName + "_value";
 
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("ContainsValue")
@@ -259,6 +262,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                 .addParameter(indexFieldInfo.indexMetaSignature.mapValueType, param)
                 .addStatement("where.and($T.contains($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeSingleValueElement($N, $T.of(cassandraOptions)))", indexFieldInfo.fieldName, param, OPTIONAL)
                 .returns(returnClassType);
@@ -270,7 +274,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
         }
     }
 
-    protected MethodSpec buildIndexRelationForCollection(IndexFieldSignatureInfo indexFieldInfo, TypeName returnClassType, ReturnType returnType) {
+    protected MethodSpec buildIndexRelationForCollection(IndexFieldSignatureInfo indexFieldInfo, TypeName returnClassType, ReturnType returnType, ShapeTokens shapeTokens) {
         final String param = indexFieldInfo.fieldName + "_element";
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("Contains")
                 .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>$L CONTAINS ?</strong>", indexFieldInfo.quotedCqlColumn)
@@ -279,6 +283,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                 .addParameter(indexFieldInfo.indexMetaSignature.collectionElementType, param)
                 .addStatement("where.and($T.contains($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeSingleElement($N, $T.of(cassandraOptions)))", indexFieldInfo.fieldName, param, OPTIONAL)
                 .returns(returnClassType);
@@ -293,7 +298,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                                           EntityMetaSignature signature,
                                           FieldSignatureInfo partitionInfo,
                                           ClassSignatureInfo lastSignature,
-                                          ClassSignatureParams classSignatureParams) {
+                                          ClassSignatureParams classSignatureParams, ShapeTokens shapeTokens) {
 
         final String relationClassName = upperCaseFirst(partitionInfo.fieldName);
         TypeName relationClassTypeName = ClassName.get(DSL_PACKAGE, signature.indexSelectClassName()
@@ -302,10 +307,10 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
 
         final TypeSpec.Builder relationClassBuilder = TypeSpec.classBuilder(relationClassName)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildColumnRelation(EQ, lastSignature.returnClassType, partitionInfo, ReturnType.THIS))
-                .addMethod(buildColumnInVarargs(lastSignature.returnClassType, partitionInfo, ReturnType.THIS));
+                .addMethod(buildColumnRelation(EQ, lastSignature.returnClassType, partitionInfo, ReturnType.THIS, shapeTokens))
+                .addMethod(buildColumnInVarargs(lastSignature.returnClassType, partitionInfo, ReturnType.THIS, shapeTokens));
 
-        augmentRelationClassForWhereClause(relationClassBuilder, partitionInfo, lastSignature, ReturnType.NEW);
+        augmentRelationClassForWhereClause(relationClassBuilder, partitionInfo, lastSignature, ReturnType.NEW, shapeTokens);
 
         builder
                 .addType(relationClassBuilder.build())
@@ -316,7 +321,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                                               EntityMetaSignature signature,
                                               FieldSignatureInfo clusteringColumnInfo,
                                               ClassSignatureInfo lastSignature,
-                                              ClassSignatureParams classSignatureParams) {
+                                              ClassSignatureParams classSignatureParams, ShapeTokens shapeTokens) {
 
         final String relationClassName = upperCaseFirst(clusteringColumnInfo.fieldName);
         TypeName relationClassTypeName = ClassName.get(DSL_PACKAGE, signature.indexSelectClassName()
@@ -325,11 +330,11 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
 
         TypeSpec.Builder relationClassBuilder = TypeSpec.classBuilder(relationClassName)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildColumnRelation(EQ, lastSignature.returnClassType, clusteringColumnInfo, ReturnType.THIS));
+                .addMethod(buildColumnRelation(EQ, lastSignature.returnClassType, clusteringColumnInfo, ReturnType.THIS, shapeTokens));
 
-        addSingleColumnSliceRestrictions(relationClassBuilder, clusteringColumnInfo, lastSignature, lastSignature, ReturnType.THIS);
+        addSingleColumnSliceRestrictions(relationClassBuilder, clusteringColumnInfo, lastSignature, lastSignature, ReturnType.THIS, shapeTokens);
 
-        augmentRelationClassForWhereClause(relationClassBuilder, clusteringColumnInfo, lastSignature, ReturnType.NEW);
+        augmentRelationClassForWhereClause(relationClassBuilder, clusteringColumnInfo, lastSignature, ReturnType.NEW, shapeTokens);
 
         builder.addType(relationClassBuilder.build())
                 .addMethod(buildRelationMethod(clusteringColumnInfo.fieldName, relationClassTypeName));
@@ -28,7 +28,7 @@ import info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen;
 
 public interface SASISupport {
 
-    default MethodSpec buildSASIStartWith(TypeName nextType, AbstractDSLCodeGen.FieldSignatureInfo fieldInfo, AbstractDSLCodeGen.ReturnType returnType) {
+    default MethodSpec buildSASIStartWith(TypeName nextType, AbstractDSLCodeGen.FieldSignatureInfo fieldInfo, AbstractDSLCodeGen.ReturnType returnType, AbstractDSLCodeGen.ShapeTokens shapeTokens) {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("StartWith")
                 .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>$L LIKE '?%' </strong>", fieldInfo.quotedCqlColumn)
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
@@ -36,6 +36,7 @@ public interface SASISupport {
                 .addParameter(STRING, fieldInfo.fieldName)
                 .addStatement("where.and($T.like($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N + $S)", fieldInfo.fieldName, "%")
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N + $S, $T.of(cassandraOptions)))", fieldInfo.fieldName, fieldInfo.fieldName, "%", OPTIONAL)
                 .returns(nextType);
@@ -48,7 +49,7 @@ public interface SASISupport {
         return builder.build();
     }
 
-    default MethodSpec buildSASIEndWith(TypeName nextType, AbstractDSLCodeGen.FieldSignatureInfo fieldInfo, AbstractDSLCodeGen.ReturnType returnType) {
+    default MethodSpec buildSASIEndWith(TypeName nextType, AbstractDSLCodeGen.FieldSignatureInfo fieldInfo, AbstractDSLCodeGen.ReturnType returnType, AbstractDSLCodeGen.ShapeTokens shapeTokens) {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("EndWith")
                 .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>$L LIKE '%?' </strong>", fieldInfo.quotedCqlColumn)
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
@@ -56,6 +57,7 @@ public interface SASISupport {
                 .addParameter(STRING, fieldInfo.fieldName)
                 .addStatement("where.and($T.like($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($S + $N)", "%", fieldInfo.fieldName)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($S + $N, $T.of(cassandraOptions)))", fieldInfo.fieldName, "%", fieldInfo.fieldName, OPTIONAL)
                 .returns(nextType);
@@ -68,7 +70,7 @@ public interface SASISupport {
         return builder.build();
     }
 
-    default MethodSpec buildSASIContains(TypeName nextType, AbstractDSLCodeGen.FieldSignatureInfo fieldInfo, AbstractDSLCodeGen.ReturnType returnType) {
+    default MethodSpec buildSASIContains(TypeName nextType, AbstractDSLCodeGen.FieldSignatureInfo fieldInfo, AbstractDSLCodeGen.ReturnType returnType, AbstractDSLCodeGen.ShapeTokens shapeTokens) {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("Contains")
                 .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>$L LIKE '%?%' </strong>", fieldInfo.quotedCqlColumn)
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
@@ -76,6 +78,7 @@ public interface SASISupport {
                 .addParameter(STRING, fieldInfo.fieldName)
                 .addStatement("where.and($T.like($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($S + $N + $S)", "%", fieldInfo.fieldName, "%")
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($S + $N + $S, $T.of(cassandraOptions)))", fieldInfo.fieldName, "%", fieldInfo.fieldName, "%", OPTIONAL)
                 .returns(nextType);
@@ -88,7 +91,7 @@ public interface SASISupport {
         return builder.build();
     }
 
-    default MethodSpec buildSASILike(TypeName nextType, AbstractDSLCodeGen.FieldSignatureInfo fieldInfo, AbstractDSLCodeGen.ReturnType returnType) {
+    default MethodSpec buildSASILike(TypeName nextType, AbstractDSLCodeGen.FieldSignatureInfo fieldInfo, AbstractDSLCodeGen.ReturnType returnType, AbstractDSLCodeGen.ShapeTokens shapeTokens) {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("Like")
                 .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>$L LIKE '?' </strong>", fieldInfo.quotedCqlColumn)
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
@@ -96,6 +99,7 @@ public interface SASISupport {
                 .addParameter(STRING, fieldInfo.fieldName)
                 .addStatement("where.and($T.like($S, $T.bindMarker($S)))",
                         QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
+                .addStatement("shape.append($L)", shapeTokens.next())
                 .addStatement("boundValues.add($N)", fieldInfo.fieldName)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldInfo.fieldName, fieldInfo.fieldName, OPTIONAL)
                 .returns(nextType);
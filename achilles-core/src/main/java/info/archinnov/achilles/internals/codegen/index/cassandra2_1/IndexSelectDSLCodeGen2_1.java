@@ -24,7 +24,7 @@ import info.archinnov.achilles.internals.parser.context.GlobalParsingContext;
 
 public class IndexSelectDSLCodeGen2_1 extends IndexSelectDSLCodeGen {
     @Override
-    public void augmentSelectClass(GlobalParsingContext context, EntityMetaCodeGen.EntityMetaSignature signature, TypeSpec.Builder builder) {
+    public void augmentSelectClass(GlobalParsingContext context, EntityMetaCodeGen.EntityMetaSignature signature, TypeSpec.Builder builder, ShapeTokens shapeTokens) {
         //No Op
     }
 
@@ -28,27 +28,27 @@ import info.archinnov.achilles.internals.parser.context.GlobalParsingContext;
 
 public class IndexSelectWhereDSLCodeGen2_1 extends IndexSelectWhereDSLCodeGen {
     @Override
-    public void augmentSelectEndClass(TypeSpec.Builder selectEndClassBuilder, ClassSignatureInfo lastSignature) {
+    public void augmentSelectEndClass(TypeSpec.Builder selectEndClassBuilder, ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
         //NO Op
     }
 
     @Override
-    public List<TypeSpec> generateExtraWhereClasses(GlobalParsingContext context, EntityMetaCodeGen.EntityMetaSignature signature, List<FieldSignatureInfo> partitionKeys, List<FieldSignatureInfo> clusteringCols) {
+    public List<TypeSpec> generateExtraWhereClasses(GlobalParsingContext context, EntityMetaCodeGen.EntityMetaSignature signature, List<FieldSignatureInfo> partitionKeys, List<FieldSignatureInfo> clusteringCols, ShapeTokens shapeTokens) {
         return Collections.EMPTY_LIST;
     }
 
     @Override
-    public void augmentRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder, FieldSignatureInfo fieldSignatureInfo, ClassSignatureInfo nextSignature, ReturnType returnType) {
+    public void augmentRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder, FieldSignatureInfo fieldSignatureInfo, ClassSignatureInfo nextSignature, ReturnType returnType, ShapeTokens shapeTokens) {
         //NO Op
     }
 
     @Override
-    public void buildSASIIndexRelation(TypeSpec.Builder indexSelectWhereBuilder, EntityMetaCodeGen.EntityMetaSignature signature, String parentClassName, ClassSignatureInfo lastSignature, ReturnType returnType) {
+    public void buildSASIIndexRelation(TypeSpec.Builder indexSelectWhereBuilder, EntityMetaCodeGen.EntityMetaSignature signature, String parentClassName, ClassSignatureInfo lastSignature, ReturnType returnType, ShapeTokens shapeTokens) {
         //NO Op
     }
 
     @Override
-    public void buildDSESearchIndexRelation(TypeSpec.Builder indexSelectWhereBuilder, EntityMetaCodeGen.EntityMetaSignature signature, String parentClassName, ClassSignatureInfo lastSignature, ReturnType returnType) {
+    public void buildDSESearchIndexRelation(TypeSpec.Builder indexSelectWhereBuilder, EntityMetaCodeGen.EntityMetaSignature signature, String parentClassName, ClassSignatureInfo lastSignature, ReturnType returnType, ShapeTokens shapeTokens) {
         //NO Op
     }
 }
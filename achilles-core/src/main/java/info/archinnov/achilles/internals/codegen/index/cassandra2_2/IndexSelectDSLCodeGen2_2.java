@@ -31,7 +31,7 @@ public class IndexSelectDSLCodeGen2_2 extends IndexSelectDSLCodeGen2_1
         implements JSONFunctionCallSupport {
 
     @Override
-    public void augmentSelectClass(GlobalParsingContext context, EntityMetaCodeGen.EntityMetaSignature signature, TypeSpec.Builder builder) {
+    public void augmentSelectClass(GlobalParsingContext context, EntityMetaCodeGen.EntityMetaSignature signature, TypeSpec.Builder builder, ShapeTokens shapeTokens) {
 
         TypeName selectFromJSONTypeName = ClassName.get(DSL_PACKAGE, signature.indexSelectFromJSONReturnType());
 
@@ -41,8 +41,8 @@ public class IndexSelectDSLCodeGen2_2 extends IndexSelectDSLCodeGen2_1
         TypeName selectEndJSONTypeName = ClassName.get(DSL_PACKAGE, signature.indexSelectEndJSONReturnType());
 
         final String className = FROM_JSON_DSL_SUFFIX;
-        builder.addType(buildSelectFromJSON(signature, className, selectWhereJSONTypeName, selectEndJSONTypeName).build());
-        builder.addMethod(buildAllColumnsJSON(selectFromJSONTypeName, SELECT_DOT_WHERE, "select"));
-        builder.addMethod(buildAllColumnsJSONWithSchemaProvider(selectFromJSONTypeName, SELECT_DOT_WHERE, "select"));
+        builder.addType(buildSelectFromJSON(signature, className, selectWhereJSONTypeName, selectEndJSONTypeName, shapeTokens).build());
+        builder.addMethod(buildAllColumnsJSON(selectFromJSONTypeName, SELECT_DOT_WHERE, "select", shapeTokens));
+        builder.addMethod(buildAllColumnsJSONWithSchemaProvider(selectFromJSONTypeName, SELECT_DOT_WHERE, "select", shapeTokens));
     }
 }
@@ -33,7 +33,7 @@ public class IndexSelectWhereDSLCodeGen2_2 extends IndexSelectWhereDSLCodeGen2_1
         implements JSONFunctionCallSupport {
 
     @Override
-    public void augmentSelectEndClass(TypeSpec.Builder selectEndClassBuilder, ClassSignatureInfo lastSignature) {
+    public void augmentSelectEndClass(TypeSpec.Builder selectEndClassBuilder, ClassSignatureInfo lastSignature, ShapeTokens shapeTokens) {
         //No Op
     }
 
@@ -41,11 +41,11 @@ public class IndexSelectWhereDSLCodeGen2_2 extends IndexSelectWhereDSLCodeGen2_1
     public List<TypeSpec> generateExtraWhereClasses(GlobalParsingContext context,
                                                     EntityMetaCodeGen.EntityMetaSignature signature,
                                                     List<FieldSignatureInfo> partitionKeys,
-                                                    List<FieldSignatureInfo> clusteringCols) {
+                                                    List<FieldSignatureInfo> clusteringCols, ShapeTokens shapeTokens) {
         final ClassSignatureParams jsonClassSignatureParams = ClassSignatureParams.of(INDEX_SELECT_DSL_SUFFIX,
                 WHERE_JSON_DSL_SUFFIX, END_JSON_DSL_SUFFIX,
                 ABSTRACT_SELECT_WHERE_PARTITION_JSON, ABSTRACT_INDEX_SELECT_WHERE_JSON);
-        return buildWhereClassesInternal(signature, jsonClassSignatureParams);
+        return buildWhereClassesInternal(signature, jsonClassSignatureParams, shapeTokens);
 
     }
 
@@ -53,7 +53,7 @@ public class IndexSelectWhereDSLCodeGen2_2 extends IndexSelectWhereDSLCodeGen2_1
     public void augmentRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder,
                                                    FieldSignatureInfo fieldInfo,
                                                    ClassSignatureInfo nextSignature,
-                                                   ReturnType returnType) {
+                                                   ReturnType returnType, ShapeTokens shapeTokens) {
         // Secondary index
         final boolean isIndex = fieldInfo instanceof IndexFieldSignatureInfo;
         if (isIndex && ((IndexFieldSignatureInfo)fieldInfo).indexInfo.impl != IndexImpl.DSE_SEARCH) {
@@ -62,25 +62,25 @@ public class IndexSelectWhereDSLCodeGen2_2 extends IndexSelectWhereDSLCodeGen2_1
 
             switch (indexType) {
                 case COLLECTION:
-                    buildJSONIndexRelationForCollection(relationClassBuilder, indexFieldInfo, nextSignature.returnClassType, returnType);
+                    buildJSONIndexRelationForCollection(relationClassBuilder, indexFieldInfo, nextSignature.returnClassType, returnType, shapeTokens);
                     break;
                 case MAP_KEY:
-                    buildJSONIndexRelationForMapKey(relationClassBuilder, indexFieldInfo, nextSignature.returnClassType, returnType);
+                    buildJSONIndexRelationForMapKey(relationClassBuilder, indexFieldInfo, nextSignature.returnClassType, returnType, shapeTokens);
                     break;
                 case MAP_VALUE:
-                    buildJSONIndexRelationForMapValue(relationClassBuilder, indexFieldInfo, nextSignature.returnClassType, returnType);
+                    buildJSONIndexRelationForMapValue(relationClassBuilder, indexFieldInfo, nextSignature.returnClassType, returnType, shapeTokens);
                     break;
                 case MAP_ENTRY:
-                    buildJSONIndexRelationForMapEntry(relationClassBuilder, indexFieldInfo, nextSignature.returnClassType, returnType);
+                    buildJSONIndexRelationForMapEntry(relationClassBuilder, indexFieldInfo, nextSignature.returnClassType, returnType, shapeTokens);
                     break;
                 case FULL:
                 case NORMAL:
                 case NONE:
-                    buildEqFromJSONToRelationClass(relationClassBuilder, fieldInfo, nextSignature);
+                    buildEqFromJSONToRelationClass(relationClassBuilder, fieldInfo, nextSignature, shapeTokens);
                     break;
             }
         } else {
-            buildEqFromJSONToRelationClass(relationClassBuilder, fieldInfo, nextSignature);
+            buildEqFromJSONToRelationClass(relationClassBuilder, fieldInfo, nextSignature, shapeTokens);
         }
     }
 }
@@ -37,16 +37,16 @@ import info.archinnov.achilles.internals.parser.context.SASIInfoContext;
 public class IndexSelectWhereDSLCodeGen3_7 extends IndexSelectWhereDSLCodeGen2_2 implements SASISupport {
 
     @Override
-    public void buildSASIIndexRelation(TypeSpec.Builder indexSelectWhereBuilder, EntityMetaCodeGen.EntityMetaSignature signature, String parentClassName, ClassSignatureInfo lastSignature, ReturnType returnType) {
+    public void buildSASIIndexRelation(TypeSpec.Builder indexSelectWhereBuilder, EntityMetaCodeGen.EntityMetaSignature signature, String parentClassName, ClassSignatureInfo lastSignature, ReturnType returnType, ShapeTokens shapeTokens) {
         final List<IndexFieldSignatureInfo> sasiIndexCols = getIndexedColsSignatureInfo(IndexImpl.SASI, signature.fieldMetaSignatures);
-        sasiIndexCols.forEach(x -> buildSASIIndexRelation(indexSelectWhereBuilder, x, parentClassName, lastSignature, returnType));
+        sasiIndexCols.forEach(x -> buildSASIIndexRelation(indexSelectWhereBuilder, x, parentClassName, lastSignature, returnType, shapeTokens));
     }
 
     public void buildSASIIndexRelation(TypeSpec.Builder indexSelectWhereBuilder,
                                        IndexFieldSignatureInfo indexFieldInfo,
                                        String parentClassName,
                                        ClassSignatureInfo lastSignature,
-                                       ReturnType returnType) {
+                                       ReturnType returnType, ShapeTokens shapeTokens) {
 
         final String relationClassName = "Indexed_" + upperCaseFirst(indexFieldInfo.fieldName);
         TypeName relationClassTypeName = ClassName.get(DSL_PACKAGE, parentClassName + "." + relationClassName);
@@ -57,27 +57,27 @@ public class IndexSelectWhereDSLCodeGen3_7 extends IndexSelectWhereDSLCodeGen2_2
         if (indexFieldInfo.indexMetaSignature.simpleType.equals(STRING)) {
             final SASIInfoContext sasiInfoContext = indexFieldInfo.indexInfo.sasiInfoContext.get();
             if (sasiInfoContext.indexMode == SASI.IndexMode.PREFIX) {
-                relationClassBuilder.addMethod(buildSASIStartWith(lastSignature.returnClassType, indexFieldInfo, returnType));
+                relationClassBuilder.addMethod(buildSASIStartWith(lastSignature.returnClassType, indexFieldInfo, returnType, shapeTokens));
             } else if (sasiInfoContext.indexMode == SASI.IndexMode.CONTAINS) {
-                relationClassBuilder.addMethod(buildSASIEndWith(lastSignature.returnClassType, indexFieldInfo, returnType));
+                relationClassBuilder.addMethod(buildSASIEndWith(lastSignature.returnClassType, indexFieldInfo, returnType, shapeTokens));
 
                 if (sasiInfoContext.analyzerClass == SASI.Analyzer.NON_TOKENIZING_ANALYZER) {
-                    relationClassBuilder.addMethod(buildSASIStartWith(lastSignature.returnClassType, indexFieldInfo, returnType));
+                    relationClassBuilder.addMethod(buildSASIStartWith(lastSignature.returnClassType, indexFieldInfo, returnType, shapeTokens));
                 }
 
-                relationClassBuilder.addMethod(buildSASIContains(lastSignature.returnClassType, indexFieldInfo, returnType));
+                relationClassBuilder.addMethod(buildSASIContains(lastSignature.returnClassType, indexFieldInfo, returnType, shapeTokens));
             }
-            relationClassBuilder.addMethod(buildSASILike(lastSignature.returnClassType, indexFieldInfo, returnType));
-            relationClassBuilder.addMethod(buildColumnRelation(EQ, lastSignature.returnClassType, indexFieldInfo, returnType));
+            relationClassBuilder.addMethod(buildSASILike(lastSignature.returnClassType, indexFieldInfo, returnType, shapeTokens));
+            relationClassBuilder.addMethod(buildColumnRelation(EQ, lastSignature.returnClassType, indexFieldInfo, returnType, shapeTokens));
         } else {
-            relationClassBuilder.addMethod(buildColumnRelation(EQ, lastSignature.returnClassType, indexFieldInfo, returnType));
-            relationClassBuilder.addMethod(buildColumnRelation(GT, lastSignature.returnClassType, indexFieldInfo, returnType));
-            relationClassBuilder.addMethod(buildColumnRelation(GTE, lastSignature.returnClassType, indexFieldInfo, returnType));
-            relationClassBuilder.addMethod(buildColumnRelation(LT, lastSignature.returnClassType, indexFieldInfo, returnType));
-            relationClassBuilder.addMethod(buildColumnRelation(LTE, lastSignature.returnClassType, indexFieldInfo, returnType));
+            relationClassBuilder.addMethod(buildColumnRelation(EQ, lastSignature.returnClassType, indexFieldInfo, returnType, shapeTokens));
+            relationClassBuilder.addMethod(buildColumnRelation(GT, lastSignature.returnClassType, indexFieldInfo, returnType, shapeTokens));
+            relationClassBuilder.addMethod(buildColumnRelation(GTE, lastSignature.returnClassType, indexFieldInfo, returnType, shapeTokens));
+            relationClassBuilder.addMethod(buildColumnRelation(LT, lastSignature.returnClassType, indexFieldInfo, returnType, shapeTokens));
+            relationClassBuilder.addMethod(buildColumnRelation(LTE, lastSignature.returnClassType, indexFieldInfo, returnType, shapeTokens));
         }
 
-        augmentRelationClassForWhereClause(relationClassBuilder, indexFieldInfo, lastSignature, returnType);
+        augmentRelationClassForWhereClause(relationClassBuilder, indexFieldInfo, lastSignature, returnType, shapeTokens);
 
         indexSelectWhereBuilder.addType(relationClassBuilder.build());
 
@@ -35,16 +35,16 @@ public class IndexSelectWhereDSLCodeGen_DSE_4_8 extends IndexSelectWhereDSLCodeG
 
     @Override
     public void buildDSESearchIndexRelation(TypeSpec.Builder indexSelectWhereBuilder, EntityMetaSignature signature,
-                                             String parentClassName, ClassSignatureInfo lastSignature, ReturnType returnType) {
+                                             String parentClassName, ClassSignatureInfo lastSignature, ReturnType returnType, ShapeTokens shapeTokens) {
 
         buildDSESearchIndexRelation(signature, indexSelectWhereBuilder,
                 this::augmentRelationClassForWhereClause,
-                parentClassName, lastSignature, returnType);
+                parentClassName, lastSignature, returnType, shapeTokens);
     }
 
 
     @Override
-    public TypeSpec buildSelectEndClass(EntityMetaSignature signature, ClassSignatureInfo lastSignature, ClassSignatureParams classSignatureParams) {
+    public TypeSpec buildSelectEndClass(EntityMetaSignature signature, ClassSignatureInfo lastSignature, ClassSignatureParams classSignatureParams, ShapeTokens shapeTokens) {
 
         final Optional<FieldSignatureInfo> firstClustering = getClusteringColsSignatureInfo(signature.fieldMetaSignatures)
                 .stream()
@@ -60,29 +60,30 @@ public class IndexSelectWhereDSLCodeGen_DSE_4_8 extends IndexSelectWhereDSLCodeG
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
+                .addMethod(buildGetShapeInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
-                .addMethod(buildLimit(lastSignature))
+                .addMethod(buildLimit(lastSignature, shapeTokens))
                 .addMethod(buildGetThis(lastSignature.returnClassType));
 
-        augmentSelectEndClass(builder, lastSignature);
+        augmentSelectEndClass(builder, lastSignature, shapeTokens);
 
         final List<FieldSignatureInfo> partitionKeys = getPartitionKeysSignatureInfo(signature.fieldMetaSignatures);
         final List<FieldSignatureInfo> clusteringCols = getClusteringColsSignatureInfo(signature.fieldMetaSignatures);
 
         final List<IndexFieldSignatureInfo> nativeIndexCols = getIndexedColsSignatureInfo(IndexImpl.NATIVE, signature.fieldMetaSignatures);
 
-        partitionKeys.forEach(x -> this.buildPartitionKeyRelation(builder, signature,x, lastSignature, classSignatureParams));
+        partitionKeys.forEach(x -> this.buildPartitionKeyRelation(builder, signature,x, lastSignature, classSignatureParams, shapeTokens));
 
         String parentClassName = signature.indexSelectClassName() + "." + classSignatureParams.endDslSuffix;
 
-        nativeIndexCols.forEach(x -> buildNativeIndexRelation(builder, x, parentClassName, lastSignature, ReturnType.THIS));
+        nativeIndexCols.forEach(x -> buildNativeIndexRelation(builder, x, parentClassName, lastSignature, ReturnType.THIS, shapeTokens));
 
-        buildSASIIndexRelation(builder, signature, parentClassName, lastSignature, ReturnType.THIS);
-        buildDSESearchIndexRelation(builder, signature, parentClassName, lastSignature, ReturnType.THIS);
+        buildSASIIndexRelation(builder, signature, parentClassName, lastSignature, ReturnType.THIS, shapeTokens);
+        buildDSESearchIndexRelation(builder, signature, parentClassName, lastSignature, ReturnType.THIS, shapeTokens);
 
-        addMultipleColumnsSliceRestrictions(builder, parentClassName, clusteringCols, lastSignature, ReturnType.THIS);
+        addMultipleColumnsSliceRestrictions(builder, parentClassName, clusteringCols, lastSignature, ReturnType.THIS, shapeTokens);
 
-        maybeBuildOrderingBy(lastSignature, firstClustering, builder);
+        maybeBuildOrderingBy(lastSignature, firstClustering, builder, shapeTokens);
 
         return builder.build();
     }
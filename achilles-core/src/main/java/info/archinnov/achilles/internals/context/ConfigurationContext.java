@@ -15,6 +15,8 @@
  */
 package info.archinnov.achilles.internals.context;
 
+import static info.archinnov.achilles.validation.Validator.validateTrue;
+
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,13 +31,20 @@ import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.Session;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import info.archinnov.achilles.internals.cache.NearCache;
+import info.archinnov.achilles.internals.cache.PreparedStatementsWarmUp;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.interceptor.DefaultPostLoadBeanValidationInterceptor;
 import info.archinnov.achilles.internals.interceptor.DefaultPreMutateBeanValidationInterceptor;
+import info.archinnov.achilles.internals.interceptor.NearCacheInvalidationInterceptor;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.runtime.ConcurrencyLimiter;
 import info.archinnov.achilles.json.JacksonMapperFactory;
+import info.archinnov.achilles.metrics.MetricsRecorder;
+import info.archinnov.achilles.type.CompletionMode;
+import info.archinnov.achilles.type.NearCacheOptions;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -74,6 +83,18 @@ public class ConfigurationContext {
 
     private int preparedStatementLRUCacheSize;
 
+    private int staticStatementsPrepareMaxInFlight;
+
+    private Optional<PreparedStatementsWarmUp> preparedStatementsWarmUp = Optional.empty();
+    private long preparedStatementsWarmUpSaveInterval;
+
+    private int batchWriteMaxSize;
+    private int batchWriteConcurrency;
+
+    private int findAllByIdConcurrency;
+
+    private int scanParallelism;
+
     private InsertStrategy globalInsertStrategy;
     private NamingStrategy globalNamingStrategy;
 
@@ -95,6 +116,14 @@ public class ConfigurationContext {
 
     private Integer DMLResultsDisplaySize;
 
+    private MetricsRecorder metricsRecorder = MetricsRecorder.NO_OP;
+
+    private Optional<ConcurrencyLimiter> concurrencyLimiter = Optional.empty();
+
+    private CompletionMode completionMode = CompletionMode.EXECUTOR;
+
+    private Map<Class<?>, NearCacheOptions> nearCacheOptions = new HashMap<>();
+
     public boolean isForceSchemaGeneration() {
         return forceSchemaGeneration;
     }
@@ -314,27 +343,45 @@ public class ConfigurationContext {
         LOGGER.debug("Injecting global Insert strategy");
         entityProperty.inject(globalInsertStrategy);
 
+        LOGGER.debug("Injecting metrics recorder");
+        entityProperty.inject(metricsRecorder);
+
+        if (nearCacheOptions.containsKey(entityClass)) {
+            LOGGER.debug("Injecting near cache");
+            validateTrue(entityProperty.isTable(), "Near cache is only supported for tables, %s is not a table",
+                    entityClass.getCanonicalName());
+            entityProperty.inject(new NearCache(entityClass, entityProperty.partitionKeys.size(), nearCacheOptions.get(entityClass), metricsRecorder));
+        }
+
         if (!interceptors.isEmpty()) {
             LOGGER.debug("Injecting bean interceptors");
             interceptors.stream()
                     .filter(x -> x.acceptEntity(entityClass))
                     .map(x -> (Interceptor) x)
-                    .forEach(entityProperty.interceptors::add);
+                    .forEach(entityProperty::addInterceptor);
         }
 
         // Adding PreMutate Bean validator as the LAST interceptor
         if (beanValidator != null && isClassConstrained(entityClass)) {
             LOGGER.debug("Injecting Bean validator (JSR 303)");
             if (entityProperty.isTable()) {
-                entityProperty.interceptors.add((Interceptor) preMutateBeanValidationInterceptor);
+                entityProperty.addInterceptor((Interceptor) preMutateBeanValidationInterceptor);
             }
 
             // Add PostLoad interceptor as the FIRST interceptor
             if (postLoadBeanValidationInterceptor.isPresent()) {
-                entityProperty.interceptors.add(0, (Interceptor) postLoadBeanValidationInterceptor.get());
+                entityProperty.addInterceptor(0, (Interceptor) postLoadBeanValidationInterceptor.get());
             }
         }
 
+        // Near cache invalidation runs AFTER the user interceptors which may change the primary key
+        if (entityProperty.nearCache.isPresent()) {
+            addNearCacheInvalidation(entityProperty);
+        }
+
+        LOGGER.debug("Indexing interceptors by event");
+        entityProperty.indexInterceptors();
+
         LOGGER.debug("Injecting global consistency levels");
         entityProperty.injectConsistencyLevels(session, this);
 
@@ -346,6 +393,10 @@ public class ConfigurationContext {
 
     }
 
+    private static <T> void addNearCacheInvalidation(AbstractEntityProperty<T> entityProperty) {
+        entityProperty.addInterceptor(new NearCacheInvalidationInterceptor<>(entityProperty));
+    }
+
 
     public StatementsCache getStatementsCache() {
         return statementsCache;
@@ -363,6 +414,62 @@ public class ConfigurationContext {
         this.runtimeCodecs = runtimeCodecs;
     }
 
+    public int getStaticStatementsPrepareMaxInFlight() {
+        return staticStatementsPrepareMaxInFlight;
+    }
+
+    public void setStaticStatementsPrepareMaxInFlight(int staticStatementsPrepareMaxInFlight) {
+        this.staticStatementsPrepareMaxInFlight = staticStatementsPrepareMaxInFlight;
+    }
+
+    public Optional<PreparedStatementsWarmUp> getPreparedStatementsWarmUp() {
+        return preparedStatementsWarmUp;
+    }
+
+    public void setPreparedStatementsWarmUp(Optional<PreparedStatementsWarmUp> preparedStatementsWarmUp) {
+        this.preparedStatementsWarmUp = preparedStatementsWarmUp;
+    }
+
+    public long getPreparedStatementsWarmUpSaveInterval() {
+        return preparedStatementsWarmUpSaveInterval;
+    }
+
+    public void setPreparedStatementsWarmUpSaveInterval(long preparedStatementsWarmUpSaveInterval) {
+        this.preparedStatementsWarmUpSaveInterval = preparedStatementsWarmUpSaveInterval;
+    }
+
+    public int getBatchWriteMaxSize() {
+        return batchWriteMaxSize;
+    }
+
+    public void setBatchWriteMaxSize(int batchWriteMaxSize) {
+        this.batchWriteMaxSize = batchWriteMaxSize;
+    }
+
+    public int getBatchWriteConcurrency() {
+        return batchWriteConcurrency;
+    }
+
+    public void setBatchWriteConcurrency(int batchWriteConcurrency) {
+        this.batchWriteConcurrency = batchWriteConcurrency;
+    }
+
+    public int getFindAllByIdConcurrency() {
+        return findAllByIdConcurrency;
+    }
+
+    public void setFindAllByIdConcurrency(int findAllByIdConcurrency) {
+        this.findAllByIdConcurrency = findAllByIdConcurrency;
+    }
+
+    public int getScanParallelism() {
+        return scanParallelism;
+    }
+
+    public void setScanParallelism(int scanParallelism) {
+        this.scanParallelism = scanParallelism;
+    }
+
     public Integer getDMLResultsDisplaySize() {
         return DMLResultsDisplaySize;
     }
@@ -370,4 +477,36 @@ public class ConfigurationContext {
     public void setDMLResultsDisplaySize(Integer DMLResultsDisplaySize) {
         this.DMLResultsDisplaySize = DMLResultsDisplaySize;
     }
+
+    public Map<Class<?>, NearCacheOptions> getNearCacheOptions() {
+        return nearCacheOptions;
+    }
+
+    public void setNearCacheOptions(Map<Class<?>, NearCacheOptions> nearCacheOptions) {
+        this.nearCacheOptions = nearCacheOptions;
+    }
+
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    public void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    public Optional<ConcurrencyLimiter> getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    public void setConcurrencyLimiter(Optional<ConcurrencyLimiter> concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    public CompletionMode getCompletionMode() {
+        return completionMode;
+    }
+
+    public void setCompletionMode(CompletionMode completionMode) {
+        this.completionMode = completionMode;
+    }
 }
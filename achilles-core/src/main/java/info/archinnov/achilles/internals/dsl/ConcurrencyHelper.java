@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.dsl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Run an asynchronous action on each input with at most <em>concurrency</em> actions in flight.
+ * <br/>
+ * A fixed number of lanes is started, each lane chaining the action on the next pending input
+ * when its current one completes, so no thread is ever blocked waiting for a permit.
+ * On the first failure no new action is started and the returned future completes
+ * exceptionally once the in-flight actions are done
+ */
+public final class ConcurrencyHelper {
+
+    private ConcurrencyHelper() {
+    }
+
+    /**
+     * @return a future of the results, in the same order as the inputs
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> CompletableFuture<List<R>> executeWithBoundedConcurrency(List<T> inputs, int concurrency,
+                                                                                 Function<T, CompletableFuture<R>> action) {
+        final Lanes<T, R> lanes = new Lanes<>(inputs, action);
+        final int lanesCount = Math.min(concurrency, inputs.size());
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[lanesCount];
+        for (int i = 0; i < lanesCount; i++) {
+            futures[i] = lanes.startLane();
+        }
+        return CompletableFuture.allOf(futures)
+                .thenApply(x -> (List<R>) Arrays.asList(lanes.results));
+    }
+
+    private static class Lanes<T, R> {
+        private final List<T> inputs;
+        private final Function<T, CompletableFuture<R>> action;
+        private final Object[] results;
+        private final AtomicInteger nextIndex = new AtomicInteger();
+        private final AtomicBoolean failed = new AtomicBoolean(false);
+
+        private Lanes(List<T> inputs, Function<T, CompletableFuture<R>> action) {
+            this.inputs = inputs;
+            this.action = action;
+            this.results = new Object[inputs.size()];
+        }
+
+        private CompletableFuture<Void> startLane() {
+            final CompletableFuture<Void> lane = new CompletableFuture<>();
+            executeNext(lane);
+            return lane;
+        }
+
+        /**
+         * Loop over the pending inputs as long as the action returns an already completed future
+         * and only chain asynchronously on a pending one, so the stack does not grow with the
+         * number of inputs
+         */
+        private void executeNext(CompletableFuture<Void> lane) {
+            while (true) {
+                if (failed.get()) {
+                    lane.complete(null);
+                    return;
+                }
+                final int index = nextIndex.getAndIncrement();
+                if (index >= inputs.size()) {
+                    lane.complete(null);
+                    return;
+                }
+
+                final CompletableFuture<R> future;
+                try {
+                    future = action.apply(inputs.get(index));
+                } catch (Throwable throwable) {
+                    fail(lane, throwable);
+                    return;
+                }
+
+                if (!future.isDone()) {
+                    future.whenComplete((result, throwable) -> {
+                        if (throwable != null) {
+                            fail(lane, throwable);
+                        } else {
+                            results[index] = result;
+                            executeNext(lane);
+                        }
+                    });
+                    return;
+                }
+
+                try {
+                    results[index] = future.join();
+                } catch (CompletionException | CancellationException exception) {
+                    fail(lane, exception instanceof CompletionException && exception.getCause() != null
+                            ? exception.getCause()
+                            : exception);
+                    return;
+                }
+            }
+        }
+
+        private void fail(CompletableFuture<Void> lane, Throwable throwable) {
+            failed.set(true);
+            lane.completeExceptionally(throwable);
+        }
+    }
+}
@@ -32,6 +32,7 @@ import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 
 import info.archinnov.achilles.exception.AchillesLightWeightTransactionException;
+import info.archinnov.achilles.metrics.MetricsRecorder;
 import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener.LWTResult;
@@ -74,14 +75,20 @@ public class LWTHelper {
         return queryString.contains(IF_NOT_EXIST_CLAUSE);
     }
 
-    public static ResultSet triggerLWTListeners(Optional<List<LWTResultListener>> lwtResultListeners, ResultSet resultSet, String queryString) {
+    public static ResultSet triggerLWTListeners(Optional<List<LWTResultListener>> lwtResultListeners, ResultSet resultSet, String queryString,
+                                                Class<?> entityClass, MetricsRecorder metrics) {
         if (isLWTOperation(queryString)) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug(format("Trigger LWT listeners for query : %s", queryString));
             }
 
             final Row lwtResult = resultSet.one();
-            if (!resultSet.wasApplied()) {
+            final LWTOperation lwtOperation = isLWTInsert(queryString) ? INSERT : UPDATE;
+            final boolean applied = resultSet.wasApplied();
+            if (metrics.isEnabled()) {
+                metrics.recordLWTResult(entityClass, lwtOperation, applied);
+            }
+            if (!applied) {
                 TreeMap<String, Object> currentValues = new TreeMap<>();
                 for (ColumnDefinitions.Definition columnDef : lwtResult.getColumnDefinitions()) {
                     final String columnDefName = columnDef.getName();
@@ -89,10 +96,6 @@ public class LWTHelper {
                     currentValues.put(columnDefName, columnValue);
                 }
 
-                LWTOperation lwtOperation = UPDATE;
-                if (isLWTInsert(queryString)) {
-                    lwtOperation = INSERT;
-                }
                 notifyLWTError(lwtResultListeners, new LWTResult(lwtOperation, TypedMap.fromMap(currentValues)));
             } else {
                 notifyCASSuccess(lwtResultListeners);
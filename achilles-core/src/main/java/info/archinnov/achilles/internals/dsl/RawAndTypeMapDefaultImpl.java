@@ -31,8 +31,10 @@ import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.ResultSetPublisher;
 import info.archinnov.achilles.internals.types.TypedMapIteratorWrapper;
 import info.archinnov.achilles.type.TypedMap;
+import info.archinnov.achilles.type.reactive.Publisher;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAware {
@@ -47,10 +49,19 @@ public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAw
 
     CassandraOptions options();
 
+    default StatementWrapper newStatementWrapper() {
+        final BoundStatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
+                meta(), boundStatement(), encodedBoundValues());
+        statementWrapper.setCompletionMode(options().getCompletionMode());
+        if (options().hasAsyncListeners()) {
+            statementWrapper.completeOnExecutor();
+        }
+        return statementWrapper;
+    }
+
     @Override
     default CompletableFuture<Tuple2<List<TypedMap>, ExecutionInfo>> getTypedMapsAsyncWithStats() {
-        final StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
-                meta(), boundStatement(), encodedBoundValues());
+        final StatementWrapper statementWrapper = newStatementWrapper();
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Select async with execution info : %s",
@@ -58,36 +69,34 @@ public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAw
         }
         CompletableFuture<ResultSet> futureRS = runtimeEngine().execute(statementWrapper);
 
-        return futureRS
+        return runtimeEngine().completeOnExecutor(futureRS
                 .thenApply(options()::resultSetAsyncListener)
                 .thenApply(x -> statementWrapper.logReturnResults(x, options().computeMaxDisplayedResults(runtimeEngine().configContext)))
                 .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo()));
+                .thenApply(x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo())), options().getCompletionMode());
     }
 
     @Override
     default CompletableFuture<Tuple2<TypedMap, ExecutionInfo>> getTypedMapAsyncWithStats() {
-        final StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
-                meta(), boundStatement(), encodedBoundValues());
+        final StatementWrapper statementWrapper = newStatementWrapper();
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Execute native query async with execution info : %s",
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> cfutureRS = runtimeEngine().execute(statementWrapper);
+        CompletableFuture<ResultSet> cfutureRS = runtimeEngine().executeSingleRow(statementWrapper);
 
-        return cfutureRS
+        return runtimeEngine().completeOnExecutor(cfutureRS
                 .thenApply(options()::resultSetAsyncListener)
                 .thenApply(x -> statementWrapper.logReturnResults(x, options().computeMaxDisplayedResults(runtimeEngine().configContext)))
                 .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo()));
+                .thenApply(x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo())), options().getCompletionMode());
     }
 
     @Override
     default Iterator<TypedMap> typedMapIterator() {
-        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
-                meta(), boundStatement(), encodedBoundValues());
+        StatementWrapper statementWrapper = newStatementWrapper();
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Generate iterator for typed query : %s",
@@ -104,4 +113,27 @@ public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAw
         TypedMapIteratorWrapper iterator = (TypedMapIteratorWrapper) this.typedMapIterator();
         return Tuple2.of(iterator, iterator.getExecutionInfo());
     }
+
+    @Override
+    default Publisher<TypedMap> typedMapPublisher() {
+        final CassandraOptions options = options();
+
+        return new ResultSetPublisher<>(
+                () -> CompletableFuture.completedFuture(newStatementWrapper()),
+                statementWrapper -> {
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace(String.format("Execute typed map publisher for query : %s",
+                                statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+                    }
+                    return runtimeEngine().execute(statementWrapper)
+                            .thenApply(options::resultSetAsyncListener)
+                            .thenApply(statementWrapper::logTrace);
+                },
+                (statementWrapper, row) -> {
+                    statementWrapper.logReturnedRow(row);
+                    options.rowAsyncListener(row);
+                    return mapRowToTypedMap(row);
+                },
+                runtimeEngine().executor);
+    }
 }
@@ -19,9 +19,13 @@ package info.archinnov.achilles.internals.dsl;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ExecutionInfo;
@@ -30,6 +34,7 @@ import com.datastax.driver.core.Row;
 import com.google.common.util.concurrent.Uninterruptibles;
 
 import info.archinnov.achilles.type.TypedMap;
+import info.archinnov.achilles.type.reactive.Publisher;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public interface TypedMapAware extends AsyncAware {
@@ -48,6 +53,24 @@ public interface TypedMapAware extends AsyncAware {
      */
     Tuple2<Iterator<TypedMap>, ExecutionInfo> typedMapIteratorWithExecutionInfo();
 
+    /**
+     * Execute the SELECT action and return a sequential {@link java.util.stream.Stream}&lt;{@link info.archinnov.achilles.type.TypedMap}&gt;
+     * backed by {@link #typedMapIterator()}. Pages are fetched lazily as the stream is consumed
+     * <br/>
+     * WARNING: <strong>this method performs a blocking call to the underlying async query</strong>
+     */
+    default Stream<TypedMap> typedMapStream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(typedMapIterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Return a {@link info.archinnov.achilles.type.reactive.Publisher}&lt;{@link info.archinnov.achilles.type.TypedMap}&gt;.
+     * The SELECT action is executed when the first demand is signaled and result pages are fetched
+     * asynchronously, only as the subscriber requests more rows
+     */
+    Publisher<TypedMap> typedMapPublisher();
+
     /**
      * Execute the SELECT action and return a {@link java.util.concurrent.CompletableFuture}&lt;{@link info.archinnov.achilles.type.tuples.Tuple2}&lt;
      * {@link java.util.List}&lt;{@link info.archinnov.achilles.type.TypedMap}&gt;, {@link com.datastax.driver.core.ExecutionInfo}&gt;&gt;
@@ -18,13 +18,18 @@ package info.archinnov.achilles.internals.dsl.action;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.datastax.driver.core.ExecutionInfo;
 import com.google.common.util.concurrent.Uninterruptibles;
 
 import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.type.reactive.Publisher;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public interface SelectAction<ENTITY> extends AsyncAware {
@@ -45,6 +50,25 @@ public interface SelectAction<ENTITY> extends AsyncAware {
      */
     Tuple2<Iterator<ENTITY>, ExecutionInfo> iteratorWithExecutionInfo();
 
+    /**
+     * Execute the SELECT action
+     * and return a sequential {@link java.util.stream.Stream}&lt;ENTITY&gt; of entity instances
+     * backed by {@link #iterator()}. Pages are fetched lazily as the stream is consumed
+     * <br/>
+     * WARNING: <strong>this method performs a blocking call to the underlying async query</strong>
+     */
+    default Stream<ENTITY> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Return a {@link info.archinnov.achilles.type.reactive.Publisher}&lt;ENTITY&gt; of entity instances.
+     * The SELECT action is executed when the first demand is signaled and result pages are fetched
+     * asynchronously, only as the subscriber requests more entities
+     */
+    Publisher<ENTITY> publisher();
+
     /**
      * Execute the SELECT action
      * and return the first entity instance
@@ -25,6 +25,7 @@ import com.datastax.driver.core.ExecutionInfo;
 import com.google.common.util.concurrent.Uninterruptibles;
 
 import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.type.reactive.Publisher;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public interface SelectJSONAction extends AsyncAware {
@@ -45,6 +46,13 @@ public interface SelectJSONAction extends AsyncAware {
      */
     Tuple2<Iterator<String>, ExecutionInfo> iteratorWithExecutionInfo();
 
+    /**
+     * Return a {@link info.archinnov.achilles.type.reactive.Publisher}&lt;String&gt; of JSON values.
+     * The SELECT JSON * action is executed when the first demand is signaled and result pages are fetched
+     * asynchronously, only as the subscriber requests more values
+     */
+    Publisher<String> publisher();
+
     /**
      * Execute the SELECT JSON * action
      * and return the first row value as JSON
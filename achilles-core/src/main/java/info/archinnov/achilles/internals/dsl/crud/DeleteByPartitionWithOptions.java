@@ -68,20 +68,27 @@ public class DeleteByPartitionWithOptions<ENTITY> extends AbstractOptionsForUpda
     @Override
     public CompletableFuture<ExecutionInfo> executeAsyncWithStats() {
 
-        StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-        final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
-
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Execute delete async with execution info : %s", queryString));
-        }
-
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
-
-        return cfutureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo());
+        return rte.completeOnExecutor(getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
+
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Execute delete async with execution info : %s", queryString));
+            }
+
+            final List<Object> encodedPartitionKeysAsList = Arrays.asList(encodedPartitionKeys);
+            meta.invalidateNearCache(encodedPartitionKeysAsList);
+            if (lwtResultListeners.isPresent()) {
+                statementWrapper.completeOnExecutor();
+            }
+            CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+
+            return cfutureRS
+                    .whenComplete((x, throwable) -> meta.invalidateNearCache(encodedPartitionKeysAsList))
+                    .thenApply(options::resultSetAsyncListener)
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString, meta.entityClass, rte.metrics))
+                    .thenApply(x -> x.getExecutionInfo());
+        }), options.getCompletionMode());
 
     }
 
@@ -120,7 +127,19 @@ public class DeleteByPartitionWithOptions<ENTITY> extends AbstractOptionsForUpda
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        PreparedStatement ps = DELETE_BY_PARTITION.getPreparedStatement(rte, meta, options);
+        return bindPartitionKeys(DELETE_BY_PARTITION.getPreparedStatement(rte, meta, options));
+    }
+
+    private CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Get bound statement wrapper asynchronously"));
+        }
+
+        return DELETE_BY_PARTITION.getPreparedStatementAsync(rte, meta, options)
+                .thenApply(this::bindPartitionKeys);
+    }
+
+    private StatementWrapper bindPartitionKeys(PreparedStatement ps) {
         StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.DELETE, meta, ps, partitionKeys, encodedPartitionKeys);
         statementWrapper.applyOptions(options);
         return statementWrapper;
@@ -81,27 +81,40 @@ public class DeleteWithOptions<ENTITY> extends AbstractOptionsForUpdateOrDelete<
 
         if (this.instance.isPresent()) {
             final ENTITY entity = this.instance.get();
+            if (meta.hasAsyncInterceptorsForEvent(PRE_DELETE)) {
+                return rte.completeOnExecutor(meta.triggerInterceptorsForEventAsync(PRE_DELETE, entity, entity)
+                        .thenCompose(x -> executeDeleteAsync()), options.getCompletionMode());
+            }
             meta.triggerInterceptorsForEvent(PRE_DELETE, entity);
         }
 
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-        final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
-
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Execute delete async with execution info : %s", queryString));
-        }
+        return rte.completeOnExecutor(executeDeleteAsync(), options.getCompletionMode());
+    }
 
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
-
-        return cfutureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo())
-                .thenApply(x -> {
-                    if (this.instance.isPresent()) meta.triggerInterceptorsForEvent(POST_DELETE, instance.get());
-                    return x;
-                });
+    private CompletableFuture<ExecutionInfo> executeDeleteAsync() {
+        return getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
+
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Execute delete async with execution info : %s", queryString));
+            }
+
+            meta.invalidateNearCache(encodedPrimaryKeyValues);
+            if (lwtResultListeners.isPresent()) {
+                statementWrapper.completeOnExecutor();
+            }
+            CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+
+            return cfutureRS
+                    .whenComplete((x, throwable) -> meta.invalidateNearCache(encodedPrimaryKeyValues))
+                    .thenApply(options::resultSetAsyncListener)
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString, meta.entityClass, rte.metrics))
+                    .thenApply(x -> x.getExecutionInfo())
+                    .thenCompose(x -> this.instance.isPresent()
+                            ? meta.triggerInterceptorsForEventAsync(POST_DELETE, instance.get(), x)
+                            : CompletableFuture.completedFuture(x));
+        });
     }
 
     @Override
@@ -139,17 +152,29 @@ public class DeleteWithOptions<ENTITY> extends AbstractOptionsForUpdateOrDelete<
             LOGGER.trace(format("Generate bound statement wrapper"));
         }
 
-        final PreparedStatement ps = getInternalPreparedStatement();
+        return bindPrimaryKeys(getInternalOperation().getPreparedStatement(rte, meta, options));
+    }
+
+    private CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Generate bound statement wrapper asynchronously"));
+        }
+
+        return getInternalOperation().getPreparedStatementAsync(rte, meta, options)
+                .thenApply(this::bindPrimaryKeys);
+    }
+
+    private StatementWrapper bindPrimaryKeys(PreparedStatement ps) {
         final BoundStatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.DELETE, meta, ps, primaryKeyValues, encodedPrimaryKeyValues);
         statementWrapper.applyOptions(options);
         return statementWrapper;
     }
 
-    private PreparedStatement getInternalPreparedStatement() {
+    private CacheKey.Operation getInternalOperation() {
         if (ifExists.isPresent() && ifExists.get() == true) {
-            return DELETE_IF_EXISTS.getPreparedStatement(rte, meta, options);
+            return DELETE_IF_EXISTS;
         } else {
-            return DELETE.getPreparedStatement(rte, meta, options);
+            return DELETE;
         }
     }
 
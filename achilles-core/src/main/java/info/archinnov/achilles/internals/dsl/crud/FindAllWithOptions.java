@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static info.archinnov.achilles.internals.cache.CacheKey.Operation.FIND;
+import static info.archinnov.achilles.internals.dsl.ConcurrencyHelper.executeWithBoundedConcurrency;
+import static java.lang.String.format;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
+import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Find a collection of entities by their complete primary key.
+ * <br/>
+ * One SELECT is sent per distinct primary key, using the static FIND prepared statement,
+ * with at most <em>concurrency</em> requests in flight. Each bound statement carries
+ * its routing key so it is sent directly to a replica by the token-aware load balancing policy
+ */
+public class FindAllWithOptions<PK, ENTITY> extends AbstractOptionsForSelect<FindAllWithOptions<PK, ENTITY>>
+        implements AsyncAware {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FindAllWithOptions.class);
+
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final RuntimeEngine rte;
+    private final List<PK> ids;
+    private final Map<PK, PrimaryKeyValues> distinctPrimaryKeys;
+    private final CassandraOptions options;
+    private int concurrency;
+
+    public FindAllWithOptions(AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte, List<PK> ids,
+                              List<Object[]> primaryKeysValues, List<Object[]> encodedPrimaryKeysValues,
+                              Optional<CassandraOptions> cassandraOptions) {
+        this.meta = meta;
+        this.rte = rte;
+        this.ids = ids;
+        this.distinctPrimaryKeys = new LinkedHashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            distinctPrimaryKeys.putIfAbsent(ids.get(i), new PrimaryKeyValues(primaryKeysValues.get(i), encodedPrimaryKeysValues.get(i)));
+        }
+        this.options = cassandraOptions.orElse(new CassandraOptions());
+        this.concurrency = rte.configContext.getFindAllByIdConcurrency();
+    }
+
+    /**
+     * Max number of SELECT requests in flight
+     */
+    public FindAllWithOptions<PK, ENTITY> withConcurrency(int concurrency) {
+        Validator.validateTrue(concurrency > 0, "The find all by id concurrency should be strictly positive");
+        this.concurrency = concurrency;
+        return getThis();
+    }
+
+    /**
+     * Find the entities and return them in the same order as the given primary keys,
+     * with <strong>null</strong> for the primary keys that do not match any entity
+     */
+    public List<ENTITY> get() {
+        try {
+            return Uninterruptibles.getUninterruptibly(getAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Find the entities and return them indexed by primary key, in the same order as
+     * the given primary keys. Primary keys that do not match any entity are absent from the map
+     */
+    public Map<PK, ENTITY> getAsMap() {
+        try {
+            return Uninterruptibles.getUninterruptibly(getAsMapAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Asynchronous version of {@link #get()}
+     */
+    public CompletableFuture<List<ENTITY>> getAsync() {
+        return findAll().thenApply(entitiesById -> {
+            final List<ENTITY> entities = new ArrayList<>(ids.size());
+            for (PK id : ids) {
+                entities.add(entitiesById.get(id));
+            }
+            return entities;
+        });
+    }
+
+    /**
+     * Asynchronous version of {@link #getAsMap()}
+     */
+    public CompletableFuture<Map<PK, ENTITY>> getAsMapAsync() {
+        return findAll().thenApply(entitiesById -> {
+            entitiesById.values().removeIf(Objects::isNull);
+            return entitiesById;
+        });
+    }
+
+    @Override
+    protected CassandraOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    protected FindAllWithOptions<PK, ENTITY> getThis() {
+        return this;
+    }
+
+    private CompletableFuture<Map<PK, ENTITY>> findAll() {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Find %s entities of type %s by id, at most %s requests in flight",
+                    distinctPrimaryKeys.size(), meta.entityClass.getCanonicalName(), concurrency));
+        }
+
+        final List<PK> distinctIds = new ArrayList<>(distinctPrimaryKeys.keySet());
+        final CompletableFuture<Map<PK, ENTITY>> futureEntities = FIND.getPreparedStatementAsync(rte, meta, options)
+                .thenCompose(ps -> executeWithBoundedConcurrency(distinctIds, concurrency,
+                        id -> findOne(ps, distinctPrimaryKeys.get(id))))
+                .thenApply(entities -> {
+                    final Map<PK, ENTITY> entitiesById = new LinkedHashMap<>(distinctIds.size() * 2);
+                    for (int i = 0; i < distinctIds.size(); i++) {
+                        entitiesById.put(distinctIds.get(i), entities.get(i));
+                    }
+                    return entitiesById;
+                });
+        return rte.completeOnExecutor(futureEntities, options.getCompletionMode());
+    }
+
+    private CompletableFuture<ENTITY> findOne(PreparedStatement ps, PrimaryKeyValues primaryKey) {
+        final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT, meta, ps,
+                primaryKey.values, primaryKey.encodedValues);
+        statementWrapper.applyOptions(options);
+
+        return rte.execute(statementWrapper)
+                .thenApply(options::resultSetAsyncListener)
+                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
+                .thenApply(statementWrapper::logTrace)
+                .thenApply(rs -> {
+                    final Row row = rs.one();
+                    options.rowAsyncListener(row);
+                    return meta.createEntityFrom(row);
+                })
+                .thenCompose(entity -> entity != null
+                        ? meta.triggerInterceptorsForEventAsync(Event.POST_LOAD, entity, entity)
+                        : CompletableFuture.completedFuture(null));
+    }
+
+    private static class PrimaryKeyValues {
+        private final Object[] values;
+        private final Object[] encodedValues;
+
+        private PrimaryKeyValues(Object[] values, Object[] encodedValues) {
+            this.values = values;
+            this.encodedValues = encodedValues;
+        }
+    }
+}
@@ -83,31 +83,56 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
     }
 
     public CompletableFuture<ENTITY> getAsync() {
+        if (isNearCacheEligible()) {
+            return rte.completeOnExecutor(meta.nearCache.get()
+                    .get(Arrays.asList(encodedPrimaryKeyValues), () -> executeFind().thenApply(ResultSet::one))
+                    .thenApply(meta::createEntityFrom)
+                    .thenCompose(entity -> meta.triggerInterceptorsForEventAsync(Event.POST_LOAD, entity, entity)),
+                    options.getCompletionMode());
+        }
         return getAsyncWithStats().thenApply(tuple2 -> tuple2._1());
     }
 
     public CompletableFuture<Tuple2<ENTITY, ExecutionInfo>> getAsyncWithStats() {
-
-        StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Find async with execution info : %s",
-                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
-        }
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
-
-        return futureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                .thenApply(statementWrapper::logTrace)
+        return rte.completeOnExecutor(executeFind()
                 .thenApply(rs -> {
                     final Row row = rs.one();
                     options.rowAsyncListener(row);
                     return Tuple2.of(meta.createEntityFrom(row), rs.getExecutionInfo());
                 })
-                .thenApply(tuple2 -> {
-                    meta.triggerInterceptorsForEvent(Event.POST_LOAD, tuple2._1());
-                    return tuple2;
-                });
+                .thenCompose(tuple2 -> meta.triggerInterceptorsForEventAsync(Event.POST_LOAD, tuple2._1(), tuple2)),
+                options.getCompletionMode());
+    }
+
+    private CompletableFuture<ResultSet> executeFind() {
+        return getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Find async with execution info : %s",
+                        statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+            }
+            CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+
+            return futureRS
+                    .thenApply(options::resultSetAsyncListener)
+                    .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
+                    .thenApply(statementWrapper::logTrace);
+        });
+    }
+
+    /**
+     * The near cache only serves plain reads. It is bypassed when a schema name provider may
+     * redirect the read to another table, when a serial read is requested, or when the caller
+     * expects the query to be executed (tracing, result set or row listeners). Other consistency
+     * levels are not part of the cache key and are served from the cache
+     */
+    private boolean isNearCacheEligible() {
+        return meta.nearCache.isPresent()
+                && !meta.schemaStrategy.isPresent()
+                && !options.hasSchemaNameProvider()
+                && !options.getCl().filter(ConsistencyLevel::isSerial).isPresent()
+                && !options.getTracing().orElse(false)
+                && !options.getResultSetAsyncListeners().isPresent()
+                && !options.getRowAsyncListeners().isPresent();
     }
 
     @Override
@@ -146,7 +171,19 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        final PreparedStatement ps = FIND.getPreparedStatement(rte, meta, options);
+        return bindPrimaryKeys(FIND.getPreparedStatement(rte, meta, options));
+    }
+
+    private CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Get bound statement wrapper asynchronously"));
+        }
+
+        return FIND.getPreparedStatementAsync(rte, meta, options)
+                .thenApply(this::bindPrimaryKeys);
+    }
+
+    private StatementWrapper bindPrimaryKeys(PreparedStatement ps) {
         StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT, meta, ps, primaryKeyValues, encodedPrimaryKeyValues);
         statementWrapper.applyOptions(options);
         return statementWrapper;
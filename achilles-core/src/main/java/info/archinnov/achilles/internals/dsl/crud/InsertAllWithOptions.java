@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static info.archinnov.achilles.internals.cache.CacheKey.Operation.INSERT;
+import static info.archinnov.achilles.internals.dsl.ConcurrencyHelper.executeWithBoundedConcurrency;
+import static info.archinnov.achilles.type.interceptor.Event.POST_INSERT;
+import static info.archinnov.achilles.type.interceptor.Event.PRE_INSERT;
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForCRUDInsert;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.BatchStatementWrapper;
+import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.Empty;
+import info.archinnov.achilles.type.strategy.InsertStrategy;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Insert a collection of entities with <strong>UNLOGGED</strong> batches.
+ * <br/>
+ * The INSERT statements are grouped by partition, using the routing key of each bound statement,
+ * and each partition is split into batches of at most <em>maxBatchSize</em> statements. Since all
+ * the statements of a batch target the same partition, it is sent to a replica by the token-aware
+ * load balancing policy and applied as a single mutation.
+ * <br/>
+ * At most <em>concurrency</em> batches are in flight at any time. On the first failure no new
+ * batch is sent, see {@link info.archinnov.achilles.internals.dsl.ConcurrencyHelper}.
+ * Batches already applied are not rolled back. <strong>IF NOT EXISTS</strong> is not supported
+ */
+public class InsertAllWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<InsertAllWithOptions<ENTITY>>
+        implements AsyncAware {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InsertAllWithOptions.class);
+
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final RuntimeEngine rte;
+    private final Collection<ENTITY> instances;
+    private final CassandraOptions options;
+
+    private int maxBatchSize;
+    private int concurrency;
+
+    public InsertAllWithOptions(AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte, Collection<ENTITY> instances, Optional<CassandraOptions> cassandraOptions) {
+        this.meta = meta;
+        this.rte = rte;
+        this.instances = instances;
+        this.options = cassandraOptions.orElse(new CassandraOptions());
+        this.maxBatchSize = rte.configContext.getBatchWriteMaxSize();
+        this.concurrency = rte.configContext.getBatchWriteConcurrency();
+    }
+
+    /**
+     * Max number of INSERT statements in a single batch. Partitions with more
+     * entities are split into several batches
+     */
+    public InsertAllWithOptions<ENTITY> withMaxBatchSize(int maxBatchSize) {
+        Validator.validateTrue(maxBatchSize > 0, "The max batch size should be strictly positive");
+        this.maxBatchSize = maxBatchSize;
+        return getThis();
+    }
+
+    /**
+     * Max number of batches in flight
+     */
+    public InsertAllWithOptions<ENTITY> withConcurrency(int concurrency) {
+        Validator.validateTrue(concurrency > 0, "The batch concurrency should be strictly positive");
+        this.concurrency = concurrency;
+        return getThis();
+    }
+
+    /**
+     * Execute the batched INSERTs
+     */
+    public void execute() {
+        try {
+            Uninterruptibles.getUninterruptibly(executeAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Execute the batched INSERTs
+     * and return the {@link com.datastax.driver.core.ExecutionInfo} of each batch
+     */
+    public List<ExecutionInfo> executeWithStats() {
+        try {
+            return Uninterruptibles.getUninterruptibly(executeAsyncWithStats());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Execute the batched INSERTs asynchronously
+     * and return a {@link java.util.concurrent.CompletableFuture}
+     * of {@link info.archinnov.achilles.type.Empty} object.
+     * The Empty object is here to avoid returning <strong>null</strong>
+     */
+    public CompletableFuture<Empty> executeAsync() {
+        return executeAsyncWithStats()
+                .thenApply(x -> Empty.INSTANCE);
+    }
+
+    /**
+     * Execute the batched INSERTs asynchronously
+     * and return a {@link java.util.concurrent.CompletableFuture}
+     * of the {@link com.datastax.driver.core.ExecutionInfo} of each batch
+     */
+    public CompletableFuture<List<ExecutionInfo>> executeAsyncWithStats() {
+        Validator.validateFalse(ifNotExists.orElse(false), "IF NOT EXISTS is not supported for the insertion of a collection of entities");
+        // PRE_INSERT interceptors may change the primary key, they should complete before the partition batches are built
+        final CompletableFuture<List<ExecutionInfo>> futureInfos = meta.triggerInterceptorsForEachAsync(PRE_INSERT, new ArrayList<>(instances), instances)
+                .thenCompose(x -> INSERT.getPreparedStatementAsync(rte, meta, options))
+                .thenCompose(ps -> {
+                    final List<PartitionBatch<ENTITY>> batches = buildPartitionBatches(ps);
+
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(format("Inserting %s entities of type %s with %s batches, at most %s in flight",
+                                instances.size(), meta.entityClass.getCanonicalName(), batches.size(), concurrency));
+                    }
+
+                    return executeWithBoundedConcurrency(batches, concurrency, this::executeBatch);
+                });
+        return rte.completeOnExecutor(futureInfos, options.getCompletionMode());
+    }
+
+    @Override
+    protected CassandraOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    protected InsertAllWithOptions<ENTITY> getThis() {
+        return this;
+    }
+
+    private CompletableFuture<ExecutionInfo> executeBatch(PartitionBatch<ENTITY> batch) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Execute UNLOGGED batch of %s INSERT statements for a partition of entity %s",
+                    batch.instances.size(), meta.entityClass.getCanonicalName()));
+        }
+
+        return rte.execute(batch.statementWrapper)
+                .thenApply(this.options::resultSetAsyncListener)
+                .thenApply(batch.statementWrapper::logTrace)
+                .thenCompose(rs -> meta.triggerInterceptorsForEachAsync(POST_INSERT, batch.instances, rs.getExecutionInfo()));
+    }
+
+    private List<PartitionBatch<ENTITY>> buildPartitionBatches(PreparedStatement ps) {
+        final InsertStrategy strategy = getOverridenStrategy(meta);
+        final Configuration configuration = rte.session.getCluster().getConfiguration();
+        final ProtocolVersion protocolVersion = configuration.getProtocolOptions().getProtocolVersion();
+        final CodecRegistry codecRegistry = configuration.getCodecRegistry();
+
+        final Map<Object, List<ENTITY>> instancesByPartition = new LinkedHashMap<>();
+        final Map<Object, List<StatementWrapper>> statementsByPartition = new LinkedHashMap<>();
+        for (ENTITY instance : instances) {
+            final StatementWrapper statementWrapper = meta
+                    .extractAllValuesFromEntity(instance, options)
+                    .bindWithInsertStrategy(ps, strategy);
+
+            final Object partition = partitionOf(instance, statementWrapper.getBoundStatement(), protocolVersion, codecRegistry);
+            instancesByPartition.computeIfAbsent(partition, key -> new ArrayList<>()).add(instance);
+            statementsByPartition.computeIfAbsent(partition, key -> new ArrayList<>()).add(statementWrapper);
+        }
+
+        final List<PartitionBatch<ENTITY>> batches = new ArrayList<>();
+        for (Map.Entry<Object, List<StatementWrapper>> entry : statementsByPartition.entrySet()) {
+            final List<ENTITY> partitionInstances = instancesByPartition.get(entry.getKey());
+            final List<StatementWrapper> partitionStatements = entry.getValue();
+            for (int from = 0; from < partitionStatements.size(); from += maxBatchSize) {
+                final int to = Math.min(from + maxBatchSize, partitionStatements.size());
+                final BatchStatementWrapper batchWrapper = new BatchStatementWrapper(OperationType.INSERT, meta,
+                        BatchStatement.Type.UNLOGGED, partitionStatements.subList(from, to));
+                batchWrapper.applyOptions(options);
+                batches.add(new PartitionBatch<>(partitionInstances.subList(from, to), batchWrapper));
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * The routing key is the serialized partition key used by the driver for token-aware routing.
+     * When it cannot be computed, fall back to the encoded partition key values
+     */
+    private Object partitionOf(ENTITY instance, BoundStatement boundStatement,
+                               ProtocolVersion protocolVersion, CodecRegistry codecRegistry) {
+        final ByteBuffer routingKey = boundStatement.getRoutingKey(protocolVersion, codecRegistry);
+        if (routingKey != null) {
+            return routingKey;
+        }
+        final List<Object> encodedPartitionKeys = new ArrayList<>(meta.partitionKeys.size());
+        for (AbstractProperty<ENTITY, ?, ?> partitionKey : meta.partitionKeys) {
+            encodedPartitionKeys.add(partitionKey.encodeField(instance, Optional.of(options)));
+        }
+        return encodedPartitionKeys;
+    }
+
+    private static class PartitionBatch<ENTITY> {
+        private final List<ENTITY> instances;
+        private final BatchStatementWrapper statementWrapper;
+
+        private PartitionBatch(List<ENTITY> instances, BatchStatementWrapper statementWrapper) {
+            this.instances = instances;
+            this.statementWrapper = statementWrapper;
+        }
+    }
+}
@@ -34,6 +34,7 @@ import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 
+import info.archinnov.achilles.internals.cache.CacheKey;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.MutationAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForCRUDInsert;
@@ -67,20 +68,27 @@ public class InsertJSONWithOptions extends AbstractOptionsForCRUDInsert<InsertJS
 
     public CompletableFuture<ExecutionInfo> executeAsyncWithStats() {
 
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-        final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
-
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Insert JSON async with execution info : %s", queryString));
-        }
-
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
-
-        return cfutureRS
-                .thenApply(getOptions()::resultSetAsyncListener)
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo());
+        return rte.completeOnExecutor(getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
+
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Insert JSON async with execution info : %s", queryString));
+            }
+
+            // The primary key is only known by Cassandra once it has parsed the JSON, so the whole near cache is evicted
+            meta.invalidateNearCache();
+            if (lwtResultListeners.isPresent()) {
+                statementWrapper.completeOnExecutor();
+            }
+            CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+
+            return cfutureRS
+                    .whenComplete((x, throwable) -> meta.invalidateNearCache())
+                    .thenApply(getOptions()::resultSetAsyncListener)
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString, meta.entityClass, rte.metrics))
+                    .thenApply(x -> x.getExecutionInfo());
+        }), cassandraOptions.getCompletionMode());
     }
 
     @Override
@@ -119,7 +127,19 @@ public class InsertJSONWithOptions extends AbstractOptionsForCRUDInsert<InsertJS
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        final PreparedStatement ps = getInternalPreparedStatement();
+        return bindJson(getInternalPreparedStatement());
+    }
+
+    private CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Get bound statement wrapper asynchronously"));
+        }
+
+        return getInternalOperation().getPreparedStatementAsync(rte, meta, getOptions())
+                .thenApply(this::bindJson);
+    }
+
+    private StatementWrapper bindJson(PreparedStatement ps) {
         final BoundStatement bs = ps.bind(json);
 
         StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.INSERT, meta, bs, encodedBoundValues);
@@ -128,10 +148,14 @@ public class InsertJSONWithOptions extends AbstractOptionsForCRUDInsert<InsertJS
     }
 
     private PreparedStatement getInternalPreparedStatement() {
+        return getInternalOperation().getPreparedStatement(rte, meta, getOptions());
+    }
+
+    private CacheKey.Operation getInternalOperation() {
         if (ifNotExists.isPresent() && ifNotExists.get() == true) {
-            return INSERT_IF_NOT_EXISTS_JSON.getPreparedStatement(rte, meta, getOptions());
+            return INSERT_IF_NOT_EXISTS_JSON;
         } else {
-            return INSERT_JSON.getPreparedStatement(rte, meta, getOptions());
+            return INSERT_JSON;
         }
     }
 
@@ -21,8 +21,8 @@ import static info.archinnov.achilles.internals.dsl.LWTHelper.triggerLWTListener
 import static info.archinnov.achilles.type.interceptor.Event.POST_INSERT;
 import static info.archinnov.achilles.type.interceptor.Event.PRE_INSERT;
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -35,6 +35,7 @@ import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 
+import info.archinnov.achilles.internals.cache.CacheKey;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.MutationAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForCRUDInsert;
@@ -65,27 +66,36 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
 
     public CompletableFuture<ExecutionInfo> executeAsyncWithStats() {
 
-        meta.triggerInterceptorsForEvent(PRE_INSERT, instance);
-
-
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-        final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
-
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Insert async with execution info : %s", queryString));
+        if (meta.hasAsyncInterceptorsForEvent(PRE_INSERT)) {
+            return rte.completeOnExecutor(meta.triggerInterceptorsForEventAsync(PRE_INSERT, instance, instance)
+                    .thenCompose(x -> executeInsertAsync()), this.options.getCompletionMode());
         }
 
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+        meta.triggerInterceptorsForEvent(PRE_INSERT, instance);
 
-        return cfutureRS
-                .thenApply(this.options::resultSetAsyncListener)
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo())
-                .thenApply(x -> {
-                    meta.triggerInterceptorsForEvent(POST_INSERT, instance);
-                    return x;
-                });
+        return rte.completeOnExecutor(executeInsertAsync(), this.options.getCompletionMode());
+    }
+
+    private CompletableFuture<ExecutionInfo> executeInsertAsync() {
+        return getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
+
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Insert async with execution info : %s", queryString));
+            }
+
+            if (lwtResultListeners.isPresent()) {
+                statementWrapper.completeOnExecutor();
+            }
+            CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+
+            return cfutureRS
+                    .thenApply(this.options::resultSetAsyncListener)
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString, meta.entityClass, rte.metrics))
+                    .thenApply(x -> x.getExecutionInfo())
+                    .thenCompose(x -> meta.triggerInterceptorsForEventAsync(POST_INSERT, instance, x));
+        });
     }
 
     @Override
@@ -109,7 +119,7 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
         BoundValuesWrapper wrapper = insertStatic == true
                 ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
                 : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.boundValue).collect(toList());
+        return Arrays.asList(wrapper.boundValues);
     }
 
     @Override
@@ -117,7 +127,7 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
         BoundValuesWrapper wrapper = insertStatic == true
                 ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
                 : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.encodedValue).collect(toList());
+        return Arrays.asList(wrapper.encodedValues);
     }
 
     @Override
@@ -140,15 +150,32 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
         return statementWrapper;
     }
 
+    private CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Get bound statement wrapper asynchronously"));
+        }
+
+        BoundValuesWrapper wrapper = insertStatic == true
+                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
+                : meta.extractAllValuesFromEntity(instance, options);
+
+        return getInternalOperation().getPreparedStatementAsync(rte, meta, options)
+                .thenApply(ps -> {
+                    StatementWrapper statementWrapper = wrapper.bindWithInsertStrategy(ps, getOverridenStrategy(meta));
+                    statementWrapper.applyOptions(options);
+                    return statementWrapper;
+                });
+    }
+
     private PreparedStatement getInternalPreparedStatement() {
+        return getInternalOperation().getPreparedStatement(rte, meta, options);
+    }
+
+    private CacheKey.Operation getInternalOperation() {
         if (ifNotExists.isPresent() && ifNotExists.get() == true) {
-            return insertStatic == true
-                    ? INSERT_STATIC_IF_NOT_EXISTS.getPreparedStatement(rte, meta, options)
-                    : INSERT_IF_NOT_EXISTS.getPreparedStatement(rte, meta, options);
+            return insertStatic == true ? INSERT_STATIC_IF_NOT_EXISTS : INSERT_IF_NOT_EXISTS;
         } else {
-            return insertStatic == true
-                    ? INSERT_STATIC.getPreparedStatement(rte, meta, options)
-                    : INSERT.getPreparedStatement(rte, meta, options);
+            return insertStatic == true ? INSERT_STATIC : INSERT;
         }
     }
 
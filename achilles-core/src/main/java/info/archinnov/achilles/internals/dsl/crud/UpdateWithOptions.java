@@ -20,8 +20,8 @@ import static info.archinnov.achilles.internals.dsl.LWTHelper.triggerLWTListener
 import static info.archinnov.achilles.type.interceptor.Event.POST_UPDATE;
 import static info.archinnov.achilles.type.interceptor.Event.PRE_UPDATE;
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -32,6 +32,7 @@ import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
 
 import info.archinnov.achilles.internals.dsl.StatementProvider;
@@ -65,27 +66,36 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
 
     public CompletableFuture<ExecutionInfo> executeAsyncWithStats() {
 
-        meta.triggerInterceptorsForEvent(PRE_UPDATE, instance);
-
-
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-        final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
-
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Insert async with execution info : %s", queryString));
+        if (meta.hasAsyncInterceptorsForEvent(PRE_UPDATE)) {
+            return rte.completeOnExecutor(meta.triggerInterceptorsForEventAsync(PRE_UPDATE, instance, instance)
+                    .thenCompose(x -> executeUpdateAsync()), this.options.getCompletionMode());
         }
 
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+        meta.triggerInterceptorsForEvent(PRE_UPDATE, instance);
 
-        return cfutureRS
-                .thenApply(this.options::resultSetAsyncListener)
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo())
-                .thenApply(x -> {
-                    meta.triggerInterceptorsForEvent(POST_UPDATE, instance);
-                    return x;
-                });
+        return rte.completeOnExecutor(executeUpdateAsync(), this.options.getCompletionMode());
+    }
+
+    private CompletableFuture<ExecutionInfo> executeUpdateAsync() {
+        return getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
+
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Insert async with execution info : %s", queryString));
+            }
+
+            if (lwtResultListeners.isPresent()) {
+                statementWrapper.completeOnExecutor();
+            }
+            CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+
+            return cfutureRS
+                    .thenApply(this.options::resultSetAsyncListener)
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString, meta.entityClass, rte.metrics))
+                    .thenApply(x -> x.getExecutionInfo())
+                    .thenCompose(x -> meta.triggerInterceptorsForEventAsync(POST_UPDATE, instance, x));
+        });
     }
 
     @Override
@@ -109,7 +119,7 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
         BoundValuesWrapper wrapper = updateStatic == true
                 ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
                 : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.boundValue).collect(toList());
+        return Arrays.asList(wrapper.boundValues);
     }
 
     @Override
@@ -117,7 +127,7 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
         BoundValuesWrapper wrapper = updateStatic == true
                 ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
                 : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.encodedValue).collect(toList());
+        return Arrays.asList(wrapper.encodedValues);
     }
 
     @Override
@@ -140,9 +150,30 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
         return statementWrapper;
     }
 
+    private CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Get bound statement wrapper asynchronously"));
+        }
+
+        BoundValuesWrapper wrapper = updateStatic == true
+                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
+                : meta.extractAllValuesFromEntity(instance, options);
+
+        return rte.prepareDynamicQueryAsync(generateUpdateStatement())
+                .thenApply(ps -> {
+                    StatementWrapper statementWrapper = wrapper.bindForUpdate(ps);
+                    statementWrapper.applyOptions(options);
+                    return statementWrapper;
+                });
+    }
+
     private PreparedStatement getInternalPreparedStatement() {
-        return rte.prepareDynamicQuery(PreparedStatementGenerator.generateUpdate(instance, meta, options, updateStatic,
-                (ifExists.isPresent() && ifExists.get() == true)));
+        return rte.prepareDynamicQuery(generateUpdateStatement());
+    }
+
+    private RegularStatement generateUpdateStatement() {
+        return PreparedStatementGenerator.generateUpdate(instance, meta, options, updateStatic,
+                (ifExists.isPresent() && ifExists.get() == true));
     }
 
 
@@ -16,6 +16,7 @@
 
 package info.archinnov.achilles.internals.dsl.options;
 
+import static info.archinnov.achilles.validation.Validator.validateTrue;
 import static java.util.Arrays.asList;
 
 import java.nio.ByteBuffer;
@@ -31,6 +32,7 @@ import com.datastax.driver.core.Row;
 import com.datastax.driver.core.policies.RetryPolicy;
 
 import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.type.CompletionMode;
 
 public abstract class AbstractOptionsForSelect<T extends AbstractOptionsForSelect<T>> {
 
@@ -81,7 +83,10 @@ public abstract class AbstractOptionsForSelect<T extends AbstractOptionsForSelec
     }
 
     /**
-     * Hint the current statement as idempotent. Useful for retry strategy
+     * Hint the current statement as idempotent. Useful for retry strategy.
+     * <br/>
+     * By default, idempotence is inferred from the statement: SELECT and plain INSERT/UPDATE/DELETE
+     * statements are idempotent whereas counter updates, list appends/prepends and LWT are not
      */
     public T isIdempotent() {
         getOptions().setIdempotent(Optional.of(true));
@@ -89,7 +94,8 @@ public abstract class AbstractOptionsForSelect<T extends AbstractOptionsForSelec
     }
 
     /**
-     * Give a hint whether the current statement is idempotent. Useful for retry strategy
+     * Give a hint whether the current statement is idempotent. Useful for retry strategy.
+     * Overrides the idempotence inferred from the statement
      */
     public T isIdempotent(boolean idempotent) {
         getOptions().setIdempotent(Optional.of(idempotent));
@@ -284,4 +290,33 @@ public abstract class AbstractOptionsForSelect<T extends AbstractOptionsForSelec
         getOptions().setDMLResultsDisplaySize(Optional.of(Integer.max(0,Integer.min(DMLResultsDisplaySize, CassandraOptions.MAX_RESULTS_DISPLAY_SIZE))));
         return getThis();
     }
+
+    /**
+     * When iterating over the results, fetch the next page asynchronously once the given fraction
+     * of the current page has been consumed. Row decoding then overlaps with the network round-trip
+     * of the next page instead of blocking at each page boundary.
+     * <br/>
+     * <br/>
+     * Example: <strong>withPagePrefetchThreshold(0.5)</strong> triggers the fetch of the next page
+     * when half of the current page has been consumed
+     * @param pageFractionThreshold fraction of the current page, strictly between 0 and 1
+     */
+    public T withPagePrefetchThreshold(double pageFractionThreshold) {
+        validateTrue(pageFractionThreshold > 0 && pageFractionThreshold < 1,
+                "The page prefetch threshold '%s' should be strictly between 0 and 1", pageFractionThreshold);
+        getOptions().setPagePrefetchThreshold(Optional.of(pageFractionThreshold));
+        return getThis();
+    }
+
+    /**
+     * Thread on which the future of the statement execution is completed. With
+     * <strong>CompletionMode.DIRECT</strong>, it is completed on the driver I/O thread,
+     * saving a thread hand-off, unless interceptors, LWT or async listeners run once the statement completes.
+     * The returned future is then handed over to the executor service once, after the internal processing
+     * @param completionMode completion mode for this statement
+     */
+    public T withCompletionMode(CompletionMode completionMode) {
+        getOptions().setCompletionMode(Optional.of(completionMode));
+        return getThis();
+    }
 }
@@ -22,6 +22,7 @@ import java.util.List;
 import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 
+import info.archinnov.achilles.internals.cache.QueryShape;
 import info.archinnov.achilles.internals.dsl.SchemaNameAware;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 
@@ -31,6 +32,11 @@ public abstract class AbstractDelete implements SchemaNameAware {
     protected final RuntimeEngine rte;
     protected final List<Object> boundValues = new ArrayList<>();
     protected final List<Object> encodedValues = new ArrayList<>();
+    /**
+     * Encoded values of the leading primary key columns restricted with Eq, used to evict only the impacted rows from the near cache
+     */
+    protected final List<Object> eqPrimaryKeyValues = new ArrayList<>();
+    protected final QueryShape shape = new QueryShape(getClass());
 
     protected AbstractDelete(RuntimeEngine rte) {
         this.delete = QueryBuilder.delete();
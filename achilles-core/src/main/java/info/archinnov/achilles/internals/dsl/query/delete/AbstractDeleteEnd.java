@@ -32,6 +32,7 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.Delete;
 
+import info.archinnov.achilles.internals.cache.QueryShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.MutationAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForUpdateOrDelete;
@@ -59,6 +60,10 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract List<Object> getEqPrimaryKeyValuesInternal();
+
+    protected abstract QueryShape getShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -68,12 +73,14 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
     public T ifExists(boolean ifExists) {
         if (ifExists) {
             where.ifExists();
+            getShapeInternal().append(QueryShape.IF_EXISTS);
         }
         return getThis();
     }
 
     public T ifExists() {
         where.ifExists();
+        getShapeInternal().append(QueryShape.IF_EXISTS);
         return getThis();
     }
 
@@ -83,20 +90,27 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
         final RuntimeEngine rte = getRte();
         final CassandraOptions options = getOptions();
 
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-        final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
-
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Execute delete async with execution info : %s", queryString));
-        }
-
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
-
-        return futureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo());
+        return rte.completeOnExecutor(getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
+
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Execute delete async with execution info : %s", queryString));
+            }
+
+            final List<Object> eqPrimaryKeyValues = getEqPrimaryKeyValuesInternal();
+            getMetaInternal().invalidateNearCache(eqPrimaryKeyValues);
+            if (lwtResultListeners.isPresent()) {
+                statementWrapper.completeOnExecutor();
+            }
+            CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+
+            return futureRS
+                    .whenComplete((x, throwable) -> getMetaInternal().invalidateNearCache(eqPrimaryKeyValues))
+                    .thenApply(options::resultSetAsyncListener)
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString, getMetaInternal().entityClass, rte.metrics))
+                    .thenApply(x -> x.getExecutionInfo());
+        }), options.getCompletionMode());
     }
 
     @Override
@@ -125,18 +139,26 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        final RuntimeEngine rte = getRte();
-        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
-        final CassandraOptions cassandraOptions = getOptions();
+        final PreparedStatement ps = getRte().prepareDynamicQuery(getShapeInternal(), where);
+        return buildStatementWrapper(ps, getBoundValuesInternal().toArray(), getEncodedValuesInternal().toArray());
+    }
+
+    private CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Get bound statement wrapper asynchronously"));
+        }
 
-        PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final Object[] boundValues = getBoundValuesInternal().toArray();
+        final Object[] encodedValues = getEncodedValuesInternal().toArray();
+        return getRte().prepareDynamicQueryAsync(getShapeInternal(), where)
+                .thenApply(ps -> buildStatementWrapper(ps, boundValues, encodedValues));
+    }
 
-        StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.DELETE,
-                meta, ps,
-                getBoundValuesInternal().toArray(),
-                getEncodedValuesInternal().toArray());
+    private StatementWrapper buildStatementWrapper(PreparedStatement ps, Object[] boundValues, Object[] encodedValues) {
+        final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.DELETE,
+                getMetaInternal(), ps, boundValues, encodedValues);
 
-        statementWrapper.applyOptions(cassandraOptions);
+        statementWrapper.applyOptions(getOptions());
         return statementWrapper;
     }
 }
@@ -16,62 +16,38 @@
 
 package info.archinnov.achilles.internals.dsl.query.select;
 
-import static java.lang.String.format;
+import java.util.function.Supplier;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.querybuilder.Select;
 
-import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.cache.QueryShape;
 import info.archinnov.achilles.internals.options.CassandraOptions;
-import info.archinnov.achilles.internals.runtime.RuntimeEngine;
-import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
-import info.archinnov.achilles.internals.statements.OperationType;
-import info.archinnov.achilles.internals.statements.StatementWrapper;
 
 public abstract class AbstractIndexSelectWhere<T extends AbstractIndexSelectWhere<T, ENTITY>, ENTITY>
         extends AbstractSelectWhere<T, ENTITY> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractIndexSelectWhere.class);
-
     protected AbstractIndexSelectWhere(Select.Where where, CassandraOptions cassandraOptions) {
         super(where, cassandraOptions);
     }
 
     @Override
-    protected StatementWrapper getInternalBoundStatementWrapper() {
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Get bound statement wrapper"));
-        }
-
-        final RuntimeEngine rte = getRte();
-        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
+    protected Supplier<String> getQueryStringForPrepare() {
         final CassandraOptions cassandraOptions = getOptions();
-
-        final String queryString;
+        final QueryShape shape = getShapeInternal();
 
         if (cassandraOptions.hasRawSolrQuery()) {
             getBoundValuesInternal().add(0, cassandraOptions.generateRawSolrQuery());
             getEncodedValuesInternal().add(0, cassandraOptions.generateRawSolrQuery());
-            queryString = where.getQueryString();
+            shape.variant(QueryShape.RAW_SOLR_QUERY);
+            return where::getQueryString;
         } else if (cassandraOptions.hasSolrQuery()) {
             getBoundValuesInternal().add(0, cassandraOptions.generateSolrQuery());
             getEncodedValuesInternal().add(0, cassandraOptions.generateSolrQuery());
-            queryString = where.getQueryString();
+            shape.variant(QueryShape.SOLR_QUERY);
+            return where::getQueryString;
         } else {
-            queryString = where.getQueryString().trim().replaceFirst(";$", " ALLOW FILTERING;");
+            shape.variant(QueryShape.ALLOW_FILTERING);
+            return () -> where.getQueryString().trim().replaceFirst(";$", " ALLOW FILTERING;");
         }
-
-        final PreparedStatement ps = rte.prepareDynamicQuery(queryString);
-
-        final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
-                meta, ps,
-                getBoundValuesInternal().toArray(),
-                getEncodedValuesInternal().toArray());
-
-        statementWrapper.applyOptions(cassandraOptions);
-        return statementWrapper;
     }
 }
@@ -22,6 +22,7 @@ import static java.util.stream.Collectors.toList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
@@ -30,6 +31,7 @@ import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.*;
 import com.datastax.driver.core.querybuilder.Select;
 
+import info.archinnov.achilles.internals.cache.QueryShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.TypedMapAware;
 import info.archinnov.achilles.internals.dsl.action.SelectAction;
@@ -41,9 +43,11 @@ import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.internals.types.EntityIteratorWrapper;
+import info.archinnov.achilles.internals.types.ResultSetPublisher;
 import info.archinnov.achilles.internals.types.TypedMapIteratorWrapper;
 import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.reactive.Publisher;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTITY>, ENTITY>
@@ -64,6 +68,8 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract QueryShape getShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -100,33 +106,96 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions options = getOptions();
 
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
+        return rte.completeOnExecutor(getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Select async with execution info : %s",
+                        statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+            }
 
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Select async with execution info : %s",
-                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
-        }
+            CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
 
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+            return futureRS
+                    .thenApply(options::resultSetAsyncListener)
+                    .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(rs -> Tuple2.of(IntStream.range(0, rs.getAvailableWithoutFetching())
+                                .mapToObj(index -> {
+                                    final Row row = rs.one();
+                                    options.rowAsyncListener(row);
+                                    return meta.createEntityFrom(row);
+                                })
+                                .collect(toList()),
+                                rs.getExecutionInfo()))
+                    .thenCompose(tuple2 -> meta.triggerInterceptorsForEachAsync(Event.POST_LOAD, tuple2._1(), tuple2));
+        }), options.getCompletionMode());
+    }
 
-        return futureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(rs -> Tuple2.of(IntStream.range(0, rs.getAvailableWithoutFetching())
-                            .mapToObj(index -> {
-                                final Row row = rs.one();
-                                options.rowAsyncListener(row);
-                                return meta.createEntityFrom(row);
-                            })
-                            .collect(toList()),
-                            rs.getExecutionInfo()))
-                .thenApply(tuple2 -> {
-                    for (ENTITY entity : tuple2._1()) {
-                        meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+    /**
+     * Execute the SELECT action asynchronously and return the first entity instance.
+     * Only the first row is fetched (unless a fetch size is set) and decoded
+     */
+    @Override
+    public CompletableFuture<ENTITY> getOneAsync() {
+        return getOneAsyncWithStats().thenApply(Tuple2::_1);
+    }
+
+    /**
+     * Execute the SELECT action asynchronously and return the first entity instance
+     * with execution info. Only the first row is fetched (unless a fetch size is set) and decoded
+     */
+    @Override
+    public CompletableFuture<Tuple2<ENTITY, ExecutionInfo>> getOneAsyncWithStats() {
+
+        final RuntimeEngine rte = getRte();
+        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
+        final CassandraOptions options = getOptions();
+
+        return rte.completeOnExecutor(getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Select one async with execution info : %s",
+                        statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+            }
+
+            CompletableFuture<ResultSet> futureRS = rte.executeSingleRow(statementWrapper);
+
+            return futureRS
+                    .thenApply(options::resultSetAsyncListener)
+                    .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(rs -> {
+                        final Row row = rs.getAvailableWithoutFetching() > 0 ? options.rowAsyncListener(rs.one()) : null;
+                        return Tuple2.of(meta.createEntityFrom(row), rs.getExecutionInfo());
+                    })
+                    .thenCompose(tuple2 -> tuple2._1() != null
+                            ? meta.triggerInterceptorsForEventAsync(Event.POST_LOAD, tuple2._1(), tuple2)
+                            : CompletableFuture.completedFuture(tuple2));
+        }), options.getCompletionMode());
+    }
+
+    @Override
+    public Publisher<ENTITY> publisher() {
+        final RuntimeEngine rte = getRte();
+        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
+        final CassandraOptions options = getOptions();
+
+        return ResultSetPublisher.withAsyncRowMapper(
+                this::getInternalBoundStatementWrapperAsync,
+                statementWrapper -> {
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace(format("Execute publisher for select : %s",
+                                statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
                     }
-                    return tuple2;
-                });
+                    return rte.execute(statementWrapper)
+                            .thenApply(options::resultSetAsyncListener)
+                            .thenApply(statementWrapper::logTrace);
+                },
+                (statementWrapper, row) -> {
+                    statementWrapper.logReturnedRow(row);
+                    options.rowAsyncListener(row);
+                    final ENTITY instance = meta.createEntityFrom(row);
+                    return meta.triggerInterceptorsForEventAsync(Event.POST_LOAD, instance, instance);
+                },
+                rte.executor);
     }
 
     /***************************************************************************************
@@ -137,19 +206,19 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         final RuntimeEngine rte = getRte();
         final CassandraOptions options = getOptions();
 
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
+        return rte.completeOnExecutor(getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Select async with execution info : %s",
+                        statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+            }
+            CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
 
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Select async with execution info : %s",
-                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
-        }
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
-
-        return futureRS
-            .thenApply(options::resultSetAsyncListener)
-                    .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                    .thenApply(statementWrapper::logTrace)
-                    .thenApply(x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo()));
+            return futureRS
+                .thenApply(options::resultSetAsyncListener)
+                        .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
+                        .thenApply(statementWrapper::logTrace)
+                        .thenApply(x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo()));
+        }), options.getCompletionMode());
     }
 
 
@@ -158,20 +227,20 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         final RuntimeEngine rte = getRte();
         final CassandraOptions options = getOptions();
 
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Execute native query async with execution info : %s",
-                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
-        }
+        return rte.completeOnExecutor(getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Execute native query async with execution info : %s",
+                        statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+            }
 
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+            CompletableFuture<ResultSet> cfutureRS = rte.executeSingleRow(statementWrapper);
 
-        return cfutureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo()));
+            return cfutureRS
+                    .thenApply(options::resultSetAsyncListener)
+                    .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo()));
+        }), options.getCompletionMode());
     }
 
     @Override
@@ -195,6 +264,30 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         final TypedMapIteratorWrapper iterator = (TypedMapIteratorWrapper)this.typedMapIterator();
         return Tuple2.of(iterator, iterator.getExecutionInfo());
     }
+
+    @Override
+    public Publisher<TypedMap> typedMapPublisher() {
+        final RuntimeEngine rte = getRte();
+        final CassandraOptions options = getOptions();
+
+        return new ResultSetPublisher<>(
+                this::getInternalBoundStatementWrapperAsync,
+                statementWrapper -> {
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace(format("Execute typed map publisher for select : %s",
+                                statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+                    }
+                    return rte.execute(statementWrapper)
+                            .thenApply(options::resultSetAsyncListener)
+                            .thenApply(statementWrapper::logTrace);
+                },
+                (statementWrapper, row) -> {
+                    statementWrapper.logReturnedRow(row);
+                    options.rowAsyncListener(row);
+                    return mapRowToTypedMap(row);
+                },
+                rte.executor);
+    }
     /***************************************************************************************
      * Utility API                                                                         *
      ***************************************************************************************/
@@ -223,18 +316,40 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        final RuntimeEngine rte = getRte();
-        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
-        final CassandraOptions cassandraOptions = getOptions();
+        final Supplier<String> queryString = getQueryStringForPrepare();
+        final PreparedStatement ps = getRte().prepareDynamicQuery(getShapeInternal(), queryString);
+        return buildStatementWrapper(ps, getBoundValuesInternal().toArray(), getEncodedValuesInternal().toArray());
+    }
+
+    /**
+     * Non-blocking version of {@link #getInternalBoundStatementWrapper()}, the statement
+     * is prepared with <em>Session.prepareAsync()</em> on cache miss
+     */
+    protected CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Get bound statement wrapper asynchronously"));
+        }
+
+        final Supplier<String> queryString = getQueryStringForPrepare();
+        final Object[] boundValues = getBoundValuesInternal().toArray();
+        final Object[] encodedValues = getEncodedValuesInternal().toArray();
+        return getRte().prepareDynamicQueryAsync(getShapeInternal(), queryString)
+                .thenApply(ps -> buildStatementWrapper(ps, boundValues, encodedValues));
+    }
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+    /**
+     * Query string to be prepared. Sub-classes can override it to adapt
+     * the query shape, the query string and the bound values before preparation
+     */
+    protected Supplier<String> getQueryStringForPrepare() {
+        return where::getQueryString;
+    }
 
+    private StatementWrapper buildStatementWrapper(PreparedStatement ps, Object[] boundValues, Object[] encodedValues) {
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
-                meta, ps,
-                getBoundValuesInternal().toArray(),
-                getEncodedValuesInternal().toArray());
+                getMetaInternal(), ps, boundValues, encodedValues);
 
-        statementWrapper.applyOptions(cassandraOptions);
+        statementWrapper.applyOptions(getOptions());
         return statementWrapper;
     }
 }
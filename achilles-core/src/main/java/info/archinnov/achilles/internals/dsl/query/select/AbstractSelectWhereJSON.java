@@ -21,6 +21,7 @@ import static java.lang.String.format;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -33,6 +34,7 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.Select;
 
+import info.archinnov.achilles.internals.cache.QueryShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.SelectJSONAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
@@ -43,6 +45,8 @@ import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.internals.types.JSONIteratorWrapper;
+import info.archinnov.achilles.internals.types.ResultSetPublisher;
+import info.archinnov.achilles.type.reactive.Publisher;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<T, ENTITY>, ENTITY>
@@ -63,6 +67,8 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract QueryShape getShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -79,22 +85,22 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
         final RuntimeEngine rte = getRte();
         final CassandraOptions options = getOptions();
 
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Select async with execution info : %s",
-                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
-        }
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
-
-        return futureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(resultSet -> Tuple2.of(IntStream
-                        .range(0, resultSet.getAvailableWithoutFetching())
-                        .mapToObj(index -> resultSet.one().getString("[json]"))
-                        .collect(Collectors.toList()), resultSet.getExecutionInfo()));
+        return rte.completeOnExecutor(getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Select async with execution info : %s",
+                        statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+            }
+            CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+
+            return futureRS
+                    .thenApply(options::resultSetAsyncListener)
+                    .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(resultSet -> Tuple2.of(IntStream
+                            .range(0, resultSet.getAvailableWithoutFetching())
+                            .mapToObj(index -> resultSet.one().getString("[json]"))
+                            .collect(Collectors.toList()), resultSet.getExecutionInfo()));
+        }), options.getCompletionMode());
     }
 
     @Override
@@ -119,6 +125,30 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
         return Tuple2.of(iterator, iterator.getExecutionInfo());
     }
 
+    @Override
+    public Publisher<String> publisher() {
+        final RuntimeEngine rte = getRte();
+        final CassandraOptions options = getOptions();
+
+        return new ResultSetPublisher<>(
+                this::getInternalBoundStatementWrapperAsync,
+                statementWrapper -> {
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace(format("Execute JSON publisher for select : %s",
+                                statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+                    }
+                    return rte.execute(statementWrapper)
+                            .thenApply(options::resultSetAsyncListener)
+                            .thenApply(statementWrapper::logTrace);
+                },
+                (statementWrapper, row) -> {
+                    statementWrapper.logReturnedRow(row);
+                    options.rowAsyncListener(row);
+                    return row.getString("[json]");
+                },
+                rte.executor);
+    }
+
     /***************************************************************************************
      * Utility API                                                                         *
      ***************************************************************************************/
@@ -147,18 +177,40 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        final RuntimeEngine rte = getRte();
-        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
-        final CassandraOptions cassandraOptions = getOptions();
+        final Supplier<String> queryString = getQueryStringForPrepare();
+        final PreparedStatement ps = getRte().prepareDynamicQuery(getShapeInternal(), queryString);
+        return buildStatementWrapper(ps, getBoundValuesInternal().toArray(), getEncodedValuesInternal().toArray());
+    }
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+    /**
+     * Non-blocking version of {@link #getInternalBoundStatementWrapper()}, the statement
+     * is prepared with <em>Session.prepareAsync()</em> on cache miss
+     */
+    protected CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Get bound statement wrapper asynchronously"));
+        }
+
+        final Supplier<String> queryString = getQueryStringForPrepare();
+        final Object[] boundValues = getBoundValuesInternal().toArray();
+        final Object[] encodedValues = getEncodedValuesInternal().toArray();
+        return getRte().prepareDynamicQueryAsync(getShapeInternal(), queryString)
+                .thenApply(ps -> buildStatementWrapper(ps, boundValues, encodedValues));
+    }
+
+    /**
+     * Query string to be prepared. Sub-classes can override it to adapt
+     * the query shape, the query string and the bound values before preparation
+     */
+    protected Supplier<String> getQueryStringForPrepare() {
+        return where::getQueryString;
+    }
 
+    private StatementWrapper buildStatementWrapper(PreparedStatement ps, Object[] boundValues, Object[] encodedValues) {
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
-                meta, ps,
-                getBoundValuesInternal().toArray(),
-                getEncodedValuesInternal().toArray());
+                getMetaInternal(), ps, boundValues, encodedValues);
 
-        statementWrapper.applyOptions(cassandraOptions);
+        statementWrapper.applyOptions(getOptions());
         return statementWrapper;
     }
 }
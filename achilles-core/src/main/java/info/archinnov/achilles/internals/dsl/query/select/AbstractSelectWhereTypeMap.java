@@ -21,6 +21,7 @@ import static java.lang.String.format;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +32,7 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.Select;
 
+import info.archinnov.achilles.internals.cache.QueryShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.TypedMapAware;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
@@ -40,8 +42,10 @@ import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.ResultSetPublisher;
 import info.archinnov.achilles.internals.types.TypedMapIteratorWrapper;
 import info.archinnov.achilles.type.TypedMap;
+import info.archinnov.achilles.type.reactive.Publisher;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTypeMap<T, ENTITY>, ENTITY>
@@ -62,6 +66,8 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract QueryShape getShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -76,19 +82,19 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
         final RuntimeEngine rte = getRte();
         final CassandraOptions options = getOptions();
 
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
+        return rte.completeOnExecutor(getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Select async with execution info : %s",
+                        statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+            }
+            CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
 
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Select async with execution info : %s",
-                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
-        }
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
-
-        return futureRS
-            .thenApply(options::resultSetAsyncListener)
-                    .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                    .thenApply(statementWrapper::logTrace)
-                    .thenApply(x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo()));
+            return futureRS
+                .thenApply(options::resultSetAsyncListener)
+                        .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
+                        .thenApply(statementWrapper::logTrace)
+                        .thenApply(x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo()));
+        }), options.getCompletionMode());
     }
 
 
@@ -97,20 +103,20 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
         final RuntimeEngine rte = getRte();
         final CassandraOptions options = getOptions();
 
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Execute native query async with execution info : %s",
-                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
-        }
+        return rte.completeOnExecutor(getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Execute native query async with execution info : %s",
+                        statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+            }
 
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+            CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
 
-        return cfutureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo()));
+            return cfutureRS
+                    .thenApply(options::resultSetAsyncListener)
+                    .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo()));
+        }), options.getCompletionMode());
     }
 
     @Override
@@ -135,6 +141,30 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
         return Tuple2.of(iterator, iterator.getExecutionInfo());
     }
 
+    @Override
+    public Publisher<TypedMap> typedMapPublisher() {
+        final RuntimeEngine rte = getRte();
+        final CassandraOptions options = getOptions();
+
+        return new ResultSetPublisher<>(
+                this::getInternalBoundStatementWrapperAsync,
+                statementWrapper -> {
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace(format("Execute typed map publisher for select : %s",
+                                statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+                    }
+                    return rte.execute(statementWrapper)
+                            .thenApply(options::resultSetAsyncListener)
+                            .thenApply(statementWrapper::logTrace);
+                },
+                (statementWrapper, row) -> {
+                    statementWrapper.logReturnedRow(row);
+                    options.rowAsyncListener(row);
+                    return mapRowToTypedMap(row);
+                },
+                rte.executor);
+    }
+
 
     /***************************************************************************************
      * Utility API                                                                         *
@@ -164,18 +194,40 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        final RuntimeEngine rte = getRte();
-        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
-        final CassandraOptions cassandraOptions = getOptions();
+        final Supplier<String> queryString = getQueryStringForPrepare();
+        final PreparedStatement ps = getRte().prepareDynamicQuery(getShapeInternal(), queryString);
+        return buildStatementWrapper(ps, getBoundValuesInternal().toArray(), getEncodedValuesInternal().toArray());
+    }
+
+    /**
+     * Non-blocking version of {@link #getInternalBoundStatementWrapper()}, the statement
+     * is prepared with <em>Session.prepareAsync()</em> on cache miss
+     */
+    protected CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Get bound statement wrapper asynchronously"));
+        }
+
+        final Supplier<String> queryString = getQueryStringForPrepare();
+        final Object[] boundValues = getBoundValuesInternal().toArray();
+        final Object[] encodedValues = getEncodedValuesInternal().toArray();
+        return getRte().prepareDynamicQueryAsync(getShapeInternal(), queryString)
+                .thenApply(ps -> buildStatementWrapper(ps, boundValues, encodedValues));
+    }
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+    /**
+     * Query string to be prepared. Sub-classes can override it to adapt
+     * the query shape, the query string and the bound values before preparation
+     */
+    protected Supplier<String> getQueryStringForPrepare() {
+        return where::getQueryString;
+    }
 
+    private StatementWrapper buildStatementWrapper(PreparedStatement ps, Object[] boundValues, Object[] encodedValues) {
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
-                meta, ps,
-                getBoundValuesInternal().toArray(),
-                getEncodedValuesInternal().toArray());
+                getMetaInternal(), ps, boundValues, encodedValues);
 
-        statementWrapper.applyOptions(cassandraOptions);
+        statementWrapper.applyOptions(getOptions());
         return statementWrapper;
     }
 }
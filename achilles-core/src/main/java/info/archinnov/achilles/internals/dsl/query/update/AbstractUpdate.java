@@ -19,6 +19,7 @@ package info.archinnov.achilles.internals.dsl.query.update;
 import java.util.ArrayList;
 import java.util.List;
 
+import info.archinnov.achilles.internals.cache.QueryShape;
 import info.archinnov.achilles.internals.dsl.SchemaNameAware;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 
@@ -27,6 +28,11 @@ public abstract class AbstractUpdate implements SchemaNameAware {
     protected final RuntimeEngine rte;
     protected final List<Object> boundValues = new ArrayList<>();
     protected final List<Object> encodedValues = new ArrayList<>();
+    /**
+     * Encoded values of the leading primary key columns restricted with Eq, used to evict only the impacted rows from the near cache
+     */
+    protected final List<Object> eqPrimaryKeyValues = new ArrayList<>();
+    protected final QueryShape shape = new QueryShape(getClass());
 
 
     protected AbstractUpdate(RuntimeEngine rte) {
@@ -32,6 +32,7 @@ import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Update;
 
+import info.archinnov.achilles.internals.cache.QueryShape;
 import info.archinnov.achilles.internals.dsl.LWTHelper;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.MutationAction;
@@ -62,6 +63,10 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract List<Object> getEqPrimaryKeyValuesInternal();
+
+    protected abstract QueryShape getShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -74,6 +79,7 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
     public T ifExists(boolean ifExists) {
         if (ifExists) {
             where.ifExists();
+            getShapeInternal().append(QueryShape.IF_EXISTS);
         }
         return getThis();
     }
@@ -83,11 +89,13 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
      */
     public T ifExists() {
         where.ifExists();
+        getShapeInternal().append(QueryShape.IF_EXISTS);
         return getThis();
     }
 
     public T usingTimeToLive(int timeToLive) {
         where.using(QueryBuilder.ttl(QueryBuilder.bindMarker("ttl")));
+        getShapeInternal().append(QueryShape.USING_TTL);
         getBoundValuesInternal().add(0, timeToLive);
         getEncodedValuesInternal().add(0, timeToLive);
         return getThis();
@@ -98,20 +106,27 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
         final RuntimeEngine rte = getRte();
         final CassandraOptions cassandraOptions = getOptions();
 
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-        final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
-
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Execute update async with execution info : %s", queryString));
-        }
-
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
-
-        return futureRS
-                .thenApply(cassandraOptions::resultSetAsyncListener)
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> LWTHelper.triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo());
+        return rte.completeOnExecutor(getInternalBoundStatementWrapperAsync().thenCompose(statementWrapper -> {
+            final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
+
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Execute update async with execution info : %s", queryString));
+            }
+
+            final List<Object> eqPrimaryKeyValues = getEqPrimaryKeyValuesInternal();
+            getMetaInternal().invalidateNearCache(eqPrimaryKeyValues);
+            if (lwtResultListeners.isPresent()) {
+                statementWrapper.completeOnExecutor();
+            }
+            CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+
+            return futureRS
+                    .whenComplete((x, throwable) -> getMetaInternal().invalidateNearCache(eqPrimaryKeyValues))
+                    .thenApply(cassandraOptions::resultSetAsyncListener)
+                    .thenApply(statementWrapper::logTrace)
+                    .thenApply(x -> LWTHelper.triggerLWTListeners(lwtResultListeners, x, queryString, getMetaInternal().entityClass, rte.metrics))
+                    .thenApply(x -> x.getExecutionInfo());
+        }), cassandraOptions.getCompletionMode());
     }
 
     @Override
@@ -140,17 +155,26 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        final RuntimeEngine rte = getRte();
-        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
-        final CassandraOptions cassandraOptions = getOptions();
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final PreparedStatement ps = getRte().prepareDynamicQuery(getShapeInternal(), where);
+        return buildStatementWrapper(ps, getBoundValuesInternal().toArray(), getEncodedValuesInternal().toArray());
+    }
+
+    private CompletableFuture<StatementWrapper> getInternalBoundStatementWrapperAsync() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Get bound statement wrapper asynchronously"));
+        }
+
+        final Object[] boundValues = getBoundValuesInternal().toArray();
+        final Object[] encodedValues = getEncodedValuesInternal().toArray();
+        return getRte().prepareDynamicQueryAsync(getShapeInternal(), where)
+                .thenApply(ps -> buildStatementWrapper(ps, boundValues, encodedValues));
+    }
 
+    private StatementWrapper buildStatementWrapper(PreparedStatement ps, Object[] boundValues, Object[] encodedValues) {
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.UPDATE,
-                meta, ps,
-                getBoundValuesInternal().toArray(),
-                getEncodedValuesInternal().toArray());
+                getMetaInternal(), ps, boundValues, encodedValues);
 
-        statementWrapper.applyOptions(cassandraOptions);
+        statementWrapper.applyOptions(getOptions());
         return statementWrapper;
     }
 }
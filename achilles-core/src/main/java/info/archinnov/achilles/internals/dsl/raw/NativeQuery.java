@@ -16,6 +16,7 @@
 
 package info.archinnov.achilles.internals.dsl.raw;
 
+import static info.archinnov.achilles.validation.Validator.validateTrue;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 
@@ -38,7 +39,7 @@ import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.NativeStatementWrapper;
-import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.CompletionMode;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener;
 
 /**
@@ -162,6 +163,31 @@ public class NativeQuery implements MutationAction, RawAndTypeMapDefaultImpl {
         return this;
     }
 
+    /**
+     * When iterating over the results, fetch the next page asynchronously once the given fraction
+     * of the current page has been consumed. Row decoding then overlaps with the network round-trip
+     * of the next page instead of blocking at each page boundary
+     * @param pageFractionThreshold fraction of the current page, strictly between 0 and 1
+     */
+    public NativeQuery withPagePrefetchThreshold(double pageFractionThreshold) {
+        validateTrue(pageFractionThreshold > 0 && pageFractionThreshold < 1,
+                "The page prefetch threshold '%s' should be strictly between 0 and 1", pageFractionThreshold);
+        options.setPagePrefetchThreshold(Optional.of(pageFractionThreshold));
+        return this;
+    }
+
+    /**
+     * Thread on which the future of the statement execution is completed. With
+     * <strong>CompletionMode.DIRECT</strong>, it is completed on the driver I/O thread,
+     * saving a thread hand-off, unless interceptors, LWT or async listeners run once the statement completes.
+     * The returned future is then handed over to the executor service once, after the internal processing
+     * @param completionMode completion mode for this statement
+     */
+    public NativeQuery withCompletionMode(CompletionMode completionMode) {
+        options.setCompletionMode(Optional.of(completionMode));
+        return this;
+    }
+
     /**
      * Execute the native query asynchronously and return the execution info
      *
@@ -170,21 +196,25 @@ public class NativeQuery implements MutationAction, RawAndTypeMapDefaultImpl {
     @Override
     public CompletableFuture<ExecutionInfo> executeAsyncWithStats() {
 
-        final StatementWrapper statementWrapper = new NativeStatementWrapper(getOperationType(boundStatement), meta, boundStatement, encodedBoundValues);
+        final NativeStatementWrapper statementWrapper = new NativeStatementWrapper(getOperationType(boundStatement), meta, boundStatement, encodedBoundValues);
+        statementWrapper.setCompletionMode(options.getCompletionMode());
         final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Execute native query async with execution info : %s", queryString));
         }
 
+        if (lwtResultListeners.isPresent() || options.hasAsyncListeners()) {
+            statementWrapper.completeOnExecutor();
+        }
         CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
 
-        return cfutureRS
+        return rte.completeOnExecutor(cfutureRS
                 .thenApply(options::resultSetAsyncListener)
                 .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
                 .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> LWTHelper.triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo());
+                .thenApply(x -> LWTHelper.triggerLWTListeners(lwtResultListeners, x, queryString, meta.entityClass, rte.metrics))
+                .thenApply(x -> x.getExecutionInfo()), options.getCompletionMode());
     }
 
 
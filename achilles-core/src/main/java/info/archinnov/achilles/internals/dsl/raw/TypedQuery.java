@@ -16,6 +16,7 @@
 
 package info.archinnov.achilles.internals.dsl.raw;
 
+import static info.archinnov.achilles.validation.Validator.validateTrue;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 
@@ -36,13 +37,16 @@ import com.datastax.driver.core.Row;
 
 import info.archinnov.achilles.internals.dsl.RawAndTypeMapDefaultImpl;
 import info.archinnov.achilles.internals.dsl.action.SelectAction;
+import info.archinnov.achilles.internals.dsl.raw.ValidatedQueryRegistry.ValidatedQuery;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
-import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.internals.types.EntityIteratorWrapper;
+import info.archinnov.achilles.internals.types.ResultSetPublisher;
+import info.archinnov.achilles.type.CompletionMode;
 import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.reactive.Publisher;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 /**
@@ -64,7 +68,8 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
         this.meta = meta;
         this.boundStatement = boundStatement;
         this.encodedBoundValues = encodedBoundValues;
-        TypedQueryValidator.validateCorrectTableName(boundStatement.preparedStatement().getQueryString().toLowerCase(), meta);
+        final ValidatedQuery validatedQuery = meta.validatedQueries.forPreparedStatement(boundStatement.preparedStatement());
+        TypedQueryValidator.validateTableName(validatedQuery.matchesTableName, validatedQuery.lowerCaseQueryString, meta);
     }
 
     /**
@@ -155,6 +160,31 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
         return this;
     }
 
+    /**
+     * When iterating over the results, fetch the next page asynchronously once the given fraction
+     * of the current page has been consumed. Row decoding then overlaps with the network round-trip
+     * of the next page instead of blocking at each page boundary
+     * @param pageFractionThreshold fraction of the current page, strictly between 0 and 1
+     */
+    public TypedQuery<ENTITY> withPagePrefetchThreshold(double pageFractionThreshold) {
+        validateTrue(pageFractionThreshold > 0 && pageFractionThreshold < 1,
+                "The page prefetch threshold '%s' should be strictly between 0 and 1", pageFractionThreshold);
+        options.setPagePrefetchThreshold(Optional.of(pageFractionThreshold));
+        return this;
+    }
+
+    /**
+     * Thread on which the future of the statement execution is completed. With
+     * <strong>CompletionMode.DIRECT</strong>, it is completed on the driver I/O thread,
+     * saving a thread hand-off, unless interceptors, LWT or async listeners run once the statement completes.
+     * The returned future is then handed over to the executor service once, after the internal processing
+     * @param completionMode completion mode for this statement
+     */
+    public TypedQuery<ENTITY> withCompletionMode(CompletionMode completionMode) {
+        options.setCompletionMode(Optional.of(completionMode));
+        return this;
+    }
+
     /**
      * Execute the typed query and return an iterator of entities
      *
@@ -163,8 +193,7 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
     @Override
     public Iterator<ENTITY> iterator() {
 
-        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement), meta,
-                boundStatement, encodedBoundValues);
+        StatementWrapper statementWrapper = newStatementWrapper();
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Generate iterator for typed query : %s",
@@ -186,6 +215,76 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
         return Tuple2.of(iterator, iterator.getExecutionInfo());
     }
 
+    /**
+     * Return a publisher of entities. The typed query is executed when the first demand
+     * is signaled and result pages are fetched only as the subscriber requests more entities
+     *
+     * @return Publisher&lt;ENTITY&gt;
+     */
+    @Override
+    public Publisher<ENTITY> publisher() {
+        return ResultSetPublisher.withAsyncRowMapper(
+                () -> CompletableFuture.completedFuture(newStatementWrapper()),
+                statementWrapper -> {
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace(String.format("Execute publisher for typed query : %s",
+                                statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+                    }
+                    return rte.execute(statementWrapper)
+                            .thenApply(options::resultSetAsyncListener)
+                            .thenApply(statementWrapper::logTrace);
+                },
+                (statementWrapper, row) -> {
+                    statementWrapper.logReturnedRow(row);
+                    options.rowAsyncListener(row);
+                    final ENTITY instance = meta.createEntityFrom(row);
+                    return meta.triggerInterceptorsForEventAsync(Event.POST_LOAD, instance, instance);
+                },
+                rte.executor);
+    }
+
+    /**
+     * Execute the typed query asynchronously and return the first entity.
+     * Only the first row is fetched (unless a fetch size is set on the statement) and decoded
+     *
+     * @return CompletableFuture&lt;ENTITY&gt;
+     */
+    @Override
+    public CompletableFuture<ENTITY> getOneAsync() {
+        return getOneAsyncWithStats().thenApply(Tuple2::_1);
+    }
+
+    /**
+     * Execute the typed query asynchronously and return the first entity with execution info.
+     * Only the first row is fetched (unless a fetch size is set on the statement) and decoded
+     *
+     * @return CompletableFuture&lt;Tuple2&lt;ENTITY, ExecutionInfo&gt;&gt;
+     */
+    @Override
+    public CompletableFuture<Tuple2<ENTITY, ExecutionInfo>> getOneAsyncWithStats() {
+
+        final StatementWrapper statementWrapper = newStatementWrapper();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Select one async with execution info : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        CompletableFuture<ResultSet> futureRS = rte.executeSingleRow(statementWrapper);
+
+        return rte.completeOnExecutor(futureRS
+                .thenApply(options::resultSetAsyncListener)
+                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
+                .thenApply(statementWrapper::logTrace)
+                .thenApply(rs -> {
+                    final Row row = rs.getAvailableWithoutFetching() > 0 ? options.rowAsyncListener(rs.one()) : null;
+                    return Tuple2.of(meta.createEntityFrom(row), rs.getExecutionInfo());
+                })
+                .thenCompose(tuple2 -> tuple2._1() != null
+                        ? meta.triggerInterceptorsForEventAsync(Event.POST_LOAD, tuple2._1(), tuple2)
+                        : CompletableFuture.completedFuture(tuple2)), options.getCompletionMode());
+    }
+
     /**
      * Execute the typed query asynchronously and return a list of entities with execution info
      *
@@ -193,8 +292,7 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
      */
     public CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getListAsyncWithStats() {
 
-        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement), meta,
-                boundStatement, encodedBoundValues);
+        StatementWrapper statementWrapper = newStatementWrapper();
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Select async with execution info : %s",
@@ -203,7 +301,7 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
 
         CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
 
-        return futureRS
+        return rte.completeOnExecutor(futureRS
                 .thenApply(options::resultSetAsyncListener)
                 .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
                 .thenApply(statementWrapper::logTrace)
@@ -215,12 +313,8 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
                                 })
                                 .collect(toList()),
                         rs.getExecutionInfo()))
-                .thenApply(tuple2 -> {
-                    for (ENTITY entity : tuple2._1()) {
-                        meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
-                    }
-                    return tuple2;
-                });
+                .thenCompose(tuple2 -> meta.triggerInterceptorsForEachAsync(Event.POST_LOAD, tuple2._1(), tuple2)),
+                options.getCompletionMode());
     }
 
     @Override
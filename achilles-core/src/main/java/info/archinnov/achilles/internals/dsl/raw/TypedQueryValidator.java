@@ -36,11 +36,17 @@ public class TypedQueryValidator {
                     queryString, meta.toString()));
         }
 
-        String tableName = meta.getTableOrViewName().toLowerCase();
+        validateTableName(tableNamePattern(meta).matcher(queryString).matches(), queryString, meta);
+    }
+
+    public static void validateTableName(boolean matchesTableName, String queryString, AbstractEntityProperty<?> meta) {
+        validateTrue(matchesTableName, "The typed query [%s] should contain the table name '%s' if the entity type is '%s'", queryString,
+                meta.getTableOrViewName().toLowerCase(), meta.entityClass.getCanonicalName());
+    }
 
-        final Pattern pattern = Pattern.compile(".* from " + OPTIONAL_KEYSPACE_PREFIX + tableName + "(?: )?.*");
-        validateTrue(pattern.matcher(queryString).matches(), "The typed query [%s] should contain the table name '%s' if the entity type is '%s'", queryString, tableName,
-                meta.entityClass.getCanonicalName());
+    static Pattern tableNamePattern(AbstractEntityProperty<?> meta) {
+        final String tableName = meta.getTableOrViewName().toLowerCase();
+        return Pattern.compile(".* from " + OPTIONAL_KEYSPACE_PREFIX + tableName + "(?: )?.*");
     }
 
 }
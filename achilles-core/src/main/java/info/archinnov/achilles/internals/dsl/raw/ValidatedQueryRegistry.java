@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.raw;
+
+import static info.archinnov.achilles.internals.statement.StatementHelper.isSelectStatement;
+
+import java.util.regex.Pattern;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+
+/**
+ * Registry of the typed and native queries already validated for an entity.
+ * <br/>
+ * Prepared statements are keyed by identity, regular statements by identity first,
+ * then by query string so that re-executing the same statement instance does not
+ * even build its query string. Each entry remembers whether the query is a SELECT and whether it targets the
+ * table of the entity so that repeated executions of the same query skip the
+ * query string normalization and the regular expressions entirely
+ */
+public class ValidatedQueryRegistry {
+
+    static final int MAX_REGULAR_QUERIES = 1000;
+
+    private final AbstractEntityProperty<?> meta;
+    // Keyed by identity, prepared statements are cached by the statements cache
+    private final Cache<PreparedStatement, ValidatedQuery> preparedQueries = CacheBuilder.newBuilder().weakKeys().build();
+    // Keyed by identity, the table and the type of a statement do not change once it is built
+    private final Cache<RegularStatement, ValidatedQuery> regularStatements = CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_REGULAR_QUERIES).build();
+    private final Cache<String, ValidatedQuery> regularQueries = CacheBuilder.newBuilder().maximumSize(MAX_REGULAR_QUERIES).build();
+    private volatile Pattern tableNamePattern;
+
+    public ValidatedQueryRegistry(AbstractEntityProperty<?> meta) {
+        this.meta = meta;
+    }
+
+    public ValidatedQuery forPreparedStatement(PreparedStatement preparedStatement) {
+        ValidatedQuery validatedQuery = preparedQueries.getIfPresent(preparedStatement);
+        if (validatedQuery == null) {
+            validatedQuery = validate(preparedStatement.getQueryString(), isSelectStatement(preparedStatement));
+            preparedQueries.put(preparedStatement, validatedQuery);
+        }
+        return validatedQuery;
+    }
+
+    public ValidatedQuery forRegularStatement(RegularStatement regularStatement) {
+        ValidatedQuery validatedQuery = regularStatements.getIfPresent(regularStatement);
+        if (validatedQuery != null) {
+            return validatedQuery;
+        }
+
+        final String queryString = regularStatement.getQueryString();
+        validatedQuery = regularQueries.getIfPresent(queryString);
+        if (validatedQuery == null) {
+            validatedQuery = validate(queryString, isSelectStatement(regularStatement));
+            regularQueries.put(queryString, validatedQuery);
+        }
+        regularStatements.put(regularStatement, validatedQuery);
+        return validatedQuery;
+    }
+
+    private ValidatedQuery validate(String queryString, boolean isSelect) {
+        if (tableNamePattern == null) {
+            tableNamePattern = TypedQueryValidator.tableNamePattern(meta);
+        }
+        final String lowerCaseQueryString = queryString.toLowerCase();
+        return new ValidatedQuery(lowerCaseQueryString, isSelect, tableNamePattern.matcher(lowerCaseQueryString).matches());
+    }
+
+    public static class ValidatedQuery {
+        public final String lowerCaseQueryString;
+        public final boolean isSelect;
+        public final boolean matchesTableName;
+
+        ValidatedQuery(String lowerCaseQueryString, boolean isSelect, boolean matchesTableName) {
+            this.lowerCaseQueryString = lowerCaseQueryString;
+            this.isSelect = isSelect;
+            this.matchesTableName = matchesTableName;
+        }
+    }
+}
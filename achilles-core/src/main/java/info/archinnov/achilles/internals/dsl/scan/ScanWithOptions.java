@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.dsl.scan;
+
+import static info.archinnov.achilles.internals.dsl.ConcurrencyHelper.executeWithBoundedConcurrency;
+import static info.archinnov.achilles.internals.statements.PreparedStatementGenerator.END_TOKEN;
+import static info.archinnov.achilles.internals.statements.PreparedStatementGenerator.START_TOKEN;
+import static info.archinnov.achilles.internals.statements.PreparedStatementGenerator.generateTokenRangeScanQuery;
+import static java.lang.String.format;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
+import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.SchemaNameProvider;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.scan.ScanCheckpointStore;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Full scan of a table or materialized view, split by token ranges.
+ * <br/>
+ * The token ranges of the ring are split into sub-ranges, each sub-range being queried with
+ * <em>SELECT ... WHERE token(partition keys) > ? AND token(partition keys) <= ?</em> on one of its
+ * replicas, at most <em>parallelism</em> sub-ranges at a time. Within a sub-range, pages are fetched
+ * asynchronously one after the other, the next page being fetched once the current one has been consumed.
+ * <br/>
+ * When a {@link ScanCheckpointStore} is provided, each sub-range is marked as completed once all its rows
+ * have been consumed and the sub-ranges already completed are skipped, so an interrupted scan can resume.
+ * Resuming with another split count or after a ring topology change fails, see {@link TokenSubRange}
+ */
+public class ScanWithOptions<ENTITY> extends AbstractOptionsForSelect<ScanWithOptions<ENTITY>>
+        implements AsyncAware {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScanWithOptions.class);
+
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final RuntimeEngine rte;
+    private final CassandraOptions options;
+
+    private Optional<Integer> splitCount = Optional.empty();
+    private int parallelism;
+    private Optional<ScanCheckpointStore> checkpointStore = Optional.empty();
+
+    public ScanWithOptions(AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte, Optional<CassandraOptions> cassandraOptions) {
+        this.meta = meta;
+        this.rte = rte;
+        this.options = cassandraOptions.orElse(new CassandraOptions());
+        this.parallelism = rte.configContext.getScanParallelism();
+    }
+
+    /**
+     * Number of token sub-ranges to split the ring into. Each token range of the ring is split evenly
+     * so there is at least one sub-range per token range of the ring. By default, the token ranges
+     * of the ring are not split further
+     */
+    public ScanWithOptions<ENTITY> withSplitCount(int splitCount) {
+        Validator.validateTrue(splitCount > 0, "The scan split count should be strictly positive");
+        this.splitCount = Optional.of(splitCount);
+        return getThis();
+    }
+
+    /**
+     * Max number of token sub-ranges scanned in parallel
+     */
+    public ScanWithOptions<ENTITY> withParallelism(int parallelism) {
+        Validator.validateTrue(parallelism > 0, "The scan parallelism should be strictly positive");
+        this.parallelism = parallelism;
+        return getThis();
+    }
+
+    /**
+     * Record the completed token sub-ranges into the given store and skip
+     * the ones already completed. The store must have been written with the same
+     * split count and ring topology, otherwise the scan fails
+     */
+    public ScanWithOptions<ENTITY> withCheckpointStore(ScanCheckpointStore checkpointStore) {
+        Validator.validateNotNull(checkpointStore, "The scan checkpoint store should not be null");
+        this.checkpointStore = Optional.of(checkpointStore);
+        return getThis();
+    }
+
+    /**
+     * Scan the keyspace and table/view names given by this schema name provider
+     */
+    public ScanWithOptions<ENTITY> withSchemaNameProvider(SchemaNameProvider schemaNameProvider) {
+        Validator.validateNotNull(schemaNameProvider, "The provided schemaNameProvider should not be null");
+        options.setSchemaNameProvider(Optional.of(schemaNameProvider));
+        return getThis();
+    }
+
+    /**
+     * Scan the whole table and pass each entity to the given consumer.
+     * <br/>
+     * <strong>The consumer is called concurrently from several threads when the parallelism is greater than 1</strong>
+     *
+     * @return the number of scanned entities
+     */
+    public long forEach(Consumer<ENTITY> consumer) {
+        try {
+            return Uninterruptibles.getUninterruptibly(forEachAsync(consumer));
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Asynchronous version of {@link #forEach(Consumer)}
+     *
+     * @return a future of the number of scanned entities
+     */
+    public CompletableFuture<Long> forEachAsync(Consumer<ENTITY> consumer) {
+        Validator.validateNotNull(consumer, "The scan consumer should not be null");
+
+        final List<TokenSubRange> subRanges = computeSubRanges();
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Scanning entity %s with %s token sub-ranges, at most %s in parallel",
+                    meta.entityClass.getCanonicalName(), subRanges.size(), parallelism));
+        }
+
+        return rte.completeOnExecutor(executeWithBoundedConcurrency(subRanges, parallelism, subRange -> scanSubRange(subRange, consumer))
+                .thenApply(counts -> counts.stream().mapToLong(Long::longValue).sum()), options.getCompletionMode());
+    }
+
+    @Override
+    protected CassandraOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    protected ScanWithOptions<ENTITY> getThis() {
+        return this;
+    }
+
+    private List<TokenSubRange> computeSubRanges() {
+        final Metadata metadata = rte.session.getCluster().getMetadata();
+        final String keyspace = getKeyspace();
+        final Set<String> completedRanges = checkpointStore
+                .map(ScanCheckpointStore::completedRanges)
+                .orElse(Collections.emptySet());
+
+        if (LOGGER.isDebugEnabled() && !completedRanges.isEmpty()) {
+            LOGGER.debug(format("Resuming scan of entity %s, %s token sub-ranges already completed",
+                    meta.entityClass.getCanonicalName(), completedRanges.size()));
+        }
+        return TokenSubRange.split(metadata.getTokenRanges(), tokenRange -> metadata.getReplicas(keyspace, tokenRange),
+                splitCount, completedRanges);
+    }
+
+    private String getKeyspace() {
+        final Optional<SchemaNameProvider> schemaNameProvider = options.getSchemaNameProvider();
+        if (schemaNameProvider.isPresent()) {
+            return schemaNameProvider.get().keyspaceFor(meta.entityClass);
+        }
+        return meta.getKeyspace().orElse(rte.currentKeyspace);
+    }
+
+    /**
+     * A sub-range wrapping around the ring is scanned with 2 queries: token > start, then token <= end
+     */
+    private CompletableFuture<Long> scanSubRange(TokenSubRange subRange, Consumer<ENTITY> consumer) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Scan token sub-range %s of entity %s on host %s",
+                    subRange.id, meta.entityClass.getCanonicalName(), subRange.replica.map(Host::toString).orElse("any")));
+        }
+
+        final CompletableFuture<Long> futureCount;
+        if (subRange.wrapsAround()) {
+            futureCount = query(subRange, true, false, consumer)
+                    .thenCompose(count -> query(subRange, false, true, consumer)
+                            .thenApply(otherCount -> count + otherCount));
+        } else {
+            futureCount = query(subRange, true, true, consumer);
+        }
+
+        return futureCount.thenApply(count -> {
+            checkpointStore.ifPresent(store -> store.markCompleted(subRange.id));
+            return count;
+        });
+    }
+
+    private CompletableFuture<Long> query(TokenSubRange subRange, boolean withStartToken, boolean withEndToken, Consumer<ENTITY> consumer) {
+        final RegularStatement statement = generateTokenRangeScanQuery(meta, options.getSchemaNameProvider(), withStartToken, withEndToken);
+        return rte.prepareDynamicQueryAsync(statement).thenCompose(ps -> {
+            final BoundStatement boundStatement = ps.bind();
+            final List<Object> boundValues = new ArrayList<>(2);
+            if (withStartToken) {
+                boundStatement.setToken(START_TOKEN, subRange.range.getStart());
+                boundValues.add(subRange.range.getStart());
+            }
+            if (withEndToken) {
+                boundStatement.setToken(END_TOKEN, subRange.range.getEnd());
+                boundValues.add(subRange.range.getEnd());
+            }
+
+            final Object[] values = boundValues.toArray();
+            final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT, meta, boundStatement, values, values);
+            statementWrapper.applyOptions(options);
+            // The consumer is a user callback run for each row
+            statementWrapper.completeOnExecutor();
+            subRange.replica.ifPresent(boundStatement::setHost);
+
+            return rte.execute(statementWrapper)
+                    .thenApply(options::resultSetAsyncListener)
+                    .thenApply(statementWrapper::logTrace)
+                    .thenCompose(rs -> consumePages(rs, statementWrapper, consumer, 0L));
+        });
+    }
+
+    private CompletableFuture<Long> consumePages(ResultSet rs, StatementWrapper statementWrapper, Consumer<ENTITY> consumer, long previousCount) {
+        final List<ENTITY> entities = new ArrayList<>(rs.getAvailableWithoutFetching());
+        for (int available = rs.getAvailableWithoutFetching(); available > 0; available--) {
+            final Row row = options.rowAsyncListener(statementWrapper.logReturnedRow(rs.one()));
+            entities.add(meta.createEntityFrom(row));
+        }
+
+        final Function<List<ENTITY>, CompletableFuture<Long>> consumePage = loadedEntities -> {
+            loadedEntities.forEach(consumer);
+            final long count = previousCount + loadedEntities.size();
+            if (rs.isFullyFetched()) {
+                return CompletableFuture.completedFuture(count);
+            }
+            // Next pages go through the concurrency limiter and the execution metrics, like the first page
+            return rte.fetchMoreResults(statementWrapper, rs)
+                    .thenCompose(ignored -> consumePages(rs, statementWrapper, consumer, count));
+        };
+
+        final CompletableFuture<List<ENTITY>> futureEntities = meta.triggerInterceptorsForEachAsync(Event.POST_LOAD, entities, entities);
+        // Asynchronous interceptors may complete on any thread, keep the consumer on the executor
+        return futureEntities.isDone()
+                ? futureEntities.thenCompose(consumePage)
+                : futureEntities.thenComposeAsync(consumePage, rte.executor);
+    }
+}
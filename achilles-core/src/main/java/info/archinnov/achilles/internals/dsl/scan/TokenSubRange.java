@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.dsl.scan;
+
+import static java.lang.String.format;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.TokenRange;
+
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Token sub-range ]start, end] of the ring scanned on one of its replicas.
+ * <br/>
+ * Its identifier is prefixed by the scan layout: the number of splits per token range
+ * and a hash of the token ranges of the ring. A checkpoint store written with another
+ * split count or before a ring topology change is then detected instead of being ignored
+ */
+public class TokenSubRange {
+
+    public final TokenRange range;
+    public final String id;
+    public final Optional<Host> replica;
+
+    TokenSubRange(TokenRange range, String layout, Optional<Host> replica) {
+        this.range = range;
+        this.id = layout + "/" + range.getStart() + ":" + range.getEnd();
+        this.replica = replica;
+    }
+
+    /**
+     * A sub-range whose start is not lower than its end wraps around the ring, or covers the whole ring
+     * when start == end, and is scanned with 2 queries: token > start, then token <= end
+     */
+    public boolean wrapsAround() {
+        return range.getStart().compareTo(range.getEnd()) >= 0;
+    }
+
+    /**
+     * Split evenly each token range of the ring so there are at least <em>splitCount</em> sub-ranges,
+     * assign the sub-ranges round-robin to the live replicas of their token range and skip the ones
+     * whose identifier is in <em>completedRanges</em>.
+     *
+     * @throws info.archinnov.achilles.exception.AchillesException if some completed ranges were recorded
+     * with another scan layout, since they cannot be matched to the current sub-ranges
+     */
+    public static List<TokenSubRange> split(Set<TokenRange> tokenRanges, Function<TokenRange, Set<Host>> replicasFinder,
+                                            Optional<Integer> splitCount, Set<String> completedRanges) {
+        final int splitsPerRange = splitCount
+                .map(count -> Math.max(1, (count + tokenRanges.size() - 1) / tokenRanges.size()))
+                .orElse(1);
+        final String layout = layoutOf(tokenRanges, splitsPerRange);
+
+        final List<String> staleRanges = completedRanges
+                .stream()
+                .filter(id -> !id.startsWith(layout + "/"))
+                .collect(Collectors.toList());
+        Validator.validateTrue(staleRanges.isEmpty(),
+                "The scan checkpoint store contains %s token ranges recorded with another split count or ring topology (current layout '%s'), " +
+                        "clear the store to scan the table again", staleRanges.size(), layout);
+
+        final List<TokenSubRange> subRanges = new ArrayList<>();
+        int index = 0;
+        for (TokenRange tokenRange : new TreeSet<>(tokenRanges)) {
+            final List<Host> replicas = replicasFinder.apply(tokenRange)
+                    .stream()
+                    .filter(Host::isUp)
+                    .collect(Collectors.toList());
+            final List<TokenRange> splits = splitsPerRange > 1 ? tokenRange.splitEvenly(splitsPerRange) : Collections.singletonList(tokenRange);
+            for (TokenRange split : splits) {
+                final Optional<Host> replica = replicas.isEmpty() ? Optional.empty() : Optional.of(replicas.get(index % replicas.size()));
+                final TokenSubRange subRange = new TokenSubRange(split, layout, replica);
+                if (!completedRanges.contains(subRange.id)) {
+                    subRanges.add(subRange);
+                }
+                index++;
+            }
+        }
+        return subRanges;
+    }
+
+    static String layoutOf(Set<TokenRange> tokenRanges, int splitsPerRange) {
+        final String ring = new TreeSet<>(tokenRanges)
+                .stream()
+                .map(range -> range.getStart() + ":" + range.getEnd())
+                .collect(Collectors.joining(","));
+        return format("%sx%08x", splitsPerRange, ring.hashCode());
+    }
+}
@@ -17,6 +17,7 @@
 package info.archinnov.achilles.internals.factory;
 
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.datastax.driver.core.*;
 
@@ -24,6 +25,7 @@ public class UserTypeFactory {
 
     private ProtocolVersion protocolVersion;
     private CodecRegistry registry;
+    private final AtomicLong schemaGeneration = new AtomicLong();
 
     public UserTypeFactory(ProtocolVersion protocolVersion, CodecRegistry registry) {
         this.protocolVersion = protocolVersion;
@@ -37,4 +39,20 @@ public class UserTypeFactory {
     public UserType.Field fieldFor(String name, DataType dataType) {
         return UserTypeBuilder.buildField(name, dataType);
     }
+
+    /**
+     * Current schema generation, used to invalidate the UserType/TupleType
+     * instances cached by the meta classes
+     */
+    public long schemaGeneration() {
+        return schemaGeneration.get();
+    }
+
+    /**
+     * Invalidate all the UserType/TupleType instances cached by the meta classes.
+     * They will be rebuilt lazily on their next use
+     */
+    public void invalidateCachedTypes() {
+        schemaGeneration.incrementAndGet();
+    }
 }
@@ -23,10 +23,10 @@ import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.validation.ConstraintViolation;
 import javax.validation.Path;
 import javax.validation.Validator;
@@ -43,7 +43,7 @@ public class DefaultPreMutateBeanValidationInterceptor implements AchillesIntern
     private static final String LOGGER_NAME = "info.archinnov.achilles.internals.interceptor.DefaultBeanValidatorInterceptor";
     private static final Logger LOGGER = LoggerFactory.getLogger(LOGGER_NAME);
 
-    private final Map<Class<?>, Boolean> constrainedClasses = new HashMap<>();
+    private final Map<Class<?>, Boolean> constrainedClasses = new ConcurrentHashMap<>();
     private Validator validator;
 
     public DefaultPreMutateBeanValidationInterceptor(Validator validator) {
@@ -53,10 +53,8 @@ public class DefaultPreMutateBeanValidationInterceptor implements AchillesIntern
 
     @Override
     public boolean acceptEntity(Class<?> entityClass) {
-        if (!constrainedClasses.containsKey(entityClass)) {
-            constrainedClasses.put(entityClass, validator.getConstraintsForClass(entityClass).isBeanConstrained());
-        }
-        final Boolean acceptEntity = constrainedClasses.get(entityClass);
+        final Boolean acceptEntity = constrainedClasses.computeIfAbsent(entityClass,
+                clazz -> validator.getConstraintsForClass(clazz).isBeanConstrained());
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Accept entity %s for bean validation ? %s", entityClass.getCanonicalName(), acceptEntity));
         }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.interceptor;
+
+import static info.archinnov.achilles.type.interceptor.Event.*;
+import static java.util.Arrays.asList;
+
+import java.util.List;
+import java.util.Optional;
+
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.runtime.BeanValueExtractor;
+import info.archinnov.achilles.type.interceptor.Event;
+
+/**
+ * Evict the row of the mutated entity from the near cache, both before and after the mutation.
+ * The eviction after the mutation discards any row loaded concurrently from the previous state.
+ * <br/>
+ * Static columns are shared by all the rows of a partition, so for an entity having static
+ * columns all the rows of the partition are evicted instead. This also covers <em>insertStatic</em>
+ * and <em>updateStatic</em>, whose entity has no clustering column
+ */
+public class NearCacheInvalidationInterceptor<E> implements AchillesInternalInterceptor<E> {
+
+    private final AbstractEntityProperty<E> meta;
+
+    public NearCacheInvalidationInterceptor(AbstractEntityProperty<E> meta) {
+        this.meta = meta;
+    }
+
+    @Override
+    public boolean acceptEntity(Class<?> entityClass) {
+        return meta.entityClass.equals(entityClass);
+    }
+
+    @Override
+    public void onEvent(E entity, Event event) {
+        if (entity != null) {
+            meta.invalidateNearCache(asList(BeanValueExtractor.extractPrimaryKeyValues(entity, meta, Optional.empty())._2()));
+        } else if (meta.hasStaticColumn()) {
+            meta.invalidateNearCache();
+        }
+    }
+
+    @Override
+    public List<Event> interceptOnEvents() {
+        return asList(PRE_INSERT, POST_INSERT, PRE_UPDATE, POST_UPDATE);
+    }
+}
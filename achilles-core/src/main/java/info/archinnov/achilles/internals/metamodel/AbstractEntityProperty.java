@@ -23,17 +23,22 @@ import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.BiMap;
 
-import info.archinnov.achilles.internals.cache.StatementsCache;
+import info.archinnov.achilles.internals.cache.NearCache;
+import info.archinnov.achilles.internals.cache.StaticStatementsPreparer;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
+import info.archinnov.achilles.internals.dsl.raw.ValidatedQueryRegistry;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.injectable.*;
@@ -46,10 +51,12 @@ import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
 import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
 import info.archinnov.achilles.internals.types.OverridingOptional;
 import info.archinnov.achilles.internals.utils.CollectionsHelper;
+import info.archinnov.achilles.metrics.MetricsRecorder;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
 import info.archinnov.achilles.type.factory.BeanFactory;
+import info.archinnov.achilles.type.interceptor.AsyncInterceptor;
 import info.archinnov.achilles.type.interceptor.Event;
 import info.archinnov.achilles.type.interceptor.Interceptor;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
@@ -61,7 +68,8 @@ public abstract class AbstractEntityProperty<T> implements
         InjectConsistency, InjectInsertStrategy,
         InjectUserAndTupleTypeFactory,
         InjectJacksonMapper, InjectSchemaStrategy,
-        InjectRuntimeCodecs {
+        InjectRuntimeCodecs, InjectMetricsRecorder,
+        InjectNearCache {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractEntityProperty.class);
 
@@ -87,7 +95,17 @@ public abstract class AbstractEntityProperty<T> implements
     public final List<AbstractProperty<T, ?, ?>> constructorInjectedColumns;
     public final List<AbstractProperty<T, ?, ?>> allColumns;
     public final List<AbstractProperty<T, ?, ?>> allColumnsWithComputed;
-    public final List<Interceptor<T>> interceptors = new ArrayList<>();
+    public final EntityBindingPlan<T> allColumnsBindingPlan;
+    public final EntityBindingPlan<T> partitionKeysAndStaticColumnsBindingPlan;
+    public final EntityBindingPlan<T> primaryKeysBindingPlan;
+    private final List<Interceptor<T>> registeredInterceptors = new ArrayList<>();
+    // Read-only view, interceptors are registered with addInterceptor() before indexInterceptors() is called
+    public final List<Interceptor<T>> interceptors = Collections.unmodifiableList(registeredInterceptors);
+    // Resolved once at bootstrap by indexInterceptors() and safely published to the threads triggering events
+    private volatile InterceptorsIndex<T> interceptorsIndex = new InterceptorsIndex<>(Collections.emptyList(), false);
+    // Keyed by identity, one ColumnDefinitions instance is shared by all executions of a prepared statement
+    private final Cache<ColumnDefinitions, EntityDecodingPlan<T>> decodingPlans = CacheBuilder.newBuilder().weakKeys().build();
+    public final ValidatedQueryRegistry validatedQueries = new ValidatedQueryRegistry(this);
     protected BeanFactory beanFactory;
     protected Optional<String> keyspace = Optional.empty();
     protected ConsistencyLevel readConsistencyLevel;
@@ -95,6 +113,8 @@ public abstract class AbstractEntityProperty<T> implements
     protected ConsistencyLevel serialConsistencyLevel;
     protected InsertStrategy insertStrategy;
     public Optional<SchemaNameProvider> schemaStrategy = Optional.empty();
+    protected MetricsRecorder metricsRecorder = MetricsRecorder.NO_OP;
+    public Optional<NearCache> nearCache = Optional.empty();
 
 
     public AbstractEntityProperty() {
@@ -120,6 +140,9 @@ public abstract class AbstractEntityProperty<T> implements
         counterColumns = getCounterColumns();
         allColumns = getAllColumns();
         allColumnsWithComputed = getAllColumnsWithComputed();
+        allColumnsBindingPlan = EntityBindingPlan.withTTL(allColumns);
+        partitionKeysAndStaticColumnsBindingPlan = EntityBindingPlan.withTTL(CollectionsHelper.appendAll(partitionKeys, staticColumns));
+        primaryKeysBindingPlan = EntityBindingPlan.withoutTTL(CollectionsHelper.appendAll(partitionKeys, clusteringColumns));
     }
 
     protected abstract Class<T> getEntityClass();
@@ -216,54 +239,189 @@ public abstract class AbstractEntityProperty<T> implements
         return staticInsertStrategy.orElse(insertStrategy);
     }
 
+    /**
+     * Register an interceptor, at the end of the interceptors chain
+     */
+    public synchronized void addInterceptor(Interceptor<T> interceptor) {
+        addInterceptor(registeredInterceptors.size(), interceptor);
+    }
+
+    /**
+     * Register an interceptor at the given position of the interceptors chain. Interceptors
+     * cannot be registered once indexInterceptors() has been called
+     */
+    public synchronized void addInterceptor(int position, Interceptor<T> interceptor) {
+        Validator.validateFalse(interceptorsIndex.indexed, "Cannot add interceptor %s to entity %s, its interceptors are already indexed",
+                interceptor, entityClass.getCanonicalName());
+        registeredInterceptors.add(position, interceptor);
+    }
+
+    /**
+     * Resolve the registered interceptors into one array per event. Should be
+     * called once all the interceptors have been added to the entity meta.
+     * No interceptor can be added afterwards, so that they cannot diverge from the index
+     */
+    public synchronized void indexInterceptors() {
+        interceptorsIndex = new InterceptorsIndex<>(new ArrayList<>(registeredInterceptors), true);
+    }
+
+    public boolean hasInterceptorsForEvent(Event event) {
+        return interceptorsIndex.byEvent[event.ordinal()].length > 0;
+    }
+
+    public boolean hasAsyncInterceptorsForEvent(Event event) {
+        return interceptorsIndex.hasAsyncByEvent[event.ordinal()];
+    }
+
     public void triggerInterceptorsForEvent(Event event, T instance) {
+        final Interceptor<T>[] interceptorsForEvent = interceptorsIndex.byEvent[event.ordinal()];
+        if (interceptorsForEvent.length == 0) {
+            return;
+        }
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Trigger interceptors for entity %s on event %s",
                     instance, event.name()));
         }
-        interceptors
+        if (metricsRecorder.isEnabled()) {
+            final long start = System.nanoTime();
+            invokeInterceptors(interceptorsForEvent, event, instance);
+            metricsRecorder.recordInterceptors(entityClass, event, System.nanoTime() - start);
+        } else {
+            invokeInterceptors(interceptorsForEvent, event, instance);
+        }
+    }
+
+    private static <T> void invokeInterceptors(Interceptor<T>[] interceptorsForEvent, Event event, T instance) {
+        for (Interceptor<T> interceptor : interceptorsForEvent) {
+            interceptor.onEvent(instance, event);
+        }
+    }
+
+    /**
+     * Trigger the interceptors for the given event and return a future of the given value,
+     * completed once all the interceptors, including the asynchronous ones, have completed.
+     * Interceptors are invoked in their registration order. When there is no asynchronous
+     * interceptor for this event, they are all invoked synchronously
+     */
+    public <V> CompletableFuture<V> triggerInterceptorsForEventAsync(Event event, T instance, V value) {
+        final InterceptorsIndex<T> index = interceptorsIndex;
+        if (!index.hasAsyncByEvent[event.ordinal()]) {
+            triggerInterceptorsForEvent(event, instance);
+            return CompletableFuture.completedFuture(value);
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Trigger asynchronous interceptors for entity %s on event %s",
+                    instance, event.name()));
+        }
+        final long start = metricsRecorder.isEnabled() ? System.nanoTime() : 0L;
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (Interceptor<T> interceptor : index.byEvent[event.ordinal()]) {
+            if (interceptor instanceof AsyncInterceptor) {
+                final AsyncInterceptor<T> asyncInterceptor = (AsyncInterceptor<T>) interceptor;
+                chain = chain.thenCompose(x -> asyncInterceptor.onEventAsync(instance, event));
+            } else {
+                chain = chain.thenRun(() -> interceptor.onEvent(instance, event));
+            }
+        }
+        if (metricsRecorder.isEnabled()) {
+            chain = chain.whenComplete((x, throwable) ->
+                    metricsRecorder.recordInterceptors(entityClass, event, System.nanoTime() - start));
+        }
+        return chain.thenApply(x -> value);
+    }
+
+    /**
+     * Trigger the interceptors for the given event on each of the given instances and return a future
+     * of the given value, completed once the interceptors have completed for all the instances.
+     * When there is no asynchronous interceptor for this event, they are all invoked synchronously
+     */
+    public <V> CompletableFuture<V> triggerInterceptorsForEachAsync(Event event, List<T> instances, V value) {
+        if (!hasAsyncInterceptorsForEvent(event)) {
+            for (T instance : instances) {
+                triggerInterceptorsForEvent(event, instance);
+            }
+            return CompletableFuture.completedFuture(value);
+        }
+        final CompletableFuture<?>[] futures = instances
                 .stream()
-                .filter(x -> x.interceptOnEvents().contains(event))
-                .forEach(x -> x.onEvent(instance, event));
+                .map(instance -> triggerInterceptorsForEventAsync(event, instance, instance))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(futures).thenApply(x -> value);
     }
 
     protected abstract T newInstanceFromCustomConstructor(Row row, List<String> cqlColumns);
 
     public T createEntityFrom(Row row) {
+        if (metricsRecorder.isEnabled()) {
+            final long start = System.nanoTime();
+            final T instance = createEntityFromRow(row);
+            metricsRecorder.recordEntityMapping(entityClass, System.nanoTime() - start);
+            return instance;
+        }
+        return createEntityFromRow(row);
+    }
+
+    private T createEntityFromRow(Row row) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Create entity of type %s from Cassandra row %s",
                     entityClass.getCanonicalName(), row));
         }
         if (row != null) {
+            final EntityDecodingPlan<T> decodingPlan = getDecodingPlan(row.getColumnDefinitions());
             // No custom constructor
-            final List<String> cqlColumns = row.getColumnDefinitions().asList().stream().map(def -> def.getName()).collect(toList());
             if (constructorInjectedColumns.size() == 0) {
                 T newInstance = beanFactory.newInstance(entityClass);
-                allColumnsWithComputed
-                        .stream()
-                        .filter(x -> cqlColumns.contains(x.getColumnForSelect()))
-                        .forEach(x -> x.decodeField(row, newInstance));
+                decodingPlan.decodeFields(row, newInstance);
                 return newInstance;
             } else {
 
-                final T newInstance = newInstanceFromCustomConstructor(row, cqlColumns);
+                final T newInstance = newInstanceFromCustomConstructor(row, decodingPlan.cqlColumns);
 
                 // Call setters for remaining fields not injected by constructor
-                allColumnsWithComputed
-                        .stream()
-                        .filter(x -> !constructorInjectedColumns.contains(x))
-                        .forEach(x -> x.decodeField(row, newInstance));
+                decodingPlan.decodeFields(row, newInstance);
                 return newInstance;
             }
         }
         return null;
     }
 
+    private EntityDecodingPlan<T> getDecodingPlan(ColumnDefinitions columnDefinitions) {
+        EntityDecodingPlan<T> decodingPlan = decodingPlans.getIfPresent(columnDefinitions);
+        if (decodingPlan == null) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Compute decoding plan of entity of type %s for columns %s",
+                        entityClass.getCanonicalName(), columnDefinitions));
+            }
+            if (constructorInjectedColumns.size() == 0) {
+                decodingPlan = EntityDecodingPlan.forPresentColumns(columnDefinitions, allColumnsWithComputed);
+            } else {
+                decodingPlan = EntityDecodingPlan.forAllColumns(columnDefinitions, allColumnsWithComputed
+                        .stream()
+                        .filter(x -> !constructorInjectedColumns.contains(x))
+                        .collect(toList()));
+            }
+            decodingPlans.put(columnDefinitions, decodingPlan);
+        }
+        return decodingPlan;
+    }
+
     public BoundValuesWrapper extractAllValuesFromEntity(T instance, CassandraOptions cassandraOptions) {
+        if (metricsRecorder.isEnabled()) {
+            final long start = System.nanoTime();
+            final BoundValuesWrapper wrapper = BeanValueExtractor.extractAllValues(instance, this, cassandraOptions);
+            metricsRecorder.recordValuesExtraction(entityClass, System.nanoTime() - start);
+            return wrapper;
+        }
         return BeanValueExtractor.extractAllValues(instance, this, cassandraOptions);
     }
 
     public BoundValuesWrapper extractPartitionKeysAndStaticColumnsFromEntity(T instance, CassandraOptions cassandraOptions) {
+        if (metricsRecorder.isEnabled()) {
+            final long start = System.nanoTime();
+            final BoundValuesWrapper wrapper = BeanValueExtractor.extractPartitionKeysAndStaticValues(instance, this, cassandraOptions);
+            metricsRecorder.recordValuesExtraction(entityClass, System.nanoTime() - start);
+            return wrapper;
+        }
         return BeanValueExtractor.extractPartitionKeysAndStaticValues(instance, this, cassandraOptions);
     }
 
@@ -295,17 +453,17 @@ public abstract class AbstractEntityProperty<T> implements
         return tableName;
     }
 
-    public void prepareStaticStatements(InternalCassandraVersion cassandraVersion, Session session, StatementsCache cache) {
+    public void prepareStaticStatements(InternalCassandraVersion cassandraVersion, StaticStatementsPreparer preparer) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Preparing static statements for entity of type %s",
                     entityClass.getCanonicalName()));
         }
         if (!counterTable) {
-            generateStaticInsertQueries(cassandraVersion, session, cache, this);
+            generateStaticInsertQueries(cassandraVersion, preparer, this);
         }
 
-        generateStaticDeleteQueries(session, cache, this);
-        generateStaticSelectQuery(session, cache, this);
+        generateStaticDeleteQueries(preparer, this);
+        generateStaticSelectQuery(preparer, this);
     }
 
     protected List<AbstractProperty<T, ?, ?>> getAllColumns() {
@@ -438,6 +596,65 @@ public abstract class AbstractEntityProperty<T> implements
         else this.insertStrategy = staticInsertStrategy.get();
     }
 
+    @Override
+    public void inject(MetricsRecorder metricsRecorder) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Injecting metrics recorder %s into entity meta of %s",
+                    metricsRecorder, entityClass.getCanonicalName()));
+        }
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    /**
+     * Evict the row of the given encoded primary key from the near cache, if any
+     */
+    public void invalidateNearCache(Object[] encodedPrimaryKeyValues) {
+        if (nearCache.isPresent()) {
+            nearCache.get().invalidate(Arrays.asList(encodedPrimaryKeyValues));
+        }
+    }
+
+    /**
+     * Evict the rows impacted by a mutation from the near cache, if any, given the encoded values of the
+     * leading primary key columns the mutation restricts with Eq (partition keys first):
+     * <ul>
+     *     <li>the row of the primary key when all the primary key columns are given</li>
+     *     <li>the rows of the partition when all the partition keys are given, or the primary key
+     *     of an entity having static columns since they are shared by all the rows of the partition</li>
+     *     <li>all the rows otherwise, e.g. for IN or range restrictions</li>
+     * </ul>
+     */
+    public void invalidateNearCache(List<Object> eqPrimaryKeyValues) {
+        if (nearCache.isPresent()) {
+            final int partitionKeysCount = partitionKeys.size();
+            if (eqPrimaryKeyValues.size() == partitionKeysCount + clusteringColumns.size() && !hasStaticColumn()) {
+                nearCache.get().invalidate(eqPrimaryKeyValues);
+            } else if (eqPrimaryKeyValues.size() >= partitionKeysCount) {
+                nearCache.get().invalidatePartition(eqPrimaryKeyValues.subList(0, partitionKeysCount));
+            } else {
+                nearCache.get().invalidateAll();
+            }
+        }
+    }
+
+    /**
+     * Evict all the rows from the near cache, if any. Used by mutations
+     * whose impacted primary keys are not known
+     */
+    public void invalidateNearCache() {
+        if (nearCache.isPresent()) {
+            nearCache.get().invalidateAll();
+        }
+    }
+
+    @Override
+    public void inject(NearCache nearCache) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Injecting near cache into entity meta of %s", entityClass.getCanonicalName()));
+        }
+        this.nearCache = Optional.of(nearCache);
+    }
+
     @Override
     public void inject(SchemaNameProvider schemaNameProvider) {
         if (LOGGER.isDebugEnabled()) {
@@ -511,4 +728,30 @@ public abstract class AbstractEntityProperty<T> implements
     public enum EntityType {
         TABLE, VIEW
     }
+
+    /**
+     * Interceptors resolved per event, indexed by Event ordinal
+     */
+    private static final class InterceptorsIndex<T> {
+        private final boolean indexed;
+        private final Interceptor<T>[][] byEvent;
+        private final boolean[] hasAsyncByEvent;
+
+        @SuppressWarnings("unchecked")
+        private InterceptorsIndex(List<Interceptor<T>> interceptors, boolean indexed) {
+            this.indexed = indexed;
+            final Event[] events = Event.values();
+            this.byEvent = new Interceptor[events.length][];
+            this.hasAsyncByEvent = new boolean[events.length];
+            for (Event event : events) {
+                byEvent[event.ordinal()] = interceptors
+                        .stream()
+                        .filter(x -> x.interceptOnEvents().contains(event))
+                        .toArray(Interceptor[]::new);
+                hasAsyncByEvent[event.ordinal()] = Arrays
+                        .stream(byEvent[event.ordinal()])
+                        .anyMatch(x -> x instanceof AsyncInterceptor);
+            }
+        }
+    }
 }
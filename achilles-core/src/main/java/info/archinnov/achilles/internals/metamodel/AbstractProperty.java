@@ -134,6 +134,22 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
 
     abstract VALUEFROM decodeFromGettableInternal(GettableData gettableData);
 
+    /**
+     * Decode the column at the given index of the GettableData (Row, UDTValue, ...) to Java value
+     * using Achilles codec system. Avoid the column lookup by name when the index is already known
+     * @param gettableData
+     * @param index
+     * @return
+     */
+    public VALUEFROM decodeFromGettable(GettableData gettableData, int index) {
+        if (gettableData.isNull(index) && !isOptional()) return null;
+        return decodeFromGettableInternal(gettableData, index);
+    }
+
+    VALUEFROM decodeFromGettableInternal(GettableData gettableData, int index) {
+        return decodeFromGettableInternal(gettableData);
+    }
+
     /**
      * Decode the given raw object to Java value value using Achilles codec system
      * @param o
@@ -245,6 +261,17 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
         fieldInfo.setter.set(entity, valuefrom);
     }
 
+    /**
+     * Decode the column at the given index of the GettableData and set the value on the entity
+     * @param gettableData
+     * @param index
+     * @param entity
+     */
+    public void decodeField(GettableData gettableData, int index, ENTITY entity) {
+        final VALUEFROM valuefrom = decodeFromGettable(gettableData, index);
+        fieldInfo.setter.set(entity, valuefrom);
+    }
+
     /**
      * Call the getter on the given entity to get the value
      * @param entity
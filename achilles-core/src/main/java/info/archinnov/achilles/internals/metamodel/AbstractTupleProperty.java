@@ -19,6 +19,7 @@ package info.archinnov.achilles.internals.metamodel;
 
 import static java.lang.String.format;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -27,6 +28,7 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.driver.core.GettableData;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.TupleType;
 import com.datastax.driver.core.TupleValue;
@@ -34,6 +36,7 @@ import com.datastax.driver.core.UDTValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.reflect.TypeToken;
 
+import info.archinnov.achilles.internals.cache.DataTypeCache;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
@@ -52,6 +55,9 @@ public abstract class AbstractTupleProperty<ENTITY, T extends Tuple> extends Abs
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractTupleProperty.class);
     protected TupleType tupleType;
     protected TupleTypeFactory tupleTypeFactory;
+    protected UserTypeFactory userTypeFactory;
+    protected List<AbstractUDTClassProperty<?>> udtClassProperties = Collections.emptyList();
+    protected final DataTypeCache<TupleType> tupleTypes = new DataTypeCache<>();
 
     AbstractTupleProperty(TypeToken<T> valueFromTypeToken, FieldInfo<ENTITY, T> fieldInfo) {
         super(valueFromTypeToken, TUPLE_VALUE_TYPE_TOKEN, fieldInfo);
@@ -67,6 +73,15 @@ public abstract class AbstractTupleProperty<ENTITY, T extends Tuple> extends Abs
 
     protected abstract List<AbstractProperty<ENTITY, ?, ?>> componentsProperty();
 
+    @Override
+    T decodeFromGettableInternal(GettableData gettableData, int index) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Decode '%s' tuple from gettable object %s at index %s", fieldName, gettableData, index));
+        }
+
+        return decodeFromRaw(gettableData.getTupleValue(index));
+    }
+
     @Override
     public void encodeToSettable(TupleValue tuple, SettableData<?> settableData) {
         if (LOGGER.isTraceEnabled()) {
@@ -94,9 +109,11 @@ public abstract class AbstractTupleProperty<ENTITY, T extends Tuple> extends Abs
              @Override
     public void inject(UserTypeFactory userTypeFactory, TupleTypeFactory tupleTypeFactory) {
         this.tupleTypeFactory = tupleTypeFactory;
+        this.userTypeFactory = userTypeFactory;
         for (AbstractProperty<ENTITY, ?, ?> x : componentsProperty()) {
             x.inject(userTypeFactory, tupleTypeFactory);
         }
+        this.udtClassProperties = getUDTClassProperties();
         this.tupleType = this.buildType(schemaNameProvider.map(CassandraOptions::withSchemaNameProvider));
     }
 
@@ -147,7 +164,21 @@ public abstract class AbstractTupleProperty<ENTITY, T extends Tuple> extends Abs
         }
     }
 
-     protected TupleType getRuntimeTupleType(Optional<CassandraOptions> options) {
-         return options.isPresent() ? buildType(options) : tupleType;
-     }
+    /**
+     * Tuple types without UDT component do not depend on the keyspace, the type
+     * built at injection time is returned. Otherwise the type is resolved for the
+     * keyspace of the UDT components and cached
+     */
+    protected TupleType getRuntimeTupleType(Optional<CassandraOptions> options) {
+        if (udtClassProperties.isEmpty()) {
+            return tupleType;
+        }
+        final String keyspaceName = udtClassProperties.get(0).resolveKeyspace(options);
+        final long schemaGeneration = userTypeFactory.schemaGeneration();
+        final TupleType cachedType = tupleTypes.get(keyspaceName, true, schemaGeneration);
+        if (cachedType != null) {
+            return cachedType;
+        }
+        return tupleTypes.put(keyspaceName, true, schemaGeneration, buildType(options));
+    }
 }
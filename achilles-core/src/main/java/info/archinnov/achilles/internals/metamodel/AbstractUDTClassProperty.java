@@ -34,13 +34,13 @@ import com.datastax.driver.core.schemabuilder.SchemaBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import info.archinnov.achilles.annotations.UDT;
+import info.archinnov.achilles.internals.cache.DataTypeCache;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.injectable.*;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.schema.SchemaContext;
 import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
-import info.archinnov.achilles.internals.types.OverridingOptional;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -64,7 +64,7 @@ public abstract class AbstractUDTClassProperty<A>
     public final Class<?> parentEntityClass;
     protected BeanFactory udtFactory;
     protected UserTypeFactory userTypeFactory;
-    protected UserType userType;
+    protected final DataTypeCache<UserType> userTypes = new DataTypeCache<>();
     protected Optional<SchemaNameProvider> schemaNameProvider = Optional.empty();
     String keyspace;
 
@@ -121,33 +121,60 @@ public abstract class AbstractUDTClassProperty<A>
         return null;
     }
 
+    /**
+     * Resolve the UserType for the keyspace determined by the given options.
+     * Resolved types are cached per keyspace and frozen flag so that encoding
+     * a UDT value does not rebuild the whole type tree
+     */
     protected UserType getUserType(boolean frozen, Optional<CassandraOptions> cassandraOptions) {
-        if (cassandraOptions.isPresent() || userType == null) {
-            return buildType(frozen, cassandraOptions);
-        } else {
-            return userType;
+        final String keyspaceName = resolveKeyspace(cassandraOptions);
+        final long schemaGeneration = userTypeFactory.schemaGeneration();
+        final UserType cachedType = userTypes.get(keyspaceName, frozen, schemaGeneration);
+        if (cachedType != null) {
+            return cachedType;
         }
+        return userTypes.put(keyspaceName, frozen, schemaGeneration, buildType(keyspaceName, frozen, cassandraOptions));
     }
 
     public UserType buildType(boolean frozen, Optional<CassandraOptions> cassandraOptions) {
+        return buildType(resolveKeyspace(cassandraOptions), frozen, cassandraOptions);
+    }
+
+    private UserType buildType(String keyspaceName, boolean frozen, Optional<CassandraOptions> cassandraOptions) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Building UserType instance for the current UDT class meta %s", this.toString()));
         }
 
-        Optional<String> keyspaceName = OverridingOptional
-                .from(cassandraOptions.flatMap(CassandraOptions::getSchemaNameProvider).map(x -> x.keyspaceFor(parentEntityClass)))
-                .andThen(this.schemaNameProvider.map(x -> x.keyspaceFor(parentEntityClass)))
-                .andThen(staticKeyspace.orElse(keyspace))
-                .getOptional();
-
-        Validator.validateTrue(keyspaceName.isPresent(),
-                "The keyspace name for the UDT type '%s' should be either provided by the '%s' annotation or at runtime",
-                udtClass.getCanonicalName(), UDT.class.getSimpleName());
         List<UserType.Field> fields = getComponentsProperty()
                 .stream()
                 .map(property -> userTypeFactory.fieldFor(property.fieldInfo.cqlColumn, property.buildType(cassandraOptions)))
                 .collect(Collectors.toList());
-        return userTypeFactory.typeFor(keyspaceName.get(), udtName, frozen, fields);
+        return userTypeFactory.typeFor(keyspaceName, udtName, frozen, fields);
+    }
+
+    /**
+     * Keyspace of the UDT type, by order of precedence: the schema name provider of the given options,
+     * the global schema name provider, the static keyspace then the global keyspace
+     */
+    String resolveKeyspace(Optional<CassandraOptions> cassandraOptions) {
+        String keyspaceName = null;
+        if (cassandraOptions.isPresent()) {
+            final Optional<SchemaNameProvider> runtimeProvider = cassandraOptions.get().getSchemaNameProvider();
+            if (runtimeProvider.isPresent()) {
+                keyspaceName = runtimeProvider.get().keyspaceFor(parentEntityClass);
+            }
+        }
+        if (keyspaceName == null && schemaNameProvider.isPresent()) {
+            keyspaceName = schemaNameProvider.get().keyspaceFor(parentEntityClass);
+        }
+        if (keyspaceName == null) {
+            keyspaceName = staticKeyspace.orElse(keyspace);
+        }
+
+        Validator.validateTrue(keyspaceName != null,
+                "The keyspace name for the UDT type '%s' should be either provided by the '%s' annotation or at runtime",
+                udtClass.getCanonicalName(), UDT.class.getSimpleName());
+        return keyspaceName;
     }
 
     public String generateSchema(SchemaContext context) {
@@ -183,7 +210,6 @@ public abstract class AbstractUDTClassProperty<A>
         for (AbstractProperty<A, ?, ?> x : componentsProperty) {
             x.inject(userTypeFactory, tupleTypeFactory);
         }
-        //userType = this.buildType(frozen, schemaNameProvider.map(CassandraOptions::withSchemaNameProvider));
     }
 
     @Override
@@ -22,10 +22,11 @@ import static info.archinnov.achilles.internals.statements.PreparedStatementGene
 import static info.archinnov.achilles.validation.Validator.validateNotNull;
 import static java.lang.String.format;
 
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,7 +36,7 @@ import com.datastax.driver.core.KeyspaceMetadata;
 import com.datastax.driver.core.MaterializedViewMetadata;
 import com.datastax.driver.core.Session;
 
-import info.archinnov.achilles.internals.cache.StatementsCache;
+import info.archinnov.achilles.internals.cache.StaticStatementsPreparer;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.metamodel.columns.ColumnType;
@@ -51,7 +52,6 @@ public abstract class AbstractViewProperty<T> extends AbstractEntityProperty<T>
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractViewProperty.class);
 
-    private final List<AbstractProperty<T, ?, ?>> EMPTY_LIST = Arrays.asList();
 
     private AbstractEntityProperty<?> baseClassProperty;
 
@@ -116,12 +116,12 @@ public abstract class AbstractViewProperty<T> extends AbstractEntityProperty<T>
     }
 
     @Override
-    public void prepareStaticStatements(InternalCassandraVersion cassandraVersion, Session session, StatementsCache cache) {
+    public void prepareStaticStatements(InternalCassandraVersion cassandraVersion, StaticStatementsPreparer preparer) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Preparing static statements for entity of type %s",
                     entityClass.getCanonicalName()));
         }
-        generateStaticSelectQuery(session, cache, this);
+        generateStaticSelectQuery(preparer, this);
     }
 
     protected List<AbstractProperty<T, ?, ?>> getAllColumns() {
@@ -166,6 +166,14 @@ public abstract class AbstractViewProperty<T> extends AbstractEntityProperty<T>
         super.triggerInterceptorsForEvent(event, instance);
     }
 
+    @Override
+    public <V> CompletableFuture<V> triggerInterceptorsForEventAsync(Event event, T instance, V value) {
+        if (event != Event.POST_LOAD) {
+            throw new RuntimeException("Cannot execute mutation for the materialized view " + getDerivedTableOrViewName());
+        }
+        return super.triggerInterceptorsForEventAsync(event, instance, value);
+    }
+
     @Override
     public InsertStrategy insertStrategy() {
         throw new RuntimeException("Cannot execute mutation for the materialized view " + getDerivedTableOrViewName());
@@ -208,12 +216,12 @@ public abstract class AbstractViewProperty<T> extends AbstractEntityProperty<T>
 
     @Override
     protected List<AbstractProperty<T, ?, ?>> getStaticColumns() {
-        return EMPTY_LIST;
+        return Collections.emptyList();
     }
 
     @Override
     protected List<AbstractProperty<T, ?, ?>> getCounterColumns() {
-        return EMPTY_LIST;
+        return Collections.emptyList();
     }
 
     public AbstractEntityProperty<?> getBaseClassProperty() {
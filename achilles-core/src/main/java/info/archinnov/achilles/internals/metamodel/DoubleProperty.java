@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.metamodel;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.GettableData;
+import com.datastax.driver.core.SettableData;
+import com.google.common.reflect.TypeToken;
+
+import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
+import info.archinnov.achilles.type.codec.Codec;
+
+/**
+ * {@link PrimitiveProperty} for <em>double</em> fields, read and written with
+ * <em>GettableData.getDouble()</em> and <em>SettableData.setDouble()</em>
+ */
+public class DoubleProperty<ENTITY> extends PrimitiveProperty<ENTITY, Double> {
+
+    private final ObjDoubleConsumer<ENTITY> primitiveSetter;
+
+    public DoubleProperty(FieldInfo<ENTITY, Double> fieldInfo, DataType dataType,
+                          Function<GettableData, Double> gettable,
+                          BiConsumer<SettableData, Double> settable,
+                          TypeToken<Double> valueFromTypeToken,
+                          TypeToken<Double> valueToTypeToken,
+                          Codec<Double, Double> valueCodec,
+                          ObjDoubleConsumer<ENTITY> primitiveSetter) {
+        super(fieldInfo, dataType, gettable, settable, valueFromTypeToken, valueToTypeToken, valueCodec);
+        this.primitiveSetter = primitiveSetter;
+    }
+
+    @Override
+    void decodePrimitive(GettableData gettableData, String column, ENTITY entity) {
+        primitiveSetter.accept(entity, gettableData.getDouble(column));
+    }
+
+    @Override
+    void decodePrimitive(GettableData gettableData, int index, ENTITY entity) {
+        primitiveSetter.accept(entity, gettableData.getDouble(index));
+    }
+
+    @Override
+    Double getPrimitive(GettableData gettableData, String column) {
+        return gettableData.getDouble(column);
+    }
+
+    @Override
+    Double getPrimitive(GettableData gettableData, int index) {
+        return gettableData.getDouble(index);
+    }
+
+    @Override
+    void setPrimitive(SettableData<?> settableData, String column, Double value) {
+        settableData.setDouble(column, value);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metamodel;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.datastax.driver.core.SettableData;
+
+import info.archinnov.achilles.internals.options.CassandraOptions;
+
+/**
+ * Positional binding plan of an entity for a given list of columns.
+ * <br/>
+ * The plan flattens the column properties into an array whose index is the
+ * bind marker index in the generated INSERT/UPDATE/DELETE statement. Values are
+ * extracted from the entity in one pass, each getter being called only once,
+ * directly into the raw and encoded value arrays.
+ * <br/>
+ * When the plan has a TTL slot, it is always the last bind marker
+ */
+public class EntityBindingPlan<T> {
+
+    private final AbstractProperty<T, ?, ?>[] properties;
+    private final boolean withTTL;
+
+    @SuppressWarnings("unchecked")
+    private EntityBindingPlan(List<AbstractProperty<T, ?, ?>> properties, boolean withTTL) {
+        this.properties = properties.toArray(new AbstractProperty[properties.size()]);
+        this.withTTL = withTTL;
+    }
+
+    static <T> EntityBindingPlan<T> withTTL(List<AbstractProperty<T, ?, ?>> properties) {
+        return new EntityBindingPlan<>(properties, true);
+    }
+
+    static <T> EntityBindingPlan<T> withoutTTL(List<AbstractProperty<T, ?, ?>> properties) {
+        return new EntityBindingPlan<>(properties, false);
+    }
+
+    /**
+     * Number of bind markers covered by this plan, including the TTL slot if any
+     */
+    public int size() {
+        return withTTL ? properties.length + 1 : properties.length;
+    }
+
+    /**
+     * Extract and encode the values of the given entity into the given arrays.
+     * Both arrays should have a length of at least {@link #size()}. The TTL slot,
+     * if any, is filled with the given ttl value
+     */
+    @SuppressWarnings("unchecked")
+    public void extractValues(T instance, Optional<CassandraOptions> cassandraOptions, int ttl,
+                              Object[] boundValues, Object[] encodedValues) {
+        final int length = properties.length;
+        for (int i = 0; i < length; i++) {
+            final AbstractProperty<T, Object, Object> property = (AbstractProperty<T, Object, Object>) properties[i];
+            final Object value = property.getFieldValue(instance);
+            boundValues[i] = value;
+            encodedValues[i] = property.encodeFromJava(value, cassandraOptions);
+        }
+        if (withTTL) {
+            boundValues[length] = ttl;
+            encodedValues[length] = ttl;
+        }
+    }
+
+    /**
+     * Bind the non null encoded values to the given SettableData by column name
+     */
+    @SuppressWarnings("unchecked")
+    public void bindNonNullValues(Object[] encodedValues, SettableData<?> settableData) {
+        final int length = properties.length;
+        for (int i = 0; i < length; i++) {
+            final Object encodedValue = encodedValues[i];
+            if (encodedValue != null) {
+                ((AbstractProperty<T, ?, Object>) properties[i]).encodeToSettable(encodedValue, settableData);
+            }
+        }
+        if (withTTL) {
+            settableData.setInt("ttl", (Integer) encodedValues[length]);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metamodel;
+
+import java.util.*;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+
+/**
+ * Positional decoding plan of an entity for a given result set metadata.
+ * <br/>
+ * The plan maps each entity property to the index of its column in the
+ * ColumnDefinitions so that rows can be decoded by index, without any
+ * per-row column lookup by name. It is computed once per distinct
+ * ColumnDefinitions instance, which is shared by all the rows of a
+ * prepared statement execution
+ */
+public class EntityDecodingPlan<T> {
+
+    static final int NOT_IN_RESULT_SET = -1;
+
+    final List<String> cqlColumns;
+    private final AbstractProperty<T, ?, ?>[] properties;
+    private final int[] indices;
+
+    @SuppressWarnings("unchecked")
+    private EntityDecodingPlan(List<String> cqlColumns, List<AbstractProperty<T, ?, ?>> properties, List<Integer> indices) {
+        this.cqlColumns = cqlColumns;
+        this.properties = properties.toArray(new AbstractProperty[properties.size()]);
+        this.indices = new int[indices.size()];
+        for (int i = 0; i < this.indices.length; i++) {
+            this.indices[i] = indices.get(i);
+        }
+    }
+
+    /**
+     * Build a plan for all the given properties whose column is present in the result set
+     */
+    static <T> EntityDecodingPlan<T> forPresentColumns(ColumnDefinitions columnDefinitions,
+                                                       List<AbstractProperty<T, ?, ?>> candidates) {
+        return build(columnDefinitions, candidates, true);
+    }
+
+    /**
+     * Build a plan for all the given properties. Properties whose column is
+     * not present in the result set are decoded by column name
+     */
+    static <T> EntityDecodingPlan<T> forAllColumns(ColumnDefinitions columnDefinitions,
+                                                   List<AbstractProperty<T, ?, ?>> candidates) {
+        return build(columnDefinitions, candidates, false);
+    }
+
+    private static <T> EntityDecodingPlan<T> build(ColumnDefinitions columnDefinitions,
+                                                   List<AbstractProperty<T, ?, ?>> candidates,
+                                                   boolean skipAbsentColumns) {
+        final int size = columnDefinitions.size();
+        final List<String> cqlColumns = new ArrayList<>(size);
+        final Map<String, Integer> indexByColumn = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            final String name = columnDefinitions.getName(i);
+            cqlColumns.add(name);
+            indexByColumn.putIfAbsent(name, i);
+        }
+
+        final List<AbstractProperty<T, ?, ?>> properties = new ArrayList<>(candidates.size());
+        final List<Integer> indices = new ArrayList<>(candidates.size());
+        for (AbstractProperty<T, ?, ?> candidate : candidates) {
+            final Integer index = indexByColumn.get(candidate.getColumnForSelect());
+            if (index != null) {
+                properties.add(candidate);
+                indices.add(index);
+            } else if (!skipAbsentColumns) {
+                properties.add(candidate);
+                indices.add(NOT_IN_RESULT_SET);
+            }
+        }
+        return new EntityDecodingPlan<>(Collections.unmodifiableList(cqlColumns), properties, indices);
+    }
+
+    void decodeFields(Row row, T instance) {
+        for (int i = 0; i < properties.length; i++) {
+            final int index = indices[i];
+            if (index == NOT_IN_RESULT_SET) {
+                properties[i].decodeField(row, instance);
+            } else {
+                properties[i].decodeField(row, index, instance);
+            }
+        }
+    }
+}
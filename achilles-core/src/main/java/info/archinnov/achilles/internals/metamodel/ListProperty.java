@@ -153,6 +153,21 @@ public class ListProperty<ENTITY, VALUEFROM, VALUETO> extends
         return decodeFromRaw(gettableData.getList(fieldInfo.quotedCqlColumn, valueProperty.valueToTypeToken));
     }
 
+    @Override
+    public List<VALUEFROM> decodeFromGettable(GettableData gettableData, int index) {
+        if (gettableData.isNull(index) && !emptyCollectionIfNull) return null;
+        return decodeFromGettableInternal(gettableData, index);
+    }
+
+    @Override
+    List<VALUEFROM> decodeFromGettableInternal(GettableData gettableData, int index) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Decode '%s' list from gettable object %s at index %s", fieldName, gettableData, index));
+        }
+
+        return decodeFromRaw(gettableData.getList(index, valueProperty.valueToTypeToken));
+    }
+
     @Override
     public List<VALUEFROM> decodeFromRaw(Object o) {
         return decodeFromRawInternal(o);
@@ -185,6 +185,21 @@ public class MapProperty<ENTITY, KEYFROM, KEYTO, VALUEFROM, VALUETO> extends
         return decodeFromRaw(gettableData.getMap(fieldInfo.quotedCqlColumn, keyProperty.valueToTypeToken, valueProperty.valueToTypeToken));
     }
 
+    @Override
+    public Map<KEYFROM, VALUEFROM> decodeFromGettable(GettableData gettableData, int index) {
+        if (gettableData.isNull(index) && !emptyCollectionIfNull) return null;
+        return decodeFromGettableInternal(gettableData, index);
+    }
+
+    @Override
+    Map<KEYFROM, VALUEFROM> decodeFromGettableInternal(GettableData gettableData, int index) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Decode '%s' map from gettable object %s at index %s", fieldName, gettableData, index));
+        }
+
+        return decodeFromRaw(gettableData.getMap(index, keyProperty.valueToTypeToken, valueProperty.valueToTypeToken));
+    }
+
     @Override
     public Map<KEYFROM, VALUEFROM> decodeFromRaw(Object o) {
         return decodeFromRawInternal(o);
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.metamodel;
+
+import static java.lang.String.format;
+
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.GettableData;
+import com.datastax.driver.core.SettableData;
+import com.google.common.reflect.TypeToken;
+
+import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.type.codec.Codec;
+
+/**
+ * Specialization of {@link SimpleProperty} for primitive fields without custom codec.
+ * <br/>
+ * Values are read and written with the primitive accessors of <em>GettableData</em> and <em>SettableData</em>
+ * directly, skipping the codec registry lookup by TypeToken and the identity codec call.
+ * When decoding a non null column into an entity, subclasses pass the value unboxed to the primitive setter
+ */
+public abstract class PrimitiveProperty<ENTITY, VALUE> extends SimpleProperty<ENTITY, VALUE, VALUE> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrimitiveProperty.class);
+
+    protected PrimitiveProperty(FieldInfo<ENTITY, VALUE> fieldInfo, DataType dataType,
+                                Function<GettableData, VALUE> gettable,
+                                BiConsumer<SettableData, VALUE> settable,
+                                TypeToken<VALUE> valueFromTypeToken,
+                                TypeToken<VALUE> valueToTypeToken,
+                                Codec<VALUE, VALUE> valueCodec) {
+        super(fieldInfo, dataType, gettable, settable, valueFromTypeToken, valueToTypeToken, valueCodec);
+    }
+
+    /**
+     * Read the non null column into the entity without boxing
+     */
+    abstract void decodePrimitive(GettableData gettableData, String column, ENTITY entity);
+
+    /**
+     * Read the non null column at the given index into the entity without boxing
+     */
+    abstract void decodePrimitive(GettableData gettableData, int index, ENTITY entity);
+
+    abstract VALUE getPrimitive(GettableData gettableData, String column);
+
+    abstract VALUE getPrimitive(GettableData gettableData, int index);
+
+    abstract void setPrimitive(SettableData<?> settableData, String column, VALUE value);
+
+    @Override
+    public void decodeField(GettableData gettableData, ENTITY entity) {
+        if (gettableData.isNull(fieldInfo.quotedCqlColumn)) {
+            super.decodeField(gettableData, entity);
+        } else {
+            decodePrimitive(gettableData, fieldInfo.quotedCqlColumn, entity);
+        }
+    }
+
+    @Override
+    public void decodeField(GettableData gettableData, int index, ENTITY entity) {
+        if (gettableData.isNull(index)) {
+            super.decodeField(gettableData, index, entity);
+        } else {
+            decodePrimitive(gettableData, index, entity);
+        }
+    }
+
+    @Override
+    public void encodeToSettable(VALUE valueTo, SettableData<?> settableData) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Encode '%s' value %s to settable object %s",
+                    fieldName, valueTo, settableData));
+        }
+        setPrimitive(settableData, fieldInfo.quotedCqlColumn, valueTo);
+    }
+
+    @Override
+    public VALUE encodeFromJavaInternal(VALUE javaValue, Optional<CassandraOptions> cassandraOptions) {
+        return javaValue;
+    }
+
+    @Override
+    public VALUE decodeFromGettableInternal(GettableData gettableData) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Decode '%s' from gettable object %s", fieldName, gettableData));
+        }
+        return getPrimitive(gettableData, fieldInfo.quotedCqlColumn);
+    }
+
+    @Override
+    VALUE decodeFromGettableInternal(GettableData gettableData, int index) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Decode '%s' from gettable object %s at index %s", fieldName, gettableData, index));
+        }
+        return getPrimitive(gettableData, index);
+    }
+}
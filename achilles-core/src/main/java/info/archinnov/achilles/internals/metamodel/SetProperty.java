@@ -142,6 +142,21 @@ public class SetProperty<ENTITY, VALUEFROM, VALUETO> extends
         return decodeFromRaw(gettableData.getSet(fieldInfo.quotedCqlColumn, valueProperty.valueToTypeToken));
     }
 
+    @Override
+    public Set<VALUEFROM> decodeFromGettable(GettableData gettableData, int index) {
+        if (gettableData.isNull(index) && !emptyCollectionIfNull) return null;
+        return decodeFromGettableInternal(gettableData, index);
+    }
+
+    @Override
+    Set<VALUEFROM> decodeFromGettableInternal(GettableData gettableData, int index) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Decode '%s' set from gettable object %s at index %s", fieldName, gettableData, index));
+        }
+
+        return decodeFromRaw(gettableData.getSet(index, valueProperty.valueToTypeToken));
+    }
+
 
     @Override
     public Set<VALUEFROM> decodeFromRaw(Object o) {
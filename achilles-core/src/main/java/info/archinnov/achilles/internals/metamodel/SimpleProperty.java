@@ -36,6 +36,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.reflect.TypeToken;
 
 import info.archinnov.achilles.internals.codec.JSONCodec;
+import info.archinnov.achilles.internals.codec.StreamingJSONCodec;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
@@ -110,6 +111,15 @@ public class SimpleProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProperty
         return valueCodec.decode(gettable.apply(gettableData));
     }
 
+    @Override
+    VALUEFROM decodeFromGettableInternal(GettableData gettableData, int index) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Decode '%s' from gettable object %s at index %s", fieldName, gettableData, index));
+        }
+
+        return valueCodec.decode(gettableData.get(index, valueToTypeToken));
+    }
+
 
     @Override
     public VALUEFROM decodeFromRawInternal(Object o) {
@@ -160,6 +170,8 @@ public class SimpleProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProperty
     public void inject(ObjectMapper mapper) {
         if (valueCodec instanceof JSONCodec) {
             ((JSONCodec) valueCodec).setObjectMapper(mapper);
+        } else if (valueCodec instanceof StreamingJSONCodec) {
+            ((StreamingJSONCodec) valueCodec).setObjectMapper(mapper);
         }
     }
 
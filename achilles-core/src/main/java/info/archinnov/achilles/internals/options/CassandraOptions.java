@@ -33,6 +33,7 @@ import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.types.LimitedResultSetWrapper;
+import info.archinnov.achilles.type.CompletionMode;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.validation.Validator;
 
@@ -59,6 +60,8 @@ public class CassandraOptions {
     private Optional<StringJoiner> dseSearchSolrQuery = Optional.empty();
     private Optional<String> dseSearchRawSolrQuery = Optional.empty();
     private Optional<Integer> DMLResultsDisplaySize = Optional.empty();
+    private Optional<Double> pagePrefetchThreshold = Optional.empty();
+    private Optional<CompletionMode> completionMode = Optional.empty();
 
     public CassandraOptions() {}
 
@@ -220,6 +223,10 @@ public class CassandraOptions {
         return row;
     }
 
+    public boolean hasAsyncListeners() {
+        return resultSetAsyncListeners.isPresent() || rowAsyncListeners.isPresent();
+    }
+
     public Optional<List<Function<ResultSet, ResultSet>>> getResultSetAsyncListeners() {
         return resultSetAsyncListeners;
     }
@@ -276,6 +283,22 @@ public class CassandraOptions {
         this.DMLResultsDisplaySize = DMLResultsDisplaySize;
     }
 
+    public Optional<Double> getPagePrefetchThreshold() {
+        return pagePrefetchThreshold;
+    }
+
+    public void setPagePrefetchThreshold(Optional<Double> pagePrefetchThreshold) {
+        this.pagePrefetchThreshold = pagePrefetchThreshold;
+    }
+
+    public Optional<CompletionMode> getCompletionMode() {
+        return completionMode;
+    }
+
+    public void setCompletionMode(Optional<CompletionMode> completionMode) {
+        this.completionMode = completionMode;
+    }
+
     public Statement applyOptions(OperationType operationType, AbstractEntityProperty<?> meta, Statement statement) {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Applying options %s to the current statement %s",
@@ -321,6 +344,8 @@ public class CassandraOptions {
         sb.append(", schemaNameProvider=").append(schemaNameProvider);
         sb.append(", readTimeoutInMillis=").append(readTimeout);
         sb.append(", DMLResultsDisplaySize=").append(DMLResultsDisplaySize);
+        sb.append(", pagePrefetchThreshold=").append(pagePrefetchThreshold);
+        sb.append(", completionMode=").append(completionMode);
         sb.append('}');
         return sb.toString();
     }
@@ -517,7 +517,10 @@ public class AnnotationTree {
 
     private static TypedMap inspectSupportedAnnotation_Javac(AptUtils aptUtils, TypeMirror currentType, AnnotationMirror annotation) {
         final TypedMap typedMap = new TypedMap();
-        if(areSameByClass(annotation, Enumerated.class)){
+        if (areSameByClass(annotation, JSON.class)) {
+            typedMap.put("streaming", getElementValue(annotation, "streaming", Boolean.class, true));
+            return typedMap;
+        } else if(areSameByClass(annotation, Enumerated.class)){
             final Enumerated.Encoding encoding = getElementValueEnum(annotation, "value", Enumerated.Encoding.class, true);
             return TypedMap.of("value", encoding);
         } else if (areSameByClass(annotation, Codec.class)) {
@@ -614,6 +617,12 @@ public class AnnotationTree {
         final TypedMap typedMap = new TypedMap();
         final String annotationName = annotationBinding.getAnnotationType().debugName();
         if (JSON.class.getCanonicalName().equals(annotationName)) {
+            final boolean streaming = Arrays.asList(annotationBinding.getElementValuePairs())
+                    .stream()
+                    .filter(pair -> new String(pair.getName()).equals("streaming"))
+                    .map(pair -> ((BooleanConstant) pair.getValue()).booleanValue())
+                    .findFirst().orElse(false);
+            typedMap.put("streaming", streaming);
             return Tuple2.of(JSON.class, typedMap);
         } else if (EmptyCollectionIfNull.class.getCanonicalName().equals(annotationName)) {
             return Tuple2.of(EmptyCollectionIfNull.class, typedMap);
@@ -104,6 +104,10 @@ public class CodecFactory {
         return new CodecContext(TypeName.get(codecType), codecTypes.get(0), codecTypes.get(1));
     }
 
+    public static boolean isStreamingJSON(TypedMap json) {
+        return Boolean.TRUE.equals(json.<Boolean>getTyped("streaming"));
+    }
+
     public static RuntimeCodecContext buildRuntimeCodecContext(TypeMirror currentType, AnnotationMirror annotation) {
         final Class<?> targetType = getElementValueClass(annotation, "cqlClass", false).get();
         final Optional<String> codecName = ofNullable(getElementValue(annotation, "codecName", String.class, false));
@@ -129,7 +133,11 @@ public class CodecFactory {
 
         CodeBlock codec;
 
-        if (jsonTransform.isPresent()) {
+        if (jsonTransform.isPresent() && isStreamingJSON(jsonTransform.get())) {
+            codec = CodeBlock.builder().add("new $T<>($T.class, $L)", STREAMING_JSON_CODEC, getRawType(sourceType).box(), buildJavaTypeForJackson(sourceType)).build();
+            targetType = BYTE_BUFFER;
+            return new CodecInfo(codec, sourceType, targetType);
+        } else if (jsonTransform.isPresent()) {
             codec = CodeBlock.builder().add("new $T<>($T.class, $L)", JSON_CODEC, getRawType(sourceType).box(), buildJavaTypeForJackson(sourceType)).build();
             targetType = ClassName.get(String.class);
             return new CodecInfo(codec, sourceType, targetType);
@@ -173,7 +181,7 @@ public class CodecFactory {
                 }
                 context.typeValidator().validateAllowedTypes(aptUtils, sourceType, sourceType);
                 codec = CodeBlock.builder().add("new $T<>($T.class)", FALL_THROUGH_CODEC, getRawType(sourceType).box()).build();
-                return new CodecInfo(codec, sourceType, targetType);
+                return new CodecInfo(codec, sourceType, targetType, true);
             }
         }
     }
@@ -330,11 +338,17 @@ public class CodecFactory {
         final protected CodeBlock codecCode;
         final protected TypeName sourceType;
         final protected TypeName targetType;
+        final protected boolean fallThrough;
 
         public CodecInfo(CodeBlock codecCode, TypeName sourceType, TypeName targetType) {
+            this(codecCode, sourceType, targetType, false);
+        }
+
+        public CodecInfo(CodeBlock codecCode, TypeName sourceType, TypeName targetType, boolean fallThrough) {
             this.codecCode = codecCode;
             this.sourceType = sourceType;
             this.targetType = targetType;
+            this.fallThrough = fallThrough;
         }
     }
 
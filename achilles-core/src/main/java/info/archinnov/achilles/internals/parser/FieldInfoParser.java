@@ -89,8 +89,10 @@ public class FieldInfoParser {
             indexInfoCode = buildNativeIndexInfo(annotationTree, elm, context);
         }
 
+        final TypeName fieldType = TypeName.get(elm.asType());
         final CodeBlock getterLambda;
         final CodeBlock setterLambda;
+        final Optional<CodeBlock> primitiveSetterLambda;
 
         if (optionalAccessorExclusion.isPresent()) {
             final AccessorsExclusionContext exclusionContext = optionalAccessorExclusion.get();
@@ -119,6 +121,9 @@ public class FieldInfoParser {
                 setterLambda = CodeBlock.builder()
                         .add("($T entity$$, $T value$$) -> {}", rawEntityClass, currentType)
                         .build();
+                primitiveSetterLambda = fieldType.isPrimitive()
+                        ? Optional.of(CodeBlock.builder().add("($T entity$$, $T value$$) -> {}", rawEntityClass, fieldType).build())
+                        : Optional.empty();
             } else {
                 throw new AchillesBeanMappingException(format("AccessorsExclusionContext for entity '%s' but the setter is present", context.className));
             }
@@ -135,12 +140,18 @@ public class FieldInfoParser {
             setterLambda = CodeBlock.builder()
                     .add("($T entity$$, $T value$$) -> entity$$.$L(value$$)", rawEntityClass, currentType, setter.getSimpleName().toString())
                     .build();
+            primitiveSetterLambda = fieldType.isPrimitive()
+                    ? Optional.of(CodeBlock.builder()
+                        .add("($T entity$$, $T value$$) -> entity$$.$L(value$$)", rawEntityClass, fieldType, setter.getSimpleName().toString())
+                        .build())
+                    : Optional.empty();
         }
 
         return new FieldInfoContext(CodeBlock.builder()
                 .add("new $T<>($L, $L, $S, $S, $L, $L, $L)", FIELD_INFO, getterLambda, setterLambda,
                         fieldName, cqlColumn, columnTypeCode._1(), columnInfoCode._1(), indexInfoCode._1())
-                .build(), fieldName, cqlColumn, columnTypeCode._2(), columnInfoCode._2(), indexInfoCode._2());
+                .build(), fieldName, cqlColumn, columnTypeCode._2(), columnInfoCode._2(), indexInfoCode._2(),
+                primitiveSetterLambda);
     }
 
     protected List<String> deriveGetterName(VariableElement elm) {
@@ -174,6 +174,8 @@ public class FieldParser {
             dataType = CodeBlock.builder().add("$T.ascii()", DATATYPE).build();
         } else if (containsAnnotation(annotationTree, Counter.class)) {
             dataType = CodeBlock.builder().add("$T.counter()", DATATYPE).build();
+        } else if (extractTypedMap(annotationTree, JSON.class).map(CodecFactory::isStreamingJSON).orElse(false)) {
+            dataType = CodeBlock.builder().add("$T.text()", DATATYPE).build();
         } else {
             dataType = TypeUtils.buildDataTypeFor(rawTargetType);
         }
@@ -187,19 +189,40 @@ public class FieldParser {
                 : NO_UDT_SETTER;
 
 
-        CodeBlock typeCode = CodeBlock.builder().add("new $T<$T, $T, $T>($L, $L, $L, $L, new $T(){}, new $T(){}, $L)",
-                SIMPLE_PROPERTY,
-                context.entityRawType,
-                sourceType.box(),
-                codecInfo.targetType.box(),
-                context.fieldInfoCode,
-                dataType,
-                gettable,
-                settable,
-                genericType(TYPE_TOKEN, sourceType.box()),
-                genericType(TYPE_TOKEN, codecInfo.targetType.box()),
-                codecInfo.codecCode)
-                .build();
+        final Optional<ClassName> primitiveProperty = context.buildExtractor && codecInfo.fallThrough
+                && context.primitiveSetterCode.isPresent()
+                ? TypeUtils.primitivePropertyFor(sourceType)
+                : Optional.empty();
+
+        final CodeBlock typeCode;
+        if (primitiveProperty.isPresent()) {
+            typeCode = CodeBlock.builder().add("new $T<$T>($L, $L, $L, $L, new $T(){}, new $T(){}, $L, $L)",
+                    primitiveProperty.get(),
+                    context.entityRawType,
+                    context.fieldInfoCode,
+                    dataType,
+                    gettable,
+                    settable,
+                    genericType(TYPE_TOKEN, sourceType.box()),
+                    genericType(TYPE_TOKEN, codecInfo.targetType.box()),
+                    codecInfo.codecCode,
+                    context.primitiveSetterCode.get())
+                    .build();
+        } else {
+            typeCode = CodeBlock.builder().add("new $T<$T, $T, $T>($L, $L, $L, $L, new $T(){}, new $T(){}, $L)",
+                    SIMPLE_PROPERTY,
+                    context.entityRawType,
+                    sourceType.box(),
+                    codecInfo.targetType.box(),
+                    context.fieldInfoCode,
+                    dataType,
+                    gettable,
+                    settable,
+                    genericType(TYPE_TOKEN, sourceType.box()),
+                    genericType(TYPE_TOKEN, codecInfo.targetType.box()),
+                    codecInfo.codecCode)
+                    .build();
+        }
         final ParameterizedTypeName propertyType = genericType(SIMPLE_PROPERTY, context.entityRawType, codecInfo.sourceType.box(), codecInfo.targetType.box());
 
         return new FieldMetaSignature(context, annotationTree.hasNext() ? annotationTree.next() : annotationTree,
@@ -664,7 +687,8 @@ public class FieldParser {
                     .addJavadoc("</ul>\n")
                     .initializer(typeCode);
             AnnotationSpec.Builder annotationBuilder = null;
-            if (typeCode.toString().contains("SimpleProperty")) {
+            // Primitive properties are declared as SimpleProperty, whatever the specialized class of the initializer
+            if (getRawType(propertyType).equals(SIMPLE_PROPERTY) || typeCode.toString().contains("SimpleProperty")) {
                 annotationBuilder = AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "{$S, $S}", "serial", "unchecked");
             }
 
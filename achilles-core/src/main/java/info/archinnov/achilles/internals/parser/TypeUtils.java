@@ -47,6 +47,7 @@ import info.archinnov.achilles.bootstrap.AbstractManagerFactoryBuilder;
 import info.archinnov.achilles.configuration.ConfigurationParameters;
 import info.archinnov.achilles.generated.function.AbstractCQLCompatibleType;
 import info.archinnov.achilles.internals.apt.annotations.AchillesMeta;
+import info.archinnov.achilles.internals.cache.QueryShape;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.codec.*;
 import info.archinnov.achilles.internals.codegen.function.InternalSystemFunctionRegistry;
@@ -129,6 +130,7 @@ public class TypeUtils {
 
     // Codecs
     public static final ClassName JSON_CODEC = ClassName.get(JSONCodec.class);
+    public static final ClassName STREAMING_JSON_CODEC = ClassName.get(StreamingJSONCodec.class);
     public static final ClassName ENUM_NAME_CODEC = ClassName.get(EnumNameCodec.class);
 
     public static final ClassName ENUM_ORDINAL_CODEC = ClassName.get(EnumOrdinalCodec.class);
@@ -140,6 +142,9 @@ public class TypeUtils {
     // Meta data
     public static final ClassName COMPUTED_PROPERTY = ClassName.get(ComputedProperty.class);
     public static final ClassName SIMPLE_PROPERTY = ClassName.get(SimpleProperty.class);
+    public static final ClassName INT_PROPERTY = ClassName.get(IntProperty.class);
+    public static final ClassName LONG_PROPERTY = ClassName.get(LongProperty.class);
+    public static final ClassName DOUBLE_PROPERTY = ClassName.get(DoubleProperty.class);
     public static final ClassName LIST_PROPERTY = ClassName.get(ListProperty.class);
     public static final ClassName SET_PROPERTY = ClassName.get(SetProperty.class);
     public static final ClassName MAP_PROPERTY = ClassName.get(MapProperty.class);
@@ -208,6 +213,7 @@ public class TypeUtils {
     public static final ClassName ABSTRACT_UPDATE_WHERE = ClassName.get(AbstractUpdateWhere.class);
     public static final ClassName ABSTRACT_UPDATE_END = ClassName.get(AbstractUpdateEnd.class);
     public static final ClassName NOT_EQ = ClassName.get(NotEq.class);
+    public static final ClassName QUERY_SHAPE = ClassName.get(QueryShape.class);
 
     // Query
     public static final ClassName TYPED_QUERY = ClassName.get(TypedQuery.class);
@@ -229,9 +235,11 @@ public class TypeUtils {
     public static final ClassName ABSTRACT_VIEW_PROPERTY = ClassName.get(AbstractViewProperty.class);
     public static final ClassName RUNTIME_ENGINE = ClassName.get(RuntimeEngine.class);
     public static final ClassName INSERT_WITH_OPTIONS = ClassName.get(InsertWithOptions.class);
+    public static final ClassName INSERT_ALL_WITH_OPTIONS = ClassName.get(InsertAllWithOptions.class);
     public static final ClassName UPDATE_WITH_OPTIONS = ClassName.get(UpdateWithOptions.class);
     public static final ClassName INSERT_JSON_WITH_OPTIONS = ClassName.get(InsertJSONWithOptions.class);
     public static final ClassName FIND_WITH_OPTIONS = ClassName.get(FindWithOptions.class);
+    public static final ClassName FIND_ALL_WITH_OPTIONS = ClassName.get(FindAllWithOptions.class);
     public static final ClassName DELETE_WITH_OPTIONS = ClassName.get(DeleteWithOptions.class);
     public static final ClassName DELETE_BY_PARTITION_WITH_OPTIONS = ClassName.get(DeleteByPartitionWithOptions.class);
     public static final ClassName INTERNAL_CASSANDRA_VERSION = ClassName.get(InternalCassandraVersion.class);
@@ -264,6 +272,7 @@ public class TypeUtils {
     public static final ClassName JAVA_DRIVER_USER_TYPE = ClassName.get(UserType.class);
     public static final ClassName DATATYPE = ClassName.get(DataType.class);
     public static final ClassName LIST = ClassName.get(List.class);
+    public static final ClassName COLLECTION = ClassName.get(Collection.class);
     public static final ClassName SET = ClassName.get(Set.class);
     public static final ClassName MAP = ClassName.get(Map.class);
 
@@ -333,6 +342,8 @@ public class TypeUtils {
     public static final ClassName TUPLE8 = ClassName.get(Tuple8.class);
     public static final ClassName TUPLE9 = ClassName.get(Tuple9.class);
     public static final ClassName TUPLE10 = ClassName.get(Tuple10.class);
+    public static final List<ClassName> TUPLE_TYPES = Arrays.asList(TUPLE1, TUPLE2, TUPLE3, TUPLE4, TUPLE5,
+            TUPLE6, TUPLE7, TUPLE8, TUPLE9, TUPLE10);
 
 
     public static final List<TypeName> ALLOWED_TYPES_2_1 = new ArrayList<>();
@@ -571,6 +582,22 @@ public class TypeUtils {
         return "set(\""+escapeDoubleQuotes(cqlColumn)+"\", value$, "+typeName.toString()+".class)";
     }
 
+    /**
+     * Specialized property class reading and writing the given primitive type
+     * without boxing through the codec registry, if any
+     */
+    public static Optional<ClassName> primitivePropertyFor(TypeName typeName) {
+        if (typeName.equals(TypeName.INT)) {
+            return Optional.of(INT_PROPERTY);
+        } else if (typeName.equals(TypeName.LONG)) {
+            return Optional.of(LONG_PROPERTY);
+        } else if (typeName.equals(TypeName.DOUBLE)) {
+            return Optional.of(DOUBLE_PROPERTY);
+        } else {
+            return Optional.empty();
+        }
+    }
+
     public static CodeBlock buildDataTypeFor(TypeName typeName) {
         final String dataType = DRIVER_TYPES_MAPPING.get(typeName);
         if (typeName.equals(JDK_ZONED_DATE_TIME)) {
@@ -16,6 +16,8 @@
 
 package info.archinnov.achilles.internals.parser.context;
 
+import java.util.Optional;
+
 import com.squareup.javapoet.CodeBlock;
 
 import info.archinnov.achilles.internals.metamodel.columns.ColumnInfo;
@@ -32,9 +34,19 @@ public class FieldInfoContext {
     public final ColumnType columnType;
     public final ColumnInfo columnInfo;
     public final IndexInfo indexInfo;
+    /**
+     * Setter lambda taking the unboxed value, only for fields of primitive type
+     */
+    public final Optional<CodeBlock> primitiveSetterCode;
 
     public FieldInfoContext(CodeBlock codeBlock, String fieldName, String cqlColumn, ColumnType columnType, ColumnInfo columnInfo, IndexInfo indexInfo) {
+        this(codeBlock, fieldName, cqlColumn, columnType, columnInfo, indexInfo, Optional.empty());
+    }
+
+    public FieldInfoContext(CodeBlock codeBlock, String fieldName, String cqlColumn, ColumnType columnType, ColumnInfo columnInfo, IndexInfo indexInfo,
+                            Optional<CodeBlock> primitiveSetterCode) {
         this.codeBlock = codeBlock;
+        this.primitiveSetterCode = primitiveSetterCode;
         this.fieldName = fieldName;
         this.cqlColumn = cqlColumn;
         this.indexInfo = indexInfo;
@@ -20,6 +20,7 @@ import static info.archinnov.achilles.internals.parser.TypeUtils.FIELD_INFO;
 
 import java.util.Collections;
 import java.util.Objects;
+import java.util.Optional;
 import javax.lang.model.element.TypeElement;
 
 import com.squareup.javapoet.CodeBlock;
@@ -47,6 +48,7 @@ public class FieldParsingContext {
     public final ColumnType columnType;
     public final ColumnInfo columnInfo;
     public final IndexInfo indexInfo;
+    public final Optional<CodeBlock> primitiveSetterCode;
     public boolean buildExtractor;
 
     public static FieldParsingContext forConfig(GlobalParsingContext parsingContext, TypeElement typeElement, TypeName typeName, String className, String fieldName) {
@@ -65,12 +67,14 @@ public class FieldParsingContext {
         this.quotedCqlColumn = null;
         this.entityRawType = null;
         this.fieldInfoCode = null;
+        this.primitiveSetterCode = Optional.empty();
         this.buildExtractor = false;
     }
 
     public FieldParsingContext(EntityParsingContext entityContext, TypeName entityRawType, FieldInfoContext fieldInfoContext) {
         this.entityRawType = entityRawType;
         this.fieldInfoCode = fieldInfoContext.codeBlock;
+        this.primitiveSetterCode = fieldInfoContext.primitiveSetterCode;
         this.fieldName = fieldInfoContext.fieldName;
         this.entityContext = entityContext;
         this.columnType = fieldInfoContext.columnType;
@@ -18,11 +18,14 @@ package info.archinnov.achilles.internals.runtime;
 
 import static info.archinnov.achilles.internals.runtime.BeanInternalValidator.validateColumnsForInsertOrUpdateStatic;
 import static info.archinnov.achilles.internals.runtime.BeanInternalValidator.validatePrimaryKey;
-import static info.archinnov.achilles.internals.statement.StatementHelper.isSelectStatement;
 import static info.archinnov.achilles.validation.Validator.*;
 import static java.lang.String.format;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.slf4j.Logger;
@@ -31,12 +34,16 @@ import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.*;
 
 import info.archinnov.achilles.internals.dsl.crud.DeleteWithOptions;
+import info.archinnov.achilles.internals.dsl.crud.FindAllWithOptions;
+import info.archinnov.achilles.internals.dsl.crud.InsertAllWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.InsertJSONWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.InsertWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.UpdateWithOptions;
 import info.archinnov.achilles.internals.dsl.raw.NativeQuery;
 import info.archinnov.achilles.internals.dsl.raw.TypedQuery;
+import info.archinnov.achilles.internals.dsl.scan.ScanWithOptions;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
@@ -94,6 +101,61 @@ public abstract class AbstractManager<ENTITY> {
         return rte.getCluster();
     }
 
+    /**
+     * Scan the whole table or materialized view in parallel, split by token ranges.
+     * <br/>
+     * Example of usage:
+     * <pre class="code"><code class="java">
+     * manager
+     *  .scan()
+     *  .withSplitCount(1024)
+     *  .withParallelism(8)
+     *  .withCheckpointStore(checkpointStore)
+     *  .forEach(entity -> export(entity));
+     * </code></pre>
+     *
+     * @return {@link info.archinnov.achilles.internals.dsl.scan.ScanWithOptions} to configure and execute the scan
+     */
+    public ScanWithOptions<ENTITY> scan() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Create token range scan for entity of type %s", entityClass.getCanonicalName()));
+        }
+        return new ScanWithOptions<>(meta_internal, rte, Optional.empty());
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <PK> FindAllWithOptions<PK, ENTITY> findAllByIdInternal(Collection<PK> ids, Function<PK, Object[]> primaryKeyExtractor,
+                                                                      Optional<CassandraOptions> cassandraOptions) {
+
+        validateNotNull(ids, "Primary keys of entities to be found should not be null");
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Create find all CRUD for %s primary keys", ids.size()));
+        }
+
+        final List<AbstractProperty<ENTITY, ?, ?>> primaryKeyProperties = new ArrayList<>(meta_internal.partitionKeys);
+        primaryKeyProperties.addAll(meta_internal.clusteringColumns);
+
+        final List<PK> primaryKeys = new ArrayList<>(ids.size());
+        final List<Object[]> primaryKeysValues = new ArrayList<>(ids.size());
+        final List<Object[]> encodedPrimaryKeysValues = new ArrayList<>(ids.size());
+        for (PK id : ids) {
+            validateNotNull(id, "Primary key of entity to be found should not be null");
+            final Object[] values = primaryKeyExtractor.apply(id);
+            final Object[] encodedValues = new Object[values.length];
+            for (int i = 0; i < values.length; i++) {
+                final AbstractProperty<ENTITY, Object, Object> property = (AbstractProperty<ENTITY, Object, Object>) primaryKeyProperties.get(i);
+                validateNotNull(values[i], "Primary key '%s' should not be null", property.fieldName);
+                encodedValues[i] = property.encodeFromJava(values[i], cassandraOptions);
+            }
+            primaryKeys.add(id);
+            primaryKeysValues.add(values);
+            encodedPrimaryKeysValues.add(encodedValues);
+        }
+
+        return new FindAllWithOptions<>(meta_internal, rte, primaryKeys, primaryKeysValues, encodedPrimaryKeysValues, cassandraOptions);
+    }
+
     protected InsertWithOptions<ENTITY> insertInternal(ENTITY instance, boolean insertStatic, Optional<CassandraOptions> cassandraOptions) {
 
         validateNotNull(instance, "Entity to be inserted should not be null");
@@ -111,6 +173,22 @@ public abstract class AbstractManager<ENTITY> {
         return new InsertWithOptions<>(meta_internal, rte, instance, insertStatic, cassandraOptions);
     }
 
+    protected InsertAllWithOptions<ENTITY> insertAllInternal(Collection<ENTITY> instances, Optional<CassandraOptions> cassandraOptions) {
+
+        validateNotNull(instances, "Entities to be inserted should not be null");
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Create insert all CRUD for %s entities", instances.size()));
+        }
+
+        for (ENTITY instance : instances) {
+            validateNotNull(instance, "Entity to be inserted should not be null");
+            validatePrimaryKey(instance, meta_internal, cassandraOptions);
+        }
+
+        return new InsertAllWithOptions<>(meta_internal, rte, instances, cassandraOptions);
+    }
+
     protected UpdateWithOptions<ENTITY> updateInternal(ENTITY instance, boolean updateStatic, Optional<CassandraOptions> cassandraOptions) {
 
         validateNotNull(instance, "Entity to be updated to Cassandra should not be null");
@@ -152,7 +230,8 @@ public abstract class AbstractManager<ENTITY> {
     }
 
     protected TypedQuery<ENTITY> typedQueryForSelectInternal(BoundStatement boundStatement) {
-        validateTrue(isSelectStatement(boundStatement), "Statement provided for typed query should be an SELECT statement");
+        validateTrue(meta_internal.validatedQueries.forPreparedStatement(boundStatement.preparedStatement()).isSelect,
+                "Statement provided for typed query should be an SELECT statement");
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Create typed query for SELECT : %s",
@@ -170,7 +249,8 @@ public abstract class AbstractManager<ENTITY> {
                     preparedStatement.getQueryString()));
         }
 
-        validateTrue(isSelectStatement(preparedStatement), "Statement provided for typed query should be an SELECT statement");
+        validateTrue(meta_internal.validatedQueries.forPreparedStatement(preparedStatement).isSelect,
+                "Statement provided for typed query should be an SELECT statement");
         validateNotEmpty(encodedBoundValues, "Encoded values provided for typed query should not be empty");
         return new TypedQuery<>(rte, meta_internal, preparedStatement.bind(encodedBoundValues), encodedBoundValues);
     }
@@ -182,7 +262,8 @@ public abstract class AbstractManager<ENTITY> {
                     regularStatement.getQueryString()));
         }
 
-        validateTrue(isSelectStatement(regularStatement), "Statement provided for typed query should be an SELECT statement");
+        validateTrue(meta_internal.validatedQueries.forRegularStatement(regularStatement).isSelect,
+                "Statement provided for typed query should be an SELECT statement");
         final PreparedStatement preparedStatement = rte.prepareDynamicQuery(regularStatement);
         final BoundStatement boundStatement = ArrayUtils.isEmpty(encodedBoundValues)
                 ? preparedStatement.bind()
@@ -214,7 +295,7 @@ public abstract class AbstractManager<ENTITY> {
         }
 
         if (meta_internal.isView()) {
-            validateTrue(isSelectStatement(boundStatement), "Statement provided for the materialized view '%s' should be an SELECT statement",
+            validateTrue(meta_internal.validatedQueries.forPreparedStatement(boundStatement.preparedStatement()).isSelect, "Statement provided for the materialized view '%s' should be an SELECT statement",
                     meta_internal.entityClass.getCanonicalName());
         }
 
@@ -229,7 +310,7 @@ public abstract class AbstractManager<ENTITY> {
         }
 
         if (meta_internal.isView()) {
-            validateTrue(isSelectStatement(preparedStatement), "Statement provided for the materialized view '%s' should be an SELECT statement",
+            validateTrue(meta_internal.validatedQueries.forPreparedStatement(preparedStatement).isSelect, "Statement provided for the materialized view '%s' should be an SELECT statement",
                     meta_internal.entityClass.getCanonicalName());
         }
 
@@ -245,7 +326,7 @@ public abstract class AbstractManager<ENTITY> {
         }
 
         if (meta_internal.isView()) {
-            validateTrue(isSelectStatement(regularStatement), "Statement provided for the materialized view '%s' should be an SELECT statement",
+            validateTrue(meta_internal.validatedQueries.forRegularStatement(regularStatement).isSelect, "Statement provided for the materialized view '%s' should be an SELECT statement",
                     meta_internal.entityClass.getCanonicalName());
         }
 
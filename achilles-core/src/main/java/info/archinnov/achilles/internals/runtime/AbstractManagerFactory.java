@@ -19,7 +19,9 @@ package info.archinnov.achilles.internals.runtime;
 import static info.archinnov.achilles.internals.schema.SchemaCreator.generateSchemaAtRuntime;
 import static info.archinnov.achilles.internals.schema.SchemaCreator.generateUDTAtRuntime;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -39,7 +41,11 @@ import com.datastax.driver.extras.codecs.jdk8.LocalDateCodec;
 import com.datastax.driver.extras.codecs.jdk8.LocalTimeCodec;
 import com.datastax.driver.extras.codecs.jdk8.ZonedDateTimeCodec;
 
+import info.archinnov.achilles.internals.cache.NearCache;
+import info.archinnov.achilles.internals.cache.PreparedStatementsWarmUp;
+import info.archinnov.achilles.internals.cache.StaticStatementsPreparer;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
+import info.archinnov.achilles.internals.codec.TextBytesCodec;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
@@ -48,6 +54,7 @@ import info.archinnov.achilles.internals.metamodel.AbstractUDTClassProperty;
 import info.archinnov.achilles.internals.metamodel.AbstractViewProperty;
 import info.archinnov.achilles.internals.metamodel.functions.FunctionProperty;
 import info.archinnov.achilles.internals.utils.CodecRegistryHelper;
+import info.archinnov.achilles.type.NearCacheStats;
 
 public abstract class AbstractManagerFactory {
 
@@ -60,6 +67,7 @@ public abstract class AbstractManagerFactory {
     protected List<AbstractEntityProperty<?>> entityProperties;
     protected List<Class<?>> entityClasses;
     protected List<FunctionProperty> functionProperties;
+    protected UserTypesChangeListener userTypesChangeListener;
 
     public AbstractManagerFactory(Cluster cluster, ConfigurationContext configContext) {
         this.cluster = cluster;
@@ -92,6 +100,52 @@ public abstract class AbstractManagerFactory {
         return tableName;
     }
 
+    /**
+     * Provide the limiter bounding the number of requests in flight, if a concurrency limit is configured.
+     * Its current limit, in-flight count and queue depth can be monitored
+     *
+     * @return concurrency limiter, if any
+     */
+    public Optional<ConcurrencyLimiter> getConcurrencyLimiter() {
+        return configContext.getConcurrencyLimiter();
+    }
+
+    /**
+     * Provide the hit, miss and eviction counters of the near cache of the given entity class,
+     * if a near cache is configured for this entity
+     *
+     * @param entityClass given entity class
+     * @return near cache stats, if any
+     */
+    public Optional<NearCacheStats> getNearCacheStats(Class<?> entityClass) {
+        return entityProperties
+                .stream()
+                .filter(x -> x.entityClass.equals(entityClass))
+                .findFirst()
+                .flatMap(x -> x.nearCache)
+                .map(NearCache::getStats);
+    }
+
+    /**
+     * Provide the number of statements prepared for a runtime SchemaNameProvider which
+     * have been evicted from the cache, by keyspace
+     *
+     * @return evicted statements count, by keyspace
+     */
+    public Map<String, Long> getTenantStatementsEvictionCounts() {
+        return rte.cache.getTenantEvictionCounts();
+    }
+
+    /**
+     * Provide the number of statements prepared for a runtime SchemaNameProvider
+     * which are currently cached
+     *
+     * @return cached statements count
+     */
+    public long getTenantStatementsCacheSize() {
+        return rte.cache.getTenantCacheSize();
+    }
+
     /**
      * Shutdown the manager factory and the related session and executor service (if they are created by Achilles).
      * If the Java driver Session object and/or the executor service were provided as bootstrap parameter, Achilles
@@ -101,6 +155,11 @@ public abstract class AbstractManagerFactory {
     public void shutDown() {
         LOGGER.info("Calling shutdown on ManagerFactory");
 
+        configContext.getPreparedStatementsWarmUp().ifPresent(PreparedStatementsWarmUp::shutDown);
+        if (userTypesChangeListener != null) {
+            cluster.unregister(userTypesChangeListener);
+        }
+
         if (!configContext.isProvidedSession()) {
             LOGGER.info(format("Closing built Session object %s", rte.session));
             rte.session.close();
@@ -112,15 +171,34 @@ public abstract class AbstractManagerFactory {
     }
 
     protected void bootstrap() {
-        addNativeCodecs();
-        injectDependencies();
+        final long start = System.nanoTime();
+        timePhase("native codecs registration", this::addNativeCodecs);
+        timePhase("dependency injection", this::injectDependencies);
+        registerUserTypesChangeListener();
         if (configContext.isForceSchemaGeneration()) {
-            createSchema();
+            timePhase("schema creation", this::createSchema);
         }
         if (configContext.isValidateSchema()) {
-            validateSchema();
+            timePhase("schema validation", this::validateSchema);
         }
-        prepareStaticStatements();
+        timePhase("static statements preparation", this::prepareStaticStatements);
+        configContext.getPreparedStatementsWarmUp().ifPresent(this::warmUpPreparedStatements);
+        LOGGER.info(format("Achilles bootstrap done in %s ms", NANOSECONDS.toMillis(System.nanoTime() - start)));
+    }
+
+    protected void warmUpPreparedStatements(PreparedStatementsWarmUp warmUp) {
+        rte.cache.enableWarmUp(warmUp);
+        warmUp.warmUp(configContext.getSession(), rte.cache, configContext.getExecutorService(),
+                configContext.getStaticStatementsPrepareMaxInFlight());
+        if (configContext.getPreparedStatementsWarmUpSaveInterval() > 0) {
+            warmUp.startPeriodicSave(configContext.getPreparedStatementsWarmUpSaveInterval());
+        }
+    }
+
+    private void timePhase(String phase, Runnable action) {
+        final long start = System.nanoTime();
+        action.run();
+        LOGGER.info(format("Bootstrap phase '%s' done in %s ms", phase, NANOSECONDS.toMillis(System.nanoTime() - start)));
     }
 
     protected void addNativeCodecs() {
@@ -163,6 +241,10 @@ public abstract class AbstractManagerFactory {
         if (!codecRegistryHelper.hasCodecFor(zonedDateTimeType, java.time.ZonedDateTime.class)) {
             codecRegistry.register(new ZonedDateTimeCodec(zonedDateTimeType));
         }
+
+        if (!codecRegistryHelper.hasCodecFor(DataType.varchar(), ByteBuffer.class)) {
+            codecRegistry.register(TextBytesCodec.instance);
+        }
     }
 
     protected void injectDependencies() {
@@ -179,6 +261,11 @@ public abstract class AbstractManagerFactory {
                 .forEach(x -> configContext.injectDependencies(tupleTypeFactory, userTypeFactory, x));
     }
 
+    protected void registerUserTypesChangeListener() {
+        userTypesChangeListener = new UserTypesChangeListener(rte.userTypeFactory);
+        cluster.register(userTypesChangeListener);
+    }
+
     protected void validateSchema() {
         final List<Class<?>> manageEntities = configContext.getManageEntities().isEmpty() ? entityClasses : configContext.getManageEntities();
         entityProperties
@@ -238,10 +325,16 @@ public abstract class AbstractManagerFactory {
 
     protected void prepareStaticStatements() {
         final List<Class<?>> manageEntities = configContext.getManageEntities().isEmpty() ? entityClasses : configContext.getManageEntities();
+        final StaticStatementsPreparer preparer = new StaticStatementsPreparer(configContext.getSession(), rte.cache,
+                configContext.getStaticStatementsPrepareMaxInFlight());
         entityProperties
                 .stream()
                 .filter(x -> manageEntities.contains(x.entityClass))
-                .forEach(x -> x.prepareStaticStatements(getCassandraVersion(), configContext.getSession(), rte.cache));
+                .forEach(x -> x.prepareStaticStatements(getCassandraVersion(), preparer));
+        final int preparedCount = preparer.prepareAll();
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("%s static statements prepared", preparedCount));
+        }
     }
 
 
@@ -17,24 +17,16 @@
 package info.archinnov.achilles.internals.runtime;
 
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
-import static org.apache.commons.lang3.ArrayUtils.addAll;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Optional;
-import java.util.function.BiConsumer;
-import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.datastax.driver.core.SettableData;
-
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
-import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.metamodel.EntityBindingPlan;
 import info.archinnov.achilles.internals.options.CassandraOptions;
-import info.archinnov.achilles.internals.statements.BoundValueInfo;
 import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
 import info.archinnov.achilles.internals.types.OverridingOptional;
 import info.archinnov.achilles.type.tuples.Tuple2;
@@ -49,63 +41,7 @@ public class BeanValueExtractor {
                     instance, entityProperty.entityClass.getCanonicalName()));
         }
 
-        final List<BoundValueInfo> boundValues = new ArrayList<>();
-        final List<BoundValueInfo> partitionKeys = entityProperty.partitionKeys
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    final BiConsumer<Object, SettableData> lambda = x1::encodeToSettable;
-                    return BoundValueInfo.of(lambda, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList());
-
-        boundValues.addAll(partitionKeys);
-
-        boundValues.addAll(entityProperty.staticColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        boundValues.addAll(entityProperty.clusteringColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        boundValues.addAll(entityProperty.normalColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        boundValues.addAll(entityProperty.counterColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        final Optional<Integer> ttl = OverridingOptional
-                .from(cassandraOptions.getTimeToLive())
-                .andThen(entityProperty.staticTTL)
-                .getOptional();
-
-        boundValues.add(ttl.isPresent()
-                ? BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", ttl.get()), ttl.get(), ttl.get())
-                : BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", 0), 0, 0));
-
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Extracted encoded bound values : %s", boundValues));
-        }
-        return new BoundValuesWrapper(entityProperty, boundValues);
+        return extractWithTTL(instance, entityProperty, entityProperty.allColumnsBindingPlan, cassandraOptions);
     }
 
     public static <T> Tuple2<Object[], Object[]> extractPrimaryKeyValues(T instance, AbstractEntityProperty<T> entityProperty, Optional<CassandraOptions> cassandraOptions) {
@@ -114,21 +50,13 @@ public class BeanValueExtractor {
                     instance, entityProperty.entityClass.getCanonicalName()));
         }
 
-        final Stream<Tuple2<Object, Object>> partitionKeys = entityProperty.partitionKeys
-                .stream().map(x -> Tuple2.of(x.getFieldValue(instance), x.encodeField(instance, cassandraOptions)));
-        final Stream<Tuple2<Object, Object>> partitionKeysCopy = entityProperty.partitionKeys
-                .stream().map(x -> Tuple2.of(x.getFieldValue(instance), x.encodeField(instance, cassandraOptions)));
-
-        final Stream<Tuple2<Object, Object>> clusteringColumns = entityProperty.clusteringColumns
-                .stream().map(x -> Tuple2.of(x.getFieldValue(instance), x.encodeField(instance, cassandraOptions)));
-        final Stream<Tuple2<Object, Object>> clusteringColumnsCopy = entityProperty.clusteringColumns
-                .stream().map(x -> Tuple2.of(x.getFieldValue(instance), x.encodeField(instance, cassandraOptions)));
-
-        final Object[] boundValues = addAll(partitionKeys.map(x -> x._1()).toArray(), clusteringColumns.map(x -> x._1()).toArray());
-        final Object[] encodedValues = addAll(partitionKeysCopy.map(x -> x._2()).toArray(), clusteringColumnsCopy.map(x -> x._2()).toArray());
+        final EntityBindingPlan<T> bindingPlan = entityProperty.primaryKeysBindingPlan;
+        final Object[] boundValues = new Object[bindingPlan.size()];
+        final Object[] encodedValues = new Object[bindingPlan.size()];
+        bindingPlan.extractValues(instance, cassandraOptions, 0, boundValues, encodedValues);
 
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Extracted primary key (encoded) : %s", encodedValues));
+            LOGGER.debug(format("Extracted primary key (encoded) : %s", Arrays.toString(encodedValues)));
         }
 
         return Tuple2.of(boundValues, encodedValues);
@@ -140,39 +68,23 @@ public class BeanValueExtractor {
                     instance, entityProperty.entityClass.getCanonicalName()));
         }
 
-        final List<BoundValueInfo> boundValues = new ArrayList<>();
-        final List<BoundValueInfo> partitionKeys = entityProperty.partitionKeys
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    final BiConsumer<Object, SettableData> lambda = x1::encodeToSettable;
-                    return BoundValueInfo.of(lambda, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList());
-
-        boundValues.addAll(partitionKeys);
-
-        boundValues.addAll(entityProperty.staticColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
+        return extractWithTTL(instance, entityProperty, entityProperty.partitionKeysAndStaticColumnsBindingPlan, cassandraOptions);
+    }
 
+    private static <T> BoundValuesWrapper extractWithTTL(T instance, AbstractEntityProperty<T> entityProperty,
+                                                         EntityBindingPlan<T> bindingPlan, CassandraOptions cassandraOptions) {
         final Optional<Integer> ttl = OverridingOptional
                 .from(cassandraOptions.getTimeToLive())
                 .andThen(entityProperty.staticTTL)
                 .getOptional();
 
-        boundValues.add(ttl.isPresent()
-                ? BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", ttl.get()), ttl.get(), ttl.get())
-                : BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", 0), 0, 0));
+        final Object[] boundValues = new Object[bindingPlan.size()];
+        final Object[] encodedValues = new Object[bindingPlan.size()];
+        bindingPlan.extractValues(instance, Optional.ofNullable(cassandraOptions), ttl.orElse(0), boundValues, encodedValues);
 
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Extracted encoded bound values : %s", boundValues));
+            LOGGER.debug(format("Extracted encoded bound values : %s", Arrays.toString(encodedValues)));
         }
-        return new BoundValuesWrapper(entityProperty, boundValues);
-
+        return new BoundValuesWrapper(entityProperty, bindingPlan, boundValues, encodedValues);
     }
 }
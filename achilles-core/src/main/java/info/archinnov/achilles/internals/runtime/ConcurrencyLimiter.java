@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.runtime;
+
+import static java.lang.String.format;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.exceptions.BusyPoolException;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import com.datastax.driver.core.exceptions.OperationTimedOutException;
+import com.datastax.driver.core.exceptions.OverloadedException;
+
+import info.archinnov.achilles.exception.AchillesConcurrencyLimitException;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Bound on the number of requests in flight for a manager factory.
+ * <br/>
+ * Requests exceeding the limit wait in a FIFO queue and are started as soon as a permit
+ * is released. When the queue is full, requests are rejected right away with an
+ * {@link AchillesConcurrencyLimitException} instead of piling up in the driver connection pool.
+ * <br/>
+ * <br/>
+ * The limit is either fixed or adaptive. An adaptive limit follows an AIMD scheme driven by latency:
+ * it grows by one permit for each fast response while at least half of the permits are in use,
+ * and shrinks by 10% when a response is more than twice slower than the lowest latency observed
+ * or when the cluster reports an overload (busy pool, timeout ...). The limit shrinks at most once
+ * per window of <em>limit</em> responses so that a burst of slow responses does not collapse it,
+ * and the lowest latency is re-sampled periodically to follow the cluster. It always stays
+ * between 1 and the configured limit
+ */
+public class ConcurrencyLimiter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrencyLimiter.class);
+
+    static final int MIN_LIMIT = 1;
+    static final double BACKOFF_RATIO = 0.9;
+    static final double LATENCY_TOLERANCE = 2.0;
+    static final int MIN_LATENCY_RESET_INTERVAL = 1000;
+
+    private final int maxLimit;
+    private final int maxQueueSize;
+    private final boolean adaptive;
+    private final AtomicInteger inFlight = new AtomicInteger(0);
+    private final AtomicInteger queueDepth = new AtomicInteger(0);
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private volatile int limit;
+    private long minLatencyNanos = Long.MAX_VALUE;
+    private int responsesSinceDecrease = 0;
+    private int responsesSinceMinLatencyReset = 0;
+
+    ConcurrencyLimiter(int maxLimit, int maxQueueSize, boolean adaptive) {
+        Validator.validateTrue(maxLimit >= MIN_LIMIT, "The concurrency limit should be strictly positive");
+        Validator.validateTrue(maxQueueSize >= 0, "The concurrency limit queue size should be positive or zero");
+        this.maxLimit = maxLimit;
+        this.maxQueueSize = maxQueueSize;
+        this.adaptive = adaptive;
+        this.limit = maxLimit;
+    }
+
+    public static ConcurrencyLimiter fixed(int limit, int maxQueueSize) {
+        return new ConcurrencyLimiter(limit, maxQueueSize, false);
+    }
+
+    public static ConcurrencyLimiter adaptive(int maxLimit, int maxQueueSize) {
+        return new ConcurrencyLimiter(maxLimit, maxQueueSize, true);
+    }
+
+    /**
+     * Start the given request if a permit is available, otherwise queue it. The returned
+     * future fails with {@link AchillesConcurrencyLimitException} if the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request) {
+        if (tryAcquire()) {
+            return run(request);
+        }
+
+        if (queueDepth.incrementAndGet() > maxQueueSize) {
+            queueDepth.decrementAndGet();
+            final CompletableFuture<T> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(new AchillesConcurrencyLimitException(
+                    format("Request rejected, %s requests in flight for a limit of %s and %s requests already queued",
+                            inFlight.get(), limit, maxQueueSize)));
+            return rejected;
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Queue request, %s requests in flight for a limit of %s", inFlight.get(), limit));
+        }
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        pending.offer(() -> run(request).whenComplete((value, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else {
+                result.complete(value);
+            }
+        }));
+        // A permit may have been released since the tryAcquire() above
+        drain();
+        return result;
+    }
+
+    /**
+     * Current max number of requests in flight
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Number of requests waiting for a permit
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> run(Supplier<CompletableFuture<T>> request) {
+        final long start = System.nanoTime();
+        final CompletableFuture<T> future;
+        try {
+            future = request.get();
+        } catch (Throwable throwable) {
+            release(start, throwable);
+            final CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(throwable);
+            return failed;
+        }
+        return future.whenComplete((value, throwable) -> release(start, throwable));
+    }
+
+    private void release(long start, Throwable throwable) {
+        if (adaptive) {
+            adjustLimit(System.nanoTime() - start, throwable);
+        }
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    private void drain() {
+        while (!pending.isEmpty() && tryAcquire()) {
+            final Runnable next = pending.poll();
+            if (next == null) {
+                // Another thread took the last queued request
+                inFlight.decrementAndGet();
+                return;
+            }
+            queueDepth.decrementAndGet();
+            next.run();
+        }
+    }
+
+    private synchronized void adjustLimit(long latencyNanos, Throwable throwable) {
+        if (++responsesSinceMinLatencyReset >= MIN_LATENCY_RESET_INTERVAL) {
+            responsesSinceMinLatencyReset = 0;
+            minLatencyNanos = latencyNanos;
+        } else {
+            minLatencyNanos = Long.min(minLatencyNanos, latencyNanos);
+        }
+        responsesSinceDecrease++;
+
+        final int current = limit;
+        if (isOverload(throwable) || latencyNanos > minLatencyNanos * LATENCY_TOLERANCE) {
+            if (responsesSinceDecrease >= current) {
+                responsesSinceDecrease = 0;
+                limit = Integer.max(MIN_LIMIT, (int) (current * BACKOFF_RATIO));
+            }
+        } else if (throwable == null && current < maxLimit && inFlight.get() * 2 >= current) {
+            limit = current + 1;
+        }
+
+        if (LOGGER.isDebugEnabled() && limit != current) {
+            LOGGER.debug(format("Concurrency limit changed from %s to %s", current, limit));
+        }
+    }
+
+    private static boolean isOverload(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof BusyPoolException
+                || cause instanceof OperationTimedOutException
+                || cause instanceof OverloadedException
+                || cause instanceof NoHostAvailableException;
+    }
+}
@@ -28,14 +28,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
+import com.datastax.driver.core.querybuilder.BuiltStatement;
 
 import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.QueryShape;
 import info.archinnov.achilles.internals.cache.StatementsCache;
+import info.archinnov.achilles.internals.cache.TenantCacheKey;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
+import info.archinnov.achilles.internals.futures.FutureUtils;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.statements.SingleRowStatement;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.metrics.MetricsRecorder;
+import info.archinnov.achilles.type.CompletionMode;
 import info.archinnov.achilles.type.SchemaNameProvider;
 
 public class RuntimeEngine {
@@ -47,6 +54,9 @@ public class RuntimeEngine {
     public final Session session;
     public final String currentKeyspace;
     public final ExecutorService executor;
+    public final MetricsRecorder metrics;
+    public final Optional<ConcurrencyLimiter> concurrencyLimiter;
+    public final CompletionMode completionMode;
 
     public TupleTypeFactory tupleTypeFactory;
     public UserTypeFactory userTypeFactory;
@@ -57,6 +67,12 @@ public class RuntimeEngine {
         this.cache = configContext.getStatementsCache();
         this.currentKeyspace = configContext.getCurrentKeyspace().orElseGet(session::getLoggedKeyspace);
         this.executor = configContext.getExecutorService();
+        this.metrics = configContext.getMetricsRecorder();
+        this.concurrencyLimiter = configContext.getConcurrencyLimiter();
+        this.completionMode = configContext.getCompletionMode();
+        if (metrics.isEnabled()) {
+            cache.enableMetrics(metrics);
+        }
     }
 
     public PreparedStatement getStaticCache(CacheKey cacheKey) {
@@ -69,14 +85,20 @@ public class RuntimeEngine {
         }
 
         wrapper.logDML();
-        return toCompletableFuture(session.executeAsync(wrapper.getBoundStatement()), executor);
+        if (metrics.isEnabled()) {
+            final long start = System.nanoTime();
+            return executeAsync(wrapper.getStatementForExecution(), wrapper.getCompletionMode().orElse(completionMode))
+                    .whenComplete((resultSet, throwable) -> metrics.recordExecution(wrapper.getEntityClass(),
+                            wrapper.getOperationType().metricsType, System.nanoTime() - start, throwable == null));
+        }
+        return executeAsync(wrapper.getStatementForExecution(), wrapper.getCompletionMode().orElse(completionMode));
     }
 
     public CompletableFuture<ResultSet> execute(BoundStatement boundStatement) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Executing bound statement %s", boundStatement.preparedStatement().getQueryString()));
         }
-        return toCompletableFuture(session.executeAsync(boundStatement), executor);
+        return executeAsync(boundStatement, completionMode);
     }
 
     public CompletableFuture<ResultSet> execute(BatchStatement batchStatement) {
@@ -87,11 +109,62 @@ public class RuntimeEngine {
                             .map(Statement::toString)
                             .reduce("", (x, y) -> x + y)));
         }
-        return toCompletableFuture(session.executeAsync(batchStatement), executor);
+        return executeAsync(batchStatement, completionMode);
+    }
+
+    /**
+     * Execute a statement expecting a single row. Since only one row is requested per page,
+     * the next pages are fetched until a row is available or all the rows have been fetched
+     */
+    public CompletableFuture<ResultSet> executeSingleRow(StatementWrapper wrapper) {
+        wrapper.fetchSingleRow();
+        return execute(wrapper).thenCompose(rs -> SingleRowStatement.fetchUntilFirstRow(rs,
+                resultSet -> fetchMoreResults(wrapper, resultSet)));
+    }
+
+    /**
+     * Hand the future returned by a public <em>xxxAsync()</em> method over to the executor service
+     * when the resolved completion mode is {@link CompletionMode#DIRECT}
+     */
+    public <T> CompletableFuture<T> completeOnExecutor(CompletableFuture<T> future, Optional<CompletionMode> completionMode) {
+        return FutureUtils.completeOnExecutor(future, executor, completionMode.orElse(this.completionMode));
+    }
+
+    /**
+     * Fetch the next page of the result set of the given statement. Like the first page, the request
+     * goes through the concurrency limiter, if any, and is recorded in the execution metrics
+     */
+    public CompletableFuture<ResultSet> fetchMoreResults(StatementWrapper wrapper, ResultSet resultSet) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Fetching next page of statement %s", wrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        final CompletionMode mode = wrapper.getCompletionMode().orElse(completionMode);
+        if (metrics.isEnabled()) {
+            final long start = System.nanoTime();
+            return submit(() -> toCompletableFuture(resultSet.fetchMoreResults(), executor, mode))
+                    .whenComplete((rs, throwable) -> metrics.recordExecution(wrapper.getEntityClass(),
+                            wrapper.getOperationType().metricsType, System.nanoTime() - start, throwable == null));
+        }
+        return submit(() -> toCompletableFuture(resultSet.fetchMoreResults(), executor, mode));
+    }
+
+    /**
+     * Submit the statement to the driver, through the concurrency limiter if any
+     */
+    private CompletableFuture<ResultSet> executeAsync(Statement statement, CompletionMode mode) {
+        return submit(() -> toCompletableFuture(session.executeAsync(statement), executor, mode));
+    }
+
+    private CompletableFuture<ResultSet> submit(Supplier<CompletableFuture<ResultSet>> request) {
+        if (concurrencyLimiter.isPresent()) {
+            return concurrencyLimiter.get().submit(request);
+        }
+        return request.get();
     }
 
     public PreparedStatement prepareDynamicQuery(RegularStatement statement) {
-        return prepareDynamicQuery(statement.getQueryString());
+        return inferIdempotence(prepareDynamicQuery(statement.getQueryString()), statement);
     }
 
     public PreparedStatement prepareDynamicQuery(String queryString) {
@@ -101,23 +174,105 @@ public class RuntimeEngine {
         return cache.getDynamicCache(queryString, session);
     }
 
-    public Optional<PreparedStatement> maybePrepareIfDifferentSchemaNameFromCache(AbstractEntityProperty<?> entityProperty,
-                                                                                  PreparedStatement psFromCache,
-                                                                                  Optional<SchemaNameProvider> schemaNameProvider,
-                                                                                  Supplier<RegularStatement> lambda) {
-        if (schemaNameProvider.isPresent()) {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(format("Preparing statement %s using optional schema name provider %s",
-                        psFromCache.getQueryString(), schemaNameProvider));
-            }
-            final SchemaNameProvider provider = schemaNameProvider.get();
-            final String tableNameWithKeyspace = provider.keyspaceFor(entityProperty.entityClass) + "." + provider.tableNameFor(entityProperty.entityClass);
-            if (!psFromCache.getQueryString().toLowerCase().contains("from " + tableNameWithKeyspace)) {
-                return Optional.of(prepareDynamicQuery(lambda.get()));
-            }
+    public PreparedStatement prepareDynamicQuery(QueryShape queryShape, RegularStatement statement) {
+        return inferIdempotence(prepareDynamicQuery(queryShape, statement::getQueryString), statement);
+    }
+
+    public PreparedStatement prepareDynamicQuery(QueryShape queryShape, Supplier<String> queryString) {
+        if (queryShape.isDynamic()) {
+            return prepareDynamicQuery(queryString.get());
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Preparing dynamic query for shape %s", queryShape));
         }
-        return Optional.empty();
+        return cache.getShapeCache(queryShape, queryString, session);
+    }
+
+    public CompletableFuture<PreparedStatement> prepareDynamicQueryAsync(RegularStatement statement) {
+        return prepareDynamicQueryAsync(statement.getQueryString())
+                .thenApply(ps -> inferIdempotence(ps, statement));
+    }
 
+    public CompletableFuture<PreparedStatement> prepareDynamicQueryAsync(String queryString) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Preparing asynchronously dynamic query %s", queryString));
+        }
+        return cache.getDynamicCacheAsync(queryString, session);
+    }
+
+    public CompletableFuture<PreparedStatement> prepareDynamicQueryAsync(QueryShape queryShape, RegularStatement statement) {
+        return prepareDynamicQueryAsync(queryShape, statement::getQueryString)
+                .thenApply(ps -> inferIdempotence(ps, statement));
+    }
+
+    public CompletableFuture<PreparedStatement> prepareDynamicQueryAsync(QueryShape queryShape, Supplier<String> queryString) {
+        if (queryShape.isDynamic()) {
+            return prepareDynamicQueryAsync(queryString.get());
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Preparing asynchronously dynamic query for shape %s", queryShape));
+        }
+        return cache.getShapeCacheAsync(queryShape, queryString, session);
+    }
+
+    /**
+     * Get the static statement of the given key prepared for the keyspace and table
+     * resolved by the given SchemaNameProvider
+     */
+    public PreparedStatement getStaticCacheForSchema(CacheKey cacheKey, AbstractEntityProperty<?> entityProperty,
+                                                     SchemaNameProvider schemaNameProvider) {
+        final TenantCacheKey tenantKey = new TenantCacheKey(cacheKey,
+                schemaNameProvider.keyspaceFor(entityProperty.entityClass),
+                schemaNameProvider.tableNameFor(entityProperty.entityClass));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Get statement for %s using schema name provider %s", tenantKey, schemaNameProvider));
+        }
+        final Optional<SchemaNameProvider> provider = Optional.of(schemaNameProvider);
+        final PreparedStatement ps = cache.getTenantCache(tenantKey,
+                operation -> operation.generateStatement(entityProperty, provider).getQueryString(),
+                session);
+        return inferTenantIdempotence(ps, cacheKey, entityProperty, provider);
+    }
+
+    /**
+     * Non-blocking version of {@link #getStaticCacheForSchema(CacheKey, AbstractEntityProperty, SchemaNameProvider)}
+     */
+    public CompletableFuture<PreparedStatement> getStaticCacheForSchemaAsync(CacheKey cacheKey, AbstractEntityProperty<?> entityProperty,
+                                                                             SchemaNameProvider schemaNameProvider) {
+        final TenantCacheKey tenantKey = new TenantCacheKey(cacheKey,
+                schemaNameProvider.keyspaceFor(entityProperty.entityClass),
+                schemaNameProvider.tableNameFor(entityProperty.entityClass));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Get asynchronously statement for %s using schema name provider %s", tenantKey, schemaNameProvider));
+        }
+        final Optional<SchemaNameProvider> provider = Optional.of(schemaNameProvider);
+        return cache.getTenantCacheAsync(tenantKey,
+                operation -> operation.generateStatement(entityProperty, provider).getQueryString(),
+                session)
+                .thenApply(ps -> inferTenantIdempotence(ps, cacheKey, entityProperty, provider));
+    }
+
+    private static PreparedStatement inferTenantIdempotence(PreparedStatement ps, CacheKey cacheKey, AbstractEntityProperty<?> entityProperty,
+                                                            Optional<SchemaNameProvider> provider) {
+        if (ps.isIdempotent() == null) {
+            inferIdempotence(ps, cacheKey.getOperation().generateStatement(entityProperty, provider));
+        }
+        return ps;
+    }
+
+    /**
+     * Statements generated with the <em>QueryBuilder</em> know whether they are idempotent:
+     * counter increments, list appends/prepends, function calls and LWT conditions are not.
+     * Since dynamic statements are prepared from their query string, copy this flag to the
+     * prepared statement so that its bound statements are retried or executed speculatively
+     * by the driver only when it is safe. The flag is a property of the query string, so it is
+     * the same for all the statements sharing this prepared statement
+     */
+    private static PreparedStatement inferIdempotence(PreparedStatement ps, RegularStatement statement) {
+        if (ps.isIdempotent() == null && statement instanceof BuiltStatement) {
+            ps.setIdempotent(statement.isIdempotent());
+        }
+        return ps;
     }
 
     public Cluster getCluster() {
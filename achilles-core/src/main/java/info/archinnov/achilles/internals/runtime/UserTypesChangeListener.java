@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.runtime;
+
+import static java.lang.String.format;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.SchemaChangeListenerBase;
+import com.datastax.driver.core.UserType;
+
+import info.archinnov.achilles.internals.factory.UserTypeFactory;
+
+/**
+ * Schema change listener invalidating the UserType/TupleType instances
+ * cached by the meta classes whenever a user type or a keyspace changes
+ */
+public class UserTypesChangeListener extends SchemaChangeListenerBase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UserTypesChangeListener.class);
+
+    private final UserTypeFactory userTypeFactory;
+
+    public UserTypesChangeListener(UserTypeFactory userTypeFactory) {
+        this.userTypeFactory = userTypeFactory;
+    }
+
+    @Override
+    public void onUserTypeAdded(UserType type) {
+        invalidate(type.getKeyspace(), type.getTypeName());
+    }
+
+    @Override
+    public void onUserTypeRemoved(UserType type) {
+        invalidate(type.getKeyspace(), type.getTypeName());
+    }
+
+    @Override
+    public void onUserTypeChanged(UserType current, UserType previous) {
+        invalidate(current.getKeyspace(), current.getTypeName());
+    }
+
+    @Override
+    public void onKeyspaceRemoved(KeyspaceMetadata keyspace) {
+        invalidate(keyspace.getName(), "*");
+    }
+
+    private void invalidate(String keyspace, String typeName) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Schema change on user type %s.%s, invalidating cached user and tuple types", keyspace, typeName));
+        }
+        userTypeFactory.invalidateCachedTypes();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.statements;
+
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.type.CompletionMode;
+
+/**
+ * Wrap a batch of bound statements so that it goes through the same execution path
+ * as a single statement: metrics, per-call completion mode and DML logging.
+ * <br/>
+ * The DML log is written for each statement of the batch. The bound statement
+ * exposed by {@link #getBoundStatement()} is the first statement of the batch
+ */
+public class BatchStatementWrapper implements StatementWrapper {
+
+    private final OperationType operationType;
+    private final AbstractEntityProperty<?> meta;
+    private final List<StatementWrapper> statementWrappers;
+    private final BatchStatement batchStatement;
+    private String queryId;
+    private Optional<CompletionMode> completionMode = Optional.empty();
+    private boolean userCallbacks;
+
+    public BatchStatementWrapper(OperationType operationType, AbstractEntityProperty<?> meta, BatchStatement.Type batchType,
+                                 List<StatementWrapper> statementWrappers) {
+        this.operationType = operationType;
+        this.meta = meta;
+        this.statementWrappers = statementWrappers;
+        this.batchStatement = new BatchStatement(batchType);
+        statementWrappers.forEach(wrapper -> batchStatement.add(wrapper.getBoundStatement()));
+    }
+
+    @Override
+    public Object[] getBoundValues() {
+        return statementWrappers
+                .stream()
+                .flatMap(wrapper -> Arrays.stream(wrapper.getBoundValues()))
+                .toArray();
+    }
+
+    @Override
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    @Override
+    public Class<?> getEntityClass() {
+        return meta.entityClass;
+    }
+
+    @Override
+    public Optional<CompletionMode> getCompletionMode() {
+        if (userCallbacks || operationType.postEvent.map(meta::hasInterceptorsForEvent).orElse(false)) {
+            return Optional.of(CompletionMode.EXECUTOR);
+        }
+        return completionMode;
+    }
+
+    @Override
+    public void completeOnExecutor() {
+        this.userCallbacks = true;
+    }
+
+    @Override
+    public BoundStatement getBoundStatement() {
+        return statementWrappers.get(0).getBoundStatement();
+    }
+
+    @Override
+    public Statement getStatementForExecution() {
+        return batchStatement;
+    }
+
+    /**
+     * A batch of mutations does not return any row, nothing to do
+     */
+    @Override
+    public void fetchSingleRow() {
+    }
+
+    @Override
+    public void applyOptions(CassandraOptions cassandraOptions) {
+        cassandraOptions.applyOptions(operationType, meta, batchStatement);
+        completionMode = cassandraOptions.getCompletionMode();
+        userCallbacks |= cassandraOptions.hasAsyncListeners();
+    }
+
+    @Override
+    public void logDML() {
+        statementWrappers.forEach(StatementWrapper::logDML);
+    }
+
+    @Override
+    public ResultSet logReturnResults(ResultSet resultSet, int maxDisplayedRows) {
+        return resultSet;
+    }
+
+    @Override
+    public Row logReturnedRow(Row row) {
+        return row;
+    }
+
+    @Override
+    public ResultSet logTrace(ResultSet resultSet) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Maybe display tracing for batch of %s statements of entity %s",
+                    statementWrappers.size(), meta.entityClass.getCanonicalName()));
+        }
+        if (DML_LOGGER.isTraceEnabled()) {
+            tracingInternal(DML_LOGGER, getQueryId(), resultSet);
+        }
+        return resultSet;
+    }
+
+    private String getQueryId() {
+        if (queryId == null) {
+            queryId = QueryIdGenerator.nextId();
+        }
+        return queryId;
+    }
+}
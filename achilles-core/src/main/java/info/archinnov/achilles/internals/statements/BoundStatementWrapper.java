@@ -18,7 +18,7 @@ package info.archinnov.achilles.internals.statements;
 
 import static java.lang.String.format;
 
-import java.util.UUID;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,10 +27,12 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
 
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.ResultSetWrapper;
+import info.archinnov.achilles.type.CompletionMode;
 
 public class BoundStatementWrapper implements StatementWrapper {
 
@@ -42,7 +44,10 @@ public class BoundStatementWrapper implements StatementWrapper {
     private final Object[] encodedBoundValues;
     private final Logger actualLogger;
     private BoundStatement bs;
-    private UUID queryId;
+    private String queryId;
+    private Optional<CompletionMode> completionMode = Optional.empty();
+    private boolean userCallbacks;
+    private boolean singleRow;
 
 
     public BoundStatementWrapper(OperationType operationType, AbstractEntityProperty<?> meta, PreparedStatement ps,
@@ -63,6 +68,10 @@ public class BoundStatementWrapper implements StatementWrapper {
         this.boundValues = boundValues;
         this.encodedBoundValues = encodedBoundValues;
         this.actualLogger = meta.entityLogger.isDebugEnabled() ? meta.entityLogger : DML_LOGGER;
+        // A SELECT is always safe to retry or to execute speculatively
+        if (operationType == OperationType.SELECT && bs.isIdempotent() == null) {
+            bs.setIdempotent(true);
+        }
     }
 
     @Override
@@ -70,14 +79,53 @@ public class BoundStatementWrapper implements StatementWrapper {
         return boundValues;
     }
 
+    @Override
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    @Override
+    public Class<?> getEntityClass() {
+        return meta.entityClass;
+    }
+
+    @Override
+    public Optional<CompletionMode> getCompletionMode() {
+        if (userCallbacks || operationType.postEvent.map(meta::hasInterceptorsForEvent).orElse(false)) {
+            return Optional.of(CompletionMode.EXECUTOR);
+        }
+        return completionMode;
+    }
+
+    @Override
+    public void completeOnExecutor() {
+        this.userCallbacks = true;
+    }
+
+    public void setCompletionMode(Optional<CompletionMode> completionMode) {
+        this.completionMode = completionMode;
+    }
+
     @Override
     public BoundStatement getBoundStatement() {
         return bs;
     }
 
+    @Override
+    public void fetchSingleRow() {
+        this.singleRow = true;
+    }
+
+    @Override
+    public Statement getStatementForExecution() {
+        return singleRow && bs.getFetchSize() <= 0 ? new SingleRowStatement(bs) : bs;
+    }
+
     @Override
     public void applyOptions(CassandraOptions cassandraOptions) {
         cassandraOptions.applyOptions(operationType, meta, bs);
+        completionMode = cassandraOptions.getCompletionMode();
+        userCallbacks |= cassandraOptions.hasAsyncListeners();
     }
 
     @Override
@@ -86,9 +134,8 @@ public class BoundStatementWrapper implements StatementWrapper {
             LOGGER.trace(format("Maybe log DML query %s", bs.preparedStatement().getQueryString()));
         }
 
-        queryId = UUID.randomUUID();
         if (actualLogger.isDebugEnabled()) {
-            writeDMLStatementLog(actualLogger, queryId, bs.preparedStatement().getQueryString(), bs.getConsistencyLevel(), boundValues, encodedBoundValues);
+            writeDMLStatementLog(actualLogger, getQueryId(), bs.preparedStatement().getQueryString(), bs.getConsistencyLevel(), boundValues, encodedBoundValues);
         }
     }
 
@@ -100,7 +147,7 @@ public class BoundStatementWrapper implements StatementWrapper {
 
         if (actualLogger.isDebugEnabled()) {
             final ResultSetWrapper wrapper = new ResultSetWrapper(originalResultSet);
-            logReturnedResultsInternal(actualLogger, queryId, wrapper, maxDisplayedRows);
+            logReturnedResultsInternal(actualLogger, getQueryId(), wrapper, maxDisplayedRows);
             return wrapper;
         } else {
             return originalResultSet;
@@ -114,7 +161,7 @@ public class BoundStatementWrapper implements StatementWrapper {
         }
 
         if (actualLogger.isDebugEnabled()) {
-            logReturnedRowInternal(actualLogger, queryId, row);
+            logReturnedRowInternal(actualLogger, getQueryId(), row);
         }
         return row;
     }
@@ -124,7 +171,16 @@ public class BoundStatementWrapper implements StatementWrapper {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Maybe display tracing for query %s", bs.preparedStatement().getQueryString()));
         }
-        tracingInternal(actualLogger, queryId, resultSet);
+        if (actualLogger.isTraceEnabled()) {
+            tracingInternal(actualLogger, getQueryId(), resultSet);
+        }
         return resultSet;
     }
+
+    private String getQueryId() {
+        if (queryId == null) {
+            queryId = QueryIdGenerator.nextId();
+        }
+        return queryId;
+    }
 }
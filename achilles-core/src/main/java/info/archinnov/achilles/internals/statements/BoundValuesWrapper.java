@@ -19,7 +19,7 @@ package info.archinnov.achilles.internals.statements;
 import static info.archinnov.achilles.type.strategy.InsertStrategy.ALL_FIELDS;
 import static java.lang.String.format;
 
-import java.util.List;
+import java.util.Arrays;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +28,7 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
 
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.EntityBindingPlan;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
 
 
@@ -35,33 +36,32 @@ public class BoundValuesWrapper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BoundValuesWrapper.class);
 
-    public final List<BoundValueInfo> boundValuesInfo;
     public final AbstractEntityProperty<?> meta;
+    public final Object[] boundValues;
+    public final Object[] encodedValues;
+    private final EntityBindingPlan<?> bindingPlan;
 
-    public BoundValuesWrapper(AbstractEntityProperty<?> meta, List<BoundValueInfo> boundValuesInfo) {
+    public BoundValuesWrapper(AbstractEntityProperty<?> meta, EntityBindingPlan<?> bindingPlan,
+                              Object[] boundValues, Object[] encodedValues) {
         this.meta = meta;
-        this.boundValuesInfo = boundValuesInfo;
+        this.bindingPlan = bindingPlan;
+        this.boundValues = boundValues;
+        this.encodedValues = encodedValues;
     }
 
     public StatementWrapper bindWithInsertStrategy(PreparedStatement ps, InsertStrategy insertStrategy) {
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Bind values %s to query %s with insert strategy %s",
-                    boundValuesInfo, ps.getQueryString(), insertStrategy.name()));
+                    Arrays.toString(encodedValues), ps.getQueryString(), insertStrategy.name()));
         }
 
         if (insertStrategy == ALL_FIELDS) {
-            return new BoundStatementWrapper(OperationType.INSERT, meta, ps,
-                    boundValuesInfo.stream().map(x -> x.boundValue).toArray(),
-                    boundValuesInfo.stream().map(x -> x.encodedValue).toArray());
+            return new BoundStatementWrapper(OperationType.INSERT, meta, ps, boundValues, encodedValues);
         } else {
             BoundStatement bs = ps.bind();
-            boundValuesInfo.stream()
-                    .filter(x -> x.encodedValue != null)
-                    .forEach(x -> x.setter.accept(x.encodedValue, bs));
-            return new BoundStatementWrapper(OperationType.INSERT, meta, bs,
-                    boundValuesInfo.stream().map(x -> x.boundValue).toArray(),
-                    boundValuesInfo.stream().map(x -> x.encodedValue).toArray());
+            bindingPlan.bindNonNullValues(encodedValues, bs);
+            return new BoundStatementWrapper(OperationType.INSERT, meta, bs, boundValues, encodedValues);
         }
     }
 
@@ -69,16 +69,12 @@ public class BoundValuesWrapper {
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Bind values %s to query %s for UPDATE",
-                    boundValuesInfo, ps.getQueryString()));
+                    Arrays.toString(encodedValues), ps.getQueryString()));
         }
 
         BoundStatement bs = ps.bind();
-        boundValuesInfo.stream()
-                .filter(x -> x.encodedValue != null)
-                .forEach(x -> x.setter.accept(x.encodedValue, bs));
-        return new BoundStatementWrapper(OperationType.UPDATE, meta, bs,
-                boundValuesInfo.stream().map(x -> x.boundValue).toArray(),
-                boundValuesInfo.stream().map(x -> x.encodedValue).toArray());
+        bindingPlan.bindNonNullValues(encodedValues, bs);
+        return new BoundStatementWrapper(OperationType.UPDATE, meta, bs, boundValues, encodedValues);
 
     }
 }
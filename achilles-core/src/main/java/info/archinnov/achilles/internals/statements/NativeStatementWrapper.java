@@ -18,23 +18,28 @@ package info.archinnov.achilles.internals.statements;
 
 import static java.lang.String.format;
 
-import java.util.UUID;
+import java.util.Optional;
 
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
 
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.ResultSetWrapper;
+import info.archinnov.achilles.type.CompletionMode;
 
 public class NativeStatementWrapper implements StatementWrapper {
 
     private final AbstractEntityProperty<?> meta;
     private final BoundStatement boundStatement;
     private final Object[] encodedBoundValues;
-    private final UUID queryId = UUID.randomUUID();
     private final OperationType operationType;
+    private String queryId;
+    private Optional<CompletionMode> completionMode = Optional.empty();
+    private boolean userCallbacks;
+    private boolean singleRow;
 
 
     public NativeStatementWrapper(OperationType operationType, AbstractEntityProperty<?> meta, BoundStatement boundStatement, Object[] encodedBoundValues) {
@@ -49,28 +54,69 @@ public class NativeStatementWrapper implements StatementWrapper {
         return encodedBoundValues;
     }
 
+    @Override
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    @Override
+    public Class<?> getEntityClass() {
+        return meta.entityClass;
+    }
+
+    @Override
+    public Optional<CompletionMode> getCompletionMode() {
+        if (userCallbacks) {
+            return Optional.of(CompletionMode.EXECUTOR);
+        }
+        return completionMode;
+    }
+
+    @Override
+    public void completeOnExecutor() {
+        this.userCallbacks = true;
+    }
+
+    public void setCompletionMode(Optional<CompletionMode> completionMode) {
+        this.completionMode = completionMode;
+    }
+
     @Override
     public BoundStatement getBoundStatement() {
         return boundStatement;
     }
 
+    @Override
+    public void fetchSingleRow() {
+        this.singleRow = true;
+    }
+
+    @Override
+    public Statement getStatementForExecution() {
+        return singleRow && boundStatement.getFetchSize() <= 0 ? new SingleRowStatement(boundStatement) : boundStatement;
+    }
+
     @Override
     public void applyOptions(CassandraOptions cassandraOptions) {
         cassandraOptions.applyOptions(operationType, meta, boundStatement);
+        completionMode = cassandraOptions.getCompletionMode();
+        userCallbacks |= cassandraOptions.hasAsyncListeners();
     }
 
     @Override
     public void logDML() {
-        writeDMLStatementLog(DML_LOGGER, queryId,
-                boundStatement.preparedStatement().getQueryString(),
-                boundStatement.getConsistencyLevel(), new Object[0], encodedBoundValues);
+        if (DML_LOGGER.isDebugEnabled()) {
+            writeDMLStatementLog(DML_LOGGER, getQueryId(),
+                    boundStatement.preparedStatement().getQueryString(),
+                    boundStatement.getConsistencyLevel(), new Object[0], encodedBoundValues);
+        }
     }
 
     @Override
     public ResultSet logReturnResults(ResultSet originalResultSet, int maxDisplayedRows) {
         if (DML_LOGGER.isDebugEnabled()) {
             final ResultSetWrapper wrapper = new ResultSetWrapper(originalResultSet);
-            logReturnedResultsInternal(DML_LOGGER, queryId, wrapper, maxDisplayedRows);
+            logReturnedResultsInternal(DML_LOGGER, getQueryId(), wrapper, maxDisplayedRows);
             return wrapper;
         } else {
             return originalResultSet;
@@ -80,7 +126,7 @@ public class NativeStatementWrapper implements StatementWrapper {
     @Override
     public Row logReturnedRow(Row row) {
         if (DML_LOGGER.isDebugEnabled()) {
-            logReturnedRowInternal(DML_LOGGER, queryId, row);
+            logReturnedRowInternal(DML_LOGGER, getQueryId(), row);
         }
         return row;
     }
@@ -90,7 +136,16 @@ public class NativeStatementWrapper implements StatementWrapper {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Maybe display tracing for query %s", boundStatement.preparedStatement().getQueryString()));
         }
-        tracingInternal(DML_LOGGER, queryId, resultSet);
+        if (DML_LOGGER.isTraceEnabled()) {
+            tracingInternal(DML_LOGGER, getQueryId(), resultSet);
+        }
         return resultSet;
     }
+
+    private String getQueryId() {
+        if (queryId == null) {
+            queryId = QueryIdGenerator.nextId();
+        }
+        return queryId;
+    }
 }
@@ -16,18 +16,35 @@
 
 package info.archinnov.achilles.internals.statements;
 
+import java.util.Optional;
+
+import info.archinnov.achilles.metrics.MetricsRecorder;
+import info.archinnov.achilles.type.interceptor.Event;
+
 public enum OperationType {
 
-    INSERT(true),
-    UPDATE(true),
-    DELETE(true),
-    SELECT(false),
-    OTHER(false);
+    INSERT(true, MetricsRecorder.OperationType.INSERT, Optional.of(Event.POST_INSERT)),
+    UPDATE(true, MetricsRecorder.OperationType.UPDATE, Optional.of(Event.POST_UPDATE)),
+    DELETE(true, MetricsRecorder.OperationType.DELETE, Optional.of(Event.POST_DELETE)),
+    SELECT(false, MetricsRecorder.OperationType.SELECT, Optional.of(Event.POST_LOAD)),
+    OTHER(false, MetricsRecorder.OperationType.OTHER, Optional.empty());
 
     public boolean isUpsert;
 
-    OperationType(boolean isUpsert) {
+    /**
+     * Public counterpart of this operation type, reported to the metrics recorder
+     */
+    public final MetricsRecorder.OperationType metricsType;
+
+    /**
+     * Interceptor event triggered once a statement of this type completes, if any
+     */
+    public final Optional<Event> postEvent;
+
+    OperationType(boolean isUpsert, MetricsRecorder.OperationType metricsType, Optional<Event> postEvent) {
         this.isUpsert = isUpsert;
+        this.metricsType = metricsType;
+        this.postEvent = postEvent;
     }
 
 }
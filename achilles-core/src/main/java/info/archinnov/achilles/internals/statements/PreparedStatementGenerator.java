@@ -26,11 +26,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.RegularStatement;
-import com.datastax.driver.core.Session;
 import com.datastax.driver.core.querybuilder.*;
 
 import info.archinnov.achilles.internals.cache.CacheKey;
-import info.archinnov.achilles.internals.cache.StatementsCache;
+import info.archinnov.achilles.internals.cache.StaticStatementsPreparer;
 import info.archinnov.achilles.internals.cassandra_version.CassandraFeature;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
@@ -46,9 +45,12 @@ public class PreparedStatementGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PreparedStatementGenerator.class);
 
-    public static void generateStaticSelectQuery(Session session, StatementsCache cache,  AbstractEntityProperty<?> entityProperty) {
+    public static final String START_TOKEN = "start_token";
+    public static final String END_TOKEN = "end_token";
+
+    public static void generateStaticSelectQuery(StaticStatementsPreparer preparer, AbstractEntityProperty<?> entityProperty) {
         final RegularStatement where = generateSelectQuery(entityProperty, Optional.empty());
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, FIND), () -> session.prepare(where));
+        preparer.register(new CacheKey(entityProperty.entityClass, FIND), where);
     }
 
     public static RegularStatement generateSelectQuery( AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider) {
@@ -56,6 +58,47 @@ public class PreparedStatementGenerator {
             LOGGER.debug(format("Generate SELECT query for entity of type %s", entityProperty.entityClass.getCanonicalName()));
         }
 
+        final Select from = selectAllColumnsFrom(entityProperty, schemaNameProvider);
+
+        final Select.Where where = from.where();
+
+        for (AbstractProperty<?, ?, ?> x : entityProperty.partitionKeys) {
+            where.and(eq(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn)));
+        }
+
+        for (AbstractProperty<?, ?, ?> x : entityProperty.clusteringColumns) {
+            where.and(eq(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn)));
+        }
+
+        return where;
+    }
+
+    /**
+     * Generate a SELECT ... FROM ... WHERE token(partition keys) > :start_token AND token(partition keys) <= :end_token.
+     * Either bound can be omitted to scan a token range wrapping around the ring
+     */
+    public static RegularStatement generateTokenRangeScanQuery(AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider,
+                                                               boolean withStartToken, boolean withEndToken) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Generate token range scan query for entity of type %s", entityProperty.entityClass.getCanonicalName()));
+        }
+
+        final String partitionKeysToken = token(entityProperty.partitionKeys
+                .stream()
+                .map(x -> x.fieldInfo.quotedCqlColumn)
+                .toArray(String[]::new));
+
+        final Select.Where where = selectAllColumnsFrom(entityProperty, schemaNameProvider).where();
+        if (withStartToken) {
+            where.and(gt(partitionKeysToken, bindMarker(START_TOKEN)));
+        }
+        if (withEndToken) {
+            where.and(lte(partitionKeysToken, bindMarker(END_TOKEN)));
+        }
+        return where;
+    }
+
+    private static Select selectAllColumnsFrom(AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider) {
         final Select.Selection select = QueryBuilder.select();
         final Optional<String> keyspace = entityProperty.getKeyspace();
 
@@ -90,36 +133,26 @@ public class PreparedStatementGenerator {
             }
         }
 
-        final Select.Where where = from.where();
-
-        for (AbstractProperty<?, ?, ?> x : entityProperty.partitionKeys) {
-            where.and(eq(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn)));
-        }
-
-        for (AbstractProperty<?, ?, ?> x : entityProperty.clusteringColumns) {
-            where.and(eq(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn)));
-        }
-
-        return where;
+        return from;
     }
 
-    public static void generateStaticDeleteQueries(Session session, StatementsCache cache,  AbstractEntityProperty<?> entityProperty) {
+    public static void generateStaticDeleteQueries(StaticStatementsPreparer preparer, AbstractEntityProperty<?> entityProperty) {
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generate DELETE queries for entity of type %s", entityProperty.entityClass.getCanonicalName()));
         }
 
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, DELETE),
-                () -> session.prepare(generateDeleteByKeys(entityProperty, Optional.empty())));
+        preparer.register(new CacheKey(entityProperty.entityClass, DELETE),
+                generateDeleteByKeys(entityProperty, Optional.empty()));
 
         if (!entityProperty.isCounter()) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, DELETE_IF_EXISTS),
-                    () -> session.prepare(generateDeleteByKeysIfExists(entityProperty, Optional.empty())));
+            preparer.register(new CacheKey(entityProperty.entityClass, DELETE_IF_EXISTS),
+                    generateDeleteByKeysIfExists(entityProperty, Optional.empty()));
         }
 
         if (entityProperty.isClustered()) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, DELETE_BY_PARTITION),
-                    () -> session.prepare(generateDeleteByPartition(entityProperty, Optional.empty())));
+            preparer.register(new CacheKey(entityProperty.entityClass, DELETE_BY_PARTITION),
+                    generateDeleteByPartition(entityProperty, Optional.empty()));
         }
     }
 
@@ -194,32 +227,32 @@ public class PreparedStatementGenerator {
     }
 
 
-    public static void generateStaticInsertQueries(InternalCassandraVersion cassandraVersion, Session session, StatementsCache cache, AbstractEntityProperty<?> entityProperty) {
+    public static void generateStaticInsertQueries(InternalCassandraVersion cassandraVersion, StaticStatementsPreparer preparer, AbstractEntityProperty<?> entityProperty) {
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generate INSERT queries for entity of type %s", entityProperty.entityClass.getCanonicalName()));
         }
 
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT),
-                () -> session.prepare(generateInsert(entityProperty, Optional.empty())));
+        preparer.register(new CacheKey(entityProperty.entityClass, INSERT),
+                generateInsert(entityProperty, Optional.empty()));
 
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS),
-                () -> session.prepare(generateInsertIfNotExists(entityProperty, Optional.empty())));
+        preparer.register(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS),
+                generateInsertIfNotExists(entityProperty, Optional.empty()));
 
         if (cassandraVersion.supportsFeature(CassandraFeature.JSON)) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_JSON),
-                    () -> session.prepare(generateInsertJSON(entityProperty, Optional.empty())));
+            preparer.register(new CacheKey(entityProperty.entityClass, INSERT_JSON),
+                    generateInsertJSON(entityProperty, Optional.empty()));
 
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS_JSON),
-                    () -> session.prepare(generateInsertIfNotExistsJson(entityProperty, Optional.empty())));
+            preparer.register(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS_JSON),
+                    generateInsertIfNotExistsJson(entityProperty, Optional.empty()));
         }
 
         if (entityProperty.hasStaticColumn()) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_STATIC),
-                    () -> session.prepare(generateInsertStatic(entityProperty, Optional.empty())));
+            preparer.register(new CacheKey(entityProperty.entityClass, INSERT_STATIC),
+                    generateInsertStatic(entityProperty, Optional.empty()));
 
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_STATIC_IF_NOT_EXISTS),
-                    () -> session.prepare(generateInsertStaticIfNotExists(entityProperty, Optional.empty())));
+            preparer.register(new CacheKey(entityProperty.entityClass, INSERT_STATIC_IF_NOT_EXISTS),
+                    generateInsertStaticIfNotExists(entityProperty, Optional.empty()));
         }
     }
 
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.statements;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator of query ids used to correlate DML, results and tracing logs.
+ * <br/>
+ * Ids are made of a random prefix, drawn once per JVM, and a lock-free
+ * sequence number. Unlike <em>UUID.randomUUID()</em> it does not go through
+ * <em>SecureRandom</em> so it never contends under load. Ids are only
+ * generated when a logger actually needs them
+ */
+public final class QueryIdGenerator {
+
+    private static final String PREFIX = String.format("%08x", ThreadLocalRandom.current().nextInt());
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private QueryIdGenerator() {
+    }
+
+    public static String nextId() {
+        return PREFIX + "-" + Long.toHexString(SEQUENCE.incrementAndGet());
+    }
+}
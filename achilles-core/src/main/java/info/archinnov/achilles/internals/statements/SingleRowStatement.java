@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.statements;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Driver statement wrapper requesting a single row in the first page.
+ * <br/>
+ * The driver reads the fetch size from the wrapper and all the other
+ * settings from the wrapped statement, which is left untouched so that
+ * it can safely be shared with other executions.
+ * <br/>
+ * Since a page only holds one row at most, it can also be empty while the next
+ * pages are not, so use {@link #fetchUntilFirstRow(ResultSet, Function)}
+ * before reading the row
+ */
+public class SingleRowStatement extends com.datastax.driver.core.StatementWrapper {
+
+    public SingleRowStatement(Statement wrapped) {
+        super(wrapped);
+    }
+
+    @Override
+    public int getFetchSize() {
+        return 1;
+    }
+
+    /**
+     * Fetch the next pages of the given result set with the given page fetcher until a row
+     * is available or all the rows have been fetched. The page fetcher is expected to go through
+     * the same concurrency limiter and metrics as the execution of the statement
+     */
+    public static CompletableFuture<ResultSet> fetchUntilFirstRow(ResultSet resultSet,
+                                                                  Function<ResultSet, CompletableFuture<ResultSet>> pageFetcher) {
+        if (resultSet.getAvailableWithoutFetching() > 0 || resultSet.isFullyFetched()) {
+            return CompletableFuture.completedFuture(resultSet);
+        }
+        return pageFetcher.apply(resultSet)
+                .thenCompose(rs -> fetchUntilFirstRow(rs, pageFetcher));
+    }
+}
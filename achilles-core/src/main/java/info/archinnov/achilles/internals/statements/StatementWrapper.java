@@ -33,6 +33,7 @@ import com.datastax.driver.core.exceptions.TraceRetrievalException;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.ResultSetWrapper;
 import info.archinnov.achilles.logger.AchillesLoggers;
+import info.archinnov.achilles.type.CompletionMode;
 
 public interface StatementWrapper {
     Logger LOGGER = LoggerFactory.getLogger(StatementWrapper.class);
@@ -42,8 +43,38 @@ public interface StatementWrapper {
 
     Object[] getBoundValues();
 
+    OperationType getOperationType();
+
+    Class<?> getEntityClass();
+
+    /**
+     * Completion mode set by the options applied to this statement, if any.
+     * Always <strong>CompletionMode.EXECUTOR</strong> when user callbacks (interceptors, LWT or async listeners)
+     * run once the statement completes, so that they never run on the driver I/O threads
+     */
+    Optional<CompletionMode> getCompletionMode();
+
+    /**
+     * Complete this statement on the executor service whatever the completion mode,
+     * because user callbacks run once it completes
+     */
+    void completeOnExecutor();
+
     BoundStatement getBoundStatement();
 
+    /**
+     * Statement actually sent to the driver, by default the bound statement itself
+     */
+    default Statement getStatementForExecution() {
+        return getBoundStatement();
+    }
+
+    /**
+     * Only fetch one row in the first page, unless a fetch size
+     * has been explicitly set on the bound statement
+     */
+    void fetchSingleRow();
+
     void applyOptions(CassandraOptions cassandraOptions);
 
     void logDML();
@@ -54,14 +85,14 @@ public interface StatementWrapper {
 
     ResultSet logTrace(ResultSet resultSet);
 
-    default void writeDMLStatementLog(Logger actualLogger, UUID queryId, String queryString, ConsistencyLevel consistencyLevel, Object[] boundValues, Object[] encodedValues) {
+    default void writeDMLStatementLog(Logger actualLogger, String queryId, String queryString, ConsistencyLevel consistencyLevel, Object[] boundValues, Object[] encodedValues) {
         if (actualLogger.isDebugEnabled()) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug(format("Writing DML log for query %s with id %s", queryString, queryId));
             }
             StringBuilder logBuilder = new StringBuilder("\n");
             logBuilder.append(String.format("Query ID %s : [%s] with CONSISTENCY LEVEL [%s]",
-                    queryId.toString(), queryString, consistencyLevel));
+                    queryId, queryString, consistencyLevel));
             if (ArrayUtils.isNotEmpty(boundValues)) {
                 logBuilder.append(String.format("\n\t Java bound values : %s", replaceByteBuffersByHexString(boundValues)));
                 logBuilder.append(String.format("\n\t Encoded bound values : %s", replaceByteBuffersByHexString(encodedValues)));
@@ -70,7 +101,7 @@ public interface StatementWrapper {
         }
     }
 
-    default void logReturnedResultsInternal(Logger actualLogger, UUID queryId, ResultSetWrapper resultSet, int maxDisplayedRows) {
+    default void logReturnedResultsInternal(Logger actualLogger, String queryId, ResultSetWrapper resultSet, int maxDisplayedRows) {
         if (maxDisplayedRows > 0) {
             final int availableWithoutFetching = resultSet.getAvailableWithoutFetching();
             StringBuilder results = new StringBuilder(format("Query ID %s results : \n", queryId));
@@ -83,7 +114,7 @@ public interface StatementWrapper {
         }
     }
 
-    default void logReturnedRowInternal(Logger actualLogger, UUID queryId, Row row) {
+    default void logReturnedRowInternal(Logger actualLogger, String queryId, Row row) {
         StringBuilder results = new StringBuilder(format("Query ID %s row : \n", queryId));
         appendRowDataToBuilder(row, row.getColumnDefinitions().asList(), results);
         actualLogger.debug(results.toString());
@@ -114,12 +145,12 @@ public interface StatementWrapper {
         }
     }
 
-    default void tracingInternal(Logger actualLogger, UUID queryId, ResultSet resultSet) {
+    default void tracingInternal(Logger actualLogger, String queryId, ResultSet resultSet) {
         StringBuilder trace = new StringBuilder();
         if (actualLogger.isTraceEnabled()) {
             for (ExecutionInfo executionInfo : resultSet.getAllExecutionInfo()) {
 
-                trace.append(format("\n\nTracing for Query ID %s at host %s with achieved consistency level %s \n", queryId.toString(), executionInfo.getQueriedHost(), executionInfo.getAchievedConsistencyLevel()));
+                trace.append(format("\n\nTracing for Query ID %s at host %s with achieved consistency level %s \n", queryId, executionInfo.getQueriedHost(), executionInfo.getAchievedConsistencyLevel()));
                 trace.append("****************************\n");
                 trace.append(format("%1$-80s | %2$-16s | %3$-24s | %4$-20s\n", "Description", "Source", "Source elapsed in micros", "Thread name"));
                 try {
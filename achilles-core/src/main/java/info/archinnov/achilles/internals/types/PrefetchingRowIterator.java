@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static java.lang.String.format;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.ListenableFuture;
+
+import info.archinnov.achilles.internals.options.CassandraOptions;
+
+/**
+ * Row iterator which fetches the next page of results asynchronously
+ * once a given fraction of the current page has been consumed.
+ * <br/>
+ * Row decoding then overlaps with the network round-trip of the next page
+ * instead of stalling on each page boundary
+ */
+public class PrefetchingRowIterator implements Iterator<Row> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingRowIterator.class);
+
+    private final ResultSet resultSet;
+    private final int prefetchWhenRemaining;
+    private ListenableFuture<ResultSet> prefetch;
+
+    PrefetchingRowIterator(ResultSet resultSet, double pageFractionThreshold) {
+        this.resultSet = resultSet;
+        final int pageSize = resultSet.getAvailableWithoutFetching();
+        this.prefetchWhenRemaining = Math.max(1, pageSize - (int) Math.ceil(pageSize * pageFractionThreshold));
+    }
+
+    /**
+     * Create a row iterator on the given result set. If a page prefetch
+     * threshold is set in the given options the iterator prefetches pages
+     * asynchronously, otherwise the driver default iterator is returned
+     */
+    public static Iterator<Row> rowIterator(ResultSet resultSet, CassandraOptions cassandraOptions) {
+        final Optional<Double> threshold = cassandraOptions.getPagePrefetchThreshold();
+        if (threshold.isPresent()) {
+            return new PrefetchingRowIterator(resultSet, threshold.get());
+        } else {
+            return resultSet.iterator();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !resultSet.isExhausted();
+    }
+
+    @Override
+    public Row next() {
+        final Row row = resultSet.one();
+        if (row == null) {
+            throw new NoSuchElementException();
+        }
+        maybePrefetch();
+        return row;
+    }
+
+    private void maybePrefetch() {
+        if (resultSet.isFullyFetched() || (prefetch != null && !prefetch.isDone())) {
+            return;
+        }
+        if (resultSet.getAvailableWithoutFetching() <= prefetchWhenRemaining) {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Prefetching next page of results, %s rows remaining in current page",
+                        resultSet.getAvailableWithoutFetching()));
+            }
+            prefetch = resultSet.fetchMoreResults();
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
+import static java.lang.String.format;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.reactive.Publisher;
+import info.archinnov.achilles.type.reactive.Subscriber;
+import info.archinnov.achilles.type.reactive.Subscription;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Publisher of the rows of a SELECT query, mapped with the given row mapper.
+ * <br/>
+ * The statement is only prepared and executed when the subscriber signals its first demand.
+ * Rows are then emitted from the pages already fetched and the next page
+ * is fetched asynchronously only when the current one has been fully consumed
+ * and there is still some outstanding demand. At any time, at most one page
+ * is held in memory. Once the subscription is cancelled, no more page is fetched
+ * <br/>
+ * The row mapper may complete asynchronously (e.g. when asynchronous POST_LOAD interceptors
+ * are registered), in which case the next row is only mapped once the previous one has been emitted
+ */
+public class ResultSetPublisher<T> implements Publisher<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultSetPublisher.class);
+
+    private final Supplier<CompletableFuture<StatementWrapper>> statementProvider;
+    private final Function<StatementWrapper, CompletableFuture<ResultSet>> query;
+    private final BiFunction<StatementWrapper, Row, CompletableFuture<T>> rowMapper;
+    private final ExecutorService executor;
+
+    public ResultSetPublisher(Supplier<CompletableFuture<StatementWrapper>> statementProvider,
+                              Function<StatementWrapper, CompletableFuture<ResultSet>> query,
+                              BiFunction<StatementWrapper, Row, T> rowMapper, ExecutorService executor) {
+        this(statementProvider, query, executor,
+                (statementWrapper, row) -> CompletableFuture.completedFuture(rowMapper.apply(statementWrapper, row)));
+    }
+
+    private ResultSetPublisher(Supplier<CompletableFuture<StatementWrapper>> statementProvider,
+                               Function<StatementWrapper, CompletableFuture<ResultSet>> query,
+                               ExecutorService executor, BiFunction<StatementWrapper, Row, CompletableFuture<T>> rowMapper) {
+        this.statementProvider = statementProvider;
+        this.query = query;
+        this.rowMapper = rowMapper;
+        this.executor = executor;
+    }
+
+    /**
+     * Create a publisher whose row mapper returns a future of the mapped value
+     */
+    public static <T> ResultSetPublisher<T> withAsyncRowMapper(Supplier<CompletableFuture<StatementWrapper>> statementProvider,
+                                                               Function<StatementWrapper, CompletableFuture<ResultSet>> query,
+                                                               BiFunction<StatementWrapper, Row, CompletableFuture<T>> rowMapper,
+                                                               ExecutorService executor) {
+        return new ResultSetPublisher<>(statementProvider, query, executor, rowMapper);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Validator.validateNotNull(subscriber, "The subscriber should not be null");
+        subscriber.onSubscribe(new ResultSetSubscription(subscriber));
+    }
+
+    private class ResultSetSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger workInProgress = new AtomicInteger();
+        private final AtomicBoolean started = new AtomicBoolean(false);
+
+        private volatile StatementWrapper statementWrapper;
+        private volatile ResultSet resultSet;
+        private volatile boolean fetching;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+        private CompletableFuture<T> pendingMapping;
+        private boolean terminated;
+
+        ResultSetSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (cancelled) {
+                return;
+            }
+            if (n <= 0) {
+                error = new IllegalArgumentException(format("The requested number of elements should be strictly positive, got %s", n));
+                drain();
+                return;
+            }
+            demand.accumulateAndGet(n, (current, added) -> {
+                final long sum = current + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+
+            if (started.compareAndSet(false, true)) {
+                executeQuery();
+            } else {
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            resultSet = null;
+        }
+
+        private void executeQuery() {
+            fetching = true;
+            final CompletableFuture<ResultSet> futureRS;
+            try {
+                futureRS = statementProvider.get()
+                        .thenCompose(wrapper -> {
+                            if (cancelled) {
+                                return CompletableFuture.completedFuture(null);
+                            }
+                            statementWrapper = wrapper;
+                            return query.apply(wrapper);
+                        });
+            } catch (Throwable throwable) {
+                onFetchError(throwable);
+                return;
+            }
+            // Handed off to the executor since the first page may be completed on the driver I/O thread, see CompletionMode.DIRECT
+            futureRS.whenCompleteAsync((rs, throwable) -> {
+                if (cancelled) {
+                    fetching = false;
+                } else if (throwable != null) {
+                    onFetchError(throwable);
+                } else {
+                    resultSet = rs;
+                    fetching = false;
+                    drain();
+                }
+            }, executor);
+        }
+
+        private void fetchNextPage(ResultSet rs) {
+            if (cancelled) {
+                return;
+            }
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Fetching next page of results for subscriber %s", subscriber));
+            }
+            fetching = true;
+            toCompletableFuture(rs.fetchMoreResults(), executor)
+                    .whenComplete((ignored, throwable) -> {
+                        if (cancelled) {
+                            fetching = false;
+                        } else if (throwable != null) {
+                            onFetchError(throwable);
+                        } else {
+                            fetching = false;
+                            drain();
+                        }
+                    });
+        }
+
+        private void onFetchError(Throwable throwable) {
+            error = (throwable instanceof CompletionException || throwable instanceof ExecutionException) && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+            fetching = false;
+            drain();
+        }
+
+        /**
+         * Serialized emission loop, only one thread at a time signals the subscriber
+         */
+        private void drain() {
+            if (workInProgress.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                emit();
+                missed = workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (!terminated && !cancelled) {
+                if (pendingMapping != null) {
+                    if (!pendingMapping.isDone()) {
+                        return;
+                    }
+                    final CompletableFuture<T> mapped = pendingMapping;
+                    pendingMapping = null;
+                    final T next;
+                    try {
+                        next = mapped.join();
+                    } catch (CompletionException exception) {
+                        terminated = true;
+                        cancelled = true;
+                        subscriber.onError(exception.getCause() != null ? exception.getCause() : exception);
+                        return;
+                    }
+                    subscriber.onNext(next);
+                    continue;
+                }
+                if (error != null) {
+                    terminated = true;
+                    subscriber.onError(error);
+                    return;
+                }
+                final ResultSet rs = resultSet;
+                if (rs == null || fetching) {
+                    return;
+                }
+                if (rs.getAvailableWithoutFetching() == 0) {
+                    if (rs.isFullyFetched()) {
+                        terminated = true;
+                        subscriber.onComplete();
+                    } else if (demand.get() > 0) {
+                        fetchNextPage(rs);
+                    }
+                    return;
+                }
+                if (demand.get() == 0) {
+                    return;
+                }
+
+                final CompletableFuture<T> mapped;
+                try {
+                    mapped = rowMapper.apply(statementWrapper, rs.one());
+                } catch (Throwable throwable) {
+                    terminated = true;
+                    cancelled = true;
+                    subscriber.onError(throwable);
+                    return;
+                }
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                pendingMapping = mapped;
+                if (!mapped.isDone()) {
+                    mapped.whenComplete((value, throwable) -> drain());
+                    return;
+                }
+            }
+        }
+    }
+}
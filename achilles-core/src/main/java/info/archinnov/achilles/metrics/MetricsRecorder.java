@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.metrics;
+
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener.LWTResult.LWTOperation;
+
+/**
+ * Interface to be implemented to collect <strong>Achilles</strong> runtime metrics,
+ * for example to bridge them to Micrometer or Dropwizard Metrics.
+ * <br/>
+ * <br/>
+ * All durations are expressed in nanoseconds. The methods are called on the request path,
+ * sometimes from the driver I/O threads, so implementations should never block.
+ * All methods are no-op by default so that you only override the ones you are interested in.
+ * <br/>
+ * <br/>
+ * When {@link #isEnabled()} returns <strong>false</strong>, <strong>Achilles</strong> does not
+ * even read the clock, which is the behavior of the default {@link #NO_OP} recorder
+ */
+public interface MetricsRecorder {
+
+    MetricsRecorder NO_OP = new MetricsRecorder() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * @return whether metrics should be recorded at all
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Record the round-trip time of a statement, from its submission to the driver
+     * until its result set is available
+     */
+    default void recordExecution(Class<?> entityClass, OperationType operationType, long durationNanos, boolean success) {
+    }
+
+    /**
+     * Record the time spent to create an entity instance from a Cassandra row
+     */
+    default void recordEntityMapping(Class<?> entityClass, long durationNanos) {
+    }
+
+    /**
+     * Record the time spent to extract and encode the bound values of an entity instance
+     */
+    default void recordValuesExtraction(Class<?> entityClass, long durationNanos) {
+    }
+
+    /**
+     * Record the time spent in the interceptors of an entity for the given event
+     */
+    default void recordInterceptors(Class<?> entityClass, Event event, long durationNanos) {
+    }
+
+    /**
+     * Record the outcome of a lightweight transaction
+     */
+    default void recordLWTResult(Class<?> entityClass, LWTOperation lwtOperation, boolean applied) {
+    }
+
+    default void recordCacheHit(CacheType cacheType) {
+    }
+
+    default void recordCacheMiss(CacheType cacheType) {
+    }
+
+    default void recordCacheEviction(CacheType cacheType) {
+    }
+
+    /**
+     * Types of the statements executed by <strong>Achilles</strong>
+     */
+    enum OperationType {
+        INSERT,
+        UPDATE,
+        DELETE,
+        SELECT,
+        /**
+         * Batches and statements which are neither inserts, updates, deletes nor selects
+         */
+        OTHER
+    }
+
+    /**
+     * Caches managed by <strong>Achilles</strong>
+     */
+    enum CacheType {
+        /**
+         * Statements prepared at bootstrap for each entity, e.g. insert, find or delete by id
+         */
+        STATIC,
+        /**
+         * Statements prepared at runtime, cached by query string
+         */
+        DYNAMIC,
+        /**
+         * Statements generated by the DSL, cached by query shape
+         */
+        SHAPE,
+        /**
+         * Static statements prepared for the keyspace and table resolved by a schema name provider
+         */
+        TENANT,
+        /**
+         * Rows loaded by find by id, for entities having a near cache
+         */
+        NEAR
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.datastax.driver.core;
+
+public class TokenRangeBuilder {
+
+    private static final Token.Factory MURMUR3 = Token.getFactory("org.apache.cassandra.dht.Murmur3Partitioner");
+
+    /**
+     * Build the token range ]start, end] of a Murmur3 ring
+     */
+    public static TokenRange murmur3(long start, long end) {
+        return new TokenRange(MURMUR3.fromString(Long.toString(start)), MURMUR3.fromString(Long.toString(end)), MURMUR3);
+    }
+}
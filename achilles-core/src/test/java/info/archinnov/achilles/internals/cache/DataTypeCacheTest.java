@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.DataType;
+
+public class DataTypeCacheTest {
+
+    private final DataTypeCache<DataType> cache = new DataTypeCache<>();
+
+    @Test
+    public void should_return_type_cached_for_same_generation() throws Exception {
+        //Given
+        final DataType type = DataType.text();
+
+        //When
+        final DataType cached = cache.put("ks", true, 0L, type);
+
+        //Then
+        assertThat(cached).isSameAs(type);
+        assertThat(cache.get("ks", true, 0L)).isSameAs(type);
+        assertThat(cache.get("ks", false, 0L)).isNull();
+        assertThat(cache.put("ks", true, 0L, DataType.varchar())).isSameAs(type);
+    }
+
+    @Test
+    public void should_drop_types_on_newer_generation() throws Exception {
+        //Given
+        cache.put("ks", true, 0L, DataType.text());
+
+        //When
+        final DataType cached = cache.get("ks", true, 1L);
+
+        //Then
+        assertThat(cached).isNull();
+        assertThat(cache.get("ks", true, 0L)).isNull();
+    }
+
+    @Test
+    public void should_not_move_generation_backwards() throws Exception {
+        //Given
+        final DataType type = DataType.text();
+        cache.put("ks", true, 2L, type);
+
+        //When
+        final DataType cachedForOlderGeneration = cache.get("ks", true, 1L);
+        final DataType putForOlderGeneration = cache.put("ks", false, 1L, DataType.varchar());
+
+        //Then
+        assertThat(cachedForOlderGeneration).isNull();
+        assertThat(putForOlderGeneration).isEqualTo(DataType.varchar());
+        assertThat(cache.get("ks", true, 2L)).isSameAs(type);
+        assertThat(cache.get("ks", false, 2L)).isNull();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.metrics.MetricsRecorder;
+import info.archinnov.achilles.type.NearCacheOptions;
+
+public class NearCacheTest {
+
+    private final NearCache nearCache = new NearCache(String.class, 1, NearCacheOptions.builder().build(),
+            mock(MetricsRecorder.class));
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void should_invalidate_only_the_rows_of_the_partition() throws Exception {
+        //Given
+        load(Arrays.<Object>asList(1L, "a"));
+        load(Arrays.<Object>asList(1L, "b"));
+        load(Arrays.<Object>asList(2L, "a"));
+
+        //When
+        nearCache.invalidatePartition(Arrays.<Object>asList(1L));
+
+        //Then
+        assertThat(nearCache.getStats().getSize()).isEqualTo(1L);
+        load(Arrays.<Object>asList(2L, "a"));
+        assertThat(loads.get()).isEqualTo(3);
+        load(Arrays.<Object>asList(1L, "a"));
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void should_not_cache_row_of_the_partition_loaded_during_invalidation() throws Exception {
+        //Given
+        final CompletableFuture<Row> pendingLoad = new CompletableFuture<>();
+        final CompletableFuture<Row> future = nearCache.get(Arrays.<Object>asList(1L, "a"), () -> pendingLoad);
+
+        //When
+        nearCache.invalidatePartition(Arrays.<Object>asList(1L));
+        pendingLoad.complete(mock(Row.class));
+
+        //Then
+        assertThat(future.get()).isNotNull();
+        assertThat(nearCache.getStats().getSize()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_invalidate_partition_of_row_reloaded_after_single_row_invalidation() throws Exception {
+        //Given
+        load(Arrays.<Object>asList(1L, "a"));
+        nearCache.invalidate(Arrays.<Object>asList(1L, "a"));
+        load(Arrays.<Object>asList(1L, "a"));
+
+        //When
+        nearCache.invalidatePartition(Arrays.<Object>asList(1L));
+
+        //Then
+        assertThat(nearCache.getStats().getSize()).isEqualTo(0L);
+        load(Arrays.<Object>asList(1L, "a"));
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    private void load(List<Object> primaryKey) throws Exception {
+        nearCache.get(primaryKey, () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(mock(Row.class));
+        }).get();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.Futures;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PreparedStatementsWarmUpTest {
+
+    @Mock
+    private Session session;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void should_cap_the_number_of_tracked_query_strings() throws Exception {
+        //Given
+        final PreparedStatementsWarmUp warmUp = new PreparedStatementsWarmUp(Files.createTempFile("warm-up", ".json"), 2, 3);
+
+        //When
+        for (int i = 0; i < 100; i++) {
+            warmUp.recordUsage("SELECT * FROM table" + i);
+        }
+        warmUp.recordUsage("SELECT * FROM table99");
+
+        //Then
+        assertThat(warmUp.hottestQueries()).hasSize(2);
+        assertThat(warmUp.hottestQueries().get(0)).isEqualTo("SELECT * FROM table99");
+    }
+
+    @Test
+    public void should_forget_query_string() throws Exception {
+        //Given
+        final PreparedStatementsWarmUp warmUp = new PreparedStatementsWarmUp(Files.createTempFile("warm-up", ".json"), 10, 10);
+        warmUp.recordUsage("SELECT * FROM table1");
+        warmUp.recordUsage("SELECT * FROM table2");
+
+        //When
+        warmUp.forget("SELECT * FROM table1");
+
+        //Then
+        assertThat(warmUp.hottestQueries()).containsExactly("SELECT * FROM table2");
+    }
+
+    @Test
+    public void should_warm_up_and_skip_failed_query_strings() throws Exception {
+        //Given
+        final Path manifestFile = Files.createTempFile("warm-up", ".json");
+        final PreparedStatementsWarmUp previousWarmUp = new PreparedStatementsWarmUp(manifestFile, 10, 10);
+        previousWarmUp.recordUsage("SELECT * FROM table1");
+        previousWarmUp.recordUsage("SELECT * FROM invalid");
+        previousWarmUp.recordUsage("SELECT * FROM table2");
+        previousWarmUp.save();
+
+        final PreparedStatement ps1 = mock(PreparedStatement.class);
+        final PreparedStatement ps2 = mock(PreparedStatement.class);
+        when(session.prepareAsync("SELECT * FROM table1")).thenReturn(Futures.immediateFuture(ps1));
+        when(session.prepareAsync("SELECT * FROM invalid")).thenReturn(Futures.immediateFailedFuture(new RuntimeException("unconfigured table")));
+        when(session.prepareAsync("SELECT * FROM table2")).thenReturn(Futures.immediateFuture(ps2));
+
+        final StatementsCache cache = new StatementsCache(10);
+        final PreparedStatementsWarmUp warmUp = new PreparedStatementsWarmUp(manifestFile, 10, 10);
+
+        //When
+        warmUp.warmUp(session, cache, executor, 1).get(5, TimeUnit.SECONDS);
+
+        //Then
+        assertThat(cache.getDynamicCache("SELECT * FROM table1", session)).isSameAs(ps1);
+        assertThat(cache.getDynamicCache("SELECT * FROM table2", session)).isSameAs(ps2);
+    }
+}
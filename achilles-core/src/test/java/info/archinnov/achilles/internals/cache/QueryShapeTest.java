@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class QueryShapeTest {
+
+    @Test
+    public void should_be_equal_for_same_token_sequence() throws Exception {
+        //Given
+        final QueryShape shape1 = new QueryShape(String.class);
+        shape1.from(1, "ks", "table");
+        shape1.append(3);
+        shape1.variant(QueryShape.ALLOW_FILTERING);
+
+        final QueryShape shape2 = new QueryShape(String.class);
+        shape2.from(1, "ks", "table");
+        shape2.append(3);
+        shape2.variant(QueryShape.ALLOW_FILTERING);
+
+        //When
+        final QueryShape snapshot = shape1.snapshot();
+
+        //Then
+        assertThat(shape1).isEqualTo(shape2);
+        assertThat(shape1.hashCode()).isEqualTo(shape2.hashCode());
+        assertThat(snapshot).isEqualTo(shape2);
+        assertThat(snapshot.hashCode()).isEqualTo(shape2.hashCode());
+    }
+
+    @Test
+    public void should_keep_snapshot_immutable() throws Exception {
+        //Given
+        final QueryShape shape = new QueryShape(String.class);
+        shape.from(1, "ks", "table");
+        final QueryShape snapshot = shape.snapshot();
+
+        //When
+        shape.append(2);
+
+        //Then
+        assertThat(snapshot).isNotEqualTo(shape);
+        assertThat(snapshot.toString()).contains("tokens=[1]");
+    }
+
+    @Test
+    public void should_not_be_equal_for_different_shapes() throws Exception {
+        //Given
+        final QueryShape reference = shape(String.class, "ks", "table", QueryShape.NO_VARIANT, 1, 2);
+
+        //Then
+        assertThat(shape(Integer.class, "ks", "table", QueryShape.NO_VARIANT, 1, 2)).isNotEqualTo(reference);
+        assertThat(shape(String.class, "other_ks", "table", QueryShape.NO_VARIANT, 1, 2)).isNotEqualTo(reference);
+        assertThat(shape(String.class, "ks", "other_table", QueryShape.NO_VARIANT, 1, 2)).isNotEqualTo(reference);
+        assertThat(shape(String.class, "ks", "table", QueryShape.ALLOW_FILTERING, 1, 2)).isNotEqualTo(reference);
+        assertThat(shape(String.class, "ks", "table", QueryShape.NO_VARIANT, 2, 1)).isNotEqualTo(reference);
+        assertThat(shape(String.class, "ks", "table", QueryShape.NO_VARIANT, 1, 2, 3)).isNotEqualTo(reference);
+    }
+
+    @Test
+    public void should_take_dynamic_flag_into_account_for_equality_and_hash_code() throws Exception {
+        //Given
+        final QueryShape staticShape = shape(String.class, "ks", "table", QueryShape.NO_VARIANT, 1, 2);
+        final QueryShape dynamicShape = shape(String.class, "ks", "table", QueryShape.NO_VARIANT, 1, 2);
+
+        //When
+        dynamicShape.markDynamic();
+
+        //Then
+        assertThat(dynamicShape.isDynamic()).isTrue();
+        assertThat(dynamicShape).isNotEqualTo(staticShape);
+        assertThat(dynamicShape.hashCode()).isNotEqualTo(staticShape.hashCode());
+    }
+
+    @Test
+    public void should_not_collide_as_cache_keys_for_different_dsl_shapes() throws Exception {
+        //Given
+        final Map<QueryShape, String> cache = new HashMap<>();
+        cache.put(shape(String.class, "ks", "table", QueryShape.NO_VARIANT, 1, 5).snapshot(), "SELECT ... WHERE id=?");
+        cache.put(shape(String.class, "ks", "table", QueryShape.NO_VARIANT, 1, 5, 7).snapshot(), "SELECT ... WHERE id=? AND date=?");
+        cache.put(shape(String.class, "ks", "table", QueryShape.NO_VARIANT, 2, 5).snapshot(), "SELECT * ... WHERE id=?");
+        cache.put(shape(String.class, "ks", "table", QueryShape.ALLOW_FILTERING, 1, 5).snapshot(), "SELECT ... WHERE id=? ALLOW FILTERING");
+
+        //When
+        final QueryShape lookup = shape(String.class, "ks", "table", QueryShape.NO_VARIANT, 1, 5, 7);
+
+        //Then
+        assertThat(cache).hasSize(4);
+        assertThat(cache.get(lookup)).isEqualTo("SELECT ... WHERE id=? AND date=?");
+    }
+
+    @Test
+    public void should_grow_token_array() throws Exception {
+        //Given
+        final QueryShape shape = new QueryShape(String.class);
+        final QueryShape expected = new QueryShape(String.class);
+
+        //When
+        for (int i = 1; i <= 20; i++) {
+            shape.append(i);
+            expected.append(i);
+        }
+
+        //Then
+        assertThat(shape).isEqualTo(expected);
+        assertThat(shape.snapshot()).isEqualTo(expected);
+    }
+
+    private QueryShape shape(Class<?> dslClass, String keyspace, String table, int variant, int... tokens) {
+        final QueryShape shape = new QueryShape(dslClass);
+        shape.from(tokens[0], keyspace, table);
+        for (int i = 1; i < tokens.length; i++) {
+            shape.append(tokens[i]);
+        }
+        shape.variant(variant);
+        return shape;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.exceptions.InvalidQueryException;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StatementsCacheTest {
+
+    private static final String QUERY = "SELECT value FROM ks.simple WHERE id=:id AND date=:date";
+    private static final String INVALID_QUERY = "SELECT * FROM ks.non_existing_table";
+
+    @Mock
+    private Session session;
+
+    private final StatementsCache cache = new StatementsCache(100);
+
+    @Test
+    public void should_coalesce_concurrent_async_dynamic_prepares() throws Exception {
+        //Given
+        final PreparedStatement ps = mock(PreparedStatement.class);
+        final SettableFuture<PreparedStatement> inFlight = SettableFuture.create();
+        when(session.prepareAsync(QUERY)).thenReturn(inFlight);
+
+        //When
+        final CompletableFuture<PreparedStatement> first = cache.getDynamicCacheAsync(QUERY, session);
+        final CompletableFuture<PreparedStatement> second = cache.getDynamicCacheAsync(QUERY, session);
+        inFlight.set(ps);
+
+        //Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.get(1, TimeUnit.SECONDS)).isSameAs(ps);
+        assertThat(cache.getDynamicCache(QUERY, session)).isSameAs(ps);
+        verify(session, times(1)).prepareAsync(QUERY);
+    }
+
+    @Test
+    public void should_evict_failed_async_dynamic_prepare() throws Exception {
+        //Given
+        final SettableFuture<PreparedStatement> inFlight = SettableFuture.create();
+        when(session.prepareAsync(INVALID_QUERY))
+                .thenReturn(inFlight)
+                .thenReturn(SettableFuture.create());
+
+        //When
+        final CompletableFuture<PreparedStatement> failed = cache.getDynamicCacheAsync(INVALID_QUERY, session);
+        inFlight.setException(new InvalidQueryException("unconfigured table non_existing_table"));
+
+        //Then
+        try {
+            failed.get(1, TimeUnit.SECONDS);
+            fail("The prepare of an invalid query should fail");
+        } catch (ExecutionException ex) {
+            assertThat(ex.getCause()).isInstanceOf(InvalidQueryException.class);
+        }
+        assertThat(cache.getDynamicCacheAsync(INVALID_QUERY, session)).isNotSameAs(failed);
+        verify(session, times(2)).prepareAsync(INVALID_QUERY);
+    }
+
+    @Test
+    public void should_evict_dynamic_prepare_failed_before_being_cached() throws Exception {
+        //Given
+        when(session.prepareAsync(INVALID_QUERY))
+                .thenReturn(Futures.immediateFailedFuture(new InvalidQueryException("unconfigured table non_existing_table")));
+
+        //When
+        final CompletableFuture<PreparedStatement> failed = cache.getDynamicCacheAsync(INVALID_QUERY, session);
+        final CompletableFuture<PreparedStatement> retried = cache.getDynamicCacheAsync(INVALID_QUERY, session);
+
+        //Then
+        assertThat(failed.isCompletedExceptionally()).isTrue();
+        assertThat(retried).isNotSameAs(failed);
+        verify(session, times(2)).prepareAsync(INVALID_QUERY);
+    }
+
+    @Test
+    public void should_rethrow_driver_exception_on_blocking_dynamic_prepare() throws Exception {
+        //Given
+        when(session.prepareAsync(INVALID_QUERY))
+                .thenReturn(Futures.immediateFailedFuture(new InvalidQueryException("unconfigured table non_existing_table")));
+
+        //When
+        try {
+            cache.getDynamicCache(INVALID_QUERY, session);
+            fail("The prepare of an invalid query should fail");
+        } catch (InvalidQueryException ex) {
+            //Then
+            assertThat(ex.getMessage()).isEqualTo("unconfigured table non_existing_table");
+        }
+    }
+
+    @Test
+    public void should_return_tenant_statement_when_prefetch_of_other_statement_fails() throws Exception {
+        //Given
+        final PreparedStatement ps = mock(PreparedStatement.class);
+        final CacheKey findKey = new CacheKey(String.class, CacheKey.Operation.FIND);
+        final CacheKey deleteKey = new CacheKey(String.class, CacheKey.Operation.DELETE);
+        final CacheKey insertKey = new CacheKey(String.class, CacheKey.Operation.INSERT);
+        cache.putStaticCache(findKey, mock(PreparedStatement.class));
+        cache.putStaticCache(deleteKey, mock(PreparedStatement.class));
+        cache.putStaticCache(insertKey, mock(PreparedStatement.class));
+        when(session.prepareAsync("find")).thenReturn(Futures.immediateFuture(ps));
+        when(session.prepareAsync("insert")).thenReturn(Futures.immediateFuture(mock(PreparedStatement.class)));
+        final Function<CacheKey.Operation, String> queryGenerator = operation -> {
+            if (operation == CacheKey.Operation.DELETE) {
+                throw new IllegalStateException("cannot generate delete");
+            }
+            return operation.name().toLowerCase();
+        };
+
+        //When
+        final PreparedStatement found = cache.getTenantCache(new TenantCacheKey(findKey, "tenant_ks", "simple"), queryGenerator, session);
+
+        //Then
+        assertThat(found).isSameAs(ps);
+        assertThat(cache.getTenantCacheSize()).isEqualTo(2L);
+        verify(session).prepareAsync("insert");
+    }
+
+    @Test
+    public void should_bound_tenant_cache_with_its_own_size() throws Exception {
+        //Given
+        final StatementsCache smallTenantCache = new StatementsCache(100, 1);
+        final CacheKey findKey = new CacheKey(String.class, CacheKey.Operation.FIND);
+        when(session.prepareAsync("find")).thenReturn(Futures.immediateFuture(mock(PreparedStatement.class)));
+        final Function<CacheKey.Operation, String> queryGenerator = operation -> operation.name().toLowerCase();
+
+        //When
+        smallTenantCache.getTenantCache(new TenantCacheKey(findKey, "tenant1_ks", "simple"), queryGenerator, session);
+        smallTenantCache.getTenantCache(new TenantCacheKey(findKey, "tenant2_ks", "simple"), queryGenerator, session);
+
+        //Then
+        assertThat(smallTenantCache.getTenantCacheSize()).isEqualTo(1L);
+        assertThat(smallTenantCache.getTenantEvictionCounts()).containsEntry("tenant1_ks", 1L);
+    }
+
+    @Test
+    public void should_only_forget_warm_up_usage_of_evicted_dynamic_statements() throws Exception {
+        //Given
+        final StatementsCache smallCache = new StatementsCache(1);
+        final PreparedStatementsWarmUp warmUp = new PreparedStatementsWarmUp(Files.createTempFile("warm-up", ".json"), 10, 10);
+        smallCache.enableWarmUp(warmUp);
+        when(session.prepareAsync(QUERY)).thenReturn(Futures.immediateFuture(mock(PreparedStatement.class)));
+        when(session.prepareAsync(INVALID_QUERY))
+                .thenReturn(Futures.immediateFailedFuture(new InvalidQueryException("unconfigured table non_existing_table")));
+
+        //When
+        smallCache.getDynamicCacheAsync(QUERY, session);
+        smallCache.getDynamicCacheAsync(INVALID_QUERY, session);
+
+        //Then
+        assertThat(warmUp.hottestQueries()).containsExactly(INVALID_QUERY);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.cache;
+
+import static info.archinnov.achilles.internals.cache.CacheKey.Operation.DELETE;
+import static info.archinnov.achilles.internals.cache.CacheKey.Operation.FIND;
+import static info.archinnov.achilles.internals.cache.CacheKey.Operation.INSERT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+
+import info.archinnov.achilles.exception.AchillesException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StaticStatementsPreparerTest {
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private RegularStatement findStatement;
+
+    @Mock
+    private RegularStatement insertStatement;
+
+    @Mock
+    private RegularStatement deleteStatement;
+
+    private final StatementsCache cache = new StatementsCache(10);
+
+    @Test
+    public void should_prepare_all_registered_statements() throws Exception {
+        //Given
+        final PreparedStatement findPs = mock(PreparedStatement.class);
+        final PreparedStatement insertPs = mock(PreparedStatement.class);
+        when(session.prepareAsync(findStatement)).thenReturn(Futures.immediateFuture(findPs));
+        when(session.prepareAsync(insertStatement)).thenReturn(Futures.immediateFuture(insertPs));
+
+        final StaticStatementsPreparer preparer = new StaticStatementsPreparer(session, cache, 2);
+        preparer.register(new CacheKey(String.class, FIND), findStatement);
+        preparer.register(new CacheKey(String.class, INSERT), insertStatement);
+
+        //When
+        final int preparedCount = preparer.prepareAll();
+
+        //Then
+        assertThat(preparedCount).isEqualTo(2);
+        assertThat(cache.getStaticCache(new CacheKey(String.class, FIND))).isSameAs(findPs);
+        assertThat(cache.getStaticCache(new CacheKey(String.class, INSERT))).isSameAs(insertPs);
+    }
+
+    @Test
+    public void should_skip_keys_already_in_static_cache() throws Exception {
+        //Given
+        final PreparedStatement existingPs = mock(PreparedStatement.class);
+        cache.putStaticCache(new CacheKey(String.class, FIND), existingPs);
+
+        final StaticStatementsPreparer preparer = new StaticStatementsPreparer(session, cache, 2);
+        preparer.register(new CacheKey(String.class, FIND), findStatement);
+
+        //When
+        final int preparedCount = preparer.prepareAll();
+
+        //Then
+        assertThat(preparedCount).isEqualTo(0);
+        assertThat(cache.getStaticCache(new CacheKey(String.class, FIND))).isSameAs(existingPs);
+        verify(session, never()).prepareAsync(any(RegularStatement.class));
+    }
+
+    @Test
+    public void should_skip_duplicated_registrations() throws Exception {
+        //Given
+        final PreparedStatement findPs = mock(PreparedStatement.class);
+        when(session.prepareAsync(findStatement)).thenReturn(Futures.immediateFuture(findPs));
+
+        final StaticStatementsPreparer preparer = new StaticStatementsPreparer(session, cache, 2);
+        preparer.register(new CacheKey(String.class, FIND), findStatement);
+        preparer.register(new CacheKey(String.class, FIND), insertStatement);
+
+        //When
+        final int preparedCount = preparer.prepareAll();
+
+        //Then
+        assertThat(preparedCount).isEqualTo(1);
+        assertThat(cache.getStaticCache(new CacheKey(String.class, FIND))).isSameAs(findPs);
+        verify(session, never()).prepareAsync(insertStatement);
+    }
+
+    @Test
+    public void should_report_all_failures_in_one_exception() throws Exception {
+        //Given
+        when(findStatement.getQueryString()).thenReturn("SELECT * FROM table");
+        when(session.prepareAsync(findStatement)).thenReturn(Futures.immediateFailedFuture(new RuntimeException("boom")));
+
+        final StaticStatementsPreparer preparer = new StaticStatementsPreparer(session, cache, 2);
+        preparer.register(new CacheKey(String.class, FIND), findStatement);
+
+        //When
+        AchillesException exception = null;
+        try {
+            preparer.prepareAll();
+        } catch (AchillesException ex) {
+            exception = ex;
+        }
+
+        //Then
+        assertThat(exception).isNotNull();
+        assertThat(exception.getMessage()).contains("1 static statement(s) failed to be prepared at bootstrap");
+        assertThat(exception.getMessage()).contains("SELECT * FROM table");
+        assertThat(exception.getSuppressed()).hasSize(1);
+        assertThat(cache.hasStaticCache(new CacheKey(String.class, FIND))).isFalse();
+    }
+
+    @Test
+    public void should_cap_the_number_of_requests_in_flight() throws Exception {
+        //Given
+        final List<SettableFuture<PreparedStatement>> inFlight = new CopyOnWriteArrayList<>();
+        when(session.prepareAsync(any(RegularStatement.class))).thenAnswer(invocation -> {
+            final SettableFuture<PreparedStatement> future = SettableFuture.create();
+            inFlight.add(future);
+            return future;
+        });
+
+        final StaticStatementsPreparer preparer = new StaticStatementsPreparer(session, cache, 2);
+        preparer.register(new CacheKey(String.class, FIND), findStatement);
+        preparer.register(new CacheKey(String.class, INSERT), insertStatement);
+        preparer.register(new CacheKey(String.class, DELETE), deleteStatement);
+
+        //When
+        final CompletableFuture<Integer> preparedCount = CompletableFuture.supplyAsync(preparer::prepareAll);
+
+        //Then
+        verify(session, timeout(1000).times(2)).prepareAsync(any(RegularStatement.class));
+        Thread.sleep(100);
+        verify(session, times(2)).prepareAsync(any(RegularStatement.class));
+
+        inFlight.get(0).set(mock(PreparedStatement.class));
+        verify(session, timeout(1000).times(3)).prepareAsync(any(RegularStatement.class));
+
+        inFlight.get(1).set(mock(PreparedStatement.class));
+        inFlight.get(2).set(mock(PreparedStatement.class));
+        assertThat(preparedCount.get(1, TimeUnit.SECONDS)).isEqualTo(3);
+    }
+}
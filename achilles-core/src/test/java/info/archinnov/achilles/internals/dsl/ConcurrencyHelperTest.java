@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.dsl;
+
+import static info.archinnov.achilles.internals.dsl.ConcurrencyHelper.executeWithBoundedConcurrency;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class ConcurrencyHelperTest {
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void should_not_grow_the_stack_with_already_completed_futures() throws Exception {
+        //Given
+        final List<Integer> inputs = range(20_000);
+
+        //When
+        final List<Integer> results = executeWithBoundedConcurrency(inputs, 1,
+                input -> CompletableFuture.completedFuture(input * 2))
+                .get(10, TimeUnit.SECONDS);
+
+        //Then
+        assertThat(results).hasSize(20_000);
+        assertThat(results.get(0)).isEqualTo(0);
+        assertThat(results.get(19_999)).isEqualTo(39_998);
+    }
+
+    @Test
+    public void should_keep_results_order_with_pending_futures() throws Exception {
+        //Given
+        final List<Integer> inputs = range(5_000);
+        final List<CompletableFuture<Integer>> pending = new ArrayList<>();
+
+        //When
+        final CompletableFuture<List<Integer>> future = executeWithBoundedConcurrency(inputs, 4, input -> {
+            if (input % 2 == 0) {
+                return CompletableFuture.completedFuture(input);
+            }
+            final CompletableFuture<Integer> inFlight = new CompletableFuture<>();
+            pending.add(inFlight);
+            return inFlight.thenApply(x -> input);
+        });
+        while (!future.isDone()) {
+            final List<CompletableFuture<Integer>> toComplete = new ArrayList<>(pending);
+            pending.clear();
+            toComplete.forEach(inFlight -> inFlight.complete(0));
+        }
+
+        //Then
+        assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo(inputs);
+    }
+
+    @Test
+    public void should_stop_on_first_already_failed_future() throws Exception {
+        //Given
+        final List<Integer> inputs = range(5_000);
+        final AtomicInteger calls = new AtomicInteger();
+        final IllegalStateException error = new IllegalStateException("failed");
+
+        //When
+        final CompletableFuture<List<Integer>> future = executeWithBoundedConcurrency(inputs, 1, input -> {
+            calls.incrementAndGet();
+            if (input == 10) {
+                final CompletableFuture<Integer> failure = new CompletableFuture<>();
+                failure.completeExceptionally(error);
+                return failure;
+            }
+            return CompletableFuture.completedFuture(input);
+        });
+
+        //Then
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Expected ExecutionException");
+        } catch (ExecutionException exception) {
+            assertThat(exception.getCause()).isSameAs(error);
+        }
+        assertThat(calls.get()).isEqualTo(11);
+    }
+
+    @Test
+    public void should_stop_when_action_throws() throws Exception {
+        //Given
+        final List<Integer> inputs = range(100);
+        final AtomicInteger calls = new AtomicInteger();
+
+        //When
+        final CompletableFuture<List<Integer>> future = executeWithBoundedConcurrency(inputs, 1, input -> {
+            calls.incrementAndGet();
+            if (input == 3) {
+                throw new IllegalArgumentException("invalid input");
+            }
+            return CompletableFuture.completedFuture(input);
+        });
+
+        //Then
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Expected ExecutionException");
+        } catch (ExecutionException exception) {
+            assertThat(exception.getCause()).isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(calls.get()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.dsl.raw;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.SimpleStatement;
+
+import info.archinnov.achilles.internals.dsl.raw.ValidatedQueryRegistry.ValidatedQuery;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+
+public class ValidatedQueryRegistryTest {
+
+    private static final String SELECT_SIMPLE = "SELECT * FROM ks.simple WHERE id = :id";
+
+    private final ValidatedQueryRegistry simpleRegistry = new ValidatedQueryRegistry(meta("simple"));
+    private final ValidatedQueryRegistry otherRegistry = new ValidatedQueryRegistry(meta("other"));
+
+    @Test
+    public void should_validate_prepared_statement_once() throws Exception {
+        //Given
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.getQueryString()).thenReturn(SELECT_SIMPLE);
+
+        //When
+        final ValidatedQuery miss = simpleRegistry.forPreparedStatement(preparedStatement);
+        reset(preparedStatement);
+        final ValidatedQuery hit = simpleRegistry.forPreparedStatement(preparedStatement);
+
+        //Then
+        assertThat(hit).isSameAs(miss);
+        assertThat(miss.isSelect).isTrue();
+        assertThat(miss.matchesTableName).isTrue();
+        verify(preparedStatement, never()).getQueryString();
+    }
+
+    @Test
+    public void should_not_build_query_string_of_already_validated_regular_statement() throws Exception {
+        //Given
+        final SimpleStatement statement = spy(new SimpleStatement(SELECT_SIMPLE));
+
+        //When
+        final ValidatedQuery miss = simpleRegistry.forRegularStatement(statement);
+        reset(statement);
+        final ValidatedQuery hit = simpleRegistry.forRegularStatement(statement);
+
+        //Then
+        assertThat(hit).isSameAs(miss);
+        verify(statement, never()).getQueryString();
+    }
+
+    @Test
+    public void should_share_validation_of_regular_statements_with_same_query_string() throws Exception {
+        //When
+        final ValidatedQuery first = simpleRegistry.forRegularStatement(new SimpleStatement(SELECT_SIMPLE));
+        final ValidatedQuery second = simpleRegistry.forRegularStatement(new SimpleStatement(SELECT_SIMPLE));
+
+        //Then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void should_validate_same_query_per_entity() throws Exception {
+        //Given
+        final SimpleStatement statement = new SimpleStatement(SELECT_SIMPLE);
+
+        //When
+        final ValidatedQuery forSimple = simpleRegistry.forRegularStatement(statement);
+        final ValidatedQuery forOther = otherRegistry.forRegularStatement(statement);
+
+        //Then
+        assertThat(forSimple.matchesTableName).isTrue();
+        assertThat(forOther).isNotSameAs(forSimple);
+        assertThat(forOther.isSelect).isTrue();
+        assertThat(forOther.matchesTableName).isFalse();
+    }
+
+    @Test
+    public void should_flag_invalid_queries() throws Exception {
+        //When
+        final ValidatedQuery update = simpleRegistry.forRegularStatement(new SimpleStatement("UPDATE ks.simple SET value = 'val' WHERE id = 1"));
+        final ValidatedQuery otherTable = simpleRegistry.forRegularStatement(new SimpleStatement("SELECT * FROM ks.users WHERE id = 1"));
+
+        //Then
+        assertThat(update.isSelect).isFalse();
+        assertThat(otherTable.isSelect).isTrue();
+        assertThat(otherTable.matchesTableName).isFalse();
+        assertThat(otherTable.lowerCaseQueryString).isEqualTo("select * from ks.users where id = 1");
+    }
+
+    private static AbstractEntityProperty<?> meta(String tableName) {
+        final AbstractEntityProperty<?> meta = mock(AbstractEntityProperty.class);
+        when(meta.getTableOrViewName()).thenReturn(tableName);
+        return meta;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.dsl.scan;
+
+import static com.datastax.driver.core.TokenRangeBuilder.murmur3;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.TokenRange;
+
+import info.archinnov.achilles.exception.AchillesException;
+
+public class TokenSubRangeTest {
+
+    private final Host host1 = host(true);
+    private final Host host2 = host(true);
+    private final Host downHost = host(false);
+
+    private final Set<TokenRange> ring = set(
+            murmur3(100L, -100L),
+            murmur3(0L, 100L),
+            murmur3(-100L, 0L));
+
+    @Test
+    public void should_keep_one_sub_range_per_token_range_by_default() throws Exception {
+        //When
+        final List<TokenSubRange> subRanges = TokenSubRange.split(ring, range -> set(host1), Optional.empty(), Collections.emptySet());
+
+        //Then
+        assertThat(subRanges.stream().map(x -> x.range).collect(Collectors.toList()))
+                .containsExactly(murmur3(-100L, 0L), murmur3(0L, 100L), murmur3(100L, -100L));
+    }
+
+    @Test
+    public void should_split_each_token_range_evenly() throws Exception {
+        //When
+        final List<TokenSubRange> subRanges = TokenSubRange.split(ring, range -> set(host1), Optional.of(5), Collections.emptySet());
+
+        //Then
+        assertThat(subRanges).hasSize(6);
+        assertThat(subRanges.get(0).range).isEqualTo(murmur3(-100L, -50L));
+        assertThat(subRanges.get(1).range).isEqualTo(murmur3(-50L, 0L));
+        assertThat(subRanges.get(2).range).isEqualTo(murmur3(0L, 50L));
+        assertThat(subRanges.get(3).range).isEqualTo(murmur3(50L, 100L));
+    }
+
+    @Test
+    public void should_scan_wrapping_around_and_full_ring_sub_ranges_with_two_queries() throws Exception {
+        //Given
+        final Set<TokenRange> singleNodeRing = set(murmur3(42L, 42L));
+
+        //When
+        final List<TokenSubRange> subRanges = TokenSubRange.split(singleNodeRing, range -> set(host1), Optional.empty(), Collections.emptySet());
+        final List<TokenSubRange> ringSubRanges = TokenSubRange.split(ring, range -> set(host1), Optional.empty(), Collections.emptySet());
+
+        //Then
+        assertThat(subRanges).hasSize(1);
+        assertThat(subRanges.get(0).wrapsAround()).isTrue();
+        assertThat(ringSubRanges.stream().map(TokenSubRange::wrapsAround).collect(Collectors.toList()))
+                .containsExactly(false, false, true);
+    }
+
+    @Test
+    public void should_assign_sub_ranges_round_robin_to_live_replicas() throws Exception {
+        //When
+        final List<TokenSubRange> subRanges = TokenSubRange.split(ring, range -> set(host1, downHost, host2), Optional.empty(), Collections.emptySet());
+        final List<TokenSubRange> withoutReplica = TokenSubRange.split(ring, range -> set(downHost), Optional.empty(), Collections.emptySet());
+
+        //Then
+        assertThat(subRanges.stream().map(x -> x.replica.get()).collect(Collectors.toList()))
+                .containsExactly(host1, host2, host1);
+        assertThat(withoutReplica.stream().allMatch(x -> !x.replica.isPresent())).isTrue();
+    }
+
+    @Test
+    public void should_skip_completed_sub_ranges_on_resume() throws Exception {
+        //Given
+        final List<TokenSubRange> firstScan = TokenSubRange.split(ring, range -> set(host1, host2), Optional.of(6), Collections.emptySet());
+        final Set<String> completed = set(firstScan.get(0).id, firstScan.get(3).id);
+
+        //When
+        final List<TokenSubRange> resumed = TokenSubRange.split(ring, range -> set(host1, host2), Optional.of(6), completed);
+
+        //Then
+        assertThat(resumed.stream().map(x -> x.id).collect(Collectors.toList()))
+                .containsExactly(firstScan.get(1).id, firstScan.get(2).id, firstScan.get(4).id, firstScan.get(5).id);
+        assertThat(resumed.get(0).replica).isEqualTo(firstScan.get(1).replica);
+    }
+
+    @Test
+    public void should_fail_resume_with_another_split_count() throws Exception {
+        //Given
+        final List<TokenSubRange> firstScan = TokenSubRange.split(ring, range -> set(host1), Optional.of(6), Collections.emptySet());
+
+        //When
+        try {
+            TokenSubRange.split(ring, range -> set(host1), Optional.of(3), set(firstScan.get(0).id));
+            fail("Expected AchillesException");
+        } catch (AchillesException ex) {
+            //Then
+            assertThat(ex.getMessage()).contains("another split count or ring topology");
+        }
+    }
+
+    @Test
+    public void should_fail_resume_after_ring_topology_change() throws Exception {
+        //Given
+        final List<TokenSubRange> firstScan = TokenSubRange.split(ring, range -> set(host1), Optional.empty(), Collections.emptySet());
+        final Set<TokenRange> newRing = set(murmur3(-100L, 0L), murmur3(0L, 50L), murmur3(50L, 100L), murmur3(100L, -100L));
+
+        //When
+        try {
+            TokenSubRange.split(newRing, range -> set(host1), Optional.empty(), set(firstScan.get(0).id));
+            fail("Expected AchillesException");
+        } catch (AchillesException ex) {
+            //Then
+            assertThat(ex.getMessage()).contains("another split count or ring topology");
+        }
+    }
+
+    private static Host host(boolean up) {
+        final Host host = mock(Host.class);
+        when(host.isUp()).thenReturn(up);
+        return host;
+    }
+
+    @SafeVarargs
+    private static <T> Set<T> set(T... values) {
+        return new LinkedHashSet<>(Arrays.asList(values));
+    }
+}
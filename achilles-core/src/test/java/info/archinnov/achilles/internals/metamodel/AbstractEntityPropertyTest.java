@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.metamodel;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.Test;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.cache.NearCache;
+import info.archinnov.achilles.internals.metamodel.EntityBindingPlanTest.TestEntity;
+import info.archinnov.achilles.internals.metamodel.EntityBindingPlanTest.TestEntityProperty;
+import info.archinnov.achilles.type.interceptor.AsyncInterceptor;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.interceptor.Interceptor;
+
+public class AbstractEntityPropertyTest {
+
+    @Test
+    public void should_make_interceptors_read_only_once_indexed() throws Exception {
+        //Given
+        final TestEntityProperty meta = new TestEntityProperty();
+        final List<Interceptor<TestEntity>> interceptorsView = meta.interceptors;
+        final List<Event> triggeredEvents = new ArrayList<>();
+        meta.addInterceptor(interceptor(triggeredEvents, Event.PRE_INSERT));
+
+        //When
+        meta.indexInterceptors();
+
+        //Then
+        try {
+            meta.addInterceptor(interceptor(triggeredEvents, Event.POST_LOAD));
+            fail("The interceptors should be read-only once indexed");
+        } catch (AchillesException ex) {
+            assertThat(meta.interceptors).hasSize(1);
+        }
+        try {
+            meta.interceptors.add(interceptor(triggeredEvents, Event.POST_LOAD));
+            fail("The interceptors list should be a read-only view");
+        } catch (UnsupportedOperationException ex) {
+            assertThat(interceptorsView).isSameAs(meta.interceptors);
+        }
+        meta.triggerInterceptorsForEvent(Event.PRE_INSERT, new TestEntity("pk", "2026-10-18", "static", "val"));
+        assertThat(triggeredEvents).containsExactly(Event.PRE_INSERT);
+        assertThat(meta.hasInterceptorsForEvent(Event.POST_LOAD)).isFalse();
+    }
+
+    @Test
+    public void should_complete_once_async_interceptors_completed_for_each_instance() throws Exception {
+        //Given
+        final TestEntityProperty meta = new TestEntityProperty();
+        final List<Event> triggeredEvents = new ArrayList<>();
+        final CompletableFuture<Void> pendingInterceptor = new CompletableFuture<>();
+        meta.addInterceptor(asyncInterceptor(pendingInterceptor, Event.POST_LOAD));
+        meta.addInterceptor(interceptor(triggeredEvents, Event.POST_LOAD));
+        meta.indexInterceptors();
+        final List<TestEntity> entities = asList(new TestEntity("pk1", "2026-10-18", "static", "val"),
+                new TestEntity("pk2", "2026-10-18", "static", "val"));
+
+        //When
+        final CompletableFuture<String> future = meta.triggerInterceptorsForEachAsync(Event.POST_LOAD, entities, "loaded");
+
+        //Then
+        assertThat(future.isDone()).isFalse();
+        assertThat(triggeredEvents).isEmpty();
+        pendingInterceptor.complete(null);
+        assertThat(future.get()).isEqualTo("loaded");
+        assertThat(triggeredEvents).containsExactly(Event.POST_LOAD, Event.POST_LOAD);
+    }
+
+    @Test
+    public void should_invalidate_near_cache_partition_of_primary_key_for_entity_with_static_columns() throws Exception {
+        //Given
+        final TestEntityProperty meta = new TestEntityProperty();
+        final NearCache nearCache = mock(NearCache.class);
+        meta.nearCache = Optional.of(nearCache);
+
+        //When
+        meta.invalidateNearCache(Arrays.<Object>asList("pk", "2026-10-18"));
+        meta.invalidateNearCache(Arrays.<Object>asList("pk"));
+        meta.invalidateNearCache(Collections.emptyList());
+
+        //Then
+        verify(nearCache, times(2)).invalidatePartition(Arrays.<Object>asList("pk"));
+        verify(nearCache).invalidateAll();
+        verifyNoMoreInteractions(nearCache);
+    }
+
+    private static Interceptor<TestEntity> asyncInterceptor(CompletionStage<Void> stage, Event event) {
+        return new AsyncInterceptor<TestEntity>() {
+            @Override
+            public boolean acceptEntity(Class<?> entityClass) {
+                return true;
+            }
+
+            @Override
+            public CompletionStage<Void> onEventAsync(TestEntity entity, Event event) {
+                return stage;
+            }
+
+            @Override
+            public List<Event> interceptOnEvents() {
+                return asList(event);
+            }
+        };
+    }
+
+    private static Interceptor<TestEntity> interceptor(List<Event> triggeredEvents, Event event) {
+        return new Interceptor<TestEntity>() {
+            @Override
+            public boolean acceptEntity(Class<?> entityClass) {
+                return true;
+            }
+
+            @Override
+            public void onEvent(TestEntity entity, Event event) {
+                triggeredEvents.add(event);
+            }
+
+            @Override
+            public List<Event> interceptOnEvents() {
+                return asList(event);
+            }
+        };
+    }
+}
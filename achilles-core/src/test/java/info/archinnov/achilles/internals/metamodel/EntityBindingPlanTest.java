@@ -0,0 +1,341 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.metamodel;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.SettableData;
+import com.google.common.collect.BiMap;
+import com.google.common.collect.HashBiMap;
+import com.google.common.reflect.TypeToken;
+
+import info.archinnov.achilles.internals.codec.FallThroughCodec;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnInfo;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnType;
+import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
+import info.archinnov.achilles.internals.metamodel.index.IndexInfo;
+import info.archinnov.achilles.internals.parser.accessors.Getter;
+import info.archinnov.achilles.internals.parser.accessors.Setter;
+import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
+import info.archinnov.achilles.type.strategy.InsertStrategy;
+
+public class EntityBindingPlanTest {
+
+    private static final TypeToken<String> STRING = TypeToken.of(String.class);
+
+    private static final SimpleProperty<TestEntity, String, String> ID = property("id", ColumnType.PARTITION, e -> e.id, (e, v) -> e.id = v);
+    private static final SimpleProperty<TestEntity, String, String> DATE = property("date", ColumnType.CLUSTERING, e -> e.date, (e, v) -> e.date = v);
+    private static final SimpleProperty<TestEntity, String, String> STATIC_VALUE = property("static_value", ColumnType.STATIC, e -> e.staticValue, (e, v) -> e.staticValue = v);
+    private static final SimpleProperty<TestEntity, String, String> VALUE = property("value", ColumnType.NORMAL, e -> e.value, (e, v) -> e.value = v);
+
+    @Test
+    public void should_build_binding_plans_for_entity() throws Exception {
+        //Given
+        final TestEntityProperty meta = new TestEntityProperty();
+        final TestEntity entity = new TestEntity("pk", "2026-10-18", "static", "val");
+        final Object[] boundValues = new Object[meta.allColumnsBindingPlan.size()];
+        final Object[] encodedValues = new Object[meta.allColumnsBindingPlan.size()];
+
+        //When
+        meta.allColumnsBindingPlan.extractValues(entity, Optional.empty(), 10, boundValues, encodedValues);
+
+        //Then
+        assertThat(meta.allColumnsBindingPlan.size()).isEqualTo(5);
+        assertThat(boundValues).containsExactly("pk", "static", "2026-10-18", "val", 10);
+        assertThat(encodedValues).containsExactly("pk", "static", "2026-10-18", "val", 10);
+        assertThat(meta.partitionKeysAndStaticColumnsBindingPlan.size()).isEqualTo(3);
+        assertThat(meta.primaryKeysBindingPlan.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_extract_primary_keys_without_ttl_slot() throws Exception {
+        //Given
+        final TestEntityProperty meta = new TestEntityProperty();
+        final TestEntity entity = new TestEntity("pk", "2026-10-18", "static", "val");
+        final Object[] boundValues = new Object[2];
+        final Object[] encodedValues = new Object[2];
+
+        //When
+        meta.primaryKeysBindingPlan.extractValues(entity, Optional.empty(), 10, boundValues, encodedValues);
+
+        //Then
+        assertThat(boundValues).containsExactly("pk", "2026-10-18");
+        assertThat(encodedValues).containsExactly("pk", "2026-10-18");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_bind_only_non_null_values_and_ttl() throws Exception {
+        //Given
+        final TestEntityProperty meta = new TestEntityProperty();
+        final TestEntity entity = new TestEntity("pk", null, "static", null);
+        final Object[] boundValues = new Object[3];
+        final Object[] encodedValues = new Object[3];
+        final SettableData<?> settableData = mock(SettableData.class);
+        meta.partitionKeysAndStaticColumnsBindingPlan.extractValues(entity, Optional.empty(), 0, boundValues, encodedValues);
+
+        //When
+        meta.partitionKeysAndStaticColumnsBindingPlan.bindNonNullValues(encodedValues, settableData);
+
+        //Then
+        verify(settableData).set("id", "pk", String.class);
+        verify(settableData).set("static_value", "static", String.class);
+        verify(settableData).setInt("ttl", 0);
+        verifyNoMoreInteractions(settableData);
+    }
+
+    @Test
+    public void should_build_binding_plans_for_view() throws Exception {
+        //Given
+        final TestViewProperty meta = new TestViewProperty();
+        final TestEntity entity = new TestEntity("pk", "2026-10-18", null, "val");
+        final Object[] boundValues = new Object[meta.allColumnsBindingPlan.size()];
+        final Object[] encodedValues = new Object[meta.allColumnsBindingPlan.size()];
+
+        //When
+        meta.allColumnsBindingPlan.extractValues(entity, Optional.empty(), 0, boundValues, encodedValues);
+
+        //Then
+        assertThat(meta.staticColumns).isEmpty();
+        assertThat(meta.counterColumns).isEmpty();
+        assertThat(boundValues).containsExactly("pk", "2026-10-18", "val", 0);
+        assertThat(meta.partitionKeysAndStaticColumnsBindingPlan.size()).isEqualTo(2);
+        assertThat(meta.primaryKeysBindingPlan.size()).isEqualTo(2);
+    }
+
+    private static SimpleProperty<TestEntity, String, String> property(String name, ColumnType columnType,
+                                                                      Getter<TestEntity, String> getter,
+                                                                      Setter<TestEntity, String> setter) {
+        final FieldInfo<TestEntity, String> fieldInfo = new FieldInfo<>(getter, setter, name, name,
+                columnType, new ColumnInfo(false), IndexInfo.noIndex());
+        return new SimpleProperty<>(fieldInfo, DataType.text(), gettable -> gettable.get(name, String.class),
+                (settable, value) -> settable.set(name, value, String.class), STRING, STRING,
+                new FallThroughCodec<>(String.class));
+    }
+
+    public static class TestEntity {
+        private String id;
+        private String date;
+        private String staticValue;
+        private String value;
+
+        public TestEntity(String id, String date, String staticValue, String value) {
+            this.id = id;
+            this.date = date;
+            this.staticValue = staticValue;
+            this.value = value;
+        }
+    }
+
+    public static class TestEntityProperty extends AbstractEntityProperty<TestEntity> {
+
+        @Override
+        protected Class<TestEntity> getEntityClass() {
+            return TestEntity.class;
+        }
+
+        @Override
+        protected Optional<String> getStaticKeyspace() {
+            return Optional.of("ks");
+        }
+
+        @Override
+        protected Optional<String> getStaticTableOrViewName() {
+            return Optional.of("test_entity");
+        }
+
+        @Override
+        protected String getDerivedTableOrViewName() {
+            return "test_entity";
+        }
+
+        @Override
+        protected BiMap<String, String> fieldNameToCqlColumn() {
+            return HashBiMap.create();
+        }
+
+        @Override
+        protected boolean isCounterTable() {
+            return false;
+        }
+
+        @Override
+        protected Optional<ConsistencyLevel> getStaticReadConsistency() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<ConsistencyLevel> getStaticWriteConsistency() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<ConsistencyLevel> getStaticSerialConsistency() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<Integer> getStaticTTL() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<InsertStrategy> getStaticInsertStrategy() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<InternalNamingStrategy> getStaticNamingStrategy() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected List<AbstractProperty<TestEntity, ?, ?>> getPartitionKeys() {
+            return asList(ID);
+        }
+
+        @Override
+        protected List<AbstractProperty<TestEntity, ?, ?>> getClusteringColumns() {
+            return asList(DATE);
+        }
+
+        @Override
+        protected List<AbstractProperty<TestEntity, ?, ?>> getStaticColumns() {
+            return asList(STATIC_VALUE);
+        }
+
+        @Override
+        protected List<AbstractProperty<TestEntity, ?, ?>> getNormalColumns() {
+            return asList(VALUE);
+        }
+
+        @Override
+        protected List<AbstractProperty<TestEntity, ?, ?>> getComputedColumns() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected List<AbstractProperty<TestEntity, ?, ?>> getCounterColumns() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected List<AbstractProperty<TestEntity, ?, ?>> getConstructorInjectedColumns() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected TestEntity newInstanceFromCustomConstructor(Row row, List<String> cqlColumns) {
+            return null;
+        }
+    }
+
+    private static class TestViewProperty extends AbstractViewProperty<TestEntity> {
+
+        @Override
+        public Class<?> getBaseEntityClass() {
+            return TestEntity.class;
+        }
+
+        @Override
+        protected Class<TestEntity> getEntityClass() {
+            return TestEntity.class;
+        }
+
+        @Override
+        protected Optional<String> getStaticKeyspace() {
+            return Optional.of("ks");
+        }
+
+        @Override
+        protected Optional<String> getStaticTableOrViewName() {
+            return Optional.of("test_view");
+        }
+
+        @Override
+        protected String getDerivedTableOrViewName() {
+            return "test_view";
+        }
+
+        @Override
+        protected BiMap<String, String> fieldNameToCqlColumn() {
+            return HashBiMap.create();
+        }
+
+        @Override
+        protected Optional<ConsistencyLevel> getStaticReadConsistency() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<ConsistencyLevel> getStaticWriteConsistency() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<ConsistencyLevel> getStaticSerialConsistency() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<InternalNamingStrategy> getStaticNamingStrategy() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected List<AbstractProperty<TestEntity, ?, ?>> getPartitionKeys() {
+            return asList(ID);
+        }
+
+        @Override
+        protected List<AbstractProperty<TestEntity, ?, ?>> getClusteringColumns() {
+            return asList(DATE);
+        }
+
+        @Override
+        protected List<AbstractProperty<TestEntity, ?, ?>> getNormalColumns() {
+            return asList(VALUE);
+        }
+
+        @Override
+        protected List<AbstractProperty<TestEntity, ?, ?>> getComputedColumns() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected List<AbstractProperty<TestEntity, ?, ?>> getConstructorInjectedColumns() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected TestEntity newInstanceFromCustomConstructor(Row row, List<String> cqlColumns) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.metamodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import com.google.common.reflect.TypeToken;
+
+import info.archinnov.achilles.internals.codec.FallThroughCodec;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnInfo;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnType;
+import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
+import info.archinnov.achilles.internals.metamodel.index.IndexInfo;
+import info.archinnov.achilles.internals.parser.accessors.Setter;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EntityDecodingPlanTest {
+
+    private static final TypeToken<String> STRING = TypeToken.of(String.class);
+
+    @Mock
+    private ColumnDefinitions columnDefinitions;
+
+    @Mock
+    private Row row;
+
+    private final SimpleProperty<TestEntity, String, String> id = property("id", TestEntity::setId);
+    private final SimpleProperty<TestEntity, String, String> value = property("value", TestEntity::setValue);
+    private final SimpleProperty<TestEntity, String, String> missing = property("missing", TestEntity::setMissing);
+
+    @Test
+    public void should_decode_present_columns_by_index() throws Exception {
+        //Given
+        columns("value", "id");
+        when(row.get(0, STRING)).thenReturn("val");
+        when(row.get(1, STRING)).thenReturn("pk");
+        final EntityDecodingPlan<TestEntity> plan = EntityDecodingPlan.forPresentColumns(columnDefinitions,
+                Arrays.asList(id, value, missing));
+        final TestEntity entity = new TestEntity();
+
+        //When
+        plan.decodeFields(row, entity);
+
+        //Then
+        assertThat(plan.cqlColumns).containsExactly("value", "id");
+        assertThat(entity.id).isEqualTo("pk");
+        assertThat(entity.value).isEqualTo("val");
+        assertThat(entity.missing).isNull();
+        verify(row, never()).get(anyString(), eq(String.class));
+        verify(row, never()).isNull(anyString());
+    }
+
+    @Test
+    public void should_decode_absent_columns_by_name() throws Exception {
+        //Given
+        columns("id");
+        when(row.get(0, STRING)).thenReturn("pk");
+        when(row.get("missing", String.class)).thenReturn("by_name");
+        final EntityDecodingPlan<TestEntity> plan = EntityDecodingPlan.forAllColumns(columnDefinitions,
+                Arrays.asList(id, missing));
+        final TestEntity entity = new TestEntity();
+
+        //When
+        plan.decodeFields(row, entity);
+
+        //Then
+        assertThat(entity.id).isEqualTo("pk");
+        assertThat(entity.missing).isEqualTo("by_name");
+        verify(row).isNull(0);
+        verify(row).isNull("missing");
+    }
+
+    @Test
+    public void should_set_null_for_null_column() throws Exception {
+        //Given
+        columns("id", "value");
+        when(row.get(0, STRING)).thenReturn("pk");
+        when(row.isNull(1)).thenReturn(true);
+        final EntityDecodingPlan<TestEntity> plan = EntityDecodingPlan.forPresentColumns(columnDefinitions,
+                Arrays.asList(id, value));
+        final TestEntity entity = new TestEntity();
+        entity.value = "previous";
+
+        //When
+        plan.decodeFields(row, entity);
+
+        //Then
+        assertThat(entity.id).isEqualTo("pk");
+        assertThat(entity.value).isNull();
+        verify(row, never()).get(1, STRING);
+    }
+
+    @Test
+    public void should_map_duplicated_column_to_first_index() throws Exception {
+        //Given
+        columns("id", "id");
+        when(row.get(0, STRING)).thenReturn("first");
+        final EntityDecodingPlan<TestEntity> plan = EntityDecodingPlan.forPresentColumns(columnDefinitions,
+                Arrays.asList(id));
+        final TestEntity entity = new TestEntity();
+
+        //When
+        plan.decodeFields(row, entity);
+
+        //Then
+        assertThat(entity.id).isEqualTo("first");
+        verify(row, never()).get(1, STRING);
+    }
+
+    private void columns(String... names) {
+        final List<String> columns = Arrays.asList(names);
+        when(columnDefinitions.size()).thenReturn(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            when(columnDefinitions.getName(i)).thenReturn(columns.get(i));
+        }
+    }
+
+    private static SimpleProperty<TestEntity, String, String> property(String name, Setter<TestEntity, String> setter) {
+        final FieldInfo<TestEntity, String> fieldInfo = new FieldInfo<>(entity -> null, setter, name, name,
+                ColumnType.NORMAL, new ColumnInfo(false), IndexInfo.noIndex());
+        return new SimpleProperty<>(fieldInfo, DataType.text(), gettable -> gettable.get(name, String.class),
+                (settable, value) -> settable.set(name, value, String.class), STRING, STRING,
+                new FallThroughCodec<>(String.class));
+    }
+
+    public static class TestEntity {
+        private String id;
+        private String value;
+        private String missing;
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public void setMissing(String missing) {
+            this.missing = missing;
+        }
+    }
+}
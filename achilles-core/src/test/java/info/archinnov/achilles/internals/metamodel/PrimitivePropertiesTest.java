@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.metamodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import com.google.common.reflect.TypeToken;
+
+import info.archinnov.achilles.internals.codec.FallThroughCodec;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnInfo;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnType;
+import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
+import info.archinnov.achilles.internals.metamodel.index.IndexInfo;
+import info.archinnov.achilles.internals.parser.accessors.Setter;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PrimitivePropertiesTest {
+
+    @Mock
+    private Row row;
+
+    private final TestEntity entity = new TestEntity();
+
+    @Test
+    public void should_decode_long_by_index_with_primitive_setter() throws Exception {
+        //Given
+        final LongProperty<TestEntity> property = new LongProperty<>(fieldInfo("count", TestEntity::setBoxedCount),
+                DataType.bigint(), gettable -> gettable.getLong("count"), (settable, value) -> settable.setLong("count", value),
+                TypeToken.of(Long.class), TypeToken.of(Long.class), new FallThroughCodec<>(Long.class),
+                TestEntity::setCount);
+        when(row.getLong(2)).thenReturn(10L);
+
+        //When
+        property.decodeField(row, 2, entity);
+
+        //Then
+        assertThat(entity.count).isEqualTo(10L);
+        assertThat(entity.boxedSetterCalls).isEqualTo(0);
+        verify(row, never()).get(anyInt(), any(TypeToken.class));
+    }
+
+    @Test
+    public void should_decode_long_by_name_with_primitive_setter() throws Exception {
+        //Given
+        final LongProperty<TestEntity> property = new LongProperty<>(fieldInfo("count", TestEntity::setBoxedCount),
+                DataType.bigint(), gettable -> gettable.getLong("count"), (settable, value) -> settable.setLong("count", value),
+                TypeToken.of(Long.class), TypeToken.of(Long.class), new FallThroughCodec<>(Long.class),
+                TestEntity::setCount);
+        when(row.getLong("count")).thenReturn(11L);
+
+        //When
+        property.decodeField(row, entity);
+
+        //Then
+        assertThat(entity.count).isEqualTo(11L);
+        assertThat(entity.boxedSetterCalls).isEqualTo(0);
+        verify(row, never()).get(anyString(), any(TypeToken.class));
+    }
+
+    @Test
+    public void should_decode_int_by_index_with_primitive_setter() throws Exception {
+        //Given
+        final IntProperty<TestEntity> property = new IntProperty<>(fieldInfo("rank", TestEntity::setBoxedRank),
+                DataType.cint(), gettable -> gettable.getInt("rank"), (settable, value) -> settable.setInt("rank", value),
+                TypeToken.of(Integer.class), TypeToken.of(Integer.class), new FallThroughCodec<>(Integer.class),
+                TestEntity::setRank);
+        when(row.getInt(0)).thenReturn(3);
+
+        //When
+        property.decodeField(row, 0, entity);
+
+        //Then
+        assertThat(entity.rank).isEqualTo(3);
+        assertThat(entity.boxedSetterCalls).isEqualTo(0);
+    }
+
+    @Test
+    public void should_decode_double_by_index_with_primitive_setter() throws Exception {
+        //Given
+        final DoubleProperty<TestEntity> property = new DoubleProperty<>(fieldInfo("score", TestEntity::setBoxedScore),
+                DataType.cdouble(), gettable -> gettable.getDouble("score"), (settable, value) -> settable.setDouble("score", value),
+                TypeToken.of(Double.class), TypeToken.of(Double.class), new FallThroughCodec<>(Double.class),
+                TestEntity::setScore);
+        when(row.getDouble(1)).thenReturn(1.5d);
+
+        //When
+        property.decodeField(row, 1, entity);
+
+        //Then
+        assertThat(entity.score).isEqualTo(1.5d);
+        assertThat(entity.boxedSetterCalls).isEqualTo(0);
+    }
+
+    @Test
+    public void should_fall_back_to_boxed_setter_for_null_column() throws Exception {
+        //Given
+        final LongProperty<TestEntity> property = new LongProperty<>(fieldInfo("count", TestEntity::setBoxedCount),
+                DataType.bigint(), gettable -> gettable.getLong("count"), (settable, value) -> settable.setLong("count", value),
+                TypeToken.of(Long.class), TypeToken.of(Long.class), new FallThroughCodec<>(Long.class),
+                TestEntity::setCount);
+        when(row.isNull(2)).thenReturn(true);
+
+        //When
+        property.decodeField(row, 2, entity);
+
+        //Then
+        assertThat(entity.boxedSetterCalls).isEqualTo(1);
+        verify(row, never()).getLong(2);
+    }
+
+    private static <T> FieldInfo<TestEntity, T> fieldInfo(String name, Setter<TestEntity, T> setter) {
+        return new FieldInfo<>(entity -> null, setter, name, name, ColumnType.NORMAL, new ColumnInfo(false), IndexInfo.noIndex());
+    }
+
+    public static class TestEntity {
+        private long count;
+        private int rank;
+        private double score;
+        private int boxedSetterCalls;
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        public void setRank(int rank) {
+            this.rank = rank;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+
+        public void setBoxedCount(Long count) {
+            boxedSetterCalls++;
+        }
+
+        public void setBoxedRank(Integer rank) {
+            boxedSetterCalls++;
+        }
+
+        public void setBoxedScore(Double score) {
+            boxedSetterCalls++;
+        }
+    }
+}
@@ -90,6 +90,26 @@ public class FieldParserTest extends AbstractTestProcessor {
         launchTest();
     }
 
+    @Test
+    public void should_parse_primitive_long() throws Exception {
+        setExec(aptUtils -> {
+            final FieldParser fieldParser = new FieldParser(aptUtils);
+            final String className = TestEntityForCodecs.class.getCanonicalName();
+            final TypeElement typeElement = aptUtils.elementUtils.getTypeElement(className);
+            final EntityParsingContext entityContext = new EntityParsingContext(typeElement, ClassName.get(TestEntityForCodecs.class), strategy, globalParsingContext);
+
+            // private long primitiveLong
+            VariableElement elm = findFieldInType(typeElement, "primitiveLong");
+
+            FieldMetaSignature parsingResult = fieldParser.parse(elm, entityContext);
+
+            assertThat(parsingResult.targetType.toString()).isEqualTo("long");
+            assertThat(parsingResult.buildPropertyAsField().toString().trim().replaceAll("\n", ""))
+                    .isEqualTo(readCodeLineFromFile("expected_code/field_parser/should_parse_primitive_long.txt"));
+        });
+        launchTest();
+    }
+
     @Test
     public void should_parse_object_boolean() throws Exception {
         setExec(aptUtils -> {
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+
+import info.archinnov.achilles.exception.AchillesConcurrencyLimitException;
+
+public class ConcurrencyLimiterTest {
+
+    @Test
+    public void should_queue_requests_above_limit() throws Exception {
+        //Given
+        final ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(2, 10);
+        final CompletableFuture<String> first = new CompletableFuture<>();
+        final CompletableFuture<String> second = new CompletableFuture<>();
+        final CompletableFuture<String> third = new CompletableFuture<>();
+        final AtomicInteger started = new AtomicInteger(0);
+
+        //When
+        limiter.submit(() -> start(started, first));
+        limiter.submit(() -> start(started, second));
+        final CompletableFuture<String> queued = limiter.submit(() -> start(started, third));
+
+        //Then
+        assertThat(started.get()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getQueueDepth()).isEqualTo(1);
+
+        first.complete("first");
+        assertThat(started.get()).isEqualTo(3);
+        assertThat(limiter.getQueueDepth()).isEqualTo(0);
+        assertThat(queued.isDone()).isFalse();
+
+        third.complete("third");
+        assertThat(queued.get()).isEqualTo("third");
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_reject_request_when_queue_is_full() throws Exception {
+        //Given
+        final ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1, 0);
+        limiter.submit(CompletableFuture::new);
+
+        //When
+        final CompletableFuture<Object> rejected = limiter.submit(CompletableFuture::new);
+
+        //Then
+        try {
+            rejected.get();
+            fail("The request should be rejected");
+        } catch (ExecutionException ex) {
+            assertThat(ex.getCause()).isInstanceOf(AchillesConcurrencyLimitException.class);
+        }
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_release_permit_when_request_fails_to_start() throws Exception {
+        //Given
+        final ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1, 0);
+
+        //When
+        final CompletableFuture<Object> failed = limiter.submit(() -> {
+            throw new IllegalStateException("test");
+        });
+
+        //Then
+        assertThat(failed.isCompletedExceptionally()).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_decrease_adaptive_limit_on_overload() throws Exception {
+        //Given
+        final ConcurrencyLimiter limiter = ConcurrencyLimiter.adaptive(10, 100);
+
+        //When
+        for (int i = 0; i < 10; i++) {
+            final CompletableFuture<Object> future = new CompletableFuture<>();
+            limiter.submit(() -> future);
+            future.completeExceptionally(new NoHostAvailableException(Collections.emptyMap()));
+        }
+
+        //Then
+        assertThat(limiter.getLimit()).isEqualTo(9);
+        assertThat(limiter.getInFlight()).isEqualTo(0);
+    }
+
+    private static <T> CompletableFuture<T> start(AtomicInteger started, CompletableFuture<T> future) {
+        started.incrementAndGet();
+        return future;
+    }
+}
@@ -45,12 +45,16 @@ public class TestEntityForCodecs {
 
     private @JSON Date time;
 
+    private @JSON(streaming = true) Date streamingTime;
+
     private String value;
 
     private boolean primitiveBoolean;
 
     private Boolean objectBoolean;
 
+    private long primitiveLong;
+
     private byte primitiveByte;
 
     private Byte objectByte;
@@ -270,6 +274,14 @@ public class TestEntityForCodecs {
         this.time = time;
     }
 
+    public Date getStreamingTime() {
+        return streamingTime;
+    }
+
+    public void setStreamingTime(Date streamingTime) {
+        this.streamingTime = streamingTime;
+    }
+
     public String getValue() {
         return value;
     }
@@ -278,6 +290,14 @@ public class TestEntityForCodecs {
         this.value = value;
     }
 
+    public long getPrimitiveLong() {
+        return primitiveLong;
+    }
+
+    public void setPrimitiveLong(long primitiveLong) {
+        this.primitiveLong = primitiveLong;
+    }
+
     public byte getPrimitiveByte() {
         return primitiveByte;
     }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.statements;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.internals.metamodel.EntityBindingPlanTest.TestEntity;
+import info.archinnov.achilles.internals.metamodel.EntityBindingPlanTest.TestEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.type.CompletionMode;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.interceptor.Interceptor;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BoundStatementWrapperTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private BoundStatement boundStatement;
+
+    private final TestEntityProperty meta = new TestEntityProperty();
+
+    @Test
+    public void should_keep_direct_completion_without_user_callbacks() throws Exception {
+        //Given
+        meta.indexInterceptors();
+        final BoundStatementWrapper wrapper = new BoundStatementWrapper(OperationType.SELECT, meta, boundStatement, new Object[0]);
+        final CassandraOptions options = new CassandraOptions();
+        options.setCompletionMode(Optional.of(CompletionMode.DIRECT));
+
+        //When
+        wrapper.applyOptions(options);
+
+        //Then
+        assertThat(wrapper.getCompletionMode()).isEqualTo(Optional.of(CompletionMode.DIRECT));
+    }
+
+    @Test
+    public void should_complete_on_executor_with_async_listeners() throws Exception {
+        //Given
+        meta.indexInterceptors();
+        final BoundStatementWrapper wrapper = new BoundStatementWrapper(OperationType.SELECT, meta, boundStatement, new Object[0]);
+        final CassandraOptions options = new CassandraOptions();
+        options.setCompletionMode(Optional.of(CompletionMode.DIRECT));
+        options.setRowAsyncListeners(Optional.of(asList(Function.<Row>identity())));
+
+        //When
+        wrapper.applyOptions(options);
+
+        //Then
+        assertThat(wrapper.getCompletionMode()).isEqualTo(Optional.of(CompletionMode.EXECUTOR));
+    }
+
+    @Test
+    public void should_complete_on_executor_with_interceptors_for_post_event() throws Exception {
+        //Given
+        meta.addInterceptor(interceptor(Event.POST_LOAD));
+        meta.indexInterceptors();
+        final BoundStatementWrapper select = new BoundStatementWrapper(OperationType.SELECT, meta, boundStatement, new Object[0]);
+        final BoundStatementWrapper insert = new BoundStatementWrapper(OperationType.INSERT, meta, boundStatement, new Object[0]);
+        select.setCompletionMode(Optional.of(CompletionMode.DIRECT));
+        insert.setCompletionMode(Optional.of(CompletionMode.DIRECT));
+
+        //When
+        //Then
+        assertThat(select.getCompletionMode()).isEqualTo(Optional.of(CompletionMode.EXECUTOR));
+        assertThat(insert.getCompletionMode()).isEqualTo(Optional.of(CompletionMode.DIRECT));
+    }
+
+    @Test
+    public void should_complete_on_executor_when_requested() throws Exception {
+        //Given
+        meta.indexInterceptors();
+        final BoundStatementWrapper wrapper = new BoundStatementWrapper(OperationType.UPDATE, meta, boundStatement, new Object[0]);
+        wrapper.setCompletionMode(Optional.of(CompletionMode.DIRECT));
+
+        //When
+        wrapper.completeOnExecutor();
+
+        //Then
+        assertThat(wrapper.getCompletionMode()).isEqualTo(Optional.of(CompletionMode.EXECUTOR));
+    }
+
+    private static Interceptor<TestEntity> interceptor(Event event) {
+        return new Interceptor<TestEntity>() {
+            @Override
+            public boolean acceptEntity(Class<?> entityClass) {
+                return true;
+            }
+
+            @Override
+            public void onEvent(TestEntity entity, Event event) {
+            }
+
+            @Override
+            public List<Event> interceptOnEvents() {
+                return asList(event);
+            }
+        };
+    }
+}
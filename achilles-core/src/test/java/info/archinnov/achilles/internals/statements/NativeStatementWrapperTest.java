@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.statements;
+
+import static info.archinnov.achilles.internals.statements.QueryIdGeneratorTest.sequenceOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.Row;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+@RunWith(MockitoJUnitRunner.class)
+public class NativeStatementWrapperTest {
+
+    private static final Pattern QUERY_ID = Pattern.compile("Query ID (\\S+)");
+
+    private final Logger dmlLogger = (Logger) LoggerFactory.getLogger("ACHILLES_DML_STATEMENT");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private BoundStatement boundStatement;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Row row;
+
+    @Before
+    public void setUp() {
+        previousLevel = dmlLogger.getLevel();
+        appender.start();
+        dmlLogger.addAppender(appender);
+        when(boundStatement.preparedStatement().getQueryString()).thenReturn("SELECT * FROM ks.table");
+        when(boundStatement.getConsistencyLevel()).thenReturn(ConsistencyLevel.ONE);
+    }
+
+    @After
+    public void tearDown() {
+        dmlLogger.detachAppender(appender);
+        dmlLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    public void should_not_generate_query_id_when_dml_logging_is_disabled() throws Exception {
+        //Given
+        dmlLogger.setLevel(Level.INFO);
+        final NativeStatementWrapper wrapper = new NativeStatementWrapper(OperationType.SELECT, null, boundStatement, new Object[0]);
+        final long before = sequenceOf(QueryIdGenerator.nextId());
+
+        //When
+        wrapper.logDML();
+        wrapper.logReturnedRow(row);
+
+        //Then
+        assertThat(sequenceOf(QueryIdGenerator.nextId())).isEqualTo(before + 1);
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    public void should_generate_query_id_once_and_reuse_it_for_all_logs() throws Exception {
+        //Given
+        dmlLogger.setLevel(Level.DEBUG);
+        final NativeStatementWrapper wrapper = new NativeStatementWrapper(OperationType.SELECT, null, boundStatement, new Object[0]);
+        final long before = sequenceOf(QueryIdGenerator.nextId());
+
+        //When
+        wrapper.logDML();
+        wrapper.logReturnedRow(row);
+
+        //Then
+        assertThat(sequenceOf(QueryIdGenerator.nextId())).isEqualTo(before + 2);
+        final List<ILoggingEvent> events = appender.list;
+        assertThat(events).hasSize(2);
+        assertThat(extractQueryId(events.get(0))).isEqualTo(extractQueryId(events.get(1)));
+    }
+
+    private String extractQueryId(ILoggingEvent event) {
+        final Matcher matcher = QUERY_ID.matcher(event.getFormattedMessage());
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.statements;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class QueryIdGeneratorTest {
+
+    @Test
+    public void should_generate_unique_ids_with_same_prefix() throws Exception {
+        //Given
+        final Set<String> ids = new HashSet<>();
+        final Set<String> prefixes = new HashSet<>();
+
+        //When
+        for (int i = 0; i < 1000; i++) {
+            final String id = QueryIdGenerator.nextId();
+            ids.add(id);
+            prefixes.add(id.substring(0, id.indexOf('-')));
+        }
+
+        //Then
+        assertThat(ids).hasSize(1000);
+        assertThat(prefixes).hasSize(1);
+        assertThat(prefixes.iterator().next()).matches("[0-9a-f]{8}");
+    }
+
+    @Test
+    public void should_generate_increasing_sequence() throws Exception {
+        //When
+        final long first = sequenceOf(QueryIdGenerator.nextId());
+        final long second = sequenceOf(QueryIdGenerator.nextId());
+
+        //Then
+        assertThat(second).isGreaterThan(first);
+    }
+
+    static long sequenceOf(String queryId) {
+        return Long.parseLong(queryId.substring(queryId.indexOf('-') + 1), 16);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.statements;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ResultSet;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SingleRowStatementTest {
+
+    @Mock
+    private ResultSet resultSet;
+
+    private final AtomicInteger fetchedPages = new AtomicInteger();
+
+    private final Function<ResultSet, CompletableFuture<ResultSet>> pageFetcher = rs -> {
+        fetchedPages.incrementAndGet();
+        return CompletableFuture.completedFuture(rs);
+    };
+
+    @Test
+    public void should_fetch_next_pages_until_a_row_is_available() throws Exception {
+        //Given
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(0, 0, 1);
+        when(resultSet.isFullyFetched()).thenReturn(false);
+
+        //When
+        final CompletableFuture<ResultSet> futureRS = SingleRowStatement.fetchUntilFirstRow(resultSet, pageFetcher);
+
+        //Then
+        assertThat(futureRS.get(1, TimeUnit.SECONDS)).isSameAs(resultSet);
+        assertThat(fetchedPages.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_stop_fetching_when_fully_fetched() throws Exception {
+        //Given
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(0);
+        when(resultSet.isFullyFetched()).thenReturn(false, true);
+
+        //When
+        final ResultSet actual = SingleRowStatement.fetchUntilFirstRow(resultSet, pageFetcher).get(1, TimeUnit.SECONDS);
+
+        //Then
+        assertThat(actual.getAvailableWithoutFetching()).isEqualTo(0);
+        assertThat(fetchedPages.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_not_fetch_when_a_row_is_available() throws Exception {
+        //Given
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(1);
+
+        //When
+        SingleRowStatement.fetchUntilFirstRow(resultSet, pageFetcher).get(1, TimeUnit.SECONDS);
+
+        //Then
+        assertThat(fetchedPages.get()).isEqualTo(0);
+    }
+}
@@ -34,6 +34,17 @@ import java.lang.annotation.*;
  * {@literal @}Column
  * private List&lt;<strong>{@literal @}JSON</strong> MyObject&gt; myPojos;
  * </code></pre>
+
+ * Large documents can use the <strong>streaming</strong> mode. The object is then serialized by Jackson
+ * directly into UTF-8 bytes which are bound to the <em>text</em> column as is, and parsed back from the
+ * raw bytes of the row, without the intermediate <em>String</em>. The column type stays <em>text</em>
+
+ * <pre class="code"><code class="java">
+
+ * {@literal @}Column
+ * <strong>{@literal @}JSON(streaming = true)</strong>
+ * private MyDocument document;
+ * </code></pre>
  *
  * @see <a href="https://github.com/doanduyhai/Achilles/wiki/Entity-Mapping#field-mapping" target="_blank">Field Mapping</a>
  */
@@ -41,4 +52,9 @@ import java.lang.annotation.*;
 @Target({ElementType.FIELD, ElementType.TYPE_USE})
 @Documented
 public @interface JSON {
+
+    /**
+     * Serialize and parse the JSON document as UTF-8 bytes instead of String. Default = false
+     */
+    boolean streaming() default false;
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.type;
+
+/**
+ * Thread on which the future of a statement execution is completed
+ */
+public enum CompletionMode {
+    /**
+     * The future is completed on the <strong>Achilles</strong> executor service. Internal processing
+     * (logging, LWT listeners, entity mapping, interceptors ...) and user continuations never run
+     * on the driver I/O threads, at the cost of a thread hand-off for each statement.
+     * This is the default mode
+     */
+    EXECUTOR,
+    /**
+     * The future is completed directly on the driver I/O thread which received the response,
+     * saving the thread hand-off. Internal processing (logging, metrics, entity mapping) then runs
+     * on the driver I/O thread too. Suited to lightweight pipelines and synchronous calls.
+     * <br/>
+     * Statements running user callbacks once they complete (interceptors for the statement event,
+     * LWT result listeners, result set or row async listeners) always fall back to <strong>EXECUTOR</strong>,
+     * so these callbacks never run on the driver I/O thread.
+     * <br/>
+     * The future returned by the <em>xxxAsync()</em> methods is handed over to the executor service once,
+     * after the whole internal pipeline completed, so that continuations registered on it with <em>thenApply()</em>,
+     * <em>thenAccept()</em> ... never run on the driver I/O thread. Synchronous calls pay this single hand-off too
+     * and publishers hand off their first page to the executor service
+     */
+    DIRECT
+}
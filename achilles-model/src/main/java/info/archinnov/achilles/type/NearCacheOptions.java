@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Options of the read-through near cache of an entity, used by <em>crud().findById(...)</em>.
+ * <br/>
+ * Entries are keyed by encoded primary key and hold the raw row returned by Cassandra, so that
+ * each read decodes a fresh entity instance which can be safely modified by the caller.
+ * <br/>
+ * Mutations through the entity manager evict the impacted row or partition. Since the primary key of
+ * an <em>insertJSON(...)</em> is not parsed on the client side, it evicts all the entries of the entity.
+ * <br/>
+ * <br/>
+ * <pre class="code"><code class="java">
+ * NearCacheOptions.builder()
+ *     .maxSize(10_000)
+ *     .ttl(30, TimeUnit.SECONDS)
+ *     .build();
+ * </code></pre>
+ */
+public class NearCacheOptions {
+
+    public static final long DEFAULT_MAX_SIZE = 10_000L;
+
+    private final long maxSize;
+    private final Optional<Long> ttlInMillis;
+
+    private NearCacheOptions(long maxSize, Optional<Long> ttlInMillis) {
+        this.maxSize = maxSize;
+        this.ttlInMillis = ttlInMillis;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Maximum number of entries
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Time to live of an entry after it has been loaded, if any
+     */
+    public Optional<Long> getTtlInMillis() {
+        return ttlInMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "NearCacheOptions{" +
+                "maxSize=" + maxSize +
+                ", ttlInMillis=" + ttlInMillis +
+                '}';
+    }
+
+    public static class Builder {
+        private long maxSize = DEFAULT_MAX_SIZE;
+        private Optional<Long> ttlInMillis = Optional.empty();
+
+        /**
+         * Maximum number of entries, the least recently used entries are evicted first.
+         * Default value is 10 000
+         */
+        public Builder maxSize(long maxSize) {
+            Validator.validateTrue(maxSize > 0, "The near cache max size should be strictly positive");
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Time to live of an entry after it has been loaded. Since writes which do not go through
+         * the entity manager (native queries, other applications ...) cannot invalidate the cache,
+         * this is the upper bound of the staleness of an entry. No expiration by default
+         */
+        public Builder ttl(long duration, TimeUnit unit) {
+            Validator.validateTrue(duration > 0, "The near cache ttl should be strictly positive");
+            Validator.validateNotNull(unit, "The near cache ttl unit should not be null");
+            this.ttlInMillis = Optional.of(unit.toMillis(duration));
+            return this;
+        }
+
+        public NearCacheOptions build() {
+            return new NearCacheOptions(maxSize, ttlInMillis);
+        }
+    }
+}
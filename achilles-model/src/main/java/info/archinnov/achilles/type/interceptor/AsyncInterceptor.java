@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.type.interceptor;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+
+ * Interface to define an asynchronous entity interceptor, for I/O bound hooks like auditing or outbox publishing.
+ * <br>
+ * The "<em>CompletionStage&lt;Void&gt; onEventAsync(T entity, Event event)</em>" method is called upon interception
+ * and should not block. For <strong>insert</strong>, <strong>insert all</strong>, <strong>update</strong>,
+ * <strong>delete</strong>, <strong>find by id</strong>, <strong>find all</strong>, <strong>scan</strong>,
+ * <strong>typed queries</strong> and <strong>DSL select</strong> operations (including their publishers),
+ * the returned stage is composed with the future of the operation:
+ * <ul>
+ *     <li>for PRE_XXX events, the statement is executed once the stage completes</li>
+ *     <li>for POST_XXX events, the future of the operation completes once the stage completes</li>
+ * </ul>
+ * If the stage completes exceptionally, the future of the operation completes exceptionally as well.
+ * <br>
+ * <br>
+ * Only the synchronous <strong>iterators</strong> call the interceptor through <em>onEvent(T entity, Event event)</em>,
+ * on the thread iterating over the results
+ * <br>
+ * <br>
+ * <pre class="code"><code class="java">
+ * public class UserAuditInterceptor implements AsyncInterceptor&lt;User&gt;
+ * {
+ * public boolean acceptEntity(Class&lt;?&gt; entityClass) {
+ * return entityClass.equals(User.class);
+ * }
+
+ * public CompletionStage&lt;Void&gt; onEventAsync(User entity, Event event) {
+ * return auditClient.publishAsync(entity.getLogin(), event);
+ * }
+
+ * public List&lt;Event&gt; interceptOnEvents() {
+ * return Arrays.asList(POST_INSERT, POST_UPDATE, POST_DELETE);
+ * }
+ * }
+ * </code></pre>
+ *
+ * @param <T> : type of entity to which this interceptor applies
+ * @see <a href="https://github.com/doanduyhai/Achilles/wiki/Interceptors" target="_blank">Interceptors</a>
+ */
+public interface AsyncInterceptor<T> extends Interceptor<T> {
+
+    CompletionStage<Void> onEventAsync(T entity, Event event);
+
+    /**
+     * <strong>WARNING: this default implementation BLOCKS the calling thread until the stage returned by
+     * <em>onEventAsync(T entity, Event event)</em> completes.</strong>
+     * <br>
+     * It is only called by the synchronous iterators, on the thread iterating over the results.
+     * Never call it from a driver I/O thread or from a callback of an asynchronous operation,
+     * otherwise the stage may never complete. Override it if the interceptor has a cheaper synchronous variant
+     */
+    @Override
+    default void onEvent(T entity, Event event) {
+        onEventAsync(entity, event).toCompletableFuture().join();
+    }
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.reactive;
+
+/**
+ * Provider of a potentially unbounded number of results, published
+ * according to the demand received from its {@link Subscriber}(s).
+ * <br>
+ * <br>
+ * This interface has the same contract and method signatures as <em>org.reactivestreams.Publisher</em>
+ * so that it can be bridged to any Reactive Streams library (RxJava, Reactor ...) without pulling
+ * an extra dependency into Achilles. Each subscription re-executes the query
+ */
+public interface Publisher<T> {
+
+    /**
+     * Request the Publisher to start streaming data to the given Subscriber.
+     * Nothing is fetched from Cassandra before the Subscriber requests some elements
+     * through its {@link Subscription}
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+}
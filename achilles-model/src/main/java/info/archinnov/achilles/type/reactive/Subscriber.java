@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.reactive;
+
+/**
+ * Receiver of the results published by a {@link Publisher}.
+ * <br>
+ * <br>
+ * This interface has the same contract and method signatures as <em>org.reactivestreams.Subscriber</em>
+ */
+public interface Subscriber<T> {
+
+    /**
+     * Invoked once after calling {@link Publisher#subscribe(Subscriber)}.
+     * No data is published until {@link Subscription#request(long)} is invoked
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Data notification sent by the {@link Publisher} in response to requests to {@link Subscription#request(long)}
+     */
+    void onNext(T t);
+
+    /**
+     * Failed terminal state. No further event is sent, even if {@link Subscription#request(long)} is invoked again
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Successful terminal state. No further event is sent, even if {@link Subscription#request(long)} is invoked again
+     */
+    void onComplete();
+}
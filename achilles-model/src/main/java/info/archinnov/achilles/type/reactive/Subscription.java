@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.reactive;
+
+/**
+ * One-to-one lifecycle of a {@link Subscriber} subscribing to a {@link Publisher}.
+ * <br>
+ * <br>
+ * This interface has the same contract and method signatures as <em>org.reactivestreams.Subscription</em>
+ */
+public interface Subscription {
+
+    /**
+     * Signal demand for <strong>n</strong> more elements. The demand is cumulative.
+     * A non-positive demand terminates the subscription with an IllegalArgumentException
+     */
+    void request(long n);
+
+    /**
+     * Request the {@link Publisher} to stop sending data. No new page is fetched from Cassandra afterwards
+     */
+    void cancel();
+}
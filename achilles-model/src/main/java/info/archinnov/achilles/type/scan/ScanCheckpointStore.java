@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.type.scan;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Store of the token ranges already scanned by a full table scan.
+ * <br>
+ * <br>
+ * Each token range is identified by a string built from the scan layout (the number of
+ * splits per token range of the ring and a hash of these token ranges) and its start and end tokens.
+ * A range is marked as completed once all its rows have been consumed. When a scan
+ * is restarted with the same store, the completed ranges are skipped so that an
+ * interrupted scan resumes where it stopped. The ranges being scanned at the time
+ * of the interruption are scanned again, their rows may then be consumed twice.
+ * <br>
+ * <br>
+ * Resuming requires the same split count and the same ring topology. Otherwise the
+ * recorded ranges cannot be matched and the scan fails with an <em>AchillesException</em>
+ * instead of scanning the table again, the store should then be cleared.
+ * <br>
+ * <br>
+ * Implementations should be thread-safe since ranges are scanned in parallel
+ */
+public interface ScanCheckpointStore {
+
+    /**
+     * @return identifiers of the token ranges already scanned
+     */
+    Set<String> completedRanges();
+
+    /**
+     * Mark the given token range as completely scanned
+     */
+    void markCompleted(String range);
+
+    /**
+     * Create a store that keeps the completed ranges in memory,
+     * to resume an interrupted scan within the same JVM
+     */
+    static ScanCheckpointStore inMemory() {
+        final Set<String> completed = ConcurrentHashMap.newKeySet();
+        return new ScanCheckpointStore() {
+            @Override
+            public Set<String> completedRanges() {
+                return Collections.unmodifiableSet(completed);
+            }
+
+            @Override
+            public void markCompleted(String range) {
+                completed.add(range);
+            }
+        };
+    }
+}
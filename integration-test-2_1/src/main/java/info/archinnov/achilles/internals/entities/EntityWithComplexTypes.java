@@ -97,6 +97,10 @@ public class EntityWithComplexTypes {
     @JSON
     private Map<Integer, List<Integer>> jsonMap;
 
+    @Column("streaming_json_map")
+    @JSON(streaming = true)
+    private Map<Integer, List<Integer>> streamingJsonMap;
+
     @Column("map_with_nested_json")
     private Map<Integer, @JSON List<Map<Integer, String>>> mapWithNestedJson;
 
@@ -325,6 +329,14 @@ public class EntityWithComplexTypes {
         this.jsonMap = jsonMap;
     }
 
+    public Map<Integer, List<Integer>> getStreamingJsonMap() {
+        return streamingJsonMap;
+    }
+
+    public void setStreamingJsonMap(Map<Integer, List<Integer>> streamingJsonMap) {
+        this.streamingJsonMap = streamingJsonMap;
+    }
+
     public Map<Integer, List<Map<Integer, String>>> getMapWithNestedJson() {
         return mapWithNestedJson;
     }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.*;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.Empty;
+import info.archinnov.achilles.type.interceptor.AsyncInterceptor;
+import info.archinnov.achilles.type.interceptor.Event;
+
+public class TestAsyncInterceptors {
+
+    private static final ExecutorService AUDIT_EXECUTOR = Executors.newSingleThreadExecutor();
+    private static final List<String> AUDIT_LOG = new CopyOnWriteArrayList<>();
+
+    public static AsyncInterceptor<SimpleEntity> preInsert = new AsyncInterceptor<SimpleEntity>() {
+        @Override
+        public boolean acceptEntity(Class<?> entityClass) {
+            return entityClass.equals(SimpleEntity.class);
+        }
+
+        @Override
+        public CompletionStage<Void> onEventAsync(SimpleEntity entity, Event event) {
+            return CompletableFuture.runAsync(() -> {
+                if ("failure".equals(entity.getValue())) {
+                    throw new IllegalStateException("Audit failure");
+                }
+                entity.setValue("preInsert_" + entity.getValue());
+            }, AUDIT_EXECUTOR);
+        }
+
+        @Override
+        public List<Event> interceptOnEvents() {
+            return asList(Event.PRE_INSERT);
+        }
+    };
+
+    public static AsyncInterceptor<SimpleEntity> postInsert = new AsyncInterceptor<SimpleEntity>() {
+        @Override
+        public boolean acceptEntity(Class<?> entityClass) {
+            return entityClass.equals(SimpleEntity.class);
+        }
+
+        @Override
+        public CompletionStage<Void> onEventAsync(SimpleEntity entity, Event event) {
+            return CompletableFuture.runAsync(() -> AUDIT_LOG.add(event.name() + "_" + entity.getId()), AUDIT_EXECUTOR);
+        }
+
+        @Override
+        public List<Event> interceptOnEvents() {
+            return asList(Event.POST_INSERT);
+        }
+    };
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withEventInterceptors(asList(preInsert, postInsert))
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_compose_async_interceptors_with_insert() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final SimpleEntity entity = new SimpleEntity(id, new Date(), "value");
+
+        //When
+        manager
+                .crud()
+                .insert(entity)
+                .executeAsync()
+                .get();
+
+        //Then
+        assertThat(AUDIT_LOG).contains("POST_INSERT_" + id);
+
+        final Row row = session.execute("SELECT * FROM simple WHERE id = " + id).one();
+        assertThat(row).isNotNull();
+        assertThat(row.getString("value")).isEqualTo("preInsert_value");
+    }
+
+    @Test
+    public void should_fail_insert_when_async_interceptor_fails() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final SimpleEntity entity = new SimpleEntity(id, new Date(), "failure");
+
+        //When
+        final CompletableFuture<Empty> future = manager
+                .crud()
+                .insert(entity)
+                .executeAsync();
+
+        //Then
+        try {
+            future.get();
+        } catch (ExecutionException ex) {
+            assertThat(ex.getCause()).isInstanceOf(IllegalStateException.class).hasMessage("Audit failure");
+        }
+        assertThat(future.isCompletedExceptionally()).isTrue();
+        assertThat(AUDIT_LOG).doesNotContain("POST_INSERT_" + id);
+        assertThat(session.execute("SELECT * FROM simple WHERE id = " + id).one()).isNull();
+    }
+}
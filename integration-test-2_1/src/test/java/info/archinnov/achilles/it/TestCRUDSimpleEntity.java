@@ -22,10 +22,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -33,6 +37,7 @@ import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
 import org.junit.Test;
 
+import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.Row;
@@ -52,8 +57,10 @@ import info.archinnov.achilles.it.utils.CassandraLogAsserter;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
+import info.archinnov.achilles.type.CompletionMode;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener;
+import info.archinnov.achilles.type.scan.ScanCheckpointStore;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
@@ -121,6 +128,37 @@ public class TestCRUDSimpleEntity {
         assertThat(executionInfo.getQueriedHost().isUp()).isTrue();
     }
 
+    @Test
+    public void should_insert_all_with_batches_per_partition() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final List<SimpleEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            entities.add(new SimpleEntity(id1, new Date(i * 1000L), "value1_" + i));
+            entities.add(new SimpleEntity(id2, new Date(i * 1000L), "value2_" + i));
+        }
+        entities.add(new SimpleEntity(id1, new Date(7000L), "value1_7"));
+
+        //When
+        final List<ExecutionInfo> executionInfos = manager
+                .crud()
+                .insertAll(entities)
+                .withMaxBatchSize(3)
+                .withConcurrency(2)
+                .executeWithStats();
+
+        //Then
+        // partition id1 has 8 rows -> 3 batches, partition id2 has 7 rows -> 3 batches
+        assertThat(executionInfos).hasSize(6);
+        final List<Row> rows1 = session.execute("SELECT * FROM simple WHERE id = " + id1).all();
+        final List<Row> rows2 = session.execute("SELECT * FROM simple WHERE id = " + id2).all();
+        assertThat(rows1).hasSize(8);
+        assertThat(rows2).hasSize(7);
+        assertThat(rows1.get(7).getString("value")).isEqualTo("value1_7");
+        assertThat(rows2.get(0).getString("value")).isEqualTo("value2_0");
+    }
+
     @Test
     public void should_insert_if_not_exists() throws Exception {
         //Given
@@ -320,6 +358,86 @@ public class TestCRUDSimpleEntity {
         assertThat(actual.getSimpleMap()).containsEntry(20, "twenty");
     }
 
+    @Test
+    public void should_find_by_id_with_direct_completion() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0, Long.MAX_VALUE);
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+        final Date date = buildDateKey();
+
+        //When
+        final SimpleEntity actual = manager.crud().findById(id, date)
+                .withCompletionMode(CompletionMode.DIRECT)
+                .getAsync()
+                .get();
+
+        //Then
+        assertThat(actual).isNotNull();
+        assertThat(actual.getValue()).isEqualTo("0 AM");
+    }
+
+    @Test
+    public void should_find_all_by_id() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final long unknownId = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        manager.crud().insert(new SimpleEntity(id1, date, "value1")).execute();
+        manager.crud().insert(new SimpleEntity(id2, date, "value2")).execute();
+
+        final List<Tuple2<Long, Date>> ids = Arrays.asList(Tuple2.of(id2, date), Tuple2.of(unknownId, date),
+                Tuple2.of(id1, date), Tuple2.of(id2, date));
+
+        //When
+        final List<SimpleEntity> entities = manager.crud().findAllById(ids).withConcurrency(2).get();
+        final Map<Tuple2<Long, Date>, SimpleEntity> entitiesById = manager.crud().findAllById(ids).getAsMap();
+
+        //Then
+        assertThat(entities).hasSize(4);
+        assertThat(entities.get(0).getValue()).isEqualTo("value2");
+        assertThat(entities.get(1)).isNull();
+        assertThat(entities.get(2).getValue()).isEqualTo("value1");
+        assertThat(entities.get(3).getValue()).isEqualTo("value2");
+
+        assertThat(entitiesById).hasSize(2);
+        assertThat(entitiesById.keySet()).containsExactly(Tuple2.of(id2, date), Tuple2.of(id1, date));
+        assertThat(entitiesById.get(Tuple2.of(id1, date)).getValue()).isEqualTo("value1");
+    }
+
+    @Test
+    public void should_scan_all_token_ranges_and_resume_from_checkpoint() throws Exception {
+        //Given
+        final List<SimpleEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            entities.add(new SimpleEntity(RandomUtils.nextLong(0L, Long.MAX_VALUE), new Date(i * 1000L), "value" + i));
+        }
+        manager.crud().insertAll(entities).execute();
+        final ScanCheckpointStore checkpointStore = ScanCheckpointStore.inMemory();
+        final Set<String> values = ConcurrentHashMap.newKeySet();
+
+        //When
+        final long count = manager
+                .scan()
+                .withSplitCount(16)
+                .withParallelism(4)
+                .withFetchSize(7)
+                .withCheckpointStore(checkpointStore)
+                .forEach(entity -> values.add(entity.getValue()));
+
+        final long countAfterResume = manager
+                .scan()
+                .withSplitCount(16)
+                .withCheckpointStore(checkpointStore)
+                .forEach(entity -> values.add(entity.getValue()));
+
+        //Then
+        assertThat(count).isEqualTo(50L);
+        assertThat(values).hasSize(50);
+        assertThat(checkpointStore.completedRanges()).isNotEmpty();
+        assertThat(countAfterResume).isEqualTo(0L);
+    }
+
     @Test
     public void should_find_by_id_with_execution_info() throws Exception {
         //Given
@@ -703,4 +821,28 @@ public class TestCRUDSimpleEntity {
         dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
         return dateFormat.parse("2015-10-01 00:00:00 GMT");
     }
+
+    @Test
+    public void should_infer_statement_idempotence() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        final SimpleEntity entity = new SimpleEntity(id, date, "value");
+
+        //When
+        final BoundStatement insert = manager.crud().insert(entity).generateAndGetBoundStatement();
+        final BoundStatement insertIfNotExists = manager.crud().insert(entity).ifNotExists().generateAndGetBoundStatement();
+        final BoundStatement update = manager.crud().update(entity).generateAndGetBoundStatement();
+        final BoundStatement updateIfExists = manager.crud().update(entity).ifExists().generateAndGetBoundStatement();
+        final BoundStatement find = manager.crud().findById(id, date).generateAndGetBoundStatement();
+        final BoundStatement deleteWithOverride = manager.crud().deleteById(id, date).isIdempotent(false).generateAndGetBoundStatement();
+
+        //Then
+        assertThat(insert.isIdempotent()).isTrue();
+        assertThat(insertIfNotExists.isIdempotent()).isFalse();
+        assertThat(update.isIdempotent()).isTrue();
+        assertThat(updateIfExists.isIdempotent()).isFalse();
+        assertThat(find.isIdempotent()).isTrue();
+        assertThat(deleteWithOverride.isIdempotent()).isFalse();
+    }
 }
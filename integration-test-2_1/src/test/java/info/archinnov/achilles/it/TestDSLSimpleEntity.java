@@ -22,20 +22,32 @@ import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
 import org.junit.Test;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.LatencyTracker;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.policies.DowngradingConsistencyRetryPolicy;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
@@ -46,6 +58,8 @@ import info.archinnov.achilles.generated.dsl.SimpleEntity_Delete;
 import info.archinnov.achilles.generated.dsl.SimpleEntity_Select;
 import info.archinnov.achilles.generated.dsl.SimpleEntity_Update;
 import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.cache.PreparedStatementsWarmUp;
+import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.entities.SimpleEntity;
 import info.archinnov.achilles.it.utils.CassandraLogAsserter;
 import info.archinnov.achilles.junit.AchillesTestResource;
@@ -53,6 +67,8 @@ import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener;
+import info.archinnov.achilles.type.reactive.Subscriber;
+import info.archinnov.achilles.type.reactive.Subscription;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public class TestDSLSimpleEntity {
@@ -104,6 +120,50 @@ public class TestDSLSimpleEntity {
         assertThat(actual.getSimpleMap()).containsEntry(20, "twenty");
     }
 
+    @Test
+    public void should_dsl_select_one_fetching_a_single_row() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+        final Date date1 = dateFormat.parse("2015-10-01 00:00:00 GMT");
+        final Date date9 = dateFormat.parse("2015-10-09 00:00:00 GMT");
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+        final AtomicInteger fetchedRows = new AtomicInteger();
+
+        //When
+        final SimpleEntity actual = manager
+                .dsl()
+                .select()
+                .consistencyList()
+                .value()
+                .fromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Gte_And_Lt(date1, date9)
+                .withResultSetAsyncListener(rs -> {
+                    fetchedRows.set(rs.getAvailableWithoutFetching());
+                    return rs;
+                })
+                .getOne();
+
+        //Then
+        assertThat(actual).isNotNull();
+        assertThat(actual.getConsistencyList()).containsExactly(ONE);
+        assertThat(fetchedRows.get()).isEqualTo(1);
+    }
+
     @Test
     public void should_dsl_select_with_token_value() throws Exception {
         //Given
@@ -474,6 +534,274 @@ public class TestDSLSimpleEntity {
         assertThat(iterator.hasNext()).isFalse();
     }
 
+    @Test
+    public void should_dsl_select_as_stream_with_page_prefetch() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+        final Date date1 = dateFormat.parse("2015-10-01 00:00:00 GMT");
+        final Date date9 = dateFormat.parse("2015-10-09 00:00:00 GMT");
+
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        final AtomicInteger pageRequests = new AtomicInteger(0);
+        final AtomicBoolean nextPagePrefetched = new AtomicBoolean(false);
+        final LatencyTracker pageRequestsTracker = new LatencyTracker() {
+            @Override
+            public void update(Host host, Statement statement, Exception exception, long newLatencyNanos) {
+                if (statement instanceof BoundStatement &&
+                        ((BoundStatement) statement).preparedStatement().getQueryString().contains("ORDER BY")) {
+                    pageRequests.incrementAndGet();
+                }
+            }
+
+            @Override
+            public void onRegister(Cluster cluster) {
+            }
+
+            @Override
+            public void onUnregister(Cluster cluster) {
+            }
+        };
+        session.getCluster().register(pageRequestsTracker);
+
+        //When
+        final List<String> actual;
+        try {
+            actual = manager
+                    .dsl()
+                    .select()
+                    .allColumns_FromBaseTable()
+                    .where()
+                    .id().Eq(id)
+                    .date().Gt_And_Lte(date1, date9)
+                    .orderByDateDescending()
+                    .withFetchSize(3)
+                    .withPagePrefetchThreshold(0.5)
+                    .stream()
+                    .map(SimpleEntity::getValue)
+                    .peek(value -> {
+                        // Last row of the first page: the second page should have been
+                        // requested before the first page is exhausted
+                        if (value.equals("id - date7")) {
+                            nextPagePrefetched.set(waitForCount(pageRequests, 2));
+                        }
+                    })
+                    .collect(Collectors.toList());
+        } finally {
+            session.getCluster().unregister(pageRequestsTracker);
+        }
+
+        //Then
+        assertThat(actual).containsExactly("id - date9", "id - date8", "id - date7", "id - date6",
+                "id - date5", "id - date4", "id - date3", "id - date2");
+        assertThat(nextPagePrefetched.get()).isTrue();
+        assertThat(pageRequests.get()).isEqualTo(3);
+    }
+
+    private boolean waitForCount(AtomicInteger counter, int expected) {
+        final long deadline = System.currentTimeMillis() + 5_000;
+        while (counter.get() < expected && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return counter.get() >= expected;
+    }
+
+    @Test
+    public void should_dsl_select_with_publisher() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+        final Date date1 = dateFormat.parse("2015-10-01 00:00:00 GMT");
+        final Date date9 = dateFormat.parse("2015-10-09 00:00:00 GMT");
+
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        final List<String> actual = new ArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        //When
+        manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Gt_And_Lte(date1, date9)
+                .orderByDateDescending()
+                .withFetchSize(2)
+                .publisher()
+                .subscribe(new Subscriber<SimpleEntity>() {
+                    private Subscription subscription;
+                    private int received = 0;
+
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        this.subscription = subscription;
+                        subscription.request(3);
+                    }
+
+                    @Override
+                    public void onNext(SimpleEntity entity) {
+                        actual.add(entity.getValue());
+                        if (++received % 3 == 0) {
+                            subscription.request(3);
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        error.set(throwable);
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        latch.countDown();
+                    }
+                });
+
+        //Then
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(error.get()).isNull();
+        assertThat(actual).containsExactly("id - date9", "id - date8", "id - date7", "id - date6",
+                "id - date5", "id - date4", "id - date3", "id - date2");
+    }
+
+    @Test
+    public void should_dsl_select_with_publisher_and_stop_fetching_on_cancel() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+        final Date date1 = dateFormat.parse("2015-10-01 00:00:00 GMT");
+        final Date date9 = dateFormat.parse("2015-10-09 00:00:00 GMT");
+
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        final AtomicInteger pageRequests = new AtomicInteger(0);
+        final LatencyTracker pageRequestsTracker = new LatencyTracker() {
+            @Override
+            public void update(Host host, Statement statement, Exception exception, long newLatencyNanos) {
+                if (statement instanceof BoundStatement &&
+                        ((BoundStatement) statement).preparedStatement().getQueryString().contains("ORDER BY")) {
+                    pageRequests.incrementAndGet();
+                }
+            }
+
+            @Override
+            public void onRegister(Cluster cluster) {
+            }
+
+            @Override
+            public void onUnregister(Cluster cluster) {
+            }
+        };
+
+        final List<String> actual = new ArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicBoolean terminated = new AtomicBoolean(false);
+
+        //When
+        session.getCluster().register(pageRequestsTracker);
+        try {
+            manager
+                    .dsl()
+                    .select()
+                    .allColumns_FromBaseTable()
+                    .where()
+                    .id().Eq(id)
+                    .date().Gt_And_Lte(date1, date9)
+                    .orderByDateDescending()
+                    .withFetchSize(2)
+                    .publisher()
+                    .subscribe(new Subscriber<SimpleEntity>() {
+                        private Subscription subscription;
+
+                        @Override
+                        public void onSubscribe(Subscription subscription) {
+                            this.subscription = subscription;
+                            subscription.request(Long.MAX_VALUE);
+                        }
+
+                        @Override
+                        public void onNext(SimpleEntity entity) {
+                            actual.add(entity.getValue());
+                            // First row of the second page
+                            if (actual.size() == 3) {
+                                subscription.cancel();
+                                latch.countDown();
+                            }
+                        }
+
+                        @Override
+                        public void onError(Throwable throwable) {
+                            terminated.set(true);
+                        }
+
+                        @Override
+                        public void onComplete() {
+                            terminated.set(true);
+                        }
+                    });
+
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            // Leave time for a (wrong) fetch of the third page
+            Thread.sleep(500);
+        } finally {
+            session.getCluster().unregister(pageRequestsTracker);
+        }
+
+        //Then
+        assertThat(actual).containsExactly("id - date9", "id - date8", "id - date7");
+        assertThat(terminated.get()).isFalse();
+        assertThat(pageRequests.get()).isEqualTo(2);
+    }
+
     @Test
     public void should_dsl_delete() throws Exception {
         //Given
@@ -1299,6 +1627,171 @@ public class TestDSLSimpleEntity {
         assertThat(dsl.generateAndGetBoundStatement().preparedStatement().getQueryString()).isEqualTo(expectedQuery);
     }
 
+    @Test
+    public void should_warm_up_prepared_statements_from_manifest() throws Exception {
+        //Given
+        final Session session = resource.getNativeSession();
+        final Path manifestFile = Files.createTempFile("achilles_warm_up", ".json");
+        final String hotQuery = "SELECT * FROM " + DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME + ".simple WHERE id=:id";
+        final String coldQuery = "SELECT value FROM " + DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME + ".simple WHERE id=:id";
+        final String invalidQuery = "SELECT * FROM " + DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME + ".non_existing_table";
+
+        final StatementsCache previousCache = new StatementsCache(100);
+        final PreparedStatementsWarmUp previousWarmUp = new PreparedStatementsWarmUp(manifestFile, 10, 100);
+        previousCache.enableWarmUp(previousWarmUp);
+        previousCache.getDynamicCache(coldQuery, session);
+        previousCache.getDynamicCache(hotQuery, session);
+        previousCache.getDynamicCache(hotQuery, session);
+        previousWarmUp.recordUsage(invalidQuery);
+
+        //When
+        previousWarmUp.shutDown();
+
+        final StatementsCache newCache = new StatementsCache(100);
+        final PreparedStatementsWarmUp newWarmUp = new PreparedStatementsWarmUp(manifestFile, 10, 100);
+        newWarmUp.warmUp(session, newCache, Executors.newSingleThreadExecutor(), 2).get(10, TimeUnit.SECONDS);
+
+        //Then
+        assertThat(newWarmUp.load()).startsWith(hotQuery).containsOnly(hotQuery, coldQuery, invalidQuery);
+        //No session given, the statements should be served from the cache
+        assertThat(newCache.getDynamicCache(hotQuery, null).getQueryString()).isEqualTo(hotQuery);
+        assertThat(newCache.getDynamicCache(coldQuery, null).getQueryString()).isEqualTo(coldQuery);
+
+        Files.delete(manifestFile);
+    }
+
+    @Test
+    public void should_bulk_prepare_static_statements_per_tenant_schema() throws Exception {
+        //Given
+        final Long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        final String keyspace = DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+        scriptExecutor.executeScriptTemplate("SimpleEntity/create_simple_mirror_table.cql", ImmutableMap.of("table", "simple_tenant1"));
+        scriptExecutor.executeScriptTemplate("SimpleEntity/create_simple_mirror_table.cql", ImmutableMap.of("table", "simple_tenant2"));
+        final SchemaNameProvider tenant1 = tenantProvider(keyspace, "simple_tenant1");
+        final SchemaNameProvider tenant2 = tenantProvider(keyspace, "simple_tenant2");
+
+        // Small cache so that the statements of both tenants cannot fit together
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(session.getCluster())
+                .withManagedEntityClasses(SimpleEntity.class)
+                .withStatementsCache(new StatementsCache(4))
+                .withDefaultKeyspaceName(keyspace)
+                .build();
+        final SimpleEntity_Manager tenantManager = managerFactory.forSimpleEntity();
+
+        //When
+        tenantManager.crud().withSchemaNameProvider(tenant1).insert(new SimpleEntity(id, date, "tenant1")).execute();
+        final SimpleEntity found1 = tenantManager.crud().withSchemaNameProvider(tenant1).findById(id, date).get();
+
+        tenantManager.crud().withSchemaNameProvider(tenant2).insert(new SimpleEntity(id, date, "tenant2")).execute();
+        final SimpleEntity found2 = tenantManager.crud().withSchemaNameProvider(tenant2).findById(id, date).get();
+
+        //Then
+        assertThat(found1.getValue()).isEqualTo("tenant1");
+        assertThat(found2.getValue()).isEqualTo("tenant2");
+        assertThat(session.execute("SELECT value FROM " + keyspace + ".simple WHERE id = " + id).one()).isNull();
+        assertThat(managerFactory.getTenantStatementsCacheSize()).isLessThanOrEqualTo(4L);
+        assertThat(managerFactory.getTenantStatementsEvictionCounts().get(keyspace)).isGreaterThan(0L);
+
+        //Evicted statements are prepared again
+        assertThat(tenantManager.crud().withSchemaNameProvider(tenant1).findById(id, date).get().getValue()).isEqualTo("tenant1");
+
+        managerFactory.shutDown();
+    }
+
+    private static SchemaNameProvider tenantProvider(String keyspace, String table) {
+        return new SchemaNameProvider() {
+            @Override
+            public <T> String keyspaceFor(Class<T> entityClass) {
+                return keyspace;
+            }
+
+            @Override
+            public <T> String tableNameFor(Class<T> entityClass) {
+                return table;
+            }
+        };
+    }
+
+    @Test
+    public void should_dsl_infer_statement_idempotence() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+
+        //When
+        final BoundStatement select = manager
+                .dsl()
+                .select()
+                .value()
+                .fromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Eq(date)
+                .generateAndGetBoundStatement();
+
+        final BoundStatement set = manager
+                .dsl()
+                .update()
+                .fromBaseTable()
+                .value().Set("new value")
+                .where()
+                .id().Eq(id)
+                .date().Eq(date)
+                .generateAndGetBoundStatement();
+
+        final BoundStatement append = manager
+                .dsl()
+                .update()
+                .fromBaseTable()
+                .consistencyList().AppendTo(ALL)
+                .where()
+                .id().Eq(id)
+                .date().Eq(date)
+                .generateAndGetBoundStatement();
+
+        final BoundStatement appendWithOverride = manager
+                .dsl()
+                .update()
+                .fromBaseTable()
+                .consistencyList().AppendTo(ALL)
+                .where()
+                .id().Eq(id)
+                .date().Eq(date)
+                .isIdempotent(true)
+                .generateAndGetBoundStatement();
+
+        final BoundStatement lwt = manager
+                .dsl()
+                .update()
+                .fromBaseTable()
+                .value().Set("new value")
+                .where()
+                .id().Eq(id)
+                .date().Eq(date)
+                .ifExists()
+                .generateAndGetBoundStatement();
+
+        final BoundStatement delete = manager
+                .dsl()
+                .delete()
+                .value()
+                .fromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Eq(date)
+                .generateAndGetBoundStatement();
+
+        //Then
+        assertThat(select.isIdempotent()).isTrue();
+        assertThat(set.isIdempotent()).isTrue();
+        assertThat(append.isIdempotent()).isFalse();
+        assertThat(appendWithOverride.isIdempotent()).isTrue();
+        assertThat(lwt.isIdempotent()).isFalse();
+        assertThat(delete.isIdempotent()).isTrue();
+    }
+
     private Date buildDateKey() throws ParseException {
         SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
         dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
@@ -42,10 +42,12 @@ import info.archinnov.achilles.annotations.Enumerated;
 import info.archinnov.achilles.generated.ManagerFactory;
 import info.archinnov.achilles.generated.ManagerFactoryBuilder;
 import info.archinnov.achilles.generated.manager.EntityWithComplexTypes_Manager;
+import info.archinnov.achilles.generated.meta.entity.EntityWithComplexTypes_AchillesMeta;
 import info.archinnov.achilles.internals.codecs.EncodingOrdinalCodec;
 import info.archinnov.achilles.internals.codecs.ProtocolVersionCodec;
 import info.archinnov.achilles.internals.entities.EntityWithComplexTypes;
 import info.archinnov.achilles.internals.entities.TestUDT;
+import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.ClassAnnotatedByCodec;
 import info.archinnov.achilles.internals.types.IntWrapper;
 import info.archinnov.achilles.junit.AchillesTestResource;
@@ -101,6 +103,7 @@ public class TestEntityWithComplexTypes {
         entity.setConsistencyLevel(ConsistencyLevel.EACH_QUORUM);
         entity.setInteger(123);
         entity.setJsonMap(ImmutableMap.of(1, asList(1, 2, 3)));
+        entity.setStreamingJsonMap(ImmutableMap.of(2, asList(4, 5)));
         entity.setListNesting(asList(ImmutableMap.of(1, "one")));
         entity.setListUdt(asList(udt));
         entity.setMapUdt(ImmutableMap.of(1, udt));
@@ -166,6 +169,7 @@ public class TestEntityWithComplexTypes {
         assertThat(actual.getString("consistencylevel")).isEqualTo("EACH_QUORUM");
         assertThat(actual.getString("integer")).isEqualTo("123");
         assertThat(actual.getString("json_map")).isEqualTo("{\"1\":[1,2,3]}");
+        assertThat(actual.getString("streaming_json_map")).isEqualTo("{\"2\":[4,5]}");
         assertThat(actual.getList("list_nesting", new TypeToken<Map<Integer, String>>() {
         }))
                 .containsExactly(ImmutableMap.of(1, "one"));
@@ -235,6 +239,7 @@ public class TestEntityWithComplexTypes {
         assertThat(actual.getConsistencyLevel()).isEqualTo(EACH_QUORUM);
         assertThat(actual.getInteger()).isEqualTo(123);
         assertThat(actual.getJsonMap()).containsEntry(1, asList(1, 2, 3));
+        assertThat(actual.getStreamingJsonMap()).containsEntry(2, asList(4, 5));
         assertThat(actual.getListNesting()).containsExactly(ImmutableMap.of(1, "one"));
         assertThat(actual.getListUdt()).containsExactly(udt);
         assertThat(actual.getMapUdt()).containsEntry(1, udt);
@@ -297,6 +302,35 @@ public class TestEntityWithComplexTypes {
         assertThat(actual.getWriteTimeWithCodec()).isNotEmpty();
     }
 
+    @Test
+    public void should_cache_user_type_and_invalidate_it_on_schema_change() throws Exception {
+        //Given
+        final TestUDT udt = new TestUDT();
+        udt.setList(asList("list"));
+        udt.setName("name");
+        udt.setMap(ImmutableMap.of(1, "1"));
+        final Optional<CassandraOptions> options = Optional.of(new CassandraOptions());
+        final UserType userType = EntityWithComplexTypes_AchillesMeta.simpleUdt.encodeFromJava(udt, options).getType();
+        final String probeType = "cache_probe_" + RandomUtils.nextInt(0, Integer.MAX_VALUE);
+
+        //When
+        final UserType cachedUserType = EntityWithComplexTypes_AchillesMeta.simpleUdt.encodeFromJava(udt, options).getType();
+        session.execute("CREATE TYPE " + DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME + "." + probeType + "(value text)");
+
+        UserType rebuiltUserType = cachedUserType;
+        final long deadline = System.currentTimeMillis() + 30_000L;
+        while (rebuiltUserType == cachedUserType && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            rebuiltUserType = EntityWithComplexTypes_AchillesMeta.simpleUdt.encodeFromJava(udt, options).getType();
+        }
+        session.execute("DROP TYPE " + DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME + "." + probeType);
+
+        //Then
+        assertThat(cachedUserType).isSameAs(userType);
+        assertThat(rebuiltUserType).isNotSameAs(userType);
+        assertThat(rebuiltUserType).isEqualTo(userType);
+    }
+
     private Date buildDate() throws ParseException {
 
         SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
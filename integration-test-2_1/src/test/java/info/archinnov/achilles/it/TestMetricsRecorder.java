@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.metrics.MetricsRecorder;
+import info.archinnov.achilles.metrics.MetricsRecorder.OperationType;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener.LWTResult.LWTOperation;
+
+public class TestMetricsRecorder {
+
+    private final CountingMetricsRecorder metrics = new CountingMetricsRecorder();
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .withScript("create_keyspace.cql")
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withMetricsRecorder(metrics)
+                    .build());
+
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_record_execution_mapping_and_cache_metrics() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        final SimpleEntity entity = new SimpleEntity(id, date, "value");
+
+        //When
+        manager.crud().insert(entity).ifNotExists().execute();
+        final SimpleEntity found = manager.crud().findById(id, date).get();
+
+        //Then
+        assertThat(found.getValue()).isEqualTo("value");
+        assertThat(metrics.count("execution", SimpleEntity.class, OperationType.INSERT)).isEqualTo(1L);
+        assertThat(metrics.count("execution", SimpleEntity.class, OperationType.SELECT)).isEqualTo(1L);
+        assertThat(metrics.count("extraction", SimpleEntity.class)).isEqualTo(1L);
+        assertThat(metrics.count("mapping", SimpleEntity.class)).isEqualTo(1L);
+        assertThat(metrics.count("lwt", SimpleEntity.class, LWTOperation.INSERT, true)).isEqualTo(1L);
+        assertThat(metrics.count("hit", MetricsRecorder.CacheType.STATIC)).isGreaterThanOrEqualTo(2L);
+        assertThat(metrics.durations.sum()).isGreaterThan(0L);
+    }
+
+    @Test
+    public void should_record_failed_lwt() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        manager.crud().insert(new SimpleEntity(id, date, "value")).execute();
+
+        //When
+        manager.crud().insert(new SimpleEntity(id, date, "other_value"))
+                .ifNotExists()
+                .withLwtResultListener(lwtResult -> {})
+                .execute();
+
+        //Then
+        assertThat(metrics.count("lwt", SimpleEntity.class, LWTOperation.INSERT, false)).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_record_execution_of_insert_all_batches() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final List<SimpleEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            entities.add(new SimpleEntity(id, new Date(i * 1000L), "value" + i));
+        }
+
+        //When
+        manager.crud().insertAll(entities).withMaxBatchSize(2).execute();
+
+        //Then
+        // 5 rows of the same partition -> 3 batches
+        assertThat(metrics.count("execution", SimpleEntity.class, OperationType.INSERT)).isEqualTo(3L);
+        assertThat(metrics.count("extraction", SimpleEntity.class)).isEqualTo(5L);
+    }
+
+    private static class CountingMetricsRecorder implements MetricsRecorder {
+
+        private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+        private final LongAdder durations = new LongAdder();
+
+        long count(Object... keys) {
+            final LongAdder counter = counters.get(key(keys));
+            return counter == null ? 0L : counter.sum();
+        }
+
+        private void increment(Object... keys) {
+            counters.computeIfAbsent(key(keys), k -> new LongAdder()).increment();
+        }
+
+        private static String key(Object... keys) {
+            final StringBuilder key = new StringBuilder();
+            for (Object x : keys) {
+                key.append(x).append("|");
+            }
+            return key.toString();
+        }
+
+        @Override
+        public void recordExecution(Class<?> entityClass, OperationType operationType, long durationNanos, boolean success) {
+            durations.add(durationNanos);
+            increment("execution", entityClass, operationType);
+        }
+
+        @Override
+        public void recordEntityMapping(Class<?> entityClass, long durationNanos) {
+            increment("mapping", entityClass);
+        }
+
+        @Override
+        public void recordValuesExtraction(Class<?> entityClass, long durationNanos) {
+            increment("extraction", entityClass);
+        }
+
+        @Override
+        public void recordInterceptors(Class<?> entityClass, Event event, long durationNanos) {
+            increment("interceptors", entityClass, event);
+        }
+
+        @Override
+        public void recordLWTResult(Class<?> entityClass, LWTOperation lwtOperation, boolean applied) {
+            increment("lwt", entityClass, lwtOperation, applied);
+        }
+
+        @Override
+        public void recordCacheHit(CacheType cacheType) {
+            increment("hit", cacheType);
+        }
+
+        @Override
+        public void recordCacheMiss(CacheType cacheType) {
+            increment("miss", cacheType);
+        }
+    }
+}
@@ -20,7 +20,12 @@ import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
@@ -38,6 +43,7 @@ import info.archinnov.achilles.it.utils.CassandraLogAsserter;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
+import info.archinnov.achilles.type.CompletionMode;
 import info.archinnov.achilles.type.TypedMap;
 
 public class TestNativeQueries {
@@ -212,4 +218,57 @@ public class TestNativeQueries {
 
         }
     }
+
+    @Test
+    public void should_perform_native_query_with_per_call_completion_mode() throws Exception {
+        //Given
+        final Long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+        final AtomicInteger executedTasks = new AtomicInteger(0);
+        final ExecutorService executor = countingExecutor(executedTasks);
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(session.getCluster())
+                .withManagedEntityClasses(SimpleEntity.class)
+                .withDefaultExecutorService(executor)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .build();
+        final SimpleEntity_Manager directManager = managerFactory.forSimpleEntity();
+        final PreparedStatement preparedStatement = directManager.getNativeSession()
+                .prepare("SELECT * FROM " + DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME + ".simple WHERE id = :id");
+
+        //When
+        final int tasksBeforeDirect = executedTasks.get();
+        final TypedMap direct = directManager
+                .raw()
+                .nativeQuery(preparedStatement, id)
+                .withCompletionMode(CompletionMode.DIRECT)
+                .getTypedMapAsyncWithStats()
+                .get()._1();
+        final int tasksAfterDirect = executedTasks.get();
+
+        final TypedMap offloaded = directManager
+                .raw()
+                .nativeQuery(preparedStatement, id)
+                .getTypedMapAsyncWithStats()
+                .get()._1();
+
+        //Then
+        assertThat(direct.<String>getTyped("value")).contains("0 AM");
+        assertThat(offloaded.<String>getTyped("value")).contains("0 AM");
+        assertThat(tasksAfterDirect).isEqualTo(tasksBeforeDirect);
+        assertThat(executedTasks.get()).isGreaterThan(tasksAfterDirect);
+
+        managerFactory.shutDown();
+        executor.shutdownNow();
+    }
+
+    private static ExecutorService countingExecutor(AtomicInteger executedTasks) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            public void execute(Runnable command) {
+                executedTasks.incrementAndGet();
+                super.execute(command);
+            }
+        };
+    }
 }
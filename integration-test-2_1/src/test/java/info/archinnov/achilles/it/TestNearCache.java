@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2012-2021 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.utils.UUIDs;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.EntityWithStaticColumn_Manager;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.EntityWithStaticColumn;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.NearCacheOptions;
+import info.archinnov.achilles.type.NearCacheStats;
+
+public class TestNearCache {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class, EntityWithStaticColumn.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class, EntityWithStaticColumn.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withNearCache(SimpleEntity.class, NearCacheOptions.builder().maxSize(100).ttl(1, TimeUnit.HOURS).build())
+                    .withNearCache(EntityWithStaticColumn.class, NearCacheOptions.builder().maxSize(100).build())
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private ManagerFactory managerFactory = resource.getManagerFactory();
+    private SimpleEntity_Manager manager = managerFactory.forSimpleEntity();
+    private EntityWithStaticColumn_Manager staticManager = managerFactory.forEntityWithStaticColumn();
+
+    @Test
+    public void should_serve_find_by_id_from_near_cache() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        session.execute("INSERT INTO simple(id, date, value) VALUES(" + id + ", '" + date.getTime() + "', 'val')");
+
+        //When
+        final SimpleEntity first = manager.crud().findById(id, date).get();
+        session.execute("UPDATE simple SET value = 'changed outside' WHERE id = " + id + " AND date = '" + date.getTime() + "'");
+        final SimpleEntity second = manager.crud().findById(id, date).get();
+
+        //Then
+        assertThat(first.getValue()).isEqualTo("val");
+        assertThat(second.getValue()).isEqualTo("val");
+        assertThat(second).isNotSameAs(first);
+
+        final NearCacheStats stats = managerFactory.getNearCacheStats(SimpleEntity.class).get();
+        assertThat(stats.getMissCount()).isEqualTo(1L);
+        assertThat(stats.getHitCount()).isEqualTo(1L);
+        assertThat(stats.getSize()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_not_cache_absent_entity() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+
+        //When
+        final SimpleEntity absent = manager.crud().findById(id, date).get();
+        manager.crud().insert(new SimpleEntity(id, date, "val")).execute();
+        final SimpleEntity found = manager.crud().findById(id, date).get();
+
+        //Then
+        assertThat(absent).isNull();
+        assertThat(found.getValue()).isEqualTo("val");
+    }
+
+    @Test
+    public void should_invalidate_near_cache_on_insert_and_update() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        manager.crud().insert(new SimpleEntity(id, date, "val")).execute();
+        assertThat(manager.crud().findById(id, date).get().getValue()).isEqualTo("val");
+
+        //When
+        manager.crud().insert(new SimpleEntity(id, date, "inserted")).execute();
+        final SimpleEntity afterInsert = manager.crud().findById(id, date).get();
+
+        manager.crud().update(new SimpleEntity(id, date, "updated")).execute();
+        final SimpleEntity afterUpdate = manager.crud().findById(id, date).get();
+
+        //Then
+        assertThat(afterInsert.getValue()).isEqualTo("inserted");
+        assertThat(afterUpdate.getValue()).isEqualTo("updated");
+    }
+
+    @Test
+    public void should_invalidate_near_cache_on_delete_and_dsl_update() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        manager.crud().insert(new SimpleEntity(id, date, "val")).execute();
+        assertThat(manager.crud().findById(id, date).get()).isNotNull();
+
+        //When
+        manager
+                .dsl()
+                .update()
+                .fromBaseTable()
+                .value().Set("dsl")
+                .where()
+                .id().Eq(id)
+                .date().Eq(date)
+                .execute();
+        final SimpleEntity afterDslUpdate = manager.crud().findById(id, date).get();
+
+        manager.crud().deleteById(id, date).execute();
+        final SimpleEntity afterDelete = manager.crud().findById(id, date).get();
+
+        //Then
+        assertThat(afterDslUpdate.getValue()).isEqualTo("dsl");
+        assertThat(afterDelete).isNull();
+    }
+
+    @Test
+    public void should_invalidate_whole_partition_on_static_column_writes() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final UUID uuid1 = UUIDs.timeBased();
+        final UUID uuid2 = UUIDs.timeBased();
+        staticManager.crud().insert(new EntityWithStaticColumn(id, uuid1, "static_val", "val1")).execute();
+        staticManager.crud().insert(new EntityWithStaticColumn(id, uuid2, "static_val", "val2")).execute();
+        assertThat(staticManager.crud().findById(id, uuid2).get().getStaticCol()).isEqualTo("static_val");
+
+        //When
+        staticManager.crud().updateStatic(new EntityWithStaticColumn(id, null, "updated_static", null)).execute();
+        final EntityWithStaticColumn afterUpdateStatic = staticManager.crud().findById(id, uuid2).get();
+
+        staticManager.crud().insertStatic(new EntityWithStaticColumn(id, null, "inserted_static", null)).execute();
+        final EntityWithStaticColumn afterInsertStatic = staticManager.crud().findById(id, uuid2).get();
+
+        //Then
+        assertThat(afterUpdateStatic.getStaticCol()).isEqualTo("updated_static");
+        assertThat(afterUpdateStatic.getValue()).isEqualTo("val2");
+        assertThat(afterInsertStatic.getStaticCol()).isEqualTo("inserted_static");
+    }
+}
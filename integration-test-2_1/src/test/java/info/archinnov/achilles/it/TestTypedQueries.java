@@ -23,7 +23,12 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
@@ -43,6 +48,7 @@ import info.archinnov.achilles.it.utils.CassandraLogAsserter;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
+import info.archinnov.achilles.type.CompletionMode;
 
 public class TestTypedQueries {
 
@@ -225,4 +231,57 @@ public class TestTypedQueries {
         logAsserter.assertNotContains("value: id - date3");
 
     }
+
+    @Test
+    public void should_perform_typed_query_with_per_call_completion_mode() throws Exception {
+        //Given
+        final Long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+        final AtomicInteger executedTasks = new AtomicInteger(0);
+        final ExecutorService executor = countingExecutor(executedTasks);
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(session.getCluster())
+                .withManagedEntityClasses(SimpleEntity.class)
+                .withDefaultExecutorService(executor)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .build();
+        final SimpleEntity_Manager directManager = managerFactory.forSimpleEntity();
+        final PreparedStatement preparedStatement = directManager.getNativeSession()
+                .prepare("SELECT * FROM " + DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME + ".simple WHERE id = :id");
+
+        //When
+        final int tasksBeforeDirect = executedTasks.get();
+        final SimpleEntity direct = directManager
+                .raw()
+                .typedQueryForSelect(preparedStatement, id)
+                .withCompletionMode(CompletionMode.DIRECT)
+                .getOneAsync()
+                .get();
+        final int tasksAfterDirect = executedTasks.get();
+
+        final SimpleEntity offloaded = directManager
+                .raw()
+                .typedQueryForSelect(preparedStatement, id)
+                .getOneAsync()
+                .get();
+
+        //Then
+        assertThat(direct.getValue()).contains("0 AM");
+        assertThat(offloaded.getValue()).contains("0 AM");
+        assertThat(tasksAfterDirect).isEqualTo(tasksBeforeDirect);
+        assertThat(executedTasks.get()).isGreaterThan(tasksAfterDirect);
+
+        managerFactory.shutDown();
+        executor.shutdownNow();
+    }
+
+    private static ExecutorService countingExecutor(AtomicInteger executedTasks) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            public void execute(Runnable command) {
+                executedTasks.incrementAndGet();
+                super.execute(command);
+            }
+        };
+    }
 }
@@ -20,8 +20,12 @@ import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
@@ -48,6 +52,8 @@ import info.archinnov.achilles.script.ScriptExecutor;
 import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.type.codec.CodecSignature;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener;
+import info.archinnov.achilles.type.reactive.Subscriber;
+import info.archinnov.achilles.type.reactive.Subscription;
 
 public class TestJSONCall {
 
@@ -146,6 +152,57 @@ public class TestJSONCall {
 
     }
 
+    @Test
+    public void should_select_allJSON_with_publisher() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        scriptExecutor.executeScriptTemplate("EntityForJSONCall/insertRow.cql", ImmutableMap.of("id", id));
+
+        final List<String> actual = new ArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        //When
+        manager
+                .dsl()
+                .select()
+                .allColumnsAsJSON_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .publisher()
+                .subscribe(new Subscriber<String>() {
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        subscription.request(Long.MAX_VALUE);
+                    }
+
+                    @Override
+                    public void onNext(String json) {
+                        actual.add(json);
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        error.set(throwable);
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        latch.countDown();
+                    }
+                });
+
+        //Then
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(error.get()).isNull();
+        assertThat(actual).containsExactly("{\"id\": " + id + ", \"clust\": 1, " +
+                "\"liststring\": [\"1\", \"2\"], " +
+                "\"mapstring\": {\"1\": \"1\", \"2\": \"2\"}, " +
+                "\"setstring\": [\"1\", \"2\"], " +
+                "\"value\": \"val\"}");
+    }
+
     @Test
     public void should_update_using_fromJson() throws Exception {
         //Given